@@ -35,6 +35,7 @@ import gov.va.bip.framework.log.BipLoggerFactory;
  * <li> JedisClientConfiguration (timeouts, connection pool, SSL)
  * </ul>
  * <li> Configure {@link BipCachesConfig} (CacheManager, and individual cache TTLs and expirations, and cache GET audits).
+ * <li> Optionally, an in-process near cache in front of Redis, invalidated through Redis pub/sub (see {@link BipRedisCacheManager}).
  * <li> Configure a JMX MBean, accessible under {@code gov.va.bip.cache}
  * </ul>
  */
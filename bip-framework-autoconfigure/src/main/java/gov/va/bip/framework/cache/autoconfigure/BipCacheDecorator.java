@@ -0,0 +1,19 @@
+package gov.va.bip.framework.cache.autoconfigure;
+
+import org.springframework.cache.Cache;
+
+/**
+ * A {@link Cache} that adds framework behavior to another (target) cache.
+ * <p>
+ * Decorators are applied by {@link BipRedisCacheManager}, and removed by
+ * {@link BipRedisCacheManager#unwrap(Cache)}.
+ */
+public interface BipCacheDecorator extends Cache {
+
+	/**
+	 * The decorated cache.
+	 *
+	 * @return Cache
+	 */
+	Cache getTargetCache();
+}
@@ -1,17 +1,17 @@
 package gov.va.bip.framework.cache.autoconfigure;
 
-import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 
-import org.apache.commons.lang3.ClassUtils;
 import org.slf4j.event.Level;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.Cache;
 import org.springframework.cache.annotation.AnnotationCacheOperationSource;
 import org.springframework.cache.annotation.CachingConfigurerSupport;
@@ -24,18 +24,35 @@ import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEven
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
+import gov.va.bip.framework.cache.BipCacheKeyGenerator;
+import gov.va.bip.framework.cache.autoconfigure.BipRedisCacheManager.CacheFeatures;
 import gov.va.bip.framework.cache.autoconfigure.BipRedisCacheProperties.RedisExpires;
+import gov.va.bip.framework.cache.autoconfigure.near.NearCacheInvalidator;
+import gov.va.bip.framework.cache.autoconfigure.refresh.BipCacheRefresher;
+import gov.va.bip.framework.cache.autoconfigure.replica.BipReplicaReadCacheWriter;
+import gov.va.bip.framework.cache.autoconfigure.serializer.BipCompressingRedisSerializer;
+import gov.va.bip.framework.cache.autoconfigure.serializer.CacheValueSerializer;
+import gov.va.bip.framework.cache.autoconfigure.singleflight.RedisLoadLock;
+import gov.va.bip.framework.cache.autoconfigure.stats.BipCacheStatisticsRegistry;
 import gov.va.bip.framework.cache.interceptor.BipCacheInterceptor;
 import gov.va.bip.framework.log.BipBanner;
 import gov.va.bip.framework.log.BipLogger;
 import gov.va.bip.framework.log.BipLoggerFactory;
 import gov.va.bip.framework.validation.Defense;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Imported by {@link BipCacheAutoConfiguration} so it can participate in the autoconfiguration bootstrap.
@@ -52,6 +69,14 @@ public class BipCachesConfig extends CachingConfigurerSupport {
 
 	private static final String CACHE_MANAGER_BEAN_NAME = "cacheManager";
 
+	private static final String REDIS_CONNECTION_FACTORY_BEAN_NAME = "redisConnectionFactory";
+
+	/** Property that enables the in-process near cache */
+	static final String NEAR_CACHE_ENABLED_PROPERTY = "bip.framework.cache.near-cache.enabled";
+
+	/** Property that enables cache statistics */
+	static final String STATISTICS_ENABLED_PROPERTY = "bip.framework.cache.statistics-enabled";
+
 	/** Reference to the Spring Context. Need this in order to get direct access bean refs. */
 	@Autowired
 	private ApplicationContext applicationContext;
@@ -69,14 +94,18 @@ public class BipCachesConfig extends CachingConfigurerSupport {
 	}
 
 	/**
-	 * On the RefreshScope refresh event, destroy the JedisConnectionFactory to force it
-	 * to rebuild from {@link #redisConnectionFactory()} with the current setting from the application YAML.
+	 * On the RefreshScope refresh event, reconfigure the cache manager with the current settings from the
+	 * application YAML. The {@link BipRedisCacheManager} builds the new caches before it replaces the current
+	 * caches, so cache operations in flight are not blocked.
 	 * <p>
 	 * This event listener <b>must</b> run <b>after</b> any connection factory related event listeners.
+	 * <p>
+	 * The cache audit settings are also re-applied to the cache interceptor.
 	 *
 	 * @param event the refresh event
 	 */
 	@EventListener
+	@Order(BipCacheAutoConfiguration.REFRESH_ORDER_CACHES)
 	public void onApplicationEvent(final RefreshScopeRefreshedEvent event) {
 		LOGGER.debug("Event activated to reconfigure " + CACHE_MANAGER_BEAN_NAME + ": event.getName() {}",
 				event.getName() + "; event.getSource() {}",
@@ -85,10 +114,16 @@ public class BipCachesConfig extends CachingConfigurerSupport {
 		if (!applicationContext.containsBean(CACHE_MANAGER_BEAN_NAME)) {
 			LOGGER.debug(CACHE_MANAGER_BEAN_NAME + " does not yet exist.");
 		} else {
-			RedisCacheManager rcm = (RedisCacheManager) applicationContext.getBean(CACHE_MANAGER_BEAN_NAME);
-			rcm.initializeCaches();
+			final RedisCacheManager rcm = (RedisCacheManager) applicationContext.getBean(CACHE_MANAGER_BEAN_NAME);
+			if (rcm instanceof BipRedisCacheManager && applicationContext.containsBean(REDIS_CONNECTION_FACTORY_BEAN_NAME)) {
+				reconfigure((BipRedisCacheManager) rcm,
+						applicationContext.getBean(REDIS_CONNECTION_FACTORY_BEAN_NAME, RedisConnectionFactory.class));
+			} else {
+				rcm.initializeCaches();
+			}
 			LOGGER.debug(CACHE_MANAGER_BEAN_NAME + " re-initialized.");
 		}
+		applyAuditSettings(applicationContext.getBeanProvider(BipCacheInterceptor.class).getIfAvailable());
 	}
 
 	/**
@@ -99,7 +134,8 @@ public class BipCachesConfig extends CachingConfigurerSupport {
 	 */
 	@Bean
 	public RedisCacheConfiguration redisCacheConfiguration() {
-		return RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofSeconds(bipRedisCacheProperties.getDefaultExpires()));
+		return RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofSeconds(bipRedisCacheProperties.getDefaultExpires()))
+				.serializeValuesWith(SerializationPair.fromSerializer(getValueSerializer(null)));
 	}
 
 	/**
@@ -126,21 +162,57 @@ public class BipCachesConfig extends CachingConfigurerSupport {
 			for (Entry<String, Long> entry : resultExpires.entrySet()) {
 				org.springframework.data.redis.cache.RedisCacheConfiguration rcc =
 						org.springframework.data.redis.cache.RedisCacheConfiguration.defaultCacheConfig()
-						.entryTtl(Duration.ofSeconds(entry.getValue()));
+						.entryTtl(Duration.ofSeconds(entry.getValue()))
+						.serializeValuesWith(SerializationPair.fromSerializer(getValueSerializer(entry.getKey())));
 				cacheConfigs.put(entry.getKey(), rcc);
 			}
 		}
 		return cacheConfigs;
 	}
 
+	/**
+	 * The value serializer for a cache name, as declared by its {@code serializer} and {@code compressionThreshold},
+	 * or by the defaults under {@code bip.framework:cache:serialization}.
+	 * <p>
+	 * A serializer name that is neither built-in (see {@link CacheValueSerializer}) nor the name of a
+	 * {@link RedisSerializer} bean falls back to JDK serialization.
+	 *
+	 * @param cacheName the cache name, or {@code null} for the default serializer
+	 * @return RedisSerializer
+	 */
+	@SuppressWarnings("unchecked")
+	private RedisSerializer<Object> getValueSerializer(final String cacheName) {
+		final String name = bipRedisCacheProperties.getSerializer(cacheName);
+		RedisSerializer<Object> serializer = null;
+		final CacheValueSerializer builtIn = CacheValueSerializer.fromName(name);
+		if (builtIn != null) {
+			serializer = builtIn.create();
+		} else if (name != null && applicationContext != null && applicationContext.containsBean(name)) {
+			serializer = applicationContext.getBean(name, RedisSerializer.class);
+		}
+		if (serializer == null) {
+			if (name != null) {
+				LOGGER.warn("Cache value serializer " + name + " is not a built-in serializer or RedisSerializer bean. Using "
+						+ CacheValueSerializer.JDK + ".");
+			}
+			serializer = CacheValueSerializer.JDK.create();
+		}
+
+		final Integer threshold = bipRedisCacheProperties.getCompressionThreshold(cacheName);
+		return threshold == null || threshold <= 0 ? serializer : new BipCompressingRedisSerializer(serializer, threshold);
+	}
+
 	/**
 	 * Create the cacheManager bean, configured by the redisCacheConfiguration bean.
+	 * <p>
+	 * Caches are decorated with the optional framework cache features, see {@link BipRedisCacheManager}.
+	 * The cache manager is not refresh scoped: it is reconfigured in place by
+	 * {@link #onApplicationEvent(RefreshScopeRefreshedEvent)}.
 	 *
 	 * @param redisConnectionFactory
 	 * @return CacheManager
 	 */
 	@Bean
-	@RefreshScope
 	public RedisCacheManager cacheManager(final RedisConnectionFactory redisConnectionFactory) {
 		if (LOGGER.isDebugEnabled()) {
 			StringBuilder initialCacheProperties = new StringBuilder("null");
@@ -157,12 +229,130 @@ public class BipCachesConfig extends CachingConfigurerSupport {
 					+ "; InitialCacheConfigurations[" + initialCacheProperties.toString() + "]");
 		}
 
-		return RedisCacheManager
-				.builder(redisConnectionFactory)
-				.cacheDefaults(this.redisCacheConfiguration())
-				.withInitialCacheConfigurations(this.redisCacheConfigurations())
-				.transactionAware()
-				.build();
+		final BipRedisCacheManager bipRedisCacheManager = new BipRedisCacheManager(
+				RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory),
+				this.redisCacheConfiguration(),
+				this.redisCacheConfigurations(),
+				bipRedisCacheProperties);
+		bipRedisCacheManager.setFeatures(createCacheFeatures(redisConnectionFactory));
+		bipRedisCacheManager.setTransactionAware(true);
+		return bipRedisCacheManager;
+	}
+
+	/**
+	 * Rebuild the cache features and the caches of the cache manager with the current settings.
+	 * The features are published together with the rebuilt caches, and the replaced replica connections
+	 * are closed after the {@code connectionDrainMillis} grace period.
+	 *
+	 * @param bipRedisCacheManager the cache manager
+	 * @param redisConnectionFactory the connection factory
+	 */
+	private void reconfigure(final BipRedisCacheManager bipRedisCacheManager, final RedisConnectionFactory redisConnectionFactory) {
+		bipRedisCacheManager.reconfigure(createCacheFeatures(redisConnectionFactory), this.redisCacheConfiguration(),
+				this.redisCacheConfigurations());
+	}
+
+	/**
+	 * The optional framework cache features, as currently declared.
+	 *
+	 * @param redisConnectionFactory the connection factory
+	 * @return CacheFeatures
+	 */
+	private CacheFeatures createCacheFeatures(final RedisConnectionFactory redisConnectionFactory) {
+		final BipRedisCacheProperties.RedisSingleFlight singleFlight = bipRedisCacheProperties.getSingleFlight();
+		return new CacheFeatures(
+				applicationContext.getBeanProvider(NearCacheInvalidator.class).getIfAvailable(),
+				applicationContext.getBeanProvider(BipCacheStatisticsRegistry.class).getIfAvailable(),
+				singleFlight != null && singleFlight.isEnabled() && singleFlight.isDistributed()
+						? new RedisLoadLock(redisConnectionFactory, singleFlight.getLeaseMillis())
+						: null,
+				applicationContext.getBeanProvider(BipCacheRefresher.class).getIfAvailable(),
+				bipRedisCacheProperties.isAnyReadFromReplica() ? createReplicaReadCacheWriter(redisConnectionFactory) : null);
+	}
+
+	/**
+	 * Create the cache writer that reads from the redis replicas.
+	 *
+	 * @param redisConnectionFactory the primary connection factory
+	 * @return BipReplicaReadCacheWriter, or {@code null} if there are no replicas
+	 */
+	private BipReplicaReadCacheWriter createReplicaReadCacheWriter(final RedisConnectionFactory redisConnectionFactory) {
+		final BipJedisConnectionConfig jedisConnectionConfig =
+				applicationContext.getBeanProvider(BipJedisConnectionConfig.class).getIfAvailable();
+		if (jedisConnectionConfig == null) {
+			LOGGER.warn("Caches declare readFromReplica, but no " + BipJedisConnectionConfig.class.getSimpleName()
+					+ " is available. Reading from the primary.");
+			return null;
+		}
+		final List<JedisConnectionFactory> replicaConnectionFactories =
+				jedisConnectionConfig.createReplicaConnectionFactories(bipRedisCacheProperties.getReplicaNodes(), redisConnectionFactory);
+		if (replicaConnectionFactories.isEmpty()) {
+			LOGGER.warn("Caches declare readFromReplica, but no redis replicas are declared or discovered. Reading from the primary.");
+			return null;
+		}
+		return BipReplicaReadCacheWriter.forConnectionFactories(RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory),
+				replicaConnectionFactories);
+	}
+
+	/**
+	 * Keeps the in-process near caches on all instances in step, using Redis pub/sub.
+	 * Created only if {@code bip.framework.cache.nearCache.enabled} is {@code true} at startup.
+	 *
+	 * @param redisConnectionFactory
+	 * @return NearCacheInvalidator
+	 */
+	@Bean
+	@ConditionalOnProperty(name = NEAR_CACHE_ENABLED_PROPERTY, havingValue = "true")
+	public NearCacheInvalidator nearCacheInvalidator(final RedisConnectionFactory redisConnectionFactory) {
+		LOGGER.debug("nearCacheInvalidator invoked here");
+		return new NearCacheInvalidator(redisConnectionFactory, bipRedisCacheProperties.getNearCache().getChannel());
+	}
+
+	/**
+	 * Subscribes the {@link NearCacheInvalidator} to its Redis pub/sub channel.
+	 * Created only if {@code bip.framework.cache.nearCache.enabled} is {@code true} at startup.
+	 *
+	 * @param redisConnectionFactory
+	 * @param nearCacheInvalidator
+	 * @return RedisMessageListenerContainer
+	 */
+	@Bean
+	@ConditionalOnProperty(name = NEAR_CACHE_ENABLED_PROPERTY, havingValue = "true")
+	public RedisMessageListenerContainer nearCacheListenerContainer(final RedisConnectionFactory redisConnectionFactory,
+			final NearCacheInvalidator nearCacheInvalidator) {
+		final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(nearCacheInvalidator, new ChannelTopic(nearCacheInvalidator.getChannel()));
+		return container;
+	}
+
+	/**
+	 * Holds the hit, miss, put, eviction and latency statistics of every cache, and publishes them
+	 * as Micrometer meters if a {@link MeterRegistry} is available. The registry is not refresh scoped,
+	 * so statistics accumulate across refreshes of the cache manager.
+	 * Created unless {@code bip.framework.cache.statisticsEnabled} is {@code false} at startup.
+	 *
+	 * @return BipCacheStatisticsRegistry
+	 */
+	@Bean
+	@ConditionalOnProperty(name = STATISTICS_ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+	public BipCacheStatisticsRegistry bipCacheStatisticsRegistry() {
+		return new BipCacheStatisticsRegistry(applicationContext.getBeanProvider(MeterRegistry.class).getIfAvailable());
+	}
+
+	/**
+	 * The pool of threads that refresh values of caches with a {@code softTtl} in the background.
+	 * Not refresh scoped, so refreshes in flight survive refreshes of the cache manager.
+	 * The pool size and queue capacity are read at startup.
+	 *
+	 * @return BipCacheRefresher
+	 */
+	@Bean
+	public BipCacheRefresher bipCacheRefresher() {
+		final BipRedisCacheProperties.RedisRefresh refresh = bipRedisCacheProperties.getRefresh() == null
+				? new BipRedisCacheProperties.RedisRefresh()
+				: bipRedisCacheProperties.getRefresh();
+		return new BipCacheRefresher(refresh.getPoolSize(), refresh.getQueueCapacity());
 	}
 
 	/**
@@ -183,13 +373,34 @@ public class BipCachesConfig extends CachingConfigurerSupport {
 	@Bean
 	public CacheInterceptor cacheInterceptor() {
 		LOGGER.debug("cacheInterceptor invoked here");
-		CacheInterceptor interceptor = new BipCacheInterceptor();
+		BipCacheInterceptor interceptor = new BipCacheInterceptor();
 		interceptor.setCacheOperationSources(cacheOperationSource());
+		applyAuditSettings(interceptor);
 		return interceptor;
 	}
 
 	/**
-	 * Reference cache keys follow a specific naming convention, as enforced by this bean.
+	 * Apply the cache audit settings declared under {@code bip.framework.cache.audit} to the interceptor,
+	 * and track cache invocations only if a cache feature that uses them is enabled.
+	 *
+	 * @param interceptor the interceptor, may be {@code null}
+	 */
+	private void applyAuditSettings(final BipCacheInterceptor interceptor) {
+		if (interceptor != null) {
+			interceptor.setInvocationTracking(bipRedisCacheProperties.isAnyCacheInvocationFeature());
+		}
+		final BipRedisCacheProperties.RedisAudit audit = bipRedisCacheProperties.getAudit();
+		if (interceptor != null && audit != null) {
+			interceptor.setAuditMode(audit.getMode());
+			interceptor.setAuditSampleRate(audit.getSampleRate());
+			LOGGER.debug("Cache audit settings [mode={}; sampleRate={}]", interceptor.getAuditMode(),
+					interceptor.getAuditSampleRate());
+		}
+	}
+
+	/**
+	 * Reference cache keys follow a specific naming convention, as enforced by this bean:
+	 * <tt><i>SimpleClassName</i>.<i>methodName</i>.<i>hash</i></tt>, see {@link BipCacheKeyGenerator}.
 	 * <p>
 	 * {@inheritDoc}
 	 */
@@ -197,20 +408,7 @@ public class BipCachesConfig extends CachingConfigurerSupport {
 	@Override
 	public KeyGenerator keyGenerator() {
 		LOGGER.info("keyGenerator invoked here");
-		return new KeyGenerator() { // NOSONAR lambda expressions do not accept optional params
-			@Override
-			public Object generate(final Object o, final Method method, final Object... objects) {
-				LOGGER.debug("Generating cacheKey");
-				final StringBuilder sb = new StringBuilder();
-				sb.append(o.getClass().getName()).append(ClassUtils.PACKAGE_SEPARATOR_CHAR);
-				sb.append(method.getName());
-				for (final Object obj : objects) {
-					sb.append(ClassUtils.PACKAGE_SEPARATOR_CHAR).append(obj.toString());
-				}
-				LOGGER.debug("Generated cacheKey: {}", sb.toString());
-				return sb.toString();
-			}
-		};
+		return new BipCacheKeyGenerator();
 	}
 
 	/**
@@ -1,6 +1,10 @@
 package gov.va.bip.framework.cache.autoconfigure;
 
+import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import javax.annotation.PostConstruct;
 
@@ -9,12 +13,17 @@ import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.boot.info.BuildProperties;
-import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisSentinelConnection;
+import org.springframework.data.redis.connection.RedisServer;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisClientConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisClientConfiguration.JedisClientConfigurationBuilder;
@@ -32,9 +41,22 @@ import redis.clients.jedis.Protocol;
  * <p>
  * Configures:
  * <ul>
- * <li> RedisStandaloneConfiguration - the redis "Standalone" module (host, port, db index, password)
+ * <li> the redis topology, from the {@code spring.redis} properties:
+ * <ul>
+ * <li> RedisSentinelConfiguration - if {@code spring.redis.sentinel} is declared (master name, sentinel nodes, db index, password)
+ * <li> RedisClusterConfiguration - if {@code spring.redis.cluster} is declared (cluster nodes, max redirects, password)
+ * <li> RedisStandaloneConfiguration - otherwise, the redis "Standalone" module (host, port, db index, password)
+ * </ul>
  * <li> JedisClientConfiguration (timeouts, connection pool, SSL)
  * </ul>
+ * With Sentinel, a primary failover is followed by the connection factory without a restart.
+ * <p>
+ * The connection factory bean is a {@link BipRefreshableRedisConnectionFactory}. When the properties are refreshed,
+ * a replacement JedisConnectionFactory is built and warmed before it is swapped in, and the previous factory is
+ * destroyed after the {@code bip.framework.cache.connectionDrainMillis} grace period.
+ * <p>
+ * Also creates the standalone connection factories used to read caches from replicas,
+ * see {@link #createReplicaConnectionFactories(List, RedisConnectionFactory)}.
  *
  * @author aburkholder
  */
@@ -67,8 +89,9 @@ public class BipJedisConnectionConfig {
 	}
 
 	/**
-	 * On the RefreshScope refresh event, destroy the JedisConnectionFactory to force it
-	 * to rebuild from {@link #redisConnectionFactory()} with the current setting from the application YAML.
+	 * On the RefreshScope refresh event, build a JedisConnectionFactory with the current settings from the
+	 * application YAML, and swap it into the {@link BipRefreshableRedisConnectionFactory}. Operations in flight
+	 * are not blocked, and complete on the previous factory while it drains.
 	 * <p>
 	 * This event listener <b>must</b> run <b>before</b> any other cache related event listeners.
 	 *
@@ -84,39 +107,65 @@ public class BipJedisConnectionConfig {
 		if (!applicationContext.containsBean(REDIS_CONNECTION_FACTORY_BEAN_NAME)) {
 			LOGGER.debug(REDIS_CONNECTION_FACTORY_BEAN_NAME + " does not yet exist.");
 		} else {
-			// connection factory is manipulate through the bean factory
-			// this is required to allow bean dependencies, autowiring, etc to be reinitialized
-			JedisConnectionFactory jedisConnectionFactory =
-					(JedisConnectionFactory) applicationContext.getBean(REDIS_CONNECTION_FACTORY_BEAN_NAME);
-
-			// block on the context, so that in-process executions are not interrupted
-			synchronized (applicationContext) {
-				// automatically calls any destroy method on the bean
-				jedisConnectionFactory.destroy();
+			final Object connectionFactory = applicationContext.getBean(REDIS_CONNECTION_FACTORY_BEAN_NAME);
+			if (!(connectionFactory instanceof BipRefreshableRedisConnectionFactory)) {
+				LOGGER.debug(REDIS_CONNECTION_FACTORY_BEAN_NAME + " is not refreshable.");
+				return;
 			}
 
-			LOGGER.debug(REDIS_CONNECTION_FACTORY_BEAN_NAME + " destroyed.");
+			// build and initialize the replacement while the current factory keeps serving requests
+			final JedisConnectionFactory replacement = createJedisConnectionFactory();
+			replacement.afterPropertiesSet();
+			((BipRefreshableRedisConnectionFactory) connectionFactory).swap(replacement, getConnectionDrainMillis());
+
+			LOGGER.debug(REDIS_CONNECTION_FACTORY_BEAN_NAME + " swapped.");
 		}
 	}
 
 	/**
 	 * Replaces the default RedisConnectionFactory in the spring context.
-	 * This bean configures from the application YAML, and will rebuild the
-	 * Redis Connection after {@link #onApplicationEvent(RefreshScopeRefreshedEvent)}
-	 * destroys the previous factory.
+	 * This bean configures from the application YAML, and swaps in a rebuilt
+	 * JedisConnectionFactory on {@link #onApplicationEvent(RefreshScopeRefreshedEvent)}.
+	 * <p>
+	 * The bean is a {@link BipRefreshableRedisConnectionFactory}, not a JedisConnectionFactory.
+	 * Code that needs the JedisConnectionFactory itself should use {@link #getJedisConnectionFactory()},
+	 * or {@link BipRefreshableRedisConnectionFactory#getCurrent()}, and not hold on to the result,
+	 * because it is replaced on refresh.
 	 *
 	 * @return a connection factory with current property values
 	 */
-	@RefreshScope
 	@Order(1)
 	@Bean
-	public JedisConnectionFactory redisConnectionFactory() {
-		String msg = this.getClass() + ".redisConnectionFactory build with ["
-				+ "RedisStandaloneConfiguration[Database=" + redisProperties.getDatabase()
-				+ ";HostName=" + redisProperties.getHost()
-				+ ";Password=" + redisProperties.getPassword()
-				+ ";Port=" + redisProperties.getPort()
-				+ "]; JedisClientConfiguration["
+	public BipRefreshableRedisConnectionFactory redisConnectionFactory() {
+		return new BipRefreshableRedisConnectionFactory(createJedisConnectionFactory());
+	}
+
+	/**
+	 * The JedisConnectionFactory that currently serves the connections of the {@code redisConnectionFactory} bean.
+	 * The factory is replaced when the properties are refreshed, so get it again for each use.
+	 *
+	 * @return JedisConnectionFactory, or {@code null} if the {@code redisConnectionFactory} bean does not exist
+	 */
+	public JedisConnectionFactory getJedisConnectionFactory() {
+		if (!applicationContext.containsBean(REDIS_CONNECTION_FACTORY_BEAN_NAME)) {
+			return null;
+		}
+		final Object connectionFactory = applicationContext.getBean(REDIS_CONNECTION_FACTORY_BEAN_NAME);
+		if (connectionFactory instanceof BipRefreshableRedisConnectionFactory) {
+			return ((BipRefreshableRedisConnectionFactory) connectionFactory).getCurrent();
+		}
+		return connectionFactory instanceof JedisConnectionFactory ? (JedisConnectionFactory) connectionFactory : null;
+	}
+
+	/**
+	 * Create a JedisConnectionFactory with the current settings from the application YAML.
+	 * The caller is responsible for initializing the factory.
+	 *
+	 * @return a connection factory with current property values
+	 */
+	public JedisConnectionFactory createJedisConnectionFactory() {
+		String msg = this.getClass() + ".redisConnectionFactory build with [" + describeTopology()
+				+ "; JedisClientConfiguration["
 				+ "clientName=" + buildProperties.getName() + "_" + buildProperties.getVersion()
 				+ ";connectTimeout=" + (redisProperties.getTimeout() == null
 						? Duration.ofMillis(Protocol.DEFAULT_TIMEOUT)
@@ -135,9 +184,120 @@ public class BipJedisConnectionConfig {
 				+ "]]";
 		LOGGER.debug(msg);
 
+		if (redisProperties.getSentinel() != null) {
+			return new JedisConnectionFactory(getRedisSentinelConfiguration(), getJedisClientConfiguration());
+		}
+		if (redisProperties.getCluster() != null) {
+			return new JedisConnectionFactory(getRedisClusterConfiguration(), getJedisClientConfiguration());
+		}
 		return new JedisConnectionFactory(getRedisStandaloneConfiguration(), getJedisClientConfiguration());
 	}
 
+	/**
+	 * The grace period before a replaced connection factory is destroyed.
+	 *
+	 * @return long milliseconds
+	 */
+	private long getConnectionDrainMillis() {
+		final BipRedisCacheProperties bipRedisCacheProperties =
+				applicationContext.getBeanProvider(BipRedisCacheProperties.class).getIfAvailable();
+		return bipRedisCacheProperties == null || bipRedisCacheProperties.getConnectionDrainMillis() == null
+				? BipRedisCacheProperties.DEFAULT_CONNECTION_DRAIN_MILLIS
+				: bipRedisCacheProperties.getConnectionDrainMillis();
+	}
+
+	/**
+	 * Create and initialize standalone connection factories for read replicas, with the same client configuration
+	 * (timeouts, pool, SSL) and database index as the primary connection factory.
+	 * <p>
+	 * The replicas are the declared {@code replicaNodes}. If none are declared and the Sentinel topology is configured,
+	 * the replicas of the master are discovered from the sentinels.
+	 * The caller is responsible for destroying the factories.
+	 *
+	 * @param replicaNodes the declared replica nodes, as <tt>host:port</tt>, may be {@code null}
+	 * @param primary the primary connection factory, used for Sentinel discovery
+	 * @return List of connection factories, empty if there are no replicas
+	 */
+	public List<JedisConnectionFactory> createReplicaConnectionFactories(final List<String> replicaNodes,
+			final RedisConnectionFactory primary) {
+		final List<RedisNode> nodes = new ArrayList<>();
+		if (replicaNodes != null && !replicaNodes.isEmpty()) {
+			for (final String replicaNode : replicaNodes) {
+				nodes.add(toRedisNode(replicaNode));
+			}
+		} else if (redisProperties.getSentinel() != null && primary != null) {
+			nodes.addAll(discoverReplicas(primary));
+		}
+
+		final List<JedisConnectionFactory> factories = new ArrayList<>(nodes.size());
+		for (final RedisNode node : nodes) {
+			final RedisStandaloneConfiguration replicaConfiguration = new RedisStandaloneConfiguration();
+			replicaConfiguration.setDatabase(redisProperties.getDatabase());
+			replicaConfiguration.setHostName(node.getHost());
+			replicaConfiguration.setPassword(redisProperties.getPassword());
+			replicaConfiguration.setPort(node.getPort());
+			final JedisConnectionFactory factory = new JedisConnectionFactory(replicaConfiguration, getJedisClientConfiguration());
+			factory.afterPropertiesSet();
+			factories.add(factory);
+			LOGGER.debug("Created replica connection factory for {}:{}", node.getHost(), node.getPort());
+		}
+		return factories;
+	}
+
+	/**
+	 * Ask the sentinels for the replicas of the master.
+	 *
+	 * @param primary the primary connection factory
+	 * @return List of replica nodes, empty if discovery fails
+	 */
+	private List<RedisNode> discoverReplicas(final RedisConnectionFactory primary) {
+		final List<RedisNode> nodes = new ArrayList<>();
+		RedisSentinelConnection sentinelConnection = null;
+		try {
+			sentinelConnection = primary.getSentinelConnection();
+			final Collection<RedisServer> replicas =
+					sentinelConnection.slaves(RedisNode.newRedisNode().withName(redisProperties.getSentinel().getMaster()).build());
+			for (final RedisServer replica : replicas) {
+				nodes.add(new RedisNode(replica.getHost(), replica.getPort()));
+			}
+		} catch (RuntimeException e) { // NOSONAR intentionally broad catch
+			LOGGER.warn("Could not discover redis replicas from sentinel, reading from the master: " + e.getMessage());
+		} finally {
+			if (sentinelConnection != null) {
+				try {
+					sentinelConnection.close();
+				} catch (IOException | RuntimeException e) { // NOSONAR ignore
+					LOGGER.debug("Could not close sentinel connection: " + e.getMessage());
+				}
+			}
+		}
+		return nodes;
+	}
+
+	/**
+	 * Describe the configured topology for logging.
+	 *
+	 * @return String
+	 */
+	private String describeTopology() {
+		if (redisProperties.getSentinel() != null) {
+			return "RedisSentinelConfiguration[Master=" + redisProperties.getSentinel().getMaster()
+					+ ";Nodes=" + redisProperties.getSentinel().getNodes()
+					+ ";Database=" + redisProperties.getDatabase()
+					+ "]";
+		}
+		if (redisProperties.getCluster() != null) {
+			return "RedisClusterConfiguration[Nodes=" + redisProperties.getCluster().getNodes()
+					+ ";MaxRedirects=" + redisProperties.getCluster().getMaxRedirects()
+					+ "]";
+		}
+		return "RedisStandaloneConfiguration[Database=" + redisProperties.getDatabase()
+				+ ";HostName=" + redisProperties.getHost()
+				+ ";Password=" + redisProperties.getPassword()
+				+ ";Port=" + redisProperties.getPort()
+				+ "]";
+	}
+
 	private int getAppropriateMaxActive() {
 		return redisProperties.getJedis().getPool().getMaxActive() <= 0
 				? GenericObjectPoolConfig.DEFAULT_MAX_TOTAL
@@ -230,4 +390,49 @@ public class BipJedisConnectionConfig {
 		redisStandaloneConfiguration.setPort(redisProperties.getPort());
 		return redisStandaloneConfiguration;
 	}
+
+	/**
+	 * Get a Jedis Sentinel configuration object with properties as currently declared in the application YAML.
+	 *
+	 * @return the sentinel configuration
+	 */
+	private RedisSentinelConfiguration getRedisSentinelConfiguration() {
+		RedisProperties.Sentinel sentinel = redisProperties.getSentinel();
+		RedisSentinelConfiguration redisSentinelConfiguration = new RedisSentinelConfiguration();
+		redisSentinelConfiguration.master(sentinel.getMaster());
+		for (String node : sentinel.getNodes()) {
+			redisSentinelConfiguration.addSentinel(toRedisNode(node));
+		}
+		redisSentinelConfiguration.setDatabase(redisProperties.getDatabase());
+		redisSentinelConfiguration.setPassword(redisProperties.getPassword());
+		return redisSentinelConfiguration;
+	}
+
+	/**
+	 * Get a Jedis Cluster configuration object with properties as currently declared in the application YAML.
+	 *
+	 * @return the cluster configuration
+	 */
+	private RedisClusterConfiguration getRedisClusterConfiguration() {
+		RedisProperties.Cluster cluster = redisProperties.getCluster();
+		RedisClusterConfiguration redisClusterConfiguration = new RedisClusterConfiguration(cluster.getNodes());
+		if (cluster.getMaxRedirects() != null) {
+			redisClusterConfiguration.setMaxRedirects(cluster.getMaxRedirects());
+		}
+		redisClusterConfiguration.setPassword(redisProperties.getPassword());
+		return redisClusterConfiguration;
+	}
+
+	/**
+	 * Parse a node declared as <tt>host:port</tt>.
+	 *
+	 * @param node the node
+	 * @return the redis node
+	 */
+	private static RedisNode toRedisNode(final String node) {
+		Defense.hasText(node, "Redis node cannot be empty.");
+		final int separator = node.lastIndexOf(':');
+		Defense.isTrue(separator > 0 && separator < node.length() - 1, "Redis node must be declared as host:port - " + node);
+		return new RedisNode(node.substring(0, separator).trim(), Integer.parseInt(node.substring(separator + 1).trim()));
+	}
 }
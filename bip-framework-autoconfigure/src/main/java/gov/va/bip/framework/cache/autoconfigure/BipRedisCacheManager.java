@@ -0,0 +1,498 @@
+package gov.va.bip.framework.cache.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import gov.va.bip.framework.cache.autoconfigure.BipRedisCacheProperties.RedisExpires;
+import gov.va.bip.framework.cache.autoconfigure.BipRedisCacheProperties.RedisNearCache;
+import gov.va.bip.framework.cache.autoconfigure.BipRedisCacheProperties.RedisRefresh;
+import gov.va.bip.framework.cache.autoconfigure.BipRedisCacheProperties.RedisSingleFlight;
+import gov.va.bip.framework.cache.autoconfigure.near.BipNearCache;
+import gov.va.bip.framework.cache.autoconfigure.near.NearCacheInvalidator;
+import gov.va.bip.framework.cache.autoconfigure.refresh.BipCacheRefresher;
+import gov.va.bip.framework.cache.autoconfigure.refresh.BipRefreshAheadCache;
+import gov.va.bip.framework.cache.autoconfigure.replica.BipReplicaReadCacheWriter;
+import gov.va.bip.framework.cache.autoconfigure.serializer.CacheValueSerializer;
+import gov.va.bip.framework.cache.autoconfigure.singleflight.BipSingleFlightCache;
+import gov.va.bip.framework.cache.autoconfigure.singleflight.RedisLoadLock;
+import gov.va.bip.framework.cache.autoconfigure.stats.BipCacheStatisticsRegistry;
+import gov.va.bip.framework.log.BipLogger;
+import gov.va.bip.framework.log.BipLoggerFactory;
+
+/**
+ * The {@link RedisCacheManager} built by {@link BipCachesConfig}.
+ * <p>
+ * Behaves exactly as a {@link RedisCacheManager}, except that each cache it creates is decorated
+ * with the optional framework cache features declared under {@code bip.framework.cache}:
+ * <ul>
+ * <li>an in-process {@link BipNearCache near cache} in front of Redis, when {@code nearCache.enabled}
+ * <li>{@link BipRefreshAheadCache background refresh} of values past the cache {@code softTtl}
+ * <li>{@link BipSingleFlightCache stampede protection} for cache misses, when {@code singleFlight.enabled}
+ * <li>hit, miss, put, eviction and latency {@link BipCacheStatisticsRegistry statistics}, when {@code statisticsEnabled}
+ * </ul>
+ * Framework decorators are applied inside any transaction-aware decorator.
+ * <p>
+ * Caches with {@code readFromReplica} in their {@code expires} entry read through the
+ * {@link BipReplicaReadCacheWriter replica cache writer}, if one is set. The replica connections
+ * are closed when the cache manager is destroyed.
+ * <p>
+ * The caches are held in an immutable map that is replaced atomically.
+ * {@link #reconfigure(CacheFeatures, RedisCacheConfiguration, Map)} builds and decorates the caches for the new
+ * features and configuration while the current caches keep serving requests, then publishes the features together
+ * with the caches, so a configuration refresh never leaves callers without a cache, waiting for one, or with a cache
+ * that mixes old and new features. A replaced replica cache writer is drained: it is destroyed only after the
+ * {@code connectionDrainMillis} grace period, so reads already in flight on the previous caches complete normally.
+ */
+public class BipRedisCacheManager extends RedisCacheManager implements DisposableBean {
+	/** Class logger */
+	private static final BipLogger LOGGER = BipLoggerFactory.getLogger(BipRedisCacheManager.class);
+
+	/** Cache properties derived from application YAML */
+	private final BipRedisCacheProperties bipRedisCacheProperties;
+
+	/** The optional framework cache features, replaced as a whole together with the caches */
+	private volatile CacheFeatures features = CacheFeatures.NONE;
+
+	/** Previous replica cache writers waiting to be destroyed */
+	private final Set<BipReplicaReadCacheWriter> draining = ConcurrentHashMap.newKeySet();
+
+	/** Destroys previous replica cache writers after the grace period, created on the first replacement */
+	private ScheduledExecutorService drainExecutor;
+
+	/** The current default cache configuration */
+	private volatile RedisCacheConfiguration defaultCacheConfiguration;
+
+	/** The current configurations of individual caches */
+	private volatile Map<String, RedisCacheConfiguration> initialCacheConfigurations;
+
+	/** The current decorated caches, keyed by name, replaced as a whole */
+	private volatile Map<String, Cache> caches = Collections.emptyMap();
+
+	/**
+	 * Create the cache manager.
+	 *
+	 * @param cacheWriter the redis cache writer
+	 * @param defaultCacheConfiguration the default cache configuration
+	 * @param initialCacheConfigurations the configurations of individual caches
+	 * @param bipRedisCacheProperties cache properties derived from application YAML
+	 */
+	public BipRedisCacheManager(final RedisCacheWriter cacheWriter, final RedisCacheConfiguration defaultCacheConfiguration,
+			final Map<String, RedisCacheConfiguration> initialCacheConfigurations,
+			final BipRedisCacheProperties bipRedisCacheProperties) {
+		super(cacheWriter, defaultCacheConfiguration, initialCacheConfigurations);
+		this.bipRedisCacheProperties = bipRedisCacheProperties;
+		this.defaultCacheConfiguration = defaultCacheConfiguration;
+		this.initialCacheConfigurations = Collections.unmodifiableMap(new LinkedHashMap<>(initialCacheConfigurations));
+	}
+
+	/**
+	 * Set the optional framework cache features, before the caches are first used.
+	 * To change the features of caches in use, see {@link #reconfigure(CacheFeatures, RedisCacheConfiguration, Map)}.
+	 *
+	 * @param features the features, {@code null} for none
+	 */
+	public synchronized void setFeatures(final CacheFeatures features) {
+		this.features = features == null ? CacheFeatures.NONE : features;
+	}
+
+	/**
+	 * The optional framework cache features the current caches are decorated with.
+	 *
+	 * @return CacheFeatures
+	 */
+	public CacheFeatures getFeatures() {
+		return features;
+	}
+
+	/**
+	 * Replace the cache configurations, and rebuild the caches with them and the current features.
+	 *
+	 * @param defaultCacheConfiguration the default cache configuration
+	 * @param initialCacheConfigurations the configurations of individual caches
+	 */
+	public synchronized void reconfigure(final RedisCacheConfiguration defaultCacheConfiguration,
+			final Map<String, RedisCacheConfiguration> initialCacheConfigurations) {
+		reconfigure(features, defaultCacheConfiguration, initialCacheConfigurations);
+	}
+
+	/**
+	 * Replace the features and cache configurations, and rebuild the caches with them.
+	 * <p>
+	 * The caches are built and decorated before they replace the current caches in a single step, under the
+	 * same lock as caches created on demand, so every cache is decorated with either the previous or the new
+	 * features. Caches that were created on demand are rebuilt with the new default configuration.
+	 * A replaced replica cache writer is destroyed after the {@code connectionDrainMillis} grace period.
+	 *
+	 * @param features the features, {@code null} for none
+	 * @param defaultCacheConfiguration the default cache configuration
+	 * @param initialCacheConfigurations the configurations of individual caches
+	 */
+	public synchronized void reconfigure(final CacheFeatures features, final RedisCacheConfiguration defaultCacheConfiguration,
+			final Map<String, RedisCacheConfiguration> initialCacheConfigurations) {
+		final BipReplicaReadCacheWriter previousReplicaReadCacheWriter = this.features.getReplicaReadCacheWriter();
+		this.features = features == null ? CacheFeatures.NONE : features;
+		this.defaultCacheConfiguration = defaultCacheConfiguration;
+		this.initialCacheConfigurations = Collections.unmodifiableMap(new LinkedHashMap<>(initialCacheConfigurations));
+		initializeCaches();
+		if (previousReplicaReadCacheWriter != null
+				&& previousReplicaReadCacheWriter != this.features.getReplicaReadCacheWriter()) {
+			drain(previousReplicaReadCacheWriter);
+		}
+	}
+
+	/**
+	 * Build the caches for the current configurations, then replace the current caches in a single step.
+	 */
+	@Override
+	public synchronized void initializeCaches() {
+		final Map<String, Cache> rebuilt = new LinkedHashMap<>();
+		for (final RedisCache cache : loadCaches()) {
+			rebuilt.put(cache.getName(), decorateCache(cache));
+		}
+		for (final String name : caches.keySet()) {
+			if (!rebuilt.containsKey(name)) {
+				final RedisCache cache = getMissingCache(name);
+				if (cache != null) {
+					rebuilt.put(name, decorateCache(cache));
+				}
+			}
+		}
+		this.caches = Collections.unmodifiableMap(rebuilt);
+	}
+
+	/**
+	 * Get the cache without locking, creating it with the default configuration if it does not exist.
+	 * <p>
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Cache getCache(final String name) {
+		final Cache cache = caches.get(name);
+		return cache != null ? cache : createMissingCache(name);
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return caches.keySet();
+	}
+
+	@Override
+	protected Collection<RedisCache> loadCaches() {
+		final List<RedisCache> loaded = new ArrayList<>();
+		for (final Map.Entry<String, RedisCacheConfiguration> entry : initialCacheConfigurations.entrySet()) {
+			loaded.add(createRedisCache(entry.getKey(), entry.getValue()));
+		}
+		return loaded;
+	}
+
+	@Override
+	protected RedisCache getMissingCache(final String name) {
+		return createRedisCache(name, defaultCacheConfiguration);
+	}
+
+	/**
+	 * Create, decorate and add a cache that does not exist yet.
+	 *
+	 * @param name the cache name
+	 * @return Cache the decorated cache, or {@code null} if it cannot be created
+	 */
+	private synchronized Cache createMissingCache(final String name) {
+		Cache cache = caches.get(name);
+		if (cache == null) {
+			final RedisCache missing = getMissingCache(name);
+			if (missing != null) {
+				cache = decorateCache(missing);
+				final Map<String, Cache> added = new LinkedHashMap<>(caches);
+				added.put(name, cache);
+				this.caches = Collections.unmodifiableMap(added);
+			}
+		}
+		return cache;
+	}
+
+	/**
+	 * Create the cache, reading from replicas if the cache has {@code readFromReplica}.
+	 * <p>
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected RedisCache createRedisCache(final String name, final RedisCacheConfiguration cacheConfig) {
+		final RedisCache cache = super.createRedisCache(name, cacheConfig);
+		final BipReplicaReadCacheWriter replicaReadCacheWriter = features.getReplicaReadCacheWriter();
+		final RedisExpires redisExpires = bipRedisCacheProperties.getRedisExpires(name);
+		if (replicaReadCacheWriter == null || redisExpires == null || !Boolean.TRUE.equals(redisExpires.getReadFromReplica())) {
+			return cache;
+		}
+		return new RedisCache(name, replicaReadCacheWriter, cache.getCacheConfiguration()) {
+		};
+	}
+
+	/**
+	 * Close the replica connections, including those of replaced replica cache writers that are still draining.
+	 */
+	@Override
+	public void destroy() {
+		synchronized (this) {
+			if (drainExecutor != null) {
+				drainExecutor.shutdownNow();
+			}
+		}
+		for (final BipReplicaReadCacheWriter previous : draining) {
+			previous.destroy();
+		}
+		draining.clear();
+		final BipReplicaReadCacheWriter replicaReadCacheWriter = features.getReplicaReadCacheWriter();
+		if (replicaReadCacheWriter != null) {
+			replicaReadCacheWriter.destroy();
+		}
+	}
+
+	/**
+	 * The number of replaced replica cache writers that are waiting to be destroyed.
+	 *
+	 * @return int
+	 */
+	public int getDrainingCount() {
+		return draining.size();
+	}
+
+	/**
+	 * Destroy a replaced replica cache writer after the {@code connectionDrainMillis} grace period.
+	 *
+	 * @param previous the replaced writer
+	 */
+	private void drain(final BipReplicaReadCacheWriter previous) {
+		final Long drainMillis = bipRedisCacheProperties.getConnectionDrainMillis();
+		final long delay = drainMillis == null ? BipRedisCacheProperties.DEFAULT_CONNECTION_DRAIN_MILLIS : drainMillis;
+		if (delay <= 0) {
+			previous.destroy();
+			return;
+		}
+		draining.add(previous);
+		drainExecutor().schedule(() -> {
+			if (draining.remove(previous)) {
+				previous.destroy();
+				LOGGER.debug("Previous replica cache writer drained and destroyed.");
+			}
+		}, delay, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Lazily create the drain thread.
+	 *
+	 * @return ScheduledExecutorService
+	 */
+	private synchronized ScheduledExecutorService drainExecutor() {
+		if (drainExecutor == null) {
+			drainExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				final Thread thread = new Thread(runnable, "bip-cache-replica-drain");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return drainExecutor;
+	}
+
+	/**
+	 * Apply the framework cache decorators, then any transaction-aware decorator.
+	 * <p>
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Cache decorateCache(final Cache cache) {
+		final CacheFeatures current = features;
+		final NearCacheInvalidator nearCacheInvalidator = current.getNearCacheInvalidator();
+		Cache decorated = cache;
+		final RedisNearCache nearCache = bipRedisCacheProperties.getNearCache();
+		if (nearCacheInvalidator != null && nearCache != null && nearCache.isEnabled()) {
+			decorated = nearCacheInvalidator.register(new BipNearCache(decorated, getNearCacheMaxEntries(cache.getName()),
+					getNearCacheTtl(cache.getName()), nearCacheInvalidator, getValueSerializationPair(cache)));
+		}
+		final RedisExpires redisExpires = bipRedisCacheProperties.getRedisExpires(cache.getName());
+		final BipCacheRefresher cacheRefresher = current.getCacheRefresher();
+		if (cacheRefresher != null && redisExpires != null && redisExpires.getSoftTtl() != null
+				&& redisExpires.getSoftTtl() > 0) {
+			final RedisRefresh refresh = bipRedisCacheProperties.getRefresh();
+			decorated = new BipRefreshAheadCache(decorated, redisExpires.getSoftTtl(),
+					refresh == null ? 0 : refresh.getEarlyRefreshBeta(), cacheRefresher);
+		}
+		final RedisSingleFlight singleFlight = bipRedisCacheProperties.getSingleFlight();
+		if (singleFlight != null && singleFlight.isEnabled()) {
+			decorated = new BipSingleFlightCache(decorated, singleFlight.getTimeoutMillis(), current.getRedisLoadLock());
+		}
+		final BipCacheStatisticsRegistry statisticsRegistry = current.getStatisticsRegistry();
+		if (statisticsRegistry != null) {
+			decorated = statisticsRegistry.decorate(decorated);
+		}
+		return super.decorateCache(decorated);
+	}
+
+	/**
+	 * Remove the framework and transaction-aware decorators from a cache.
+	 *
+	 * @param cache the (possibly decorated) cache
+	 * @return Cache the innermost target cache
+	 */
+	public static Cache unwrap(final Cache cache) {
+		Cache target = cache;
+		if (target instanceof TransactionAwareCacheDecorator) {
+			target = ((TransactionAwareCacheDecorator) target).getTargetCache();
+		}
+		while (target instanceof BipCacheDecorator) {
+			target = ((BipCacheDecorator) target).getTargetCache();
+		}
+		return target;
+	}
+
+	/**
+	 * The value serializer of a cache, used to hold its values locally.
+	 *
+	 * @param cache the undecorated cache
+	 * @return SerializationPair, that of the cache configuration for a {@link RedisCache}, or JDK serialization
+	 */
+	private static SerializationPair<Object> getValueSerializationPair(final Cache cache) {
+		return cache instanceof RedisCache ? ((RedisCache) cache).getCacheConfiguration().getValueSerializationPair()
+				: SerializationPair.fromSerializer(CacheValueSerializer.JDK.create());
+	}
+
+	/**
+	 * Maximum number of entries held locally for a cache name.
+	 *
+	 * @param cacheName the cache name
+	 * @return int
+	 */
+	private int getNearCacheMaxEntries(final String cacheName) {
+		final RedisExpires redisExpires = bipRedisCacheProperties.getRedisExpires(cacheName);
+		return redisExpires == null || redisExpires.getNearCacheMaxEntries() == null
+				? bipRedisCacheProperties.getNearCache().getMaxEntries()
+				: redisExpires.getNearCacheMaxEntries();
+	}
+
+	/**
+	 * Time-to-live in seconds for entries held locally for a cache name: the cache TTL, capped at {@code nearCache.maxTtl}.
+	 *
+	 * @param cacheName the cache name
+	 * @return long
+	 */
+	private long getNearCacheTtl(final String cacheName) {
+		final Long ttl = bipRedisCacheProperties.getTtl(cacheName);
+		final Long maxTtl = bipRedisCacheProperties.getNearCache().getMaxTtl();
+		if (ttl == null || ttl <= 0) {
+			return maxTtl == null ? 0 : maxTtl;
+		}
+		return maxTtl == null ? ttl : Math.min(ttl, maxTtl);
+	}
+
+	/**
+	 * The optional framework cache features the caches are decorated with. Immutable, so the features
+	 * of a cache manager are replaced as a whole - see {@link BipRedisCacheManager#reconfigure(CacheFeatures,
+	 * RedisCacheConfiguration, Map)}.
+	 */
+	public static final class CacheFeatures {
+
+		/** No optional features */
+		public static final CacheFeatures NONE = new CacheFeatures(null, null, null, null, null);
+
+		/** Keeps near caches on all instances in step, {@code null} if the near cache is not enabled */
+		private final NearCacheInvalidator nearCacheInvalidator;
+
+		/** Records cache statistics, {@code null} if statistics are not enabled */
+		private final BipCacheStatisticsRegistry statisticsRegistry;
+
+		/** Coalesces cache loads across instances, {@code null} if not distributed */
+		private final RedisLoadLock redisLoadLock;
+
+		/** Runs background refreshes, {@code null} if not available */
+		private final BipCacheRefresher cacheRefresher;
+
+		/** Reads from replicas, {@code null} if no cache reads from replicas */
+		private final BipReplicaReadCacheWriter replicaReadCacheWriter;
+
+		/**
+		 * Create the features.
+		 *
+		 * @param nearCacheInvalidator keeps near caches on all instances in step, caches get a near cache only if this
+		 *            is set and {@code nearCache.enabled} is {@code true}, may be {@code null}
+		 * @param statisticsRegistry records cache statistics, caches record statistics only if this is set,
+		 *            may be {@code null}
+		 * @param redisLoadLock coalesces cache loads across instances, used only if {@code singleFlight.enabled}
+		 *            is {@code true}, may be {@code null}
+		 * @param cacheRefresher runs background refreshes, caches with a {@code softTtl} are refreshed only if this
+		 *            is set, may be {@code null}
+		 * @param replicaReadCacheWriter reads from replicas, caches with {@code readFromReplica} read from replicas
+		 *            only if this is set, may be {@code null}
+		 */
+		public CacheFeatures(final NearCacheInvalidator nearCacheInvalidator, final BipCacheStatisticsRegistry statisticsRegistry,
+				final RedisLoadLock redisLoadLock, final BipCacheRefresher cacheRefresher,
+				final BipReplicaReadCacheWriter replicaReadCacheWriter) {
+			this.nearCacheInvalidator = nearCacheInvalidator;
+			this.statisticsRegistry = statisticsRegistry;
+			this.redisLoadLock = redisLoadLock;
+			this.cacheRefresher = cacheRefresher;
+			this.replicaReadCacheWriter = replicaReadCacheWriter;
+		}
+
+		/**
+		 * Keeps near caches on all instances in step, {@code null} if the near cache is not enabled.
+		 *
+		 * @return NearCacheInvalidator
+		 */
+		public NearCacheInvalidator getNearCacheInvalidator() {
+			return nearCacheInvalidator;
+		}
+
+		/**
+		 * Records cache statistics, {@code null} if statistics are not enabled.
+		 *
+		 * @return BipCacheStatisticsRegistry
+		 */
+		public BipCacheStatisticsRegistry getStatisticsRegistry() {
+			return statisticsRegistry;
+		}
+
+		/**
+		 * Coalesces cache loads across instances, {@code null} if not distributed.
+		 *
+		 * @return RedisLoadLock
+		 */
+		public RedisLoadLock getRedisLoadLock() {
+			return redisLoadLock;
+		}
+
+		/**
+		 * Runs background refreshes, {@code null} if not available.
+		 *
+		 * @return BipCacheRefresher
+		 */
+		public BipCacheRefresher getCacheRefresher() {
+			return cacheRefresher;
+		}
+
+		/**
+		 * Reads from replicas, {@code null} if no cache reads from replicas.
+		 *
+		 * @return BipReplicaReadCacheWriter
+		 */
+		public BipReplicaReadCacheWriter getReplicaReadCacheWriter() {
+			return replicaReadCacheWriter;
+		}
+	}
+}
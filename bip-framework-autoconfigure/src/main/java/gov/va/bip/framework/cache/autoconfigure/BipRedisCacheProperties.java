@@ -1,9 +1,14 @@
 package gov.va.bip.framework.cache.autoconfigure;
 
 import java.util.List;
+import java.util.Locale;
 
 import org.springframework.stereotype.Component;
 
+import gov.va.bip.framework.cache.autoconfigure.serializer.BipCompressingRedisSerializer;
+import gov.va.bip.framework.cache.autoconfigure.serializer.CacheValueSerializer;
+import gov.va.bip.framework.cache.interceptor.BipCacheInterceptor;
+import gov.va.bip.framework.cache.interceptor.CacheAuditMode;
 import gov.va.bip.framework.log.BipLogger;
 import gov.va.bip.framework.log.BipLoggerFactory;
 
@@ -19,10 +24,40 @@ import gov.va.bip.framework.log.BipLoggerFactory;
  * <tr><th>Property Name</th><th>Default Value</th><th>Type</th></tr>
  * <tr><td>defaultExpires</td><td>86400</td><td>Long</td></tr>
  * <tr><td>expires</td><td>null</td><td>List&lt;RedisExpires&gt;</td></tr>
+ * <tr><td>nearCache</td><td>disabled</td><td>RedisNearCache</td></tr>
+ * <tr><td>singleFlight</td><td>disabled</td><td>RedisSingleFlight</td></tr>
+ * <tr><td>refresh</td><td>see RedisRefresh</td><td>RedisRefresh</td></tr>
+ * <tr><td>statisticsEnabled</td><td>true</td><td>boolean</td></tr>
+ * <tr><td>audit</td><td>mode ALL</td><td>RedisAudit</td></tr>
+ * <tr><td>replicaNodes</td><td>null</td><td>List&lt;String&gt;</td></tr>
+ * <tr><td>connectionDrainMillis</td><td>5000</td><td>Long</td></tr>
+ * <tr><td>serialization</td><td>jdk, uncompressed</td><td>RedisSerialization</td></tr>
  * </table>
  * <p>
  * The {@link RedisExpires} list is populated from list entries in the application yaml
  * under {@code bip.framework:cache:expires}.
+ * <p>
+ * The optional in-process near cache is configured under {@code bip.framework:cache:nearCache} - see {@link RedisNearCache}.
+ * <p>
+ * Optional stampede protection for cache misses is configured under {@code bip.framework:cache:singleFlight}
+ * - see {@link RedisSingleFlight}.
+ * <p>
+ * A cache with a {@code softTtl} in its {@link RedisExpires} entry serves values past the soft TTL while
+ * refreshing them in the background. The refresh threads are configured under {@code bip.framework:cache:refresh}
+ * - see {@link RedisRefresh}.
+ * <p>
+ * A cache with {@code readFromReplica} in its {@link RedisExpires} entry reads from the redis replicas declared
+ * as <tt>host:port</tt> in {@code replicaNodes}, or discovered from the sentinels if none are declared and
+ * {@code spring.redis.sentinel} is configured. Writes always go to the primary.
+ * <p>
+ * The serializer and compression of cached values are configured under {@code bip.framework:cache:serialization}
+ * - see {@link RedisSerialization}. A cache can override them with {@code serializer} and {@code compressionThreshold}
+ * in its {@link RedisExpires} entry.
+ * <p>
+ * When the redis properties are refreshed, the previous connection factory is kept open for
+ * {@code connectionDrainMillis} so that operations in flight can complete.
+ * <p>
+ * Auditing of cached method invocations is configured under {@code bip.framework:cache:audit} - see {@link RedisAudit}.
  *
  */
 @Component
@@ -30,12 +65,39 @@ public class BipRedisCacheProperties {
 	/** Class logger */
 	static final BipLogger LOGGER = BipLoggerFactory.getLogger(BipRedisCacheProperties.class);
 
+	/** The default grace period before a replaced connection factory is destroyed */
+	public static final long DEFAULT_CONNECTION_DRAIN_MILLIS = 5000L;
+
 	/** List of inner class {@link RedisExpires} configuration objects */
 	private List<RedisExpires> expires;
 
 	/** The default expiration time */
 	private Long defaultExpires = 86400L;
 
+	/** The in-process near cache configuration */
+	private RedisNearCache nearCache = new RedisNearCache();
+
+	/** The cache miss stampede protection configuration */
+	private RedisSingleFlight singleFlight = new RedisSingleFlight();
+
+	/** The background refresh configuration */
+	private RedisRefresh refresh = new RedisRefresh();
+
+	/** Are cache statistics recorded (read at startup) */
+	private boolean statisticsEnabled = true;
+
+	/** The cache auditing configuration */
+	private RedisAudit audit = new RedisAudit();
+
+	/** The redis replicas to read from, as host:port */
+	private List<String> replicaNodes;
+
+	/** The grace period before a replaced connection factory is destroyed */
+	private Long connectionDrainMillis = DEFAULT_CONNECTION_DRAIN_MILLIS;
+
+	/** The default serialization of cached values */
+	private RedisSerialization serialization = new RedisSerialization();
+
 	/**
 	 * The inner class {@link RedisExpires} configuration object.
 	 *
@@ -72,6 +134,247 @@ public class BipRedisCacheProperties {
 		return this.defaultExpires;
 	}
 
+	/**
+	 * The in-process near cache configuration.
+	 *
+	 * @return RedisNearCache
+	 */
+	public RedisNearCache getNearCache() {
+		return nearCache;
+	}
+
+	/**
+	 * The in-process near cache configuration.
+	 *
+	 * @param nearCache
+	 */
+	public void setNearCache(final RedisNearCache nearCache) {
+		this.nearCache = nearCache;
+	}
+
+	/**
+	 * The cache miss stampede protection configuration.
+	 *
+	 * @return RedisSingleFlight
+	 */
+	public RedisSingleFlight getSingleFlight() {
+		return singleFlight;
+	}
+
+	/**
+	 * The cache miss stampede protection configuration.
+	 *
+	 * @param singleFlight
+	 */
+	public void setSingleFlight(final RedisSingleFlight singleFlight) {
+		this.singleFlight = singleFlight;
+	}
+
+	/**
+	 * The background refresh configuration.
+	 *
+	 * @return RedisRefresh
+	 */
+	public RedisRefresh getRefresh() {
+		return refresh;
+	}
+
+	/**
+	 * The background refresh configuration.
+	 *
+	 * @param refresh
+	 */
+	public void setRefresh(final RedisRefresh refresh) {
+		this.refresh = refresh;
+	}
+
+	/**
+	 * Are cache hit, miss, put, eviction and latency statistics recorded.
+	 * Read at startup.
+	 *
+	 * @return boolean
+	 */
+	public boolean isStatisticsEnabled() {
+		return statisticsEnabled;
+	}
+
+	/**
+	 * Are cache hit, miss, put, eviction and latency statistics recorded.
+	 * Read at startup.
+	 *
+	 * @param statisticsEnabled
+	 */
+	public void setStatisticsEnabled(final boolean statisticsEnabled) {
+		this.statisticsEnabled = statisticsEnabled;
+	}
+
+	/**
+	 * The cache auditing configuration.
+	 *
+	 * @return RedisAudit
+	 */
+	public RedisAudit getAudit() {
+		return audit;
+	}
+
+	/**
+	 * The cache auditing configuration.
+	 *
+	 * @param audit
+	 */
+	public void setAudit(final RedisAudit audit) {
+		this.audit = audit;
+	}
+
+	/**
+	 * The redis replicas that caches with {@code readFromReplica} read from, as <tt>host:port</tt>.
+	 *
+	 * @return List of String
+	 */
+	public List<String> getReplicaNodes() {
+		return replicaNodes;
+	}
+
+	/**
+	 * The redis replicas that caches with {@code readFromReplica} read from, as <tt>host:port</tt>.
+	 *
+	 * @param replicaNodes
+	 */
+	public void setReplicaNodes(final List<String> replicaNodes) {
+		this.replicaNodes = replicaNodes;
+	}
+
+	/**
+	 * The grace period in milliseconds before a replaced connection factory is destroyed.
+	 *
+	 * @return Long
+	 */
+	public Long getConnectionDrainMillis() {
+		return connectionDrainMillis;
+	}
+
+	/**
+	 * The grace period in milliseconds before a replaced connection factory is destroyed.
+	 *
+	 * @param connectionDrainMillis
+	 */
+	public void setConnectionDrainMillis(final Long connectionDrainMillis) {
+		this.connectionDrainMillis = connectionDrainMillis;
+	}
+
+	/**
+	 * The default serialization of cached values.
+	 *
+	 * @return RedisSerialization
+	 */
+	public RedisSerialization getSerialization() {
+		return serialization;
+	}
+
+	/**
+	 * The default serialization of cached values.
+	 *
+	 * @param serialization
+	 */
+	public void setSerialization(final RedisSerialization serialization) {
+		this.serialization = serialization;
+	}
+
+	/**
+	 * The name of the value serializer for a cache name: the {@code serializer} of its {@link RedisExpires}
+	 * entry, or else the default {@code serialization.serializer}.
+	 *
+	 * @param cacheName the cache name, may be {@code null} for the default
+	 * @return String
+	 */
+	public String getSerializer(final String cacheName) {
+		final RedisExpires redisExpires = cacheName == null ? null : getRedisExpires(cacheName);
+		if (redisExpires != null && redisExpires.getSerializer() != null) {
+			return redisExpires.getSerializer();
+		}
+		return serialization == null ? null : serialization.getSerializer();
+	}
+
+	/**
+	 * The compression threshold in bytes for a cache name: the {@code compressionThreshold} of its
+	 * {@link RedisExpires} entry, or else the default {@code serialization.compressionThreshold}.
+	 *
+	 * @param cacheName the cache name, may be {@code null} for the default
+	 * @return Integer, {@code null} or not positive if values are not compressed
+	 */
+	public Integer getCompressionThreshold(final String cacheName) {
+		final RedisExpires redisExpires = cacheName == null ? null : getRedisExpires(cacheName);
+		if (redisExpires != null && redisExpires.getCompressionThreshold() != null) {
+			return redisExpires.getCompressionThreshold();
+		}
+		return serialization == null ? null : serialization.getCompressionThreshold();
+	}
+
+	/**
+	 * Is there any cache in the {@code expires} list with {@code readFromReplica} set.
+	 *
+	 * @return boolean
+	 */
+	public boolean isAnyReadFromReplica() {
+		if (this.expires != null) {
+			for (final RedisExpires redisExpires : this.expires) {
+				if (Boolean.TRUE.equals(redisExpires.getReadFromReplica())) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Is any cache feature that reads the cache invocation in progress enabled: {@code singleFlight},
+	 * or a {@code softTtl} on any cache in the {@code expires} list.
+	 *
+	 * @return boolean
+	 */
+	public boolean isAnyCacheInvocationFeature() {
+		if (singleFlight != null && singleFlight.isEnabled()) {
+			return true;
+		}
+		if (this.expires != null) {
+			for (final RedisExpires redisExpires : this.expires) {
+				if (redisExpires.getSoftTtl() != null && redisExpires.getSoftTtl() > 0) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The time-to-live (in seconds) for a cache name, as declared in the {@code expires} list,
+	 * or the {@code defaultExpires} if the cache name is not in the list.
+	 *
+	 * @param cacheName the cache name
+	 * @return Long the time-to-live in seconds
+	 */
+	public Long getTtl(final String cacheName) {
+		final RedisExpires redisExpires = getRedisExpires(cacheName);
+		return redisExpires == null || redisExpires.getTtl() == null ? this.defaultExpires : redisExpires.getTtl();
+	}
+
+	/**
+	 * The {@link RedisExpires} entry for a cache name.
+	 *
+	 * @param cacheName the cache name
+	 * @return RedisExpires the entry, or {@code null} if the cache name is not in the {@code expires} list
+	 */
+	public RedisExpires getRedisExpires(final String cacheName) {
+		if (this.expires != null && cacheName != null) {
+			for (final RedisExpires redisExpires : this.expires) {
+				if (cacheName.equals(redisExpires.getName())) {
+					return redisExpires;
+				}
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Inner class to hold the time to live (ttl) for a given cache name.
 	 * <p>
@@ -87,6 +390,21 @@ public class BipRedisCacheProperties {
 		/** The time-to-live for items cached under the cache name */
 		private Long ttl;
 
+		/** The maximum number of entries held in the near cache for the cache name */
+		private Integer nearCacheMaxEntries;
+
+		/** The soft time-to-live, after which values are refreshed in the background */
+		private Long softTtl;
+
+		/** Are values read from the replicas */
+		private Boolean readFromReplica;
+
+		/** The value serializer name */
+		private String serializer;
+
+		/** Serialized values of at least this many bytes are compressed */
+		private Integer compressionThreshold;
+
 		/**
 		 * Redis cache name for which to set the time-to-live.
 		 *
@@ -122,5 +440,524 @@ public class BipRedisCacheProperties {
 		public void setTtl(final Long ttl) {
 			this.ttl = ttl;
 		}
+
+		/**
+		 * Maximum number of entries held in the near cache for the cache name.
+		 * If {@code null}, the {@code nearCache.maxEntries} value is used.
+		 *
+		 * @return Integer
+		 */
+		public Integer getNearCacheMaxEntries() {
+			return nearCacheMaxEntries;
+		}
+
+		/**
+		 * Maximum number of entries held in the near cache for the cache name.
+		 * If {@code null}, the {@code nearCache.maxEntries} value is used.
+		 *
+		 * @param nearCacheMaxEntries
+		 */
+		public void setNearCacheMaxEntries(final Integer nearCacheMaxEntries) {
+			this.nearCacheMaxEntries = nearCacheMaxEntries;
+		}
+
+		/**
+		 * Soft time-to-live in seconds, after which values are served while they are refreshed in the background.
+		 * Should be less than the {@code ttl}. If {@code null}, values are not refreshed.
+		 *
+		 * @return Long
+		 */
+		public Long getSoftTtl() {
+			return softTtl;
+		}
+
+		/**
+		 * Soft time-to-live in seconds, after which values are served while they are refreshed in the background.
+		 * Should be less than the {@code ttl}. If {@code null}, values are not refreshed.
+		 *
+		 * @param softTtl
+		 */
+		public void setSoftTtl(final Long softTtl) {
+			this.softTtl = softTtl;
+		}
+
+		/**
+		 * Are values read from the redis replicas instead of the primary.
+		 * If {@code null}, values are read from the primary.
+		 *
+		 * @return Boolean
+		 */
+		public Boolean getReadFromReplica() {
+			return readFromReplica;
+		}
+
+		/**
+		 * Are values read from the redis replicas instead of the primary.
+		 * If {@code null}, values are read from the primary.
+		 *
+		 * @param readFromReplica
+		 */
+		public void setReadFromReplica(final Boolean readFromReplica) {
+			this.readFromReplica = readFromReplica;
+		}
+
+		/**
+		 * The value serializer name for the cache name: {@code jdk}, {@code json}, or the name of a
+		 * {@link org.springframework.data.redis.serializer.RedisSerializer} bean.
+		 * If {@code null}, the default {@code serialization.serializer} is used.
+		 *
+		 * @return String
+		 */
+		public String getSerializer() {
+			return serializer;
+		}
+
+		/**
+		 * The value serializer name for the cache name: {@code jdk}, {@code json}, or the name of a
+		 * {@link org.springframework.data.redis.serializer.RedisSerializer} bean.
+		 * If {@code null}, the default {@code serialization.serializer} is used.
+		 *
+		 * @param serializer
+		 */
+		public void setSerializer(final String serializer) {
+			this.serializer = serializer;
+		}
+
+		/**
+		 * Serialized values of at least this many bytes are compressed, 0 disables compression.
+		 * If {@code null}, the default {@code serialization.compressionThreshold} is used.
+		 *
+		 * @return Integer
+		 */
+		public Integer getCompressionThreshold() {
+			return compressionThreshold;
+		}
+
+		/**
+		 * Serialized values of at least this many bytes are compressed, 0 disables compression.
+		 * If {@code null}, the default {@code serialization.compressionThreshold} is used.
+		 *
+		 * @param compressionThreshold
+		 */
+		public void setCompressionThreshold(final Integer compressionThreshold) {
+			this.compressionThreshold = compressionThreshold;
+		}
+	}
+
+	/**
+	 * Inner class to hold the in-process near cache configuration.
+	 * <p>
+	 * When enabled, each cache keeps recently read entries in local memory in front of Redis.
+	 * Entries live for the cache TTL (from the {@code expires} list or {@code defaultExpires}),
+	 * capped at {@code maxTtl} seconds. Puts, evicts and clears are published on the Redis pub/sub
+	 * {@code channel} so other instances drop their local copies.
+	 * <p>
+	 * <table border="1px">
+	 * <tr><th colspan="3">Properties under: {@code bip.framework:cache:nearCache}</th></tr>
+	 * <tr><th>Property Name</th><th>Default Value</th><th>Type</th></tr>
+	 * <tr><td>enabled</td><td>false</td><td>boolean</td></tr>
+	 * <tr><td>maxEntries</td><td>1000</td><td>int</td></tr>
+	 * <tr><td>maxTtl</td><td>300</td><td>Long</td></tr>
+	 * <tr><td>channel</td><td>bip-framework-near-cache</td><td>String</td></tr>
+	 * </table>
+	 * <p>
+	 * The {@code enabled} and {@code channel} values are read at startup.
+	 */
+	public static class RedisNearCache {
+
+		/** Is the near cache enabled */
+		private boolean enabled = false;
+
+		/** Maximum number of entries held locally per cache */
+		private int maxEntries = 1000;
+
+		/** Maximum time-to-live in seconds for entries held locally */
+		private Long maxTtl = 300L;
+
+		/** The Redis pub/sub channel for invalidation messages */
+		private String channel = "bip-framework-near-cache";
+
+		/**
+		 * Is the near cache enabled.
+		 *
+		 * @return boolean
+		 */
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		/**
+		 * Is the near cache enabled.
+		 *
+		 * @param enabled
+		 */
+		public void setEnabled(final boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		/**
+		 * Maximum number of entries held locally per cache.
+		 *
+		 * @return int
+		 */
+		public int getMaxEntries() {
+			return maxEntries;
+		}
+
+		/**
+		 * Maximum number of entries held locally per cache.
+		 *
+		 * @param maxEntries
+		 */
+		public void setMaxEntries(final int maxEntries) {
+			this.maxEntries = maxEntries;
+		}
+
+		/**
+		 * Maximum time-to-live in seconds for entries held locally.
+		 *
+		 * @return Long
+		 */
+		public Long getMaxTtl() {
+			return maxTtl;
+		}
+
+		/**
+		 * Maximum time-to-live in seconds for entries held locally.
+		 *
+		 * @param maxTtl
+		 */
+		public void setMaxTtl(final Long maxTtl) {
+			this.maxTtl = maxTtl;
+		}
+
+		/**
+		 * The Redis pub/sub channel for invalidation messages.
+		 *
+		 * @return String
+		 */
+		public String getChannel() {
+			return channel;
+		}
+
+		/**
+		 * The Redis pub/sub channel for invalidation messages.
+		 *
+		 * @param channel
+		 */
+		public void setChannel(final String channel) {
+			this.channel = channel;
+		}
+	}
+
+	/**
+	 * Inner class to hold the cache miss stampede protection configuration.
+	 * <p>
+	 * When enabled, concurrent misses for the same key on an instance are coalesced: the first caller
+	 * loads the value, and the others wait up to {@code timeoutMillis} for it to appear in the cache.
+	 * When {@code distributed} is also enabled, the loading caller takes a Redis lock on the key
+	 * for {@code leaseMillis}, so that only one instance loads it at a time.
+	 * <p>
+	 * <table border="1px">
+	 * <tr><th colspan="3">Properties under: {@code bip.framework:cache:singleFlight}</th></tr>
+	 * <tr><th>Property Name</th><th>Default Value</th><th>Type</th></tr>
+	 * <tr><td>enabled</td><td>false</td><td>boolean</td></tr>
+	 * <tr><td>timeoutMillis</td><td>3000</td><td>long</td></tr>
+	 * <tr><td>distributed</td><td>false</td><td>boolean</td></tr>
+	 * <tr><td>leaseMillis</td><td>3000</td><td>long</td></tr>
+	 * </table>
+	 */
+	public static class RedisSingleFlight {
+
+		/** Is stampede protection enabled */
+		private boolean enabled = false;
+
+		/** Maximum time in milliseconds a caller waits for another caller's load */
+		private long timeoutMillis = 3000L;
+
+		/** Is the Redis load lock used to coalesce loads across instances */
+		private boolean distributed = false;
+
+		/** The lease of the Redis load lock in milliseconds */
+		private long leaseMillis = 3000L;
+
+		/**
+		 * Is stampede protection enabled.
+		 *
+		 * @return boolean
+		 */
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		/**
+		 * Is stampede protection enabled.
+		 *
+		 * @param enabled
+		 */
+		public void setEnabled(final boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		/**
+		 * Maximum time in milliseconds a caller waits for another caller's load.
+		 *
+		 * @return long
+		 */
+		public long getTimeoutMillis() {
+			return timeoutMillis;
+		}
+
+		/**
+		 * Maximum time in milliseconds a caller waits for another caller's load.
+		 *
+		 * @param timeoutMillis
+		 */
+		public void setTimeoutMillis(final long timeoutMillis) {
+			this.timeoutMillis = timeoutMillis;
+		}
+
+		/**
+		 * Is the Redis load lock used to coalesce loads across instances.
+		 *
+		 * @return boolean
+		 */
+		public boolean isDistributed() {
+			return distributed;
+		}
+
+		/**
+		 * Is the Redis load lock used to coalesce loads across instances.
+		 *
+		 * @param distributed
+		 */
+		public void setDistributed(final boolean distributed) {
+			this.distributed = distributed;
+		}
+
+		/**
+		 * The lease of the Redis load lock in milliseconds.
+		 *
+		 * @return long
+		 */
+		public long getLeaseMillis() {
+			return leaseMillis;
+		}
+
+		/**
+		 * The lease of the Redis load lock in milliseconds.
+		 *
+		 * @param leaseMillis
+		 */
+		public void setLeaseMillis(final long leaseMillis) {
+			this.leaseMillis = leaseMillis;
+		}
+	}
+
+	/**
+	 * Inner class to hold the background refresh configuration, for caches with a {@code softTtl}.
+	 * <p>
+	 * Refreshes run on a bounded pool of {@code poolSize} threads; refreshes that do not fit in
+	 * {@code queueCapacity} are dropped and requested again by a later read.
+	 * With an {@code earlyRefreshBeta} greater than 0, values may be refreshed before their soft TTL,
+	 * with a probability that rises as the soft TTL approaches, scaled by the time the value took to
+	 * compute and by the beta (1.0 is a typical value).
+	 * <p>
+	 * <table border="1px">
+	 * <tr><th colspan="3">Properties under: {@code bip.framework:cache:refresh}</th></tr>
+	 * <tr><th>Property Name</th><th>Default Value</th><th>Type</th></tr>
+	 * <tr><td>poolSize</td><td>2</td><td>int</td></tr>
+	 * <tr><td>queueCapacity</td><td>1000</td><td>int</td></tr>
+	 * <tr><td>earlyRefreshBeta</td><td>0.0</td><td>double</td></tr>
+	 * </table>
+	 * <p>
+	 * The {@code poolSize} and {@code queueCapacity} values are read at startup.
+	 */
+	public static class RedisRefresh {
+
+		/** Maximum number of refresh threads */
+		private int poolSize = 2;
+
+		/** Maximum number of queued refreshes */
+		private int queueCapacity = 1000;
+
+		/** Scales the probability of early refresh, 0 disables early refresh */
+		private double earlyRefreshBeta = 0.0;
+
+		/**
+		 * Maximum number of refresh threads.
+		 *
+		 * @return int
+		 */
+		public int getPoolSize() {
+			return poolSize;
+		}
+
+		/**
+		 * Maximum number of refresh threads.
+		 *
+		 * @param poolSize
+		 */
+		public void setPoolSize(final int poolSize) {
+			this.poolSize = poolSize;
+		}
+
+		/**
+		 * Maximum number of queued refreshes.
+		 *
+		 * @return int
+		 */
+		public int getQueueCapacity() {
+			return queueCapacity;
+		}
+
+		/**
+		 * Maximum number of queued refreshes.
+		 *
+		 * @param queueCapacity
+		 */
+		public void setQueueCapacity(final int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+		/**
+		 * Scales the probability of early refresh, 0 disables early refresh.
+		 *
+		 * @return double
+		 */
+		public double getEarlyRefreshBeta() {
+			return earlyRefreshBeta;
+		}
+
+		/**
+		 * Scales the probability of early refresh, 0 disables early refresh.
+		 *
+		 * @param earlyRefreshBeta
+		 */
+		public void setEarlyRefreshBeta(final double earlyRefreshBeta) {
+			this.earlyRefreshBeta = earlyRefreshBeta;
+		}
+	}
+
+	/**
+	 * Inner class to hold the cache auditing configuration.
+	 * <p>
+	 * The {@code mode} determines which invocations of cached methods are audited - see {@link CacheAuditMode}.
+	 * In {@code SAMPLED} mode every miss is audited, and the {@code sampleRate} fraction of the hits.
+	 * <p>
+	 * <table border="1px">
+	 * <tr><th colspan="3">Properties under: {@code bip.framework:cache:audit}</th></tr>
+	 * <tr><th>Property Name</th><th>Default Value</th><th>Type</th></tr>
+	 * <tr><td>mode</td><td>ALL</td><td>CacheAuditMode (ALL, MISSES, SAMPLED, OFF)</td></tr>
+	 * <tr><td>sampleRate</td><td>0.01</td><td>double</td></tr>
+	 * </table>
+	 */
+	public static class RedisAudit {
+
+		/** Which invocations of cached methods are audited */
+		private CacheAuditMode mode = CacheAuditMode.ALL;
+
+		/** Fraction of hits audited in SAMPLED mode */
+		private double sampleRate = BipCacheInterceptor.DEFAULT_AUDIT_SAMPLE_RATE;
+
+		/**
+		 * Which invocations of cached methods are audited.
+		 *
+		 * @return CacheAuditMode
+		 */
+		public CacheAuditMode getMode() {
+			return mode;
+		}
+
+		/**
+		 * Which invocations of cached methods are audited.
+		 *
+		 * @param mode
+		 */
+		public void setMode(final CacheAuditMode mode) {
+			this.mode = mode;
+		}
+
+		/**
+		 * Fraction (0.0 to 1.0) of hits audited in SAMPLED mode.
+		 *
+		 * @return double
+		 */
+		public double getSampleRate() {
+			return sampleRate;
+		}
+
+		/**
+		 * Fraction (0.0 to 1.0) of hits audited in SAMPLED mode.
+		 *
+		 * @param sampleRate
+		 */
+		public void setSampleRate(final double sampleRate) {
+			this.sampleRate = sampleRate;
+		}
+	}
+
+	/**
+	 * Inner class to hold the default serialization of cached values.
+	 * <p>
+	 * The {@code serializer} is {@code jdk}, {@code json} (see {@link CacheValueSerializer}), or the name of a
+	 * {@link org.springframework.data.redis.serializer.RedisSerializer} bean for application supplied serializers.
+	 * Serialized values of at least {@code compressionThreshold} bytes are gzip compressed - see
+	 * {@link BipCompressingRedisSerializer}. Values already in redis are still read after compression is enabled,
+	 * but changing the serializer of a cache makes the values already in redis unreadable until they expire,
+	 * so clear the cache when changing it.
+	 * <p>
+	 * <table border="1px">
+	 * <tr><th colspan="3">Properties under: {@code bip.framework:cache:serialization}</th></tr>
+	 * <tr><th>Property Name</th><th>Default Value</th><th>Type</th></tr>
+	 * <tr><td>serializer</td><td>jdk</td><td>String</td></tr>
+	 * <tr><td>compressionThreshold</td><td>0 (disabled)</td><td>Integer</td></tr>
+	 * </table>
+	 */
+	public static class RedisSerialization {
+
+		/** The value serializer name */
+		private String serializer = CacheValueSerializer.JDK.name().toLowerCase(Locale.ENGLISH);
+
+		/** Serialized values of at least this many bytes are compressed */
+		private Integer compressionThreshold = 0;
+
+		/**
+		 * The value serializer name: {@code jdk}, {@code json}, or the name of a
+		 * {@link org.springframework.data.redis.serializer.RedisSerializer} bean.
+		 *
+		 * @return String
+		 */
+		public String getSerializer() {
+			return serializer;
+		}
+
+		/**
+		 * The value serializer name: {@code jdk}, {@code json}, or the name of a
+		 * {@link org.springframework.data.redis.serializer.RedisSerializer} bean.
+		 *
+		 * @param serializer
+		 */
+		public void setSerializer(final String serializer) {
+			this.serializer = serializer;
+		}
+
+		/**
+		 * Serialized values of at least this many bytes are compressed, 0 disables compression.
+		 *
+		 * @return Integer
+		 */
+		public Integer getCompressionThreshold() {
+			return compressionThreshold;
+		}
+
+		/**
+		 * Serialized values of at least this many bytes are compressed, 0 disables compression.
+		 *
+		 * @param compressionThreshold
+		 */
+		public void setCompressionThreshold(final Integer compressionThreshold) {
+			this.compressionThreshold = compressionThreshold;
+		}
 	}
 }
@@ -0,0 +1,229 @@
+package gov.va.bip.framework.cache.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConnection;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+
+import gov.va.bip.framework.log.BipLogger;
+import gov.va.bip.framework.log.BipLoggerFactory;
+import gov.va.bip.framework.validation.Defense;
+
+/**
+ * The {@link RedisConnectionFactory} bean built by {@link BipJedisConnectionConfig}.
+ * <p>
+ * Delegates to the current {@link JedisConnectionFactory}. When the redis properties are refreshed,
+ * a replacement factory is built and warmed (connections opened and pinged) while the current factory
+ * keeps serving requests, and is then swapped in atomically - see {@link #swap(JedisConnectionFactory, long)}.
+ * <p>
+ * The previous factory is drained: it is destroyed only after a grace period, so operations that
+ * already borrowed a connection from it complete normally.
+ */
+public class BipRefreshableRedisConnectionFactory implements RedisConnectionFactory, InitializingBean, DisposableBean {
+	/** Class logger */
+	private static final BipLogger LOGGER = BipLoggerFactory.getLogger(BipRefreshableRedisConnectionFactory.class);
+
+	/** The factory that serves new connections */
+	private final AtomicReference<JedisConnectionFactory> current;
+
+	/** Previous factories waiting to be destroyed */
+	private final Set<JedisConnectionFactory> draining = ConcurrentHashMap.newKeySet();
+
+	/** Destroys previous factories after the grace period, created on the first swap */
+	private ScheduledExecutorService drainExecutor;
+
+	/**
+	 * Create the factory.
+	 *
+	 * @param initial the initial connection factory, must not be {@code null}
+	 */
+	public BipRefreshableRedisConnectionFactory(final JedisConnectionFactory initial) {
+		Defense.notNull(initial, JedisConnectionFactory.class.getSimpleName() + " cannot be null.");
+		this.current = new AtomicReference<>(initial);
+	}
+
+	/**
+	 * Initialize the initial connection factory.
+	 */
+	@Override
+	public void afterPropertiesSet() {
+		current.get().afterPropertiesSet();
+	}
+
+	/**
+	 * The factory that currently serves new connections.
+	 *
+	 * @return JedisConnectionFactory
+	 */
+	public JedisConnectionFactory getCurrent() {
+		return current.get();
+	}
+
+	/**
+	 * The number of previous factories that are waiting to be destroyed.
+	 *
+	 * @return int
+	 */
+	public int getDrainingCount() {
+		return draining.size();
+	}
+
+	/**
+	 * Warm the (initialized) replacement factory, swap it in, and drain the previous factory.
+	 * <p>
+	 * A replacement that cannot be warmed is still swapped in, as it reflects the current configuration.
+	 *
+	 * @param replacement the initialized replacement factory, must not be {@code null}
+	 * @param drainMillis milliseconds the previous factory is kept open for in-flight operations
+	 * @return the previous factory
+	 */
+	public JedisConnectionFactory swap(final JedisConnectionFactory replacement, final long drainMillis) {
+		Defense.notNull(replacement, "Replacement " + JedisConnectionFactory.class.getSimpleName() + " cannot be null.");
+		warm(replacement);
+		final JedisConnectionFactory previous = current.getAndSet(replacement);
+		if (previous != null && previous != replacement) {
+			drain(previous, drainMillis);
+		}
+		return previous;
+	}
+
+	/**
+	 * Open and ping connections on the factory, up to the pool's minimum idle count, so the first
+	 * requests after the swap do not pay for connecting.
+	 *
+	 * @param factory the initialized factory
+	 * @return boolean - {@code true} if the factory was warmed
+	 */
+	static boolean warm(final JedisConnectionFactory factory) {
+		final GenericObjectPoolConfig<?> poolConfig = factory.getUsePool() ? factory.getPoolConfig() : null;
+		final int count = poolConfig == null
+				? 1
+				: Math.max(1, Math.min(poolConfig.getMinIdle(), poolConfig.getMaxTotal()));
+
+		final List<RedisConnection> connections = new ArrayList<>(count);
+		try {
+			for (int i = 0; i < count; i++) {
+				final RedisConnection connection = factory.getConnection();
+				connections.add(connection);
+				connection.ping();
+			}
+			return true;
+		} catch (RuntimeException e) { // NOSONAR intentionally broad catch
+			LOGGER.warn("Could not warm the replacement redis connection factory: " + e.getMessage());
+			return false;
+		} finally {
+			for (final RedisConnection connection : connections) {
+				try {
+					connection.close();
+				} catch (RuntimeException e) { // NOSONAR ignore
+					LOGGER.debug("Could not close warm-up connection: " + e.getMessage());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Destroy the previous factory after the grace period.
+	 *
+	 * @param previous the previous factory
+	 * @param drainMillis the grace period in milliseconds
+	 */
+	private void drain(final JedisConnectionFactory previous, final long drainMillis) {
+		if (drainMillis <= 0) {
+			destroyQuietly(previous);
+			return;
+		}
+		draining.add(previous);
+		drainExecutor().schedule(() -> {
+			if (draining.remove(previous)) {
+				destroyQuietly(previous);
+				LOGGER.debug("Previous redis connection factory drained and destroyed.");
+			}
+		}, drainMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Lazily create the drain thread.
+	 *
+	 * @return ScheduledExecutorService
+	 */
+	private synchronized ScheduledExecutorService drainExecutor() {
+		if (drainExecutor == null) {
+			drainExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				final Thread thread = new Thread(runnable, "bip-redis-connection-drain");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return drainExecutor;
+	}
+
+	/**
+	 * Destroy the factory, logging any failure.
+	 *
+	 * @param factory the factory to destroy
+	 */
+	private static void destroyQuietly(final JedisConnectionFactory factory) {
+		try {
+			factory.destroy();
+		} catch (RuntimeException e) { // NOSONAR intentionally broad catch
+			LOGGER.warn("Could not destroy redis connection factory: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Destroy the current factory, and any previous factories that are still draining.
+	 */
+	@Override
+	public void destroy() {
+		synchronized (this) {
+			if (drainExecutor != null) {
+				drainExecutor.shutdownNow();
+			}
+		}
+		for (final JedisConnectionFactory previous : draining) {
+			destroyQuietly(previous);
+		}
+		draining.clear();
+		destroyQuietly(current.get());
+	}
+
+	@Override
+	public RedisConnection getConnection() {
+		return current.get().getConnection();
+	}
+
+	@Override
+	public RedisClusterConnection getClusterConnection() {
+		return current.get().getClusterConnection();
+	}
+
+	@Override
+	public boolean getConvertPipelineAndTxResults() {
+		return current.get().getConvertPipelineAndTxResults();
+	}
+
+	@Override
+	public RedisSentinelConnection getSentinelConnection() {
+		return current.get().getSentinelConnection();
+	}
+
+	@Override
+	public DataAccessException translateExceptionIfPossible(final RuntimeException ex) {
+		return current.get().translateExceptionIfPossible(ex);
+	}
+}
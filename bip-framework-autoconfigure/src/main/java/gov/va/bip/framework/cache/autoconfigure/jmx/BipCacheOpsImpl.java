@@ -6,17 +6,22 @@ import java.util.Map;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.info.BuildProperties;
-import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.data.redis.cache.RedisCache;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisClientConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
 import org.springframework.jmx.export.annotation.ManagedOperation;
 import org.springframework.jmx.export.annotation.ManagedResource;
 import org.springframework.stereotype.Component;
 
+import gov.va.bip.framework.cache.autoconfigure.BipRedisCacheManager;
+import gov.va.bip.framework.cache.autoconfigure.BipRefreshableRedisConnectionFactory;
+import gov.va.bip.framework.cache.autoconfigure.stats.BipCacheStatistics;
+import gov.va.bip.framework.cache.autoconfigure.stats.BipCacheStatisticsRegistry;
 import gov.va.bip.framework.log.BipLogger;
 import gov.va.bip.framework.log.BipLoggerFactory;
 import redis.clients.jedis.JedisPoolConfig;
@@ -49,9 +54,9 @@ public class BipCacheOpsImpl implements BipCacheOpsMBean {
 	@Autowired
 	private RedisCacheManager cacheManager;
 
-	/** The configured spring cache manager */
+	/** The configured redis connection factory */
 	@Autowired
-	private JedisConnectionFactory redisConnectionFactory;
+	private RedisConnectionFactory redisConnectionFactory;
 
 	/** Build properties to get app name */
 	@Autowired
@@ -65,6 +70,10 @@ public class BipCacheOpsImpl implements BipCacheOpsMBean {
 	@Autowired
 	private Map<String, RedisCacheConfiguration> redisCacheConfigurations;
 
+	/** The cache statistics, {@code null} if statistics are not enabled */
+	@Autowired(required = false)
+	private BipCacheStatisticsRegistry statisticsRegistry;
+
 	/**
 	 * Instantiate this class.
 	 */
@@ -139,25 +148,26 @@ public class BipCacheOpsImpl implements BipCacheOpsMBean {
 	@ManagedOperation(
 			description = "INFO logging of the JedisConnectionFactory field values from the current bean in the application context.")
 	public void logCurrentJedisConnectionFactoryFields() {
+		final JedisConnectionFactory jedisConnectionFactory = getCurrentJedisConnectionFactory();
 
-		LOGGER.info(PREFIX + "JedisClientConfiguration = " + redisConnectionFactory);
-		if (redisConnectionFactory == null) {
+		LOGGER.info(PREFIX + "JedisClientConfiguration = " + jedisConnectionFactory);
+		if (jedisConnectionFactory == null) {
 			return;
 		}
 
 		try {
-			LOGGER.info(PREFIX + "    clientName = " + redisConnectionFactory.getClientName());
-			LOGGER.info(PREFIX + "    Database = " + redisConnectionFactory.getDatabase());
-			LOGGER.info(PREFIX + "    hostName = " + redisConnectionFactory.getHostName());
+			LOGGER.info(PREFIX + "    clientName = " + jedisConnectionFactory.getClientName());
+			LOGGER.info(PREFIX + "    Database = " + jedisConnectionFactory.getDatabase());
+			LOGGER.info(PREFIX + "    hostName = " + jedisConnectionFactory.getHostName());
 			LOGGER.info(PREFIX + "    password = *****");
-			LOGGER.info(PREFIX + "    port = " + redisConnectionFactory.getPort());
-			LOGGER.info(PREFIX + "    timeout = " + redisConnectionFactory.getTimeout());
-			LOGGER.info(PREFIX + "    usePool = " + redisConnectionFactory.getUsePool());
-			LOGGER.info(PREFIX + "    useSsl = " + redisConnectionFactory.isUseSsl());
-			LOGGER.info(PREFIX + "    clusterAware = " + redisConnectionFactory.isRedisClusterAware());
-			LOGGER.info(PREFIX + "    sentinelAware = " + redisConnectionFactory.isRedisSentinelAware());
-
-			RedisStandaloneConfiguration rsc = redisConnectionFactory.getStandaloneConfiguration();
+			LOGGER.info(PREFIX + "    port = " + jedisConnectionFactory.getPort());
+			LOGGER.info(PREFIX + "    timeout = " + jedisConnectionFactory.getTimeout());
+			LOGGER.info(PREFIX + "    usePool = " + jedisConnectionFactory.getUsePool());
+			LOGGER.info(PREFIX + "    useSsl = " + jedisConnectionFactory.isUseSsl());
+			LOGGER.info(PREFIX + "    clusterAware = " + jedisConnectionFactory.isRedisClusterAware());
+			LOGGER.info(PREFIX + "    sentinelAware = " + jedisConnectionFactory.isRedisSentinelAware());
+
+			RedisStandaloneConfiguration rsc = jedisConnectionFactory.getStandaloneConfiguration();
 			LOGGER.info(PREFIX + "GenericObjectPoolConfig = " + rsc);
 			if (rsc != null) {
 				LOGGER.info(PREFIX + "    database = " + rsc.getDatabase());
@@ -166,7 +176,7 @@ public class BipCacheOpsImpl implements BipCacheOpsMBean {
 				LOGGER.info(PREFIX + "    password = *****");
 			}
 
-			JedisClientConfiguration jcc = redisConnectionFactory.getClientConfiguration();
+			JedisClientConfiguration jcc = jedisConnectionFactory.getClientConfiguration();
 			LOGGER.info(PREFIX + "JedisClientConfiguration = " + jcc);
 			LOGGER.info(PREFIX + "    clientName = " + jcc.getClientName());
 			LOGGER.info(PREFIX + "    connectTimeout = " + jcc.getConnectTimeout().toMillis());
@@ -175,7 +185,7 @@ public class BipCacheOpsImpl implements BipCacheOpsMBean {
 			LOGGER.info(PREFIX + "    readTimeout = " + jcc.getReadTimeout().toMillis());
 
 			@SuppressWarnings("unchecked")
-			GenericObjectPoolConfig<JedisPoolConfig> gopc = redisConnectionFactory.getPoolConfig();
+			GenericObjectPoolConfig<JedisPoolConfig> gopc = jedisConnectionFactory.getPoolConfig();
 			LOGGER.info(PREFIX + "GenericObjectPoolConfig = " + (gopc == null ? NULL : gopc.getClass()));
 			if (gopc != null) {
 				LOGGER.info(PREFIX + "    evictionPolicyClassName = " + gopc.getEvictionPolicyClassName());
@@ -237,9 +247,7 @@ public class BipCacheOpsImpl implements BipCacheOpsMBean {
 		if (cacheNames != null) {
 			for (String name : cacheNames) {
 				LOGGER.info(PREFIX + "    cacheName = " + name);
-				RedisCache cache = (cacheManager.isTransactionAware()
-						? (RedisCache) ((TransactionAwareCacheDecorator) cacheManager.getCache(name)).getTargetCache()
-								: (RedisCache) cacheManager.getCache(name));
+				RedisCache cache = (RedisCache) BipRedisCacheManager.unwrap(cacheManager.getCache(name));
 				RedisCacheConfiguration config = cache.getCacheConfiguration();
 				LOGGER.info(PREFIX + "        allowCacheNullValues = " + config.getAllowCacheNullValues());
 				LOGGER.info(PREFIX + "        ttl = " + config.getTtl().toMillis());
@@ -250,4 +258,78 @@ public class BipCacheOpsImpl implements BipCacheOpsMBean {
 			}
 		}
 	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see gov.va.bip.framework.cache.autoconfigure.jmx.BipCacheOpsMBean#getCacheHits()
+	 */
+	@ManagedAttribute(description = "Hits across all caches.")
+	@Override
+	public long getCacheHits() {
+		return statisticsRegistry == null ? 0
+				: statisticsRegistry.getAll().stream().mapToLong(BipCacheStatistics::getHits).sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see gov.va.bip.framework.cache.autoconfigure.jmx.BipCacheOpsMBean#getCacheMisses()
+	 */
+	@ManagedAttribute(description = "Misses across all caches.")
+	@Override
+	public long getCacheMisses() {
+		return statisticsRegistry == null ? 0
+				: statisticsRegistry.getAll().stream().mapToLong(BipCacheStatistics::getMisses).sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see gov.va.bip.framework.cache.autoconfigure.jmx.BipCacheOpsMBean#getCacheHitRatio()
+	 */
+	@ManagedAttribute(description = "Hits as a fraction of all gets across all caches.")
+	@Override
+	public double getCacheHitRatio() {
+		final long hits = getCacheHits();
+		final long gets = hits + getCacheMisses();
+		return gets == 0 ? 0 : (double) hits / gets;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see gov.va.bip.framework.cache.autoconfigure.jmx.BipCacheOpsMBean#getCacheStatistics()
+	 */
+	@ManagedAttribute(description = "Hit, miss, put, eviction and latency statistics for each cache.")
+	@Override
+	public String[] getCacheStatistics() {
+		return statisticsRegistry == null ? new String[0]
+				: statisticsRegistry.getAll().stream().map(BipCacheStatistics::toString).sorted().toArray(String[]::new);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see gov.va.bip.framework.cache.autoconfigure.jmx.BipCacheOpsMBean#resetCacheStatistics()
+	 */
+	@ManagedOperation(description = "Reset the statistics of all caches.")
+	@Override
+	public void resetCacheStatistics() {
+		if (statisticsRegistry != null) {
+			statisticsRegistry.reset();
+		}
+	}
+
+	/**
+	 * The JedisConnectionFactory that currently serves connections.
+	 *
+	 * @return JedisConnectionFactory, or {@code null} if there is none
+	 */
+	private JedisConnectionFactory getCurrentJedisConnectionFactory() {
+		if (redisConnectionFactory instanceof BipRefreshableRedisConnectionFactory) {
+			return ((BipRefreshableRedisConnectionFactory) redisConnectionFactory).getCurrent();
+		}
+		return redisConnectionFactory instanceof JedisConnectionFactory ? (JedisConnectionFactory) redisConnectionFactory : null;
+	}
 }
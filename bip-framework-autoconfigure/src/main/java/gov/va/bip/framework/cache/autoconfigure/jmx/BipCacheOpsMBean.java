@@ -28,4 +28,37 @@ public interface BipCacheOpsMBean {
 	 * from the current bean in the application context.
 	 */
 	public void logCurrentCacheManagerFields();
-}
\ No newline at end of file
+
+	/**
+	 * Hits across all caches, since startup or the last {@link #resetCacheStatistics()}.
+	 *
+	 * @return long
+	 */
+	public long getCacheHits();
+
+	/**
+	 * Misses across all caches, since startup or the last {@link #resetCacheStatistics()}.
+	 *
+	 * @return long
+	 */
+	public long getCacheMisses();
+
+	/**
+	 * Hits as a fraction of all gets across all caches.
+	 *
+	 * @return double
+	 */
+	public double getCacheHitRatio();
+
+	/**
+	 * Hit, miss, put, eviction and latency statistics for each cache, one line per cache.
+	 *
+	 * @return String[]
+	 */
+	public String[] getCacheStatistics();
+
+	/**
+	 * Reset the statistics of all caches, as reported by this bean. The Micrometer cache meters are not reset.
+	 */
+	public void resetCacheStatistics();
+}
@@ -0,0 +1,259 @@
+package gov.va.bip.framework.cache.autoconfigure.near;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import gov.va.bip.framework.cache.autoconfigure.BipCacheDecorator;
+
+/**
+ * A two-tier {@link Cache}: a bounded, expiring in-process store (L1) in front of
+ * a shared target cache (L2, typically a {@code RedisCache}).
+ * <p>
+ * Reads are served from L1 when possible, otherwise from L2 and then held in L1.
+ * Writes, evicts and clears go to both tiers, and are published through the
+ * {@link NearCacheInvalidator} (if any) so other instances drop their L1 copies.
+ * <p>
+ * L1 keys are the string form of the cache key, the same form {@code RedisCache} uses
+ * for its own keys. L1 values are held serialized with the value serializer of the cache, and
+ * deserialized for each read, so - as with a read from Redis - every caller gets its own copy,
+ * and changes a caller makes to a value it was given are not seen by other callers.
+ * <p>
+ * A value read from L2 is not held in L1 if the cache was changed or invalidated (by this or another
+ * instance) while it was being read, so an invalidation that arrives during the read is not undone.
+ */
+public class BipNearCache implements BipCacheDecorator {
+
+	/** Held locally for a {@code null} value */
+	private static final byte[] NULL_VALUE = new byte[0];
+
+	/** The shared (L2) cache */
+	private final Cache targetCache;
+
+	/** The in-process (L1) store */
+	private final NearCacheStore store;
+
+	/** Publishes changes to other instances, may be {@code null} */
+	private final NearCacheInvalidator invalidator;
+
+	/** Serializes the values held locally */
+	private final SerializationPair<Object> valueSerializationPair;
+
+	/** Counts the changes and invalidations of the local store */
+	private final AtomicLong generation = new AtomicLong();
+
+	/**
+	 * Create a near cache in front of a target cache.
+	 *
+	 * @param targetCache the shared (L2) cache
+	 * @param maxEntries maximum number of entries held locally
+	 * @param ttlSeconds time-to-live in seconds for entries held locally
+	 * @param invalidator publishes changes to other instances, may be {@code null}
+	 * @param valueSerializationPair serializes the values held locally, normally that of the target cache
+	 */
+	public BipNearCache(final Cache targetCache, final int maxEntries, final long ttlSeconds,
+			final NearCacheInvalidator invalidator, final SerializationPair<Object> valueSerializationPair) {
+		this.targetCache = targetCache;
+		this.store = new NearCacheStore(maxEntries, ttlSeconds);
+		this.invalidator = invalidator;
+		this.valueSerializationPair = valueSerializationPair;
+	}
+
+	/**
+	 * The shared (L2) cache.
+	 * <p>
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Cache getTargetCache() {
+		return targetCache;
+	}
+
+	/**
+	 * The number of entries currently held locally.
+	 *
+	 * @return int
+	 */
+	public int getLocalSize() {
+		return store.size();
+	}
+
+	@Override
+	public String getName() {
+		return targetCache.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return targetCache.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(final Object key) {
+		final String localKey = toLocalKey(key);
+		final byte[] local = store.get(localKey);
+		if (local != null) {
+			return new SimpleValueWrapper(deserialize(local));
+		}
+		final long readGeneration = generation.get();
+		final ValueWrapper value = targetCache.get(key);
+		if (value != null) {
+			fill(localKey, value.get(), readGeneration);
+		}
+		return value;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T get(final Object key, final Class<T> type) {
+		final ValueWrapper wrapper = get(key);
+		final Object value = wrapper == null ? null : wrapper.get();
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T get(final Object key, final Callable<T> valueLoader) {
+		final String localKey = toLocalKey(key);
+		final byte[] local = store.get(localKey);
+		if (local != null) {
+			return (T) deserialize(local);
+		}
+		final long readGeneration = generation.get();
+		final T value = targetCache.get(key, valueLoader);
+		fill(localKey, value, readGeneration);
+		return value;
+	}
+
+	@Override
+	public void put(final Object key, final Object value) {
+		targetCache.put(key, value);
+		final String localKey = toLocalKey(key);
+		generation.incrementAndGet();
+		store.put(localKey, serialize(value));
+		publishEvict(localKey);
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(final Object key, final Object value) {
+		final ValueWrapper existing = targetCache.putIfAbsent(key, value);
+		final String localKey = toLocalKey(key);
+		generation.incrementAndGet();
+		store.put(localKey, serialize(existing == null ? value : existing.get()));
+		if (existing == null) {
+			publishEvict(localKey);
+		}
+		return existing;
+	}
+
+	@Override
+	public void evict(final Object key) {
+		targetCache.evict(key);
+		final String localKey = toLocalKey(key);
+		generation.incrementAndGet();
+		store.evict(localKey);
+		publishEvict(localKey);
+	}
+
+	@Override
+	public void clear() {
+		targetCache.clear();
+		generation.incrementAndGet();
+		store.clear();
+		if (invalidator != null) {
+			invalidator.publishClear(getName());
+		}
+	}
+
+	/**
+	 * Remove an entry from the local store only, as requested by another instance.
+	 *
+	 * @param localKey the string form of the cache key
+	 */
+	void evictLocal(final String localKey) {
+		generation.incrementAndGet();
+		store.evict(localKey);
+	}
+
+	/**
+	 * Remove all entries from the local store only, as requested by another instance.
+	 */
+	void clearLocal() {
+		generation.incrementAndGet();
+		store.clear();
+	}
+
+	/**
+	 * Hold a value read from the target cache locally, unless the local store was changed or invalidated
+	 * since the read started. The value is put first and then removed if it was, so an invalidation
+	 * between the check and the put is not missed.
+	 *
+	 * @param localKey the string form of the cache key
+	 * @param value the value read
+	 * @param readGeneration the generation of the local store when the read started
+	 */
+	private void fill(final String localKey, final Object value, final long readGeneration) {
+		if (generation.get() != readGeneration) {
+			return;
+		}
+		final byte[] serialized = serialize(value);
+		store.put(localKey, serialized);
+		if (generation.get() != readGeneration) {
+			store.evict(localKey);
+		}
+	}
+
+	/**
+	 * Serialize a value to hold locally.
+	 *
+	 * @param value the value, may be {@code null}
+	 * @return byte[]
+	 */
+	private byte[] serialize(final Object value) {
+		if (value == null) {
+			return NULL_VALUE;
+		}
+		final ByteBuffer buffer = valueSerializationPair.write(value);
+		final byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Deserialize a value held locally.
+	 *
+	 * @param bytes the serialized value
+	 * @return the value, may be {@code null}
+	 */
+	private Object deserialize(final byte[] bytes) {
+		return bytes == NULL_VALUE ? null : valueSerializationPair.read(ByteBuffer.wrap(bytes));
+	}
+
+	/**
+	 * Tell other instances to drop their local copy of an entry.
+	 *
+	 * @param localKey the string form of the cache key
+	 */
+	private void publishEvict(final String localKey) {
+		if (invalidator != null) {
+			invalidator.publishEvict(getName(), localKey);
+		}
+	}
+
+	/**
+	 * The string form of a cache key.
+	 *
+	 * @param key the cache key
+	 * @return String
+	 */
+	private static String toLocalKey(final Object key) {
+		return key instanceof String ? (String) key : String.valueOf(key);
+	}
+}
@@ -0,0 +1,145 @@
+package gov.va.bip.framework.cache.autoconfigure.near;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import gov.va.bip.framework.log.BipLogger;
+import gov.va.bip.framework.log.BipLoggerFactory;
+
+/**
+ * Keeps the local (L1) stores of {@link BipNearCache near caches} on all instances in step,
+ * using Redis pub/sub.
+ * <p>
+ * Each put, evict or clear on a near cache is published on the channel. Messages received
+ * from other instances evict the matching entry (or clear the matching cache) locally.
+ * Messages published by this instance are ignored when they are received back.
+ * <p>
+ * Message format: <tt><i>instanceId</i>\n<i>operation</i>\n<i>cacheName</i>[\n<i>key</i>]</tt>,
+ * where operation is {@code E} (evict) or {@code C} (clear).
+ */
+public class NearCacheInvalidator implements MessageListener {
+	/** Class logger */
+	private static final BipLogger LOGGER = BipLoggerFactory.getLogger(NearCacheInvalidator.class);
+
+	/** Separator between message fields */
+	private static final char SEPARATOR = '\n';
+	/** Evict operation */
+	private static final String OP_EVICT = "E";
+	/** Clear operation */
+	private static final String OP_CLEAR = "C";
+
+	/** Connection factory used to publish messages */
+	private final RedisConnectionFactory connectionFactory;
+
+	/** The pub/sub channel */
+	private final String channel;
+
+	/** The pub/sub channel, as bytes */
+	private final byte[] channelBytes;
+
+	/** Identifies messages published by this instance */
+	private final String instanceId = UUID.randomUUID().toString();
+
+	/** The near caches on this instance, by name */
+	private final ConcurrentMap<String, BipNearCache> caches = new ConcurrentHashMap<>();
+
+	/**
+	 * Create an invalidator.
+	 *
+	 * @param connectionFactory connection factory used to publish messages
+	 * @param channel the pub/sub channel
+	 */
+	public NearCacheInvalidator(final RedisConnectionFactory connectionFactory, final String channel) {
+		this.connectionFactory = connectionFactory;
+		this.channel = channel;
+		this.channelBytes = channel.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * The pub/sub channel.
+	 *
+	 * @return String
+	 */
+	public String getChannel() {
+		return channel;
+	}
+
+	/**
+	 * Register a near cache to receive messages from other instances.
+	 * Replaces any near cache previously registered under the same name.
+	 *
+	 * @param cache the near cache
+	 * @return the near cache
+	 */
+	public BipNearCache register(final BipNearCache cache) {
+		caches.put(cache.getName(), cache);
+		return cache;
+	}
+
+	/**
+	 * Tell other instances to evict an entry from their local store.
+	 *
+	 * @param cacheName the cache name
+	 * @param localKey the string form of the cache key
+	 */
+	public void publishEvict(final String cacheName, final String localKey) {
+		publish(instanceId + SEPARATOR + OP_EVICT + SEPARATOR + cacheName + SEPARATOR + localKey);
+	}
+
+	/**
+	 * Tell other instances to clear their local store.
+	 *
+	 * @param cacheName the cache name
+	 */
+	public void publishClear(final String cacheName) {
+		publish(instanceId + SEPARATOR + OP_CLEAR + SEPARATOR + cacheName);
+	}
+
+	/**
+	 * Apply a message from another instance to the local stores.
+	 * <p>
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onMessage(final Message message, final byte[] pattern) {
+		final String[] fields = new String(message.getBody(), StandardCharsets.UTF_8).split(String.valueOf(SEPARATOR), 4);
+		if (fields.length < 3 || instanceId.equals(fields[0])) {
+			return;
+		}
+		final BipNearCache cache = caches.get(fields[2]);
+		if (cache == null) {
+			return;
+		}
+		if (OP_CLEAR.equals(fields[1])) {
+			cache.clearLocal();
+		} else if (OP_EVICT.equals(fields[1]) && fields.length == 4) {
+			cache.evictLocal(fields[3]);
+		}
+	}
+
+	/**
+	 * Publish a message. Failures are logged, the local entry will still expire on its TTL.
+	 *
+	 * @param message the message
+	 */
+	private void publish(final String message) {
+		RedisConnection connection = null;
+		try {
+			connection = connectionFactory.getConnection();
+			connection.publish(channelBytes, message.getBytes(StandardCharsets.UTF_8));
+		} catch (RuntimeException e) { // NOSONAR intentionally broad catch
+			LOGGER.warn("Could not publish near cache invalidation on channel " + channel + ": " + e.getMessage());
+		} finally {
+			if (connection != null) {
+				connection.close();
+			}
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package gov.va.bip.framework.cache.autoconfigure.near;
+
+import java.util.concurrent.TimeUnit;
+
+import gov.va.bip.framework.cache.BoundedExpiringMap;
+
+/**
+ * The bounded, expiring, in-process store behind a {@link BipNearCache}.
+ * <p>
+ * Values are held serialized. Reads are lock-free. When a put takes the store over its maximum size,
+ * expired entries are removed first, then arbitrary entries, in one batch -
+ * see {@link BoundedExpiringMap}.
+ */
+final class NearCacheStore {
+
+	/** The entries, keyed by the string form of the cache key, expiring on the {@link System#nanoTime()} clock */
+	private final BoundedExpiringMap<String, byte[]> entries;
+
+	/** Time-to-live for entries, in nanoseconds */
+	private final long ttlNanos;
+
+	/**
+	 * Create a store.
+	 *
+	 * @param maxEntries maximum number of entries, minimum 1
+	 * @param ttlSeconds time-to-live for entries, in seconds, minimum 1
+	 */
+	NearCacheStore(final int maxEntries, final long ttlSeconds) {
+		this.entries = new BoundedExpiringMap<>(maxEntries, System::nanoTime);
+		this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(1, ttlSeconds));
+	}
+
+	/**
+	 * Get an unexpired value.
+	 *
+	 * @param key the key
+	 * @return the serialized value, or {@code null} if absent or expired
+	 */
+	byte[] get(final String key) {
+		return entries.get(key);
+	}
+
+	/**
+	 * Put a value.
+	 *
+	 * @param key the key
+	 * @param value the serialized value
+	 */
+	void put(final String key, final byte[] value) {
+		entries.put(key, value, System.nanoTime() + ttlNanos);
+	}
+
+	/**
+	 * Remove a value.
+	 *
+	 * @param key the key
+	 */
+	void evict(final String key) {
+		entries.remove(key);
+	}
+
+	/**
+	 * Remove all values.
+	 */
+	void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * The current number of entries, including any that have expired but not yet been removed.
+	 *
+	 * @return int
+	 */
+	int size() {
+		return entries.size();
+	}
+}
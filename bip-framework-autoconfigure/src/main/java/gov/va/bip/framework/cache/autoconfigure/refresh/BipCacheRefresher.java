@@ -0,0 +1,75 @@
+package gov.va.bip.framework.cache.autoconfigure.refresh;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+/**
+ * The bounded pool of daemon threads that refresh stale cache values in the background,
+ * shared by all {@link BipRefreshAheadCache} instances.
+ * <p>
+ * Refreshes that do not fit in the queue are dropped, rather than blocking the reading caller -
+ * the stale value continues to be served, and a later read requests the refresh again.
+ */
+public class BipCacheRefresher {
+
+	/** Seconds an idle refresh thread is kept */
+	private static final long KEEP_ALIVE_SECONDS = 60L;
+
+	/** The refresh threads */
+	private final ThreadPoolExecutor executor;
+
+	/**
+	 * Create the refresh pool. Threads are started on demand.
+	 *
+	 * @param poolSize the maximum number of refresh threads, minimum 1
+	 * @param queueCapacity the maximum number of queued refreshes, minimum 1
+	 */
+	public BipCacheRefresher(final int poolSize, final int queueCapacity) {
+		final int threads = Math.max(1, poolSize);
+		final AtomicInteger threadNumber = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+					final Thread thread = new Thread(runnable, "bip-cache-refresh-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Queue a refresh.
+	 *
+	 * @param refresh the refresh
+	 * @return boolean - {@code true} if the refresh was queued, {@code false} if the queue is full or the pool is shut down
+	 */
+	public boolean submit(final Runnable refresh) {
+		try {
+			executor.execute(refresh);
+			return true;
+		} catch (RejectedExecutionException e) { // NOSONAR dropped by design
+			return false;
+		}
+	}
+
+	/**
+	 * The number of refreshes queued or running.
+	 *
+	 * @return int
+	 */
+	public int getPendingCount() {
+		return executor.getQueue().size() + executor.getActiveCount();
+	}
+
+	/**
+	 * Stop accepting refreshes. Refreshes already queued are abandoned.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+}
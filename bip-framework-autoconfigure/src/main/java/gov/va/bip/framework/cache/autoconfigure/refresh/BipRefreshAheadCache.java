@@ -0,0 +1,224 @@
+package gov.va.bip.framework.cache.autoconfigure.refresh;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import gov.va.bip.framework.cache.autoconfigure.BipCacheDecorator;
+import gov.va.bip.framework.cache.interceptor.BipCacheInvocation;
+import gov.va.bip.framework.log.BipLogger;
+import gov.va.bip.framework.log.BipLoggerFactory;
+
+/**
+ * Serves cached values past a "soft" time-to-live while refreshing them in the background
+ * (stale-while-revalidate), so that callers reading popular keys never wait for a reload.
+ * <p>
+ * Values are stored as {@link SoftTtlValue}, with the time they were written and the time they took to compute.
+ * A value read after its soft TTL is returned as is, and a refresh is queued on the {@link BipCacheRefresher}.
+ * The refresh invokes the cached method again (see {@link BipCacheInvocation#reloader()}), or the value loader
+ * for {@code get(key, Callable)}, and puts the result. Only one refresh per key is in flight on an instance.
+ * Values remain in the cache until the hard TTL of the cache expires them.
+ * <p>
+ * With an early refresh beta greater than 0, a value may also be refreshed before its soft TTL, with a
+ * probability that rises as the soft TTL approaches and for values that take longer to compute
+ * ("probabilistic early expiration"), which spreads the refreshes of popular keys written at the same time.
+ * <p>
+ * Refreshed results are always cached - {@code unless} conditions of the cached method are not evaluated.
+ * Values that were stored without a soft TTL are returned as is and never refreshed.
+ */
+public class BipRefreshAheadCache implements BipCacheDecorator {
+	/** Class logger */
+	private static final BipLogger LOGGER = BipLoggerFactory.getLogger(BipRefreshAheadCache.class);
+
+	/** The decorated cache */
+	private final Cache targetCache;
+
+	/** The soft time-to-live, in milliseconds */
+	private final long softTtlMillis;
+
+	/** Scales the probability of early refresh, 0 disables early refresh */
+	private final double earlyRefreshBeta;
+
+	/** Runs the refreshes */
+	private final BipCacheRefresher refresher;
+
+	/** Keys with a refresh in flight, by the string form of the cache key */
+	private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Decorate a cache.
+	 *
+	 * @param targetCache the decorated cache
+	 * @param softTtlSeconds the soft time-to-live, in seconds
+	 * @param earlyRefreshBeta scales the probability of early refresh, 0 disables early refresh
+	 * @param refresher runs the refreshes
+	 */
+	public BipRefreshAheadCache(final Cache targetCache, final long softTtlSeconds, final double earlyRefreshBeta,
+			final BipCacheRefresher refresher) {
+		this.targetCache = targetCache;
+		this.softTtlMillis = TimeUnit.SECONDS.toMillis(Math.max(0, softTtlSeconds));
+		this.earlyRefreshBeta = Math.max(0, earlyRefreshBeta);
+		this.refresher = refresher;
+	}
+
+	@Override
+	public Cache getTargetCache() {
+		return targetCache;
+	}
+
+	/**
+	 * The number of refreshes in flight.
+	 *
+	 * @return int
+	 */
+	public int getRefreshingCount() {
+		return refreshing.size();
+	}
+
+	@Override
+	public String getName() {
+		return targetCache.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return targetCache.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(final Object key) {
+		final ValueWrapper stored = targetCache.get(key);
+		if (stored == null || !(stored.get() instanceof SoftTtlValue)) {
+			return stored;
+		}
+		final SoftTtlValue value = (SoftTtlValue) stored.get();
+		if (isRefreshDue(value)) {
+			refresh(key, BipCacheInvocation.reloader());
+		}
+		return new SimpleValueWrapper(value.getValue());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T get(final Object key, final Class<T> type) {
+		final ValueWrapper wrapper = get(key);
+		final Object value = wrapper == null ? null : wrapper.get();
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T get(final Object key, final Callable<T> valueLoader) {
+		final Object stored = targetCache.get(key, () -> {
+			final long start = System.nanoTime();
+			final T value = valueLoader.call();
+			return toStored(value, System.nanoTime() - start);
+		});
+		if (!(stored instanceof SoftTtlValue)) {
+			return (T) stored;
+		}
+		final SoftTtlValue value = (SoftTtlValue) stored;
+		if (isRefreshDue(value)) {
+			refresh(key, valueLoader);
+		}
+		return (T) value.getValue();
+	}
+
+	@Override
+	public void put(final Object key, final Object value) {
+		targetCache.put(key, toStored(value, BipCacheInvocation.elapsedNanos()));
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(final Object key, final Object value) {
+		final ValueWrapper existing = targetCache.putIfAbsent(key, toStored(value, BipCacheInvocation.elapsedNanos()));
+		if (existing != null && existing.get() instanceof SoftTtlValue) {
+			return new SimpleValueWrapper(((SoftTtlValue) existing.get()).getValue());
+		}
+		return existing;
+	}
+
+	@Override
+	public void evict(final Object key) {
+		targetCache.evict(key);
+	}
+
+	@Override
+	public void clear() {
+		targetCache.clear();
+	}
+
+	/**
+	 * Is the value past its soft TTL, or chosen for early refresh.
+	 * <p>
+	 * Early refresh uses the "XFetch" rule: refresh if
+	 * {@code now - computeMillis * beta * ln(random) >= writtenAt + softTtl}.
+	 *
+	 * @param value the stored value
+	 * @return boolean
+	 */
+	boolean isRefreshDue(final SoftTtlValue value) {
+		final long expiresAt = value.getWrittenAt() + softTtlMillis;
+		final long now = System.currentTimeMillis();
+		if (now >= expiresAt) {
+			return true;
+		}
+		if (earlyRefreshBeta <= 0 || value.getComputeMillis() <= 0) {
+			return false;
+		}
+		final double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+		return now - value.getComputeMillis() * earlyRefreshBeta * Math.log(random) >= expiresAt;
+	}
+
+	/**
+	 * Queue a refresh of a key, unless one is already in flight.
+	 *
+	 * @param key the cache key
+	 * @param loader loads the fresh value, may be {@code null} in which case the value is not refreshed
+	 */
+	private void refresh(final Object key, final Callable<?> loader) {
+		if (loader == null) {
+			return;
+		}
+		final String localKey = String.valueOf(key);
+		if (!refreshing.add(localKey)) {
+			return;
+		}
+		final boolean queued = refresher.submit(() -> {
+			try {
+				final long start = System.nanoTime();
+				final Object value = loader.call();
+				targetCache.put(key, toStored(value, System.nanoTime() - start));
+			} catch (Exception e) { // NOSONAR intentionally broad catch
+				LOGGER.warn("Could not refresh " + getName() + " cache value, the current value is kept: " + e.getMessage());
+			} finally {
+				refreshing.remove(localKey);
+			}
+		});
+		if (!queued) {
+			refreshing.remove(localKey);
+			LOGGER.debug("Refresh of {} cache value not queued, the refresh queue is full", getName());
+		}
+	}
+
+	/**
+	 * The form in which a value is stored. {@code null} is stored as is, so the target cache
+	 * applies its own null value policy.
+	 *
+	 * @param value the value
+	 * @param computeNanos how long the value took to compute, in nanoseconds
+	 * @return Object
+	 */
+	private static Object toStored(final Object value, final long computeNanos) {
+		return value == null ? null
+				: new SoftTtlValue(value, System.currentTimeMillis(), TimeUnit.NANOSECONDS.toMillis(computeNanos));
+	}
+}
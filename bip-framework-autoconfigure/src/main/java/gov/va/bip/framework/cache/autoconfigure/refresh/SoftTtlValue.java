@@ -0,0 +1,73 @@
+package gov.va.bip.framework.cache.autoconfigure.refresh;
+
+import java.io.Serializable;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A cached value, stored with the time it was written and the time it took to compute,
+ * so that {@link BipRefreshAheadCache} can tell when it should be refreshed.
+ * <p>
+ * The class is not final, and has a Jackson creator, so that it can be stored with the {@code json} value serializer,
+ * which only records the type of non-final classes.
+ */
+public class SoftTtlValue implements Serializable {
+	private static final long serialVersionUID = 2984207651583417735L;
+
+	/** The cached value, may be {@code null} */
+	private final Object value;
+
+	/** When the value was written, in epoch milliseconds */
+	private final long writtenAt;
+
+	/** How long the value took to compute, in milliseconds */
+	private final long computeMillis;
+
+	/**
+	 * Create a stored value.
+	 *
+	 * @param value the cached value, may be {@code null}
+	 * @param writtenAt when the value was written, in epoch milliseconds
+	 * @param computeMillis how long the value took to compute, in milliseconds
+	 */
+	@JsonCreator
+	public SoftTtlValue(@JsonProperty("value") final Object value, @JsonProperty("writtenAt") final long writtenAt,
+			@JsonProperty("computeMillis") final long computeMillis) {
+		this.value = value;
+		this.writtenAt = writtenAt;
+		this.computeMillis = Math.max(0, computeMillis);
+	}
+
+	/**
+	 * The cached value.
+	 *
+	 * @return Object - the value, may be {@code null}
+	 */
+	public Object getValue() {
+		return value;
+	}
+
+	/**
+	 * When the value was written, in epoch milliseconds.
+	 *
+	 * @return long
+	 */
+	public long getWrittenAt() {
+		return writtenAt;
+	}
+
+	/**
+	 * How long the value took to compute, in milliseconds.
+	 *
+	 * @return long
+	 */
+	public long getComputeMillis() {
+		return computeMillis;
+	}
+
+	@Override
+	public String toString() {
+		return "SoftTtlValue [writtenAt=" + writtenAt + ";computeMillis=" + computeMillis + ";value=" + value + "]";
+	}
+}
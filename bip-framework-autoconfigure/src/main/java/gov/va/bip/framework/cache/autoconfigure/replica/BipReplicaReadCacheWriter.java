@@ -0,0 +1,125 @@
+package gov.va.bip.framework.cache.autoconfigure.replica;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+
+import gov.va.bip.framework.log.BipLogger;
+import gov.va.bip.framework.log.BipLoggerFactory;
+import gov.va.bip.framework.validation.Defense;
+
+/**
+ * A {@link RedisCacheWriter} that reads from replicas and writes to the primary.
+ * <p>
+ * Reads are spread round-robin across the replicas. A read that fails on a replica is retried on the
+ * primary, so an unavailable replica costs a failed attempt, not a failed cache read.
+ * Writes, removes and cleans always go to the primary.
+ * <p>
+ * Replication is asynchronous, so a value written to the primary may not be read from a replica
+ * for a short time. Use only for read-heavy caches that can tolerate the occasional extra miss.
+ */
+public class BipReplicaReadCacheWriter implements RedisCacheWriter {
+	/** Class logger */
+	private static final BipLogger LOGGER = BipLoggerFactory.getLogger(BipReplicaReadCacheWriter.class);
+
+	/** Writes (and fallback reads) to the primary */
+	private final RedisCacheWriter primary;
+
+	/** Reads from each replica */
+	private final List<RedisCacheWriter> replicas;
+
+	/** The replica connection factories, destroyed with this writer */
+	private final List<JedisConnectionFactory> replicaConnectionFactories;
+
+	/** Round-robin position */
+	private final AtomicInteger next = new AtomicInteger();
+
+	/**
+	 * Create the writer.
+	 *
+	 * @param primary writes (and fallback reads) to the primary
+	 * @param replicas reads from each replica, must not be empty
+	 * @param replicaConnectionFactories connection factories to destroy with this writer, may be empty
+	 */
+	public BipReplicaReadCacheWriter(final RedisCacheWriter primary, final List<RedisCacheWriter> replicas,
+			final List<JedisConnectionFactory> replicaConnectionFactories) {
+		Defense.notEmpty(replicas, "Replica cache writers cannot be empty.");
+		this.primary = primary;
+		this.replicas = Collections.unmodifiableList(new ArrayList<>(replicas));
+		this.replicaConnectionFactories = Collections.unmodifiableList(new ArrayList<>(replicaConnectionFactories));
+	}
+
+	/**
+	 * Create a writer that reads from the replicas of the connection factories.
+	 *
+	 * @param primary writes (and fallback reads) to the primary
+	 * @param replicaConnectionFactories connection factories of the replicas, must not be empty
+	 * @return BipReplicaReadCacheWriter
+	 */
+	public static BipReplicaReadCacheWriter forConnectionFactories(final RedisCacheWriter primary,
+			final List<JedisConnectionFactory> replicaConnectionFactories) {
+		final List<RedisCacheWriter> replicas = new ArrayList<>(replicaConnectionFactories.size());
+		for (final JedisConnectionFactory factory : replicaConnectionFactories) {
+			replicas.add(RedisCacheWriter.nonLockingRedisCacheWriter(factory));
+		}
+		return new BipReplicaReadCacheWriter(primary, replicas, replicaConnectionFactories);
+	}
+
+	/**
+	 * The number of replicas read from.
+	 *
+	 * @return int
+	 */
+	public int getReplicaCount() {
+		return replicas.size();
+	}
+
+	@Override
+	public byte[] get(final String name, final byte[] key) {
+		final RedisCacheWriter replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+		try {
+			return replica.get(name, key);
+		} catch (RuntimeException e) { // NOSONAR intentionally broad catch
+			LOGGER.debug("Replica read of cache {} failed, reading from the primary: {}", name, e.getMessage());
+			return primary.get(name, key);
+		}
+	}
+
+	@Override
+	public void put(final String name, final byte[] key, final byte[] value, final Duration ttl) {
+		primary.put(name, key, value, ttl);
+	}
+
+	@Override
+	public byte[] putIfAbsent(final String name, final byte[] key, final byte[] value, final Duration ttl) {
+		return primary.putIfAbsent(name, key, value, ttl);
+	}
+
+	@Override
+	public void remove(final String name, final byte[] key) {
+		primary.remove(name, key);
+	}
+
+	@Override
+	public void clean(final String name, final byte[] pattern) {
+		primary.clean(name, pattern);
+	}
+
+	/**
+	 * Destroy the replica connection factories.
+	 */
+	public void destroy() {
+		for (final JedisConnectionFactory factory : replicaConnectionFactories) {
+			try {
+				factory.destroy();
+			} catch (RuntimeException e) { // NOSONAR intentionally broad catch
+				LOGGER.warn("Could not destroy replica connection factory: " + e.getMessage());
+			}
+		}
+	}
+}
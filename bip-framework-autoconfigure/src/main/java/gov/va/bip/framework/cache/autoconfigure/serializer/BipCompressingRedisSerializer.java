@@ -0,0 +1,137 @@
+package gov.va.bip.framework.cache.autoconfigure.serializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import gov.va.bip.framework.validation.Defense;
+
+/**
+ * A {@link RedisSerializer} that gzip compresses the serialized values of another serializer,
+ * when they are at least {@code threshold} bytes long.
+ * <p>
+ * Compressed values start with a framework header - a marker and a format version - followed by the gzip data,
+ * and are recognized on read by the header and the gzip magic that follows it. Values without the header,
+ * written below the threshold or before compression was enabled, are passed to the delegate as they are.
+ * A value of the delegate that happens to start with the header is always compressed, whatever its size,
+ * so no value written by this serializer is mistaken for a compressed one.
+ * <p>
+ * Compression favours speed over ratio - redis memory and network bytes are traded for the least CPU.
+ */
+public class BipCompressingRedisSerializer implements RedisSerializer<Object> {
+
+	/** The version of the compressed format */
+	static final byte FORMAT_VERSION = 1;
+
+	/** The header of compressed values: NUL, "BZ" and the format version */
+	private static final byte[] HEADER = { 0x00, 'B', 'Z', FORMAT_VERSION };
+
+	/** The first byte of gzip data */
+	private static final int GZIP_MAGIC_0 = 0x1f;
+
+	/** The second byte of gzip data */
+	private static final int GZIP_MAGIC_1 = 0x8b;
+
+	/** Buffer size for decompression */
+	private static final int BUFFER_SIZE = 4096;
+
+	/** Serializes the values */
+	private final RedisSerializer<Object> delegate;
+
+	/** Serialized values of at least this many bytes are compressed */
+	private final int threshold;
+
+	/**
+	 * Create the serializer.
+	 *
+	 * @param delegate serializes the values, must not be {@code null}
+	 * @param threshold serialized values of at least this many bytes are compressed, must be positive
+	 */
+	public BipCompressingRedisSerializer(final RedisSerializer<Object> delegate, final int threshold) {
+		Defense.notNull(delegate, "Delegate serializer cannot be null.");
+		Defense.isTrue(threshold > 0, "Compression threshold must be positive.");
+		this.delegate = delegate;
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Serialized values of at least this many bytes are compressed.
+	 *
+	 * @return int
+	 */
+	public int getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * The serializer of the values.
+	 *
+	 * @return RedisSerializer
+	 */
+	public RedisSerializer<Object> getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public byte[] serialize(final Object value) {
+		final byte[] bytes = delegate.serialize(value);
+		if (bytes == null || (bytes.length < threshold && !isCompressed(bytes))) {
+			return bytes;
+		}
+		final ByteArrayOutputStream out = new ByteArrayOutputStream(HEADER.length + bytes.length / 2);
+		out.write(HEADER, 0, HEADER.length);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+			{
+				def.setLevel(Deflater.BEST_SPEED);
+			}
+		}) {
+			gzip.write(bytes);
+		} catch (final IOException e) {
+			throw new SerializationException("Could not compress cache value.", e);
+		}
+		return out.toByteArray();
+	}
+
+	@Override
+	public Object deserialize(final byte[] bytes) {
+		if (!isCompressed(bytes)) {
+			return delegate.deserialize(bytes);
+		}
+		final ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+		try (GZIPInputStream gzip = new GZIPInputStream(
+				new ByteArrayInputStream(bytes, HEADER.length, bytes.length - HEADER.length), BUFFER_SIZE)) {
+			final byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = gzip.read(buffer)) > 0) {
+				out.write(buffer, 0, read);
+			}
+		} catch (final IOException e) {
+			throw new SerializationException("Could not decompress cache value.", e);
+		}
+		return delegate.deserialize(out.toByteArray());
+	}
+
+	/**
+	 * Do the bytes start with the header of compressed values, followed by the gzip magic.
+	 *
+	 * @param bytes the bytes read from redis
+	 * @return boolean
+	 */
+	static boolean isCompressed(final byte[] bytes) {
+		if (bytes == null || bytes.length < HEADER.length + 2) {
+			return false;
+		}
+		for (int i = 0; i < HEADER.length; i++) {
+			if (bytes[i] != HEADER[i]) {
+				return false;
+			}
+		}
+		return (bytes[HEADER.length] & 0xff) == GZIP_MAGIC_0 && (bytes[HEADER.length + 1] & 0xff) == GZIP_MAGIC_1;
+	}
+}
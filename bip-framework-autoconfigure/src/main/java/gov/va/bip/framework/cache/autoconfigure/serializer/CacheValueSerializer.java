@@ -0,0 +1,51 @@
+package gov.va.bip.framework.cache.autoconfigure.serializer;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * The value serializers built into the framework, selected by name with the {@code serializer} cache property.
+ * <p>
+ * Any other name is resolved as the name of a {@link RedisSerializer} bean in the application context.
+ */
+public enum CacheValueSerializer {
+
+	/** Java serialization - the values must be {@link java.io.Serializable}. The default. */
+	JDK {
+		@Override
+		public RedisSerializer<Object> create() {
+			return RedisSerializer.java();
+		}
+	},
+
+	/** Jackson JSON, with the value class stored in each value. Usually more compact than JDK for large DTOs. */
+	JSON {
+		@Override
+		public RedisSerializer<Object> create() {
+			return RedisSerializer.json();
+		}
+	};
+
+	/**
+	 * Create the serializer.
+	 *
+	 * @return RedisSerializer
+	 */
+	public abstract RedisSerializer<Object> create();
+
+	/**
+	 * The built-in serializer with the name, ignoring case.
+	 *
+	 * @param name the serializer name, may be {@code null}
+	 * @return CacheValueSerializer, or {@code null} if the name is not a built-in serializer
+	 */
+	public static CacheValueSerializer fromName(final String name) {
+		if (name != null) {
+			for (final CacheValueSerializer serializer : values()) {
+				if (serializer.name().equalsIgnoreCase(name.trim())) {
+					return serializer;
+				}
+			}
+		}
+		return null;
+	}
+}
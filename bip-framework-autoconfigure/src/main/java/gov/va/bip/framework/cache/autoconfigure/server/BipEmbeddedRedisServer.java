@@ -2,6 +2,9 @@ package gov.va.bip.framework.cache.autoconfigure.server;
 
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -11,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Profile;
 
+import gov.va.bip.framework.cache.autoconfigure.BipRedisCacheProperties;
 import gov.va.bip.framework.config.BipCommonSpringProfiles;
 import gov.va.bip.framework.log.BipLogger;
 import gov.va.bip.framework.log.BipLoggerFactory;
@@ -20,6 +24,9 @@ import redis.embedded.RedisServer;
 /**
  * this class will start embedded redis, to be used for local envs. The profile embedded-redis needs to be added in order for this bean
  * to be created
+ * <p>
+ * Each <tt>localhost</tt> entry in {@code bip.framework.cache.replicaNodes} is started as an embedded
+ * replica of the embedded server, so that caches with {@code readFromReplica} can be tested locally.
  *
  * @author akulkarni
  */
@@ -33,9 +40,16 @@ public class BipEmbeddedRedisServer {
 	@Autowired
 	private RedisProperties properties;
 
+	/** Replica nodes derived from application YAML, may be {@code null} */
+	@Autowired(required = false)
+	private BipRedisCacheProperties bipRedisCacheProperties;
+
 	/** Embedded redis server object */
 	private RedisServer redisServer;
 
+	/** Embedded redis replica objects */
+	private final List<RedisServer> replicaServers = new ArrayList<>();
+
 	/**
 	 * Embedded redis server.
 	 *
@@ -45,6 +59,15 @@ public class BipEmbeddedRedisServer {
 		return redisServer;
 	}
 
+	/**
+	 * Embedded redis replicas.
+	 *
+	 * @return List of RedisServer
+	 */
+	public List<RedisServer> getReplicaServers() {
+		return Collections.unmodifiableList(replicaServers);
+	}
+
 	/**
 	 * Start embedded redis server on context load.
 	 *
@@ -86,6 +109,37 @@ public class BipEmbeddedRedisServer {
 		} catch (final Exception exc) {
 			LOGGER.warn("Not able to start embedded redis, most likely it's already running on the given port on this host!", exc);
 		}
+		startReplicas(portNumber);
+	}
+
+	/**
+	 * Start an embedded replica for each <tt>localhost</tt> replica node.
+	 *
+	 * @param portNumber the port of the embedded redis server
+	 */
+	private void startReplicas(final int portNumber) {
+		if (bipRedisCacheProperties == null || bipRedisCacheProperties.getReplicaNodes() == null) {
+			return;
+		}
+		for (final String replicaNode : bipRedisCacheProperties.getReplicaNodes()) {
+			final int separator = replicaNode == null ? -1 : replicaNode.lastIndexOf(':');
+			if (separator < 0 || !"localhost".equalsIgnoreCase(replicaNode.substring(0, separator).trim())) {
+				continue;
+			}
+			LOGGER.info("Embedded redis replica starting on {}", replicaNode);
+			try {
+				final RedisServer replicaServer = RedisServer.builder()
+						.port(Integer.parseInt(replicaNode.substring(separator + 1).trim()))
+						.setting("maxmemory 128M")
+						.setting("bind localhost")
+						.setting("slaveof localhost " + portNumber)
+						.build();
+				replicaServer.start();
+				replicaServers.add(replicaServer);
+			} catch (final Exception exc) { // NOSONAR intentionally broad catch
+				LOGGER.warn("Not able to start embedded redis replica on " + replicaNode + ".", exc);
+			}
+		}
 	}
 
 	/**
@@ -93,6 +147,10 @@ public class BipEmbeddedRedisServer {
 	 */
 	@PreDestroy
 	public void stopRedis() {
+		for (final RedisServer replicaServer : replicaServers) {
+			replicaServer.stop();
+		}
+		replicaServers.clear();
 		LOGGER.info("Shutting Down Embedded Redis running on port {}", redisServer.ports().toArray());
 		try {
 			redisServer.stop();
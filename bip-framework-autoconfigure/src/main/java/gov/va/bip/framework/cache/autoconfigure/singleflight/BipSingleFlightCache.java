@@ -0,0 +1,338 @@
+package gov.va.bip.framework.cache.autoconfigure.singleflight;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.cache.Cache;
+
+import gov.va.bip.framework.cache.autoconfigure.BipCacheDecorator;
+import gov.va.bip.framework.cache.interceptor.BipCacheInvocation;
+
+/**
+ * Protects the source of a cache's values from a stampede of concurrent loads when a popular key is missing
+ * (e.g. just expired).
+ * <p>
+ * The first caller to miss a key becomes the "leader" of a load for that key, and gets the miss - so the
+ * cached method runs and its result is put in the cache. Other callers that miss the same key while the
+ * load is in flight wait for it to complete, and then read the loaded value from the cache.
+ * A load completes when the key is put or evicted, when the leader's cache invocation completes
+ * (see {@link BipCacheInvocation}), or when the timeout passes, whichever is first. A miss outside of
+ * a cache invocation, with no value loader to put the value, does not start a load.
+ * <p>
+ * With a {@link RedisLoadLock}, the leader also takes a short-lease Redis lock on the key, so that
+ * only one instance loads it. A leader that cannot get the lock polls the cache until the value
+ * appears, or the lease passes and it loads the value itself.
+ * <p>
+ * Callers that wait longer than the timeout proceed as a normal miss, so a slow or failed load never
+ * blocks callers for longer than the timeout.
+ */
+public class BipSingleFlightCache implements BipCacheDecorator {
+
+	/** Milliseconds between polls while another instance holds the load lock */
+	private static final long POLL_MILLIS = 25L;
+
+	/** The decorated cache */
+	private final Cache targetCache;
+
+	/** Maximum time to wait for a load, in nanoseconds */
+	private final long timeoutNanos;
+
+	/** The cross-instance load lock, may be {@code null} */
+	private final RedisLoadLock loadLock;
+
+	/** The loads in flight, by the string form of the cache key */
+	private final ConcurrentMap<String, Flight> flights = new ConcurrentHashMap<>();
+
+	/**
+	 * Decorate a cache.
+	 *
+	 * @param targetCache the decorated cache
+	 * @param timeoutMillis maximum time to wait for a load, in milliseconds, minimum 1
+	 * @param loadLock the cross-instance load lock, may be {@code null}
+	 */
+	public BipSingleFlightCache(final Cache targetCache, final long timeoutMillis, final RedisLoadLock loadLock) {
+		this.targetCache = targetCache;
+		this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, timeoutMillis));
+		this.loadLock = loadLock;
+	}
+
+	@Override
+	public Cache getTargetCache() {
+		return targetCache;
+	}
+
+	/**
+	 * The number of loads currently in flight.
+	 *
+	 * @return int
+	 */
+	public int getFlightCount() {
+		return flights.size();
+	}
+
+	@Override
+	public String getName() {
+		return targetCache.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return targetCache.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(final Object key) {
+		return get(key, false);
+	}
+
+	/**
+	 * Get a value, joining or leading the load of a missing key.
+	 * <p>
+	 * A leader's load must be completed by something: its cache invocation, or the caller itself when it
+	 * loads the value. When neither can (e.g. a plain {@code get} outside a cached method), the leader
+	 * does not hold a load, so other callers are not made to wait for a value that is never put.
+	 *
+	 * @param key the cache key
+	 * @param callerLoads does the caller put the value, or evict the key, once it has loaded it
+	 * @return the value, or {@code null} on a miss
+	 */
+	private ValueWrapper get(final Object key, final boolean callerLoads) {
+		ValueWrapper value = targetCache.get(key);
+		if (value != null) {
+			return value;
+		}
+
+		final String localKey = toLocalKey(key);
+		final Flight flight = new Flight();
+		final Flight inFlight = join(localKey, flight);
+		if (inFlight != null) {
+			// another caller is loading the value
+			inFlight.await(timeoutNanos);
+			return targetCache.get(key);
+		}
+
+		// this caller leads the load - check again, a load may have completed since the first miss
+		value = targetCache.get(key);
+		if (value == null) {
+			if (!BipCacheInvocation.onCompletion(() -> complete(localKey, flight)) && !callerLoads) {
+				// nothing will complete the load
+				complete(localKey, flight);
+				return null;
+			}
+			value = acquireLoadLock(key, localKey, flight);
+		}
+		if (value != null) {
+			complete(localKey, flight);
+		}
+		return value;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T get(final Object key, final Class<T> type) {
+		final ValueWrapper wrapper = get(key);
+		final Object value = wrapper == null ? null : wrapper.get();
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T get(final Object key, final Callable<T> valueLoader) {
+		final ValueWrapper wrapper = get(key, true);
+		if (wrapper != null) {
+			return (T) wrapper.get();
+		}
+		final T value;
+		try {
+			value = valueLoader.call();
+		} catch (Exception e) {
+			evictFlight(toLocalKey(key));
+			throw new ValueRetrievalException(key, valueLoader, e);
+		}
+		put(key, value);
+		return value;
+	}
+
+	@Override
+	public void put(final Object key, final Object value) {
+		targetCache.put(key, value);
+		evictFlight(toLocalKey(key));
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(final Object key, final Object value) {
+		final ValueWrapper existing = targetCache.putIfAbsent(key, value);
+		evictFlight(toLocalKey(key));
+		return existing;
+	}
+
+	@Override
+	public void evict(final Object key) {
+		targetCache.evict(key);
+		evictFlight(toLocalKey(key));
+	}
+
+	@Override
+	public void clear() {
+		targetCache.clear();
+		flights.forEach(this::complete);
+	}
+
+	/**
+	 * Join the load in flight for a key, or lead a new one.
+	 *
+	 * @param localKey the string form of the cache key
+	 * @param flight the new load to lead if none is in flight
+	 * @return the load in flight, or {@code null} if the caller now leads {@code flight}
+	 */
+	private Flight join(final String localKey, final Flight flight) {
+		while (true) {
+			final Flight inFlight = flights.putIfAbsent(localKey, flight);
+			if (inFlight == null) {
+				return null;
+			}
+			if (!inFlight.isExpired(timeoutNanos)) {
+				return inFlight;
+			}
+			// the previous leader never completed - take over
+			if (flights.replace(localKey, inFlight, flight)) {
+				inFlight.complete();
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Take the cross-instance load lock, if configured. If another instance holds it, poll the
+	 * cache until the value appears or the lease passes.
+	 *
+	 * @param key the cache key
+	 * @param localKey the string form of the cache key
+	 * @param flight the load this caller leads
+	 * @return the value loaded by another instance, or {@code null} if this caller should load it
+	 */
+	private ValueWrapper acquireLoadLock(final Object key, final String localKey, final Flight flight) {
+		if (loadLock == null) {
+			return null;
+		}
+		final String token = loadLock.tryAcquire(getName(), localKey);
+		if (token != null) {
+			flight.lockToken = token;
+			return null;
+		}
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(loadLock.getLeaseMillis());
+		while (System.nanoTime() - deadline < 0) {
+			try {
+				Thread.sleep(POLL_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			final ValueWrapper value = targetCache.get(key);
+			if (value != null) {
+				return value;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Complete the load in flight for a key, if any.
+	 *
+	 * @param localKey the string form of the cache key
+	 */
+	private void evictFlight(final String localKey) {
+		final Flight flight = flights.get(localKey);
+		if (flight != null) {
+			complete(localKey, flight);
+		}
+	}
+
+	/**
+	 * Complete a load: stop tracking it, release its waiters and its load lock.
+	 *
+	 * @param localKey the string form of the cache key
+	 * @param flight the load
+	 */
+	private void complete(final String localKey, final Flight flight) {
+		flights.remove(localKey, flight);
+		if (flight.complete() && flight.lockToken != null && loadLock != null) {
+			loadLock.release(getName(), localKey, flight.lockToken);
+		}
+	}
+
+	/**
+	 * The string form of a cache key, the same form {@code RedisCache} uses for its own keys.
+	 *
+	 * @param key the cache key
+	 * @return String
+	 */
+	private static String toLocalKey(final Object key) {
+		return key instanceof String ? (String) key : String.valueOf(key);
+	}
+
+	/**
+	 * A load in flight.
+	 */
+	private static final class Flight {
+
+		/** Released when the load completes */
+		private final CountDownLatch done = new CountDownLatch(1);
+
+		/** Set when the load completes */
+		private final AtomicBoolean completed = new AtomicBoolean();
+
+		/** When the load started, as {@link System#nanoTime()} */
+		private final long startedAt = System.nanoTime();
+
+		/** The token of the load lock held by the leader, if any */
+		private volatile String lockToken;
+
+		/**
+		 * Has the load been in flight longer than the timeout.
+		 *
+		 * @param timeoutNanos the timeout
+		 * @return boolean
+		 */
+		private boolean isExpired(final long timeoutNanos) {
+			return System.nanoTime() - startedAt > timeoutNanos;
+		}
+
+		/**
+		 * Wait for the load to complete, until the timeout passes from the start of the load.
+		 *
+		 * @param timeoutNanos the timeout
+		 */
+		private void await(final long timeoutNanos) {
+			final long remaining = startedAt + timeoutNanos - System.nanoTime();
+			if (remaining <= 0) {
+				return;
+			}
+			try {
+				done.await(remaining, TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		/**
+		 * Mark the load complete and release its waiters.
+		 *
+		 * @return boolean - {@code true} if this call completed the load
+		 */
+		private boolean complete() {
+			if (completed.compareAndSet(false, true)) {
+				done.countDown();
+				return true;
+			}
+			return false;
+		}
+	}
+}
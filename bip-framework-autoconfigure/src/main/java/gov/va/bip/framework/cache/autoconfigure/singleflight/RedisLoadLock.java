@@ -0,0 +1,127 @@
+package gov.va.bip.framework.cache.autoconfigure.singleflight;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.types.Expiration;
+
+import gov.va.bip.framework.log.BipLogger;
+import gov.va.bip.framework.log.BipLoggerFactory;
+
+/**
+ * A short-lease Redis lock, used so that only one instance loads a missing cache value at a time.
+ * <p>
+ * The lock is a key set with {@code SET NX PX}, holding a token unique to the holder. It expires
+ * on its own after the lease, so a holder that dies never blocks other instances for longer than
+ * the lease. Release deletes the key only if it still holds the holder's token.
+ * <p>
+ * Redis failures are logged and treated as "lock acquired", so loading is never blocked by
+ * an unavailable lock.
+ */
+public class RedisLoadLock {
+	/** Class logger */
+	private static final BipLogger LOGGER = BipLoggerFactory.getLogger(RedisLoadLock.class);
+
+	/** Prefix for lock keys */
+	private static final String LOCK_KEY_PREFIX = "bip-framework-load-lock::";
+
+	/** Deletes the key only if it holds the token */
+	private static final byte[] RELEASE_SCRIPT =
+			("if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end")
+					.getBytes(StandardCharsets.UTF_8);
+
+	/** Connection factory for lock commands */
+	private final RedisConnectionFactory connectionFactory;
+
+	/** The lease, in milliseconds */
+	private final long leaseMillis;
+
+	/**
+	 * Create a lock helper.
+	 *
+	 * @param connectionFactory connection factory for lock commands
+	 * @param leaseMillis the lease, in milliseconds, minimum 1
+	 */
+	public RedisLoadLock(final RedisConnectionFactory connectionFactory, final long leaseMillis) {
+		this.connectionFactory = connectionFactory;
+		this.leaseMillis = Math.max(1, leaseMillis);
+	}
+
+	/**
+	 * The lease, in milliseconds.
+	 *
+	 * @return long
+	 */
+	public long getLeaseMillis() {
+		return leaseMillis;
+	}
+
+	/**
+	 * Try to acquire the lock for a cache key.
+	 *
+	 * @param cacheName the cache name
+	 * @param localKey the string form of the cache key
+	 * @return the token to release the lock with, or {@code null} if another holder has the lock
+	 */
+	public String tryAcquire(final String cacheName, final String localKey) {
+		final String token = UUID.randomUUID().toString();
+		RedisConnection connection = null;
+		try {
+			connection = connectionFactory.getConnection();
+			final Boolean acquired = connection.set(lockKey(cacheName, localKey), token.getBytes(StandardCharsets.UTF_8),
+					Expiration.milliseconds(leaseMillis), SetOption.SET_IF_ABSENT);
+			return Boolean.FALSE.equals(acquired) ? null : token;
+		} catch (RuntimeException e) { // NOSONAR intentionally broad catch
+			LOGGER.warn("Could not acquire cache load lock for " + cacheName + ": " + e.getMessage());
+			return token;
+		} finally {
+			close(connection);
+		}
+	}
+
+	/**
+	 * Release the lock for a cache key, if it is still held with the token.
+	 *
+	 * @param cacheName the cache name
+	 * @param localKey the string form of the cache key
+	 * @param token the token returned by {@link #tryAcquire(String, String)}
+	 */
+	public void release(final String cacheName, final String localKey, final String token) {
+		RedisConnection connection = null;
+		try {
+			connection = connectionFactory.getConnection();
+			connection.eval(RELEASE_SCRIPT, ReturnType.INTEGER, 1, lockKey(cacheName, localKey),
+					token.getBytes(StandardCharsets.UTF_8));
+		} catch (RuntimeException e) { // NOSONAR intentionally broad catch
+			LOGGER.warn("Could not release cache load lock for " + cacheName + ", it will expire: " + e.getMessage());
+		} finally {
+			close(connection);
+		}
+	}
+
+	/**
+	 * The Redis key of the lock.
+	 *
+	 * @param cacheName the cache name
+	 * @param localKey the string form of the cache key
+	 * @return byte[]
+	 */
+	private static byte[] lockKey(final String cacheName, final String localKey) {
+		return (LOCK_KEY_PREFIX + cacheName + "::" + localKey).getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Quietly close a connection.
+	 *
+	 * @param connection the connection, may be {@code null}
+	 */
+	private static void close(final RedisConnection connection) {
+		if (connection != null) {
+			connection.close();
+		}
+	}
+}
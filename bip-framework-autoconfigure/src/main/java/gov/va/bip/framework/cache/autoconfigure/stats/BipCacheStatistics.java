@@ -0,0 +1,309 @@
+package gov.va.bip.framework.cache.autoconfigure.stats;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit, miss, put, eviction and latency counters for a single cache.
+ * <p>
+ * The counters are safe to update from many threads. The {@code getTotal...} values are cumulative since
+ * the statistics were created, and never decrease, so they back the Micrometer meters (see
+ * {@link BipCacheStatisticsRegistry}). The other values are since the statistics were last
+ * {@link #reset() reset}, for the JMX attributes: a reset only moves the baseline they are measured from.
+ */
+public final class BipCacheStatistics {
+
+	/** The cache name */
+	private final String cacheName;
+
+	/** Gets that found a value */
+	private final LongAdder hits = new LongAdder();
+	/** Gets that found no value */
+	private final LongAdder misses = new LongAdder();
+	/** Puts */
+	private final LongAdder puts = new LongAdder();
+	/** Evicts and clears */
+	private final LongAdder evictions = new LongAdder();
+	/** Total time spent in gets, nanoseconds */
+	private final LongAdder getNanos = new LongAdder();
+	/** Total time spent in puts, nanoseconds */
+	private final LongAdder putNanos = new LongAdder();
+
+	/** The totals at the last reset */
+	private volatile Baseline baseline = Baseline.ZERO;
+
+	/**
+	 * Create the statistics for a cache.
+	 *
+	 * @param cacheName the cache name
+	 */
+	public BipCacheStatistics(final String cacheName) {
+		this.cacheName = cacheName;
+	}
+
+	/**
+	 * Record a get.
+	 *
+	 * @param hit was a value found
+	 * @param nanos time taken, nanoseconds
+	 */
+	public void recordGet(final boolean hit, final long nanos) {
+		if (hit) {
+			hits.increment();
+		} else {
+			misses.increment();
+		}
+		getNanos.add(nanos);
+	}
+
+	/**
+	 * Record a put.
+	 *
+	 * @param nanos time taken, nanoseconds
+	 */
+	public void recordPut(final long nanos) {
+		puts.increment();
+		putNanos.add(nanos);
+	}
+
+	/**
+	 * Record an evict or clear.
+	 */
+	public void recordEviction() {
+		evictions.increment();
+	}
+
+	/**
+	 * Start counting the values since reset from zero again. The totals are not changed.
+	 */
+	public void reset() {
+		baseline = new Baseline(getTotalHits(), getTotalMisses(), getTotalPuts(), getTotalEvictions(),
+				getTotalGetNanos(), getTotalPutNanos());
+	}
+
+	/**
+	 * The cache name.
+	 *
+	 * @return String
+	 */
+	public String getCacheName() {
+		return cacheName;
+	}
+
+	/**
+	 * Gets that found a value, since the statistics were created.
+	 *
+	 * @return long
+	 */
+	public long getTotalHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Gets that found no value, since the statistics were created.
+	 *
+	 * @return long
+	 */
+	public long getTotalMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * All gets, since the statistics were created.
+	 *
+	 * @return long
+	 */
+	public long getTotalGets() {
+		return getTotalHits() + getTotalMisses();
+	}
+
+	/**
+	 * Puts, since the statistics were created.
+	 *
+	 * @return long
+	 */
+	public long getTotalPuts() {
+		return puts.sum();
+	}
+
+	/**
+	 * Evicts and clears, since the statistics were created.
+	 *
+	 * @return long
+	 */
+	public long getTotalEvictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Time spent in gets since the statistics were created, nanoseconds.
+	 *
+	 * @return long
+	 */
+	public long getTotalGetNanos() {
+		return getNanos.sum();
+	}
+
+	/**
+	 * Time spent in puts since the statistics were created, nanoseconds.
+	 *
+	 * @return long
+	 */
+	public long getTotalPutNanos() {
+		return putNanos.sum();
+	}
+
+	/**
+	 * Gets that found a value, since the last reset.
+	 *
+	 * @return long
+	 */
+	public long getHits() {
+		return getTotalHits() - baseline.hits;
+	}
+
+	/**
+	 * Gets that found no value, since the last reset.
+	 *
+	 * @return long
+	 */
+	public long getMisses() {
+		return getTotalMisses() - baseline.misses;
+	}
+
+	/**
+	 * All gets, since the last reset.
+	 *
+	 * @return long
+	 */
+	public long getGets() {
+		return getHits() + getMisses();
+	}
+
+	/**
+	 * Puts, since the last reset.
+	 *
+	 * @return long
+	 */
+	public long getPuts() {
+		return getTotalPuts() - baseline.puts;
+	}
+
+	/**
+	 * Evicts and clears, since the last reset.
+	 *
+	 * @return long
+	 */
+	public long getEvictions() {
+		return getTotalEvictions() - baseline.evictions;
+	}
+
+	/**
+	 * Hits as a fraction of all gets since the last reset, or {@code 0} if there have been no gets.
+	 *
+	 * @return double
+	 */
+	public double getHitRatio() {
+		final long hitCount = getHits();
+		final long getCount = hitCount + getMisses();
+		return getCount == 0 ? 0 : (double) hitCount / getCount;
+	}
+
+	/**
+	 * Time spent in gets since the last reset, nanoseconds.
+	 *
+	 * @return long
+	 */
+	public long getGetNanos() {
+		return getTotalGetNanos() - baseline.getNanos;
+	}
+
+	/**
+	 * Time spent in puts since the last reset, nanoseconds.
+	 *
+	 * @return long
+	 */
+	public long getPutNanos() {
+		return getTotalPutNanos() - baseline.putNanos;
+	}
+
+	/**
+	 * Average get latency since the last reset in milliseconds, or {@code 0} if there have been no gets.
+	 *
+	 * @return double
+	 */
+	public double getAverageGetMillis() {
+		return average(getGetNanos(), getGets());
+	}
+
+	/**
+	 * Average put latency since the last reset in milliseconds, or {@code 0} if there have been no puts.
+	 *
+	 * @return double
+	 */
+	public double getAveragePutMillis() {
+		return average(getPutNanos(), getPuts());
+	}
+
+	/**
+	 * Average in milliseconds.
+	 *
+	 * @param nanos total nanoseconds
+	 * @param count number of operations
+	 * @return double
+	 */
+	private static double average(final long nanos, final long count) {
+		return count == 0 ? 0 : (double) nanos / count / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	@Override
+	public String toString() {
+		return cacheName + " [hits=" + getHits() + ";misses=" + getMisses()
+				+ ";hitRatio=" + String.format("%.3f", getHitRatio())
+				+ ";puts=" + getPuts() + ";evictions=" + getEvictions()
+				+ ";avgGetMillis=" + String.format("%.3f", getAverageGetMillis())
+				+ ";avgPutMillis=" + String.format("%.3f", getAveragePutMillis()) + "]";
+	}
+
+	/**
+	 * The totals at a reset.
+	 */
+	private static final class Baseline {
+
+		/** No reset */
+		private static final Baseline ZERO = new Baseline(0, 0, 0, 0, 0, 0);
+
+		/** Gets that found a value */
+		private final long hits;
+		/** Gets that found no value */
+		private final long misses;
+		/** Puts */
+		private final long puts;
+		/** Evicts and clears */
+		private final long evictions;
+		/** Time spent in gets, nanoseconds */
+		private final long getNanos;
+		/** Time spent in puts, nanoseconds */
+		private final long putNanos;
+
+		/**
+		 * Record the totals.
+		 *
+		 * @param hits gets that found a value
+		 * @param misses gets that found no value
+		 * @param puts puts
+		 * @param evictions evicts and clears
+		 * @param getNanos time spent in gets, nanoseconds
+		 * @param putNanos time spent in puts, nanoseconds
+		 */
+		private Baseline(final long hits, final long misses, final long puts, final long evictions, final long getNanos,
+				final long putNanos) {
+			this.hits = hits;
+			this.misses = misses;
+			this.puts = puts;
+			this.evictions = evictions;
+			this.getNanos = getNanos;
+			this.putNanos = putNanos;
+		}
+	}
+}
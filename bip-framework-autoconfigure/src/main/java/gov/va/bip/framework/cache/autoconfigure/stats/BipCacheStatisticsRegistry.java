@@ -0,0 +1,117 @@
+package gov.va.bip.framework.cache.autoconfigure.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cache.Cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Holds the {@link BipCacheStatistics} for every cache, by cache name, and publishes them
+ * as Micrometer meters when a {@link MeterRegistry} is available.
+ * <p>
+ * The registry outlives refreshes of the cache manager, so statistics accumulate across
+ * refreshes, and meters are registered only once per cache name. The meters publish the totals of the
+ * statistics, which are not changed by {@link #reset()}, so the counters never go backwards.
+ * <p>
+ * Meters (tagged with {@code cache}): {@code cache.gets} (tagged {@code result} hit or miss),
+ * {@code cache.puts}, {@code cache.evictions}, {@code cache.hit.ratio},
+ * {@code cache.get.latency} and {@code cache.put.latency}.
+ */
+public class BipCacheStatisticsRegistry {
+
+	/** Tag for the cache name */
+	private static final String TAG_CACHE = "cache";
+	/** Tag for the get result */
+	private static final String TAG_RESULT = "result";
+
+	/** Statistics by cache name */
+	private final ConcurrentMap<String, BipCacheStatistics> statistics = new ConcurrentHashMap<>();
+
+	/** Micrometer registry, may be {@code null} */
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * Create the registry.
+	 *
+	 * @param meterRegistry Micrometer registry, may be {@code null}
+	 */
+	public BipCacheStatisticsRegistry(final MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Decorate a cache so its operations are recorded.
+	 *
+	 * @param cache the cache
+	 * @return Cache the decorated cache
+	 */
+	public Cache decorate(final Cache cache) {
+		return new BipStatisticsCache(cache, statisticsFor(cache.getName()));
+	}
+
+	/**
+	 * Get (or create) the statistics for a cache name.
+	 *
+	 * @param cacheName the cache name
+	 * @return BipCacheStatistics
+	 */
+	public BipCacheStatistics statisticsFor(final String cacheName) {
+		BipCacheStatistics stats = statistics.get(cacheName);
+		if (stats == null) {
+			stats = statistics.computeIfAbsent(cacheName, name -> bindMeters(new BipCacheStatistics(name)));
+		}
+		return stats;
+	}
+
+	/**
+	 * The statistics of all caches.
+	 *
+	 * @return List&lt;BipCacheStatistics&gt;
+	 */
+	public List<BipCacheStatistics> getAll() {
+		return new ArrayList<>(statistics.values());
+	}
+
+	/**
+	 * Reset the statistics of all caches, as seen through JMX. The published meters are not reset.
+	 */
+	public void reset() {
+		statistics.values().forEach(BipCacheStatistics::reset);
+	}
+
+	/**
+	 * Register the Micrometer meters for a cache.
+	 *
+	 * @param stats the cache statistics
+	 * @return the same statistics
+	 */
+	private BipCacheStatistics bindMeters(final BipCacheStatistics stats) {
+		if (meterRegistry == null) {
+			return stats;
+		}
+		final String name = stats.getCacheName();
+		FunctionCounter.builder("cache.gets", stats, BipCacheStatistics::getTotalHits)
+				.tags(TAG_CACHE, name, TAG_RESULT, "hit").description("Cache gets that found a value").register(meterRegistry);
+		FunctionCounter.builder("cache.gets", stats, BipCacheStatistics::getTotalMisses)
+				.tags(TAG_CACHE, name, TAG_RESULT, "miss").description("Cache gets that found no value").register(meterRegistry);
+		FunctionCounter.builder("cache.puts", stats, BipCacheStatistics::getTotalPuts)
+				.tags(TAG_CACHE, name).description("Cache puts").register(meterRegistry);
+		FunctionCounter.builder("cache.evictions", stats, BipCacheStatistics::getTotalEvictions)
+				.tags(TAG_CACHE, name).description("Cache evicts and clears").register(meterRegistry);
+		Gauge.builder("cache.hit.ratio", stats, BipCacheStatistics::getHitRatio)
+				.tags(TAG_CACHE, name).description("Cache hits as a fraction of all gets").register(meterRegistry);
+		FunctionTimer.builder("cache.get.latency", stats, BipCacheStatistics::getTotalGets, BipCacheStatistics::getTotalGetNanos,
+				TimeUnit.NANOSECONDS).tags(TAG_CACHE, name).description("Cache get latency").register(meterRegistry);
+		FunctionTimer.builder("cache.put.latency", stats, BipCacheStatistics::getTotalPuts, BipCacheStatistics::getTotalPutNanos,
+				TimeUnit.NANOSECONDS).tags(TAG_CACHE, name).description("Cache put latency").register(meterRegistry);
+		return stats;
+	}
+}
@@ -0,0 +1,119 @@
+package gov.va.bip.framework.cache.autoconfigure.stats;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+
+import gov.va.bip.framework.cache.autoconfigure.BipCacheDecorator;
+
+/**
+ * Records the operations on a target cache in its {@link BipCacheStatistics}.
+ */
+public class BipStatisticsCache implements BipCacheDecorator {
+
+	/** The decorated cache */
+	private final Cache targetCache;
+
+	/** The statistics to record in */
+	private final BipCacheStatistics statistics;
+
+	/**
+	 * Decorate a cache.
+	 *
+	 * @param targetCache the decorated cache
+	 * @param statistics the statistics to record in
+	 */
+	public BipStatisticsCache(final Cache targetCache, final BipCacheStatistics statistics) {
+		this.targetCache = targetCache;
+		this.statistics = statistics;
+	}
+
+	@Override
+	public Cache getTargetCache() {
+		return targetCache;
+	}
+
+	/**
+	 * The statistics recorded for the cache.
+	 *
+	 * @return BipCacheStatistics
+	 */
+	public BipCacheStatistics getStatistics() {
+		return statistics;
+	}
+
+	@Override
+	public String getName() {
+		return targetCache.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return targetCache.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(final Object key) {
+		final long start = System.nanoTime();
+		final ValueWrapper value = targetCache.get(key);
+		statistics.recordGet(value != null, System.nanoTime() - start);
+		return value;
+	}
+
+	@Override
+	public <T> T get(final Object key, final Class<T> type) {
+		final long start = System.nanoTime();
+		final T value = targetCache.get(key, type);
+		statistics.recordGet(value != null, System.nanoTime() - start);
+		return value;
+	}
+
+	/**
+	 * Get a value, loading it on a miss. The time spent in the value loader is not
+	 * recorded as get latency, only the time spent in the cache.
+	 */
+	@Override
+	public <T> T get(final Object key, final Callable<T> valueLoader) {
+		// the time spent loading, or -1 if the value was not loaded
+		final long[] loadNanos = { -1L };
+		final long start = System.nanoTime();
+		final T value = targetCache.get(key, () -> {
+			final long loadStart = System.nanoTime();
+			try {
+				return valueLoader.call();
+			} finally {
+				loadNanos[0] = System.nanoTime() - loadStart;
+			}
+		});
+		final long nanos = System.nanoTime() - start;
+		statistics.recordGet(loadNanos[0] < 0, loadNanos[0] < 0 ? nanos : nanos - loadNanos[0]);
+		return value;
+	}
+
+	@Override
+	public void put(final Object key, final Object value) {
+		final long start = System.nanoTime();
+		targetCache.put(key, value);
+		statistics.recordPut(System.nanoTime() - start);
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(final Object key, final Object value) {
+		final long start = System.nanoTime();
+		final ValueWrapper existing = targetCache.putIfAbsent(key, value);
+		statistics.recordPut(System.nanoTime() - start);
+		return existing;
+	}
+
+	@Override
+	public void evict(final Object key) {
+		targetCache.evict(key);
+		statistics.recordEviction();
+	}
+
+	@Override
+	public void clear() {
+		targetCache.clear();
+		statistics.recordEviction();
+	}
+}
@@ -1,7 +1,5 @@
 package gov.va.bip.framework.feign.autoconfigure;
 
-import java.util.Map;
-
 import org.springframework.beans.factory.annotation.Autowired;
 
 import feign.RequestInterceptor;
@@ -32,10 +30,11 @@ public class TokenFeignRequestInterceptor implements RequestInterceptor {
 	 */
 	@Override
 	public void apply(RequestTemplate template) {
-		Map<String, String> tokenMap = tokenService.getTokenFromRequest();
-		for (Map.Entry<String, String> token : tokenMap.entrySet()) {
-			LOGGER.info("Adding Token Header {} {}", token.getKey(), token.getValue());
-			template.header(token.getKey(), token.getValue());
+		final String tokenValue = tokenService.getTokenHeaderValue();
+		if (tokenValue != null) {
+			final String tokenHeader = tokenService.getTokenHeaderName();
+			LOGGER.info("Adding Token Header {} {}", tokenHeader, tokenValue);
+			template.header(tokenHeader, tokenValue);
 		}
 	}
 }
\ No newline at end of file
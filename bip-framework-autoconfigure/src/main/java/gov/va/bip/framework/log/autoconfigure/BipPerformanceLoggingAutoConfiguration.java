@@ -0,0 +1,71 @@
+package gov.va.bip.framework.log.autoconfigure;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import gov.va.bip.framework.log.BipLogger;
+import gov.va.bip.framework.log.BipLoggerFactory;
+import gov.va.bip.framework.log.PerformanceLoggingProperties;
+import gov.va.bip.framework.log.PerformanceWarningThresholds;
+import gov.va.bip.framework.log.SlowCallSampler;
+
+/**
+ * Binds the performance logging warning thresholds from the application YAML
+ * (under {@code bip.framework.logging.performance}) and publishes them to
+ * {@link PerformanceWarningThresholds}.
+ * <p>
+ * The thresholds are re-published on the RefreshScope refresh event, so slow-call warnings
+ * can be tightened or relaxed at runtime without a redeploy.
+ * <p>
+ * The optional {@link SlowCallSampler} (under {@code bip.framework.logging.performance.sampling})
+ * is published and refreshed the same way.
+ */
+@Configuration
+@EnableConfigurationProperties(PerformanceLoggingProperties.class)
+public class BipPerformanceLoggingAutoConfiguration {
+	/** Class logger */
+	private static final BipLogger LOGGER = BipLoggerFactory.getLogger(BipPerformanceLoggingAutoConfiguration.class);
+
+	/** Threshold properties derived from application YAML */
+	@Autowired
+	private PerformanceLoggingProperties performanceLoggingProperties;
+
+	/**
+	 * Publish the thresholds as declared at startup.
+	 */
+	@PostConstruct
+	public void postConstruct() {
+		publishWarningThresholds();
+	}
+
+	/**
+	 * On the RefreshScope refresh event, publish the (rebound) thresholds.
+	 *
+	 * @param event the refresh event
+	 */
+	@EventListener
+	public void onApplicationEvent(final RefreshScopeRefreshedEvent event) {
+		LOGGER.debug("Event activated to republish performance warning thresholds: event.getName() {}", event.getName());
+		publishWarningThresholds();
+	}
+
+	/**
+	 * Build immutable snapshots from the current properties and publish them.
+	 */
+	private void publishWarningThresholds() {
+		final PerformanceWarningThresholds thresholds = performanceLoggingProperties.toWarningThresholds();
+		PerformanceWarningThresholds.publish(thresholds);
+		LOGGER.debug("Published performance warning thresholds [default={}; classAndMethodSpecific={}]",
+				thresholds.getWarningThreshold(), thresholds.getClassAndMethodSpecificWarningThreshold());
+
+		final SlowCallSampler sampler = performanceLoggingProperties.toSlowCallSampler();
+		SlowCallSampler.publish(sampler);
+		LOGGER.debug("Published slow call sampler [enabled={}; thresholdMillis={}]", sampler.isEnabled(),
+				sampler.getThresholdMillis());
+	}
+}
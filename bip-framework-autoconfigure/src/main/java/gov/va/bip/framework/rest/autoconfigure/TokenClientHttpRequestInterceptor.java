@@ -1,7 +1,6 @@
 package gov.va.bip.framework.rest.autoconfigure;
 
 import java.io.IOException;
-import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpRequest;
@@ -39,10 +38,11 @@ public class TokenClientHttpRequestInterceptor implements ClientHttpRequestInter
 			final ClientHttpRequestExecution execution)
 			throws IOException {
 
-		Map<String, String> tokenMap = tokenService.getTokenFromRequest();
-		for (Map.Entry<String, String> token : tokenMap.entrySet()) {
-			LOGGER.debug("Adding Token Header {} {}", token.getKey(), token.getValue());
-			request.getHeaders().add(token.getKey(), token.getValue());
+		final String tokenValue = tokenService.getTokenHeaderValue();
+		if (tokenValue != null) {
+			final String tokenHeader = tokenService.getTokenHeaderName();
+			LOGGER.debug("Adding Token Header {} {}", tokenHeader, tokenValue);
+			request.getHeaders().add(tokenHeader, tokenValue);
 		}
 		
 		logRequestDetails(request);
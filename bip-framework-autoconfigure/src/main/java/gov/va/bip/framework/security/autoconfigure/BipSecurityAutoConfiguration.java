@@ -24,6 +24,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import gov.va.bip.framework.rest.exception.BasicErrorController;
 import gov.va.bip.framework.security.handler.JwtAuthenticationEntryPoint;
 import gov.va.bip.framework.security.handler.JwtAuthenticationSuccessHandler;
+import gov.va.bip.framework.security.jwt.CompiledPathRequestMatcher;
 import gov.va.bip.framework.security.jwt.JwtAuthenticationFilter;
 import gov.va.bip.framework.security.jwt.JwtAuthenticationProperties;
 import gov.va.bip.framework.security.jwt.JwtAuthenticationProvider;
@@ -53,7 +54,7 @@ public class BipSecurityAutoConfiguration {
 		@Override
 		protected void configure(HttpSecurity http) throws Exception {
 			http.authorizeRequests()
-			.antMatchers(jwtAuthenticationProperties.getFilterProcessUrls()).authenticated()
+			.requestMatchers(new CompiledPathRequestMatcher(jwtAuthenticationProperties.getFilterProcessUrls())).authenticated()
 			.and()
 			.exceptionHandling().authenticationEntryPoint(authenticationEntryPoint())
 			.and()
@@ -100,7 +101,7 @@ public class BipSecurityAutoConfiguration {
 
 		@Override
 		public void configure(WebSecurity web) throws Exception {
-			web.ignoring().antMatchers(jwtAuthenticationProperties.getFilterProcessUrls());
+			web.ignoring().requestMatchers(new CompiledPathRequestMatcher(jwtAuthenticationProperties.getFilterProcessUrls()));
 		}
 
 	}
@@ -118,7 +119,8 @@ public class BipSecurityAutoConfiguration {
 
 		@Override
 		public void configure(WebSecurity web) throws Exception {
-			web.ignoring().antMatchers(jwtAuthenticationProperties.getExcludeUrls());
+			// a single compiled matcher, rather than one ignored filter chain per url
+			web.ignoring().requestMatchers(new CompiledPathRequestMatcher(jwtAuthenticationProperties.getExcludeUrls()));
 		}
 
 	}
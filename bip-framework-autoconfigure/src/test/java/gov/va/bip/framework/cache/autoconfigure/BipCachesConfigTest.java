@@ -1,12 +1,18 @@
 package gov.va.bip.framework.cache.autoconfigure;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Collections;
 import java.util.Map;
 
 import org.junit.Test;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import gov.va.bip.framework.cache.autoconfigure.serializer.BipCompressingRedisSerializer;
+
 public class BipCachesConfigTest {
 
 	@Test
@@ -19,4 +25,35 @@ public class BipCachesConfigTest {
 				ReflectionTestUtils.invokeMethod(config, "getRedisCacheConfigs", (Object[]) null);
 		assertTrue(map.isEmpty());
 	}
+
+	@Test
+	public void getValueSerializerTest() {
+		BipCachesConfig config = new BipCachesConfig();
+		BipRedisCacheProperties bipRedisCacheProperties = new BipRedisCacheProperties();
+		BipRedisCacheProperties.RedisExpires expires = new BipRedisCacheProperties.RedisExpires();
+		expires.setName("jsonCache");
+		expires.setTtl(600L);
+		expires.setSerializer("json");
+		expires.setCompressionThreshold(1024);
+		bipRedisCacheProperties.setExpires(Collections.singletonList(expires));
+		ReflectionTestUtils.setField(config, "bipRedisCacheProperties", bipRedisCacheProperties);
+
+		// default - jdk, not compressed
+		RedisSerializer<?> defaultSerializer = ReflectionTestUtils.invokeMethod(config, "getValueSerializer", (String) null);
+		assertEquals(RedisSerializer.java().getClass(), defaultSerializer.getClass());
+
+		// per cache - json, compressed
+		RedisSerializer<?> cacheSerializer = ReflectionTestUtils.invokeMethod(config, "getValueSerializer", "jsonCache");
+		assertTrue(cacheSerializer instanceof BipCompressingRedisSerializer);
+		assertEquals(1024, ((BipCompressingRedisSerializer) cacheSerializer).getThreshold());
+		assertEquals(RedisSerializer.json().getClass(), ((BipCompressingRedisSerializer) cacheSerializer).getDelegate().getClass());
+
+		// unknown serializer name falls back to jdk
+		bipRedisCacheProperties.getSerialization().setSerializer("noSuchBean");
+		RedisSerializer<?> fallback = ReflectionTestUtils.invokeMethod(config, "getValueSerializer", "otherCache");
+		assertEquals(RedisSerializer.java().getClass(), fallback.getClass());
+
+		Map<String, RedisCacheConfiguration> map = ReflectionTestUtils.invokeMethod(config, "getRedisCacheConfigs", (Object[]) null);
+		assertEquals(1, map.size());
+	}
 }
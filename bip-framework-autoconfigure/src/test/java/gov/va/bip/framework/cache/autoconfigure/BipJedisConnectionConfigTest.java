@@ -1,9 +1,14 @@
 package gov.va.bip.framework.cache.autoconfigure;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.After;
 import org.junit.Before;
@@ -23,11 +28,13 @@ import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.support.SimpleThreadScope;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
 import gov.va.bip.framework.audit.autoconfigure.BipAuditAutoConfiguration;
+import gov.va.bip.framework.exception.BipValidationRuntimeException;
 
 @RunWith(SpringJUnit4ClassRunner.class)
 @ImportAutoConfiguration(RefreshAutoConfiguration.class)
@@ -72,7 +79,7 @@ public class BipJedisConnectionConfigTest {
 		assertNotNull(bipJedisConnectionConfig);
 		bipJedisConnectionConfig.onApplicationEvent(new RefreshScopeRefreshedEvent());
 
-		assertTrue(outputCapture.toString().contains("redisConnectionFactory destroyed"));
+		assertTrue(outputCapture.toString().contains("redisConnectionFactory swapped"));
 	}
 
 	@Test
@@ -114,6 +121,9 @@ public class BipJedisConnectionConfigTest {
 		bipJedisConnectionConfig.redisConnectionFactory();
 		assertTrue(!outputCapture.toString().contains("poolConfig:"));
 
+		assertSame(context.getBean(BipRefreshableRedisConnectionFactory.class).getCurrent(),
+				bipJedisConnectionConfig.getJedisConnectionFactory());
+
 		RedisProperties props = bipJedisConnectionConfig.redisProperties;
 		RedisProperties.Pool pool = new RedisProperties.Pool();
 		pool.setMaxActive(1000);
@@ -139,4 +149,58 @@ public class BipJedisConnectionConfigTest {
 		assertTrue(outputCapture.toString().contains("MinIdle=0"));
 	}
 
+	@Test
+	public final void testRedisConnectionFactorySentinelAndCluster() {
+		bipJedisConnectionConfig = new BipJedisConnectionConfig();
+		RedisProperties props = new RedisProperties();
+		bipJedisConnectionConfig.redisProperties = props;
+
+		RedisProperties.Sentinel sentinel = new RedisProperties.Sentinel();
+		sentinel.setMaster("mymaster");
+		sentinel.setNodes(Arrays.asList("localhost:26379", "localhost:26380"));
+		props.setSentinel(sentinel);
+		JedisConnectionFactory factory = bipJedisConnectionConfig.createJedisConnectionFactory();
+		assertTrue(factory.isRedisSentinelAware());
+		assertEquals("mymaster", factory.getSentinelConfiguration().getMaster().getName());
+		assertEquals(2, factory.getSentinelConfiguration().getSentinels().size());
+
+		props.setSentinel(null);
+		RedisProperties.Cluster cluster = new RedisProperties.Cluster();
+		cluster.setNodes(Arrays.asList("localhost:7000", "localhost:7001", "localhost:7002"));
+		cluster.setMaxRedirects(3);
+		props.setCluster(cluster);
+		factory = bipJedisConnectionConfig.createJedisConnectionFactory();
+		assertTrue(factory.isRedisClusterAware());
+		assertEquals(3, factory.getClusterConfiguration().getClusterNodes().size());
+	}
+
+	@Test
+	public final void testCreateReplicaConnectionFactories() {
+		bipJedisConnectionConfig = new BipJedisConnectionConfig();
+		bipJedisConnectionConfig.redisProperties = new RedisProperties();
+
+		List<JedisConnectionFactory> factories = bipJedisConnectionConfig.createReplicaConnectionFactories(
+				Arrays.asList("localhost:6380", "replica.host:6381"), Mockito.mock(RedisConnectionFactory.class));
+		try {
+			assertEquals(2, factories.size());
+			assertEquals("localhost", factories.get(0).getHostName());
+			assertEquals(6380, factories.get(0).getPort());
+			assertEquals("replica.host", factories.get(1).getHostName());
+			assertEquals(6381, factories.get(1).getPort());
+		} finally {
+			factories.forEach(JedisConnectionFactory::destroy);
+		}
+
+		// no declared replicas and no sentinel - nothing to read from
+		assertTrue(bipJedisConnectionConfig.createReplicaConnectionFactories(null, Mockito.mock(RedisConnectionFactory.class))
+				.isEmpty());
+		assertTrue(bipJedisConnectionConfig.createReplicaConnectionFactories(Collections.emptyList(), null).isEmpty());
+	}
+
+	@Test(expected = BipValidationRuntimeException.class)
+	public final void testCreateReplicaConnectionFactoriesBadNode() {
+		bipJedisConnectionConfig = new BipJedisConnectionConfig();
+		bipJedisConnectionConfig.redisProperties = new RedisProperties();
+		bipJedisConnectionConfig.createReplicaConnectionFactories(Collections.singletonList("localhost"), null);
+	}
 }
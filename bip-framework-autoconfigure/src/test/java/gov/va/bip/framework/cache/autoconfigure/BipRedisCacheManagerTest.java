@@ -0,0 +1,214 @@
+package gov.va.bip.framework.cache.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import gov.va.bip.framework.cache.autoconfigure.BipRedisCacheManager.CacheFeatures;
+import gov.va.bip.framework.cache.autoconfigure.near.BipNearCache;
+import gov.va.bip.framework.cache.autoconfigure.near.NearCacheInvalidator;
+import gov.va.bip.framework.cache.autoconfigure.refresh.BipCacheRefresher;
+import gov.va.bip.framework.cache.autoconfigure.refresh.BipRefreshAheadCache;
+import gov.va.bip.framework.cache.autoconfigure.replica.BipReplicaReadCacheWriter;
+import gov.va.bip.framework.cache.autoconfigure.singleflight.BipSingleFlightCache;
+import gov.va.bip.framework.cache.autoconfigure.stats.BipCacheStatisticsRegistry;
+import gov.va.bip.framework.cache.autoconfigure.stats.BipStatisticsCache;
+
+public class BipRedisCacheManagerTest {
+
+	@Test
+	public void testNearCacheDisabled() {
+		BipRedisCacheManager cacheManager = new BipRedisCacheManager(mock(RedisCacheWriter.class),
+				RedisCacheConfiguration.defaultCacheConfig(), Collections.emptyMap(), new BipRedisCacheProperties());
+		Cache cache = cacheManager.getCache("testCache");
+		assertTrue(cache instanceof RedisCache);
+		assertTrue(BipRedisCacheManager.unwrap(cache) instanceof RedisCache);
+	}
+
+	@Test
+	public void testNearCacheEnabled() {
+		BipRedisCacheProperties properties = new BipRedisCacheProperties();
+		properties.getNearCache().setEnabled(true);
+		NearCacheInvalidator invalidator = new NearCacheInvalidator(mock(RedisConnectionFactory.class), "testChannel");
+
+		BipRedisCacheManager cacheManager = new BipRedisCacheManager(mock(RedisCacheWriter.class),
+				RedisCacheConfiguration.defaultCacheConfig(), Collections.emptyMap(), properties);
+		cacheManager.setFeatures(new CacheFeatures(invalidator, null, null, null, null));
+		cacheManager.setTransactionAware(true);
+		Cache cache = cacheManager.getCache("testCache");
+		assertTrue(cache instanceof TransactionAwareCacheDecorator);
+		assertTrue(((TransactionAwareCacheDecorator) cache).getTargetCache() instanceof BipNearCache);
+		assertTrue(BipRedisCacheManager.unwrap(cache) instanceof RedisCache);
+	}
+
+	@Test
+	public void testStatisticsEnabled() {
+		BipRedisCacheProperties properties = new BipRedisCacheProperties();
+		properties.getNearCache().setEnabled(true);
+		BipCacheStatisticsRegistry statisticsRegistry = new BipCacheStatisticsRegistry(null);
+
+		BipRedisCacheManager cacheManager = new BipRedisCacheManager(mock(RedisCacheWriter.class),
+				RedisCacheConfiguration.defaultCacheConfig(), Collections.emptyMap(), properties);
+		cacheManager.setFeatures(new CacheFeatures(new NearCacheInvalidator(mock(RedisConnectionFactory.class), "testChannel"),
+				statisticsRegistry, null, null, null));
+		Cache cache = cacheManager.getCache("testCache");
+		assertTrue(cache instanceof BipStatisticsCache);
+		assertTrue(((BipStatisticsCache) cache).getTargetCache() instanceof BipNearCache);
+		assertTrue(BipRedisCacheManager.unwrap(cache) instanceof RedisCache);
+		assertEquals(1, statisticsRegistry.getAll().size());
+	}
+
+	@Test
+	public void testSingleFlightAndRefreshEnabled() {
+		BipRedisCacheProperties properties = new BipRedisCacheProperties();
+		assertFalse(properties.isAnyCacheInvocationFeature());
+		properties.getSingleFlight().setEnabled(true);
+		assertTrue(properties.isAnyCacheInvocationFeature());
+		properties.getSingleFlight().setEnabled(false);
+		BipRedisCacheProperties.RedisExpires expires = new BipRedisCacheProperties.RedisExpires();
+		expires.setName("testCache");
+		expires.setTtl(600L);
+		expires.setSoftTtl(60L);
+		properties.setExpires(Collections.singletonList(expires));
+		assertTrue(properties.isAnyCacheInvocationFeature());
+		properties.getSingleFlight().setEnabled(true);
+		BipCacheRefresher refresher = new BipCacheRefresher(1, 1);
+
+		try {
+			BipRedisCacheManager cacheManager = new BipRedisCacheManager(mock(RedisCacheWriter.class),
+					RedisCacheConfiguration.defaultCacheConfig(), Collections.emptyMap(), properties);
+			cacheManager.setFeatures(new CacheFeatures(null, null, null, refresher, null));
+			Cache cache = cacheManager.getCache("testCache");
+			assertTrue(cache instanceof BipSingleFlightCache);
+			assertTrue(((BipSingleFlightCache) cache).getTargetCache() instanceof BipRefreshAheadCache);
+			assertTrue(BipRedisCacheManager.unwrap(cache) instanceof RedisCache);
+
+			// no soft TTL - no refresh
+			Cache otherCache = cacheManager.getCache("otherCache");
+			assertTrue(((BipSingleFlightCache) otherCache).getTargetCache() instanceof RedisCache);
+		} finally {
+			refresher.shutdown();
+		}
+	}
+
+	@Test
+	public void testReadFromReplica() {
+		BipRedisCacheProperties properties = new BipRedisCacheProperties();
+		BipRedisCacheProperties.RedisExpires expires = new BipRedisCacheProperties.RedisExpires();
+		expires.setName("replicaCache");
+		expires.setTtl(600L);
+		expires.setReadFromReplica(true);
+		properties.setExpires(Collections.singletonList(expires));
+		assertTrue(properties.isAnyReadFromReplica());
+
+		RedisCacheWriter primary = mock(RedisCacheWriter.class);
+		RedisCacheWriter replica = mock(RedisCacheWriter.class);
+
+		BipRedisCacheManager cacheManager = new BipRedisCacheManager(primary,
+				RedisCacheConfiguration.defaultCacheConfig(), Collections.emptyMap(), properties);
+		cacheManager.setFeatures(new CacheFeatures(null, null, null, null,
+				new BipReplicaReadCacheWriter(primary, Arrays.asList(replica), Collections.emptyList())));
+
+		Cache replicaCache = cacheManager.getCache("replicaCache");
+		assertTrue(((RedisCache) replicaCache).getNativeCache() instanceof BipReplicaReadCacheWriter);
+		replicaCache.get("key");
+		verify(replica).get("replicaCache", "replicaCache::key".getBytes());
+
+		// caches without readFromReplica read from the primary
+		Cache otherCache = cacheManager.getCache("otherCache");
+		assertTrue(((RedisCache) otherCache).getNativeCache() == primary);
+
+		cacheManager.destroy();
+	}
+
+	@Test
+	public void testReconfigure() {
+		Map<String, RedisCacheConfiguration> configurations = new HashMap<>();
+		configurations.put("configuredCache", RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofSeconds(60)));
+		BipRedisCacheManager cacheManager = new BipRedisCacheManager(mock(RedisCacheWriter.class),
+				RedisCacheConfiguration.defaultCacheConfig(), configurations, new BipRedisCacheProperties());
+		cacheManager.afterPropertiesSet();
+
+		Cache configuredCache = cacheManager.getCache("configuredCache");
+		Cache dynamicCache = cacheManager.getCache("dynamicCache");
+		assertSame(configuredCache, cacheManager.getCache("configuredCache"));
+		assertEquals(2, cacheManager.getCacheNames().size());
+
+		Map<String, RedisCacheConfiguration> reconfigured = new HashMap<>();
+		reconfigured.put("configuredCache", RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofSeconds(120)));
+		reconfigured.put("addedCache", RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofSeconds(30)));
+		cacheManager.reconfigure(RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofSeconds(10)), reconfigured);
+
+		assertEquals(3, cacheManager.getCacheNames().size());
+		Cache rebuiltCache = cacheManager.getCache("configuredCache");
+		assertNotSame(configuredCache, rebuiltCache);
+		assertEquals(Duration.ofSeconds(120), ((RedisCache) rebuiltCache).getCacheConfiguration().getTtl());
+		// caches created on demand are rebuilt with the new default configuration
+		Cache rebuiltDynamicCache = cacheManager.getCache("dynamicCache");
+		assertNotSame(dynamicCache, rebuiltDynamicCache);
+		assertEquals(Duration.ofSeconds(10), ((RedisCache) rebuiltDynamicCache).getCacheConfiguration().getTtl());
+		assertEquals(Duration.ofSeconds(30), ((RedisCache) cacheManager.getCache("addedCache")).getCacheConfiguration().getTtl());
+	}
+
+	@Test
+	public void testReconfigureFeatures() {
+		BipRedisCacheProperties properties = new BipRedisCacheProperties();
+		BipRedisCacheProperties.RedisExpires expires = new BipRedisCacheProperties.RedisExpires();
+		expires.setName("replicaCache");
+		expires.setTtl(600L);
+		expires.setReadFromReplica(true);
+		properties.setExpires(Collections.singletonList(expires));
+		properties.setConnectionDrainMillis(500L);
+
+		RedisCacheWriter primary = mock(RedisCacheWriter.class);
+		BipReplicaReadCacheWriter previousWriter =
+				spy(new BipReplicaReadCacheWriter(primary, Arrays.asList(mock(RedisCacheWriter.class)), Collections.emptyList()));
+		BipRedisCacheManager cacheManager = new BipRedisCacheManager(primary,
+				RedisCacheConfiguration.defaultCacheConfig(), Collections.emptyMap(), properties);
+		cacheManager.setFeatures(new CacheFeatures(null, null, null, null, previousWriter));
+		Cache previousCache = cacheManager.getCache("replicaCache");
+		assertSame(previousWriter, ((RedisCache) previousCache).getNativeCache());
+
+		BipCacheStatisticsRegistry statisticsRegistry = new BipCacheStatisticsRegistry(null);
+		BipReplicaReadCacheWriter writer =
+				new BipReplicaReadCacheWriter(primary, Arrays.asList(mock(RedisCacheWriter.class)), Collections.emptyList());
+		CacheFeatures features = new CacheFeatures(null, statisticsRegistry, null, null, writer);
+		cacheManager.reconfigure(features, RedisCacheConfiguration.defaultCacheConfig(), Collections.emptyMap());
+
+		// the rebuilt cache has all of the new features
+		assertSame(features, cacheManager.getFeatures());
+		Cache cache = cacheManager.getCache("replicaCache");
+		assertTrue(cache instanceof BipStatisticsCache);
+		assertSame(writer, BipRedisCacheManager.unwrap(cache).getNativeCache());
+
+		// the previous writer keeps serving in-flight reads until it is drained
+		assertEquals(1, cacheManager.getDrainingCount());
+		verify(previousWriter, never()).destroy();
+		previousCache.get("key");
+		verify(previousWriter, timeout(5000)).destroy();
+		assertEquals(0, cacheManager.getDrainingCount());
+
+		cacheManager.destroy();
+	}
+}
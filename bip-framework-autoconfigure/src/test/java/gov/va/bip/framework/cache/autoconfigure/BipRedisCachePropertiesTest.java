@@ -32,4 +32,22 @@ public class BipRedisCachePropertiesTest {
 		assertTrue(Long.valueOf(86400L).equals(bipRedisCacheProperties.getExpires().get(0).getTtl()));
 		assertEquals(new Long(500L), bipRedisCacheProperties.getDefaultExpires());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testTtlByCacheName() {
+		BipRedisCacheProperties bipRedisCacheProperties = new BipRedisCacheProperties();
+		BipRedisCacheProperties.RedisExpires redisExpires = new BipRedisCacheProperties.RedisExpires();
+		redisExpires.setName("testCache");
+		redisExpires.setTtl(60L);
+		redisExpires.setNearCacheMaxEntries(10);
+		List<BipRedisCacheProperties.RedisExpires> listRedisExpires = new ArrayList<>();
+		listRedisExpires.add(redisExpires);
+		bipRedisCacheProperties.setExpires(listRedisExpires);
+
+		assertEquals(Long.valueOf(60L), bipRedisCacheProperties.getTtl("testCache"));
+		assertEquals(Long.valueOf(86400L), bipRedisCacheProperties.getTtl("otherCache"));
+		assertEquals(Integer.valueOf(10), bipRedisCacheProperties.getRedisExpires("testCache").getNearCacheMaxEntries());
+		assertNull(bipRedisCacheProperties.getRedisExpires("otherCache"));
+		assertTrue(!bipRedisCacheProperties.getNearCache().isEnabled());
+	}
+}
@@ -0,0 +1,90 @@
+package gov.va.bip.framework.cache.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+
+public class BipRefreshableRedisConnectionFactoryTest {
+
+	private JedisConnectionFactory initial;
+	private JedisConnectionFactory replacement;
+	private RedisConnection replacementConnection;
+	private BipRefreshableRedisConnectionFactory factory;
+
+	@Before
+	public void setUp() {
+		initial = mock(JedisConnectionFactory.class);
+		replacement = mock(JedisConnectionFactory.class);
+		replacementConnection = mock(RedisConnection.class);
+		when(replacement.getConnection()).thenReturn(replacementConnection);
+		factory = new BipRefreshableRedisConnectionFactory(initial);
+		factory.afterPropertiesSet();
+		verify(initial).afterPropertiesSet();
+	}
+
+	@Test
+	public void testDelegatesToCurrent() {
+		RedisConnection connection = mock(RedisConnection.class);
+		when(initial.getConnection()).thenReturn(connection);
+		assertSame(connection, factory.getConnection());
+
+		factory.swap(replacement, 0);
+		assertSame(replacement, factory.getCurrent());
+		assertSame(replacementConnection, factory.getConnection());
+	}
+
+	@Test
+	public void testSwapWarmsReplacement() {
+		GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+		poolConfig.setMinIdle(3);
+		when(replacement.getUsePool()).thenReturn(true);
+		when(replacement.getPoolConfig()).thenReturn(poolConfig);
+
+		assertSame(initial, factory.swap(replacement, 0));
+		verify(replacement, times(3)).getConnection();
+		verify(replacementConnection, times(3)).ping();
+		verify(replacementConnection, times(3)).close();
+	}
+
+	@Test
+	public void testSwapWhenReplacementCannotBeWarmed() {
+		when(replacement.getConnection()).thenThrow(new RedisConnectionFailureException("no server"));
+		assertFalse(BipRefreshableRedisConnectionFactory.warm(replacement));
+
+		factory.swap(replacement, 0);
+		assertSame(replacement, factory.getCurrent());
+	}
+
+	@Test
+	public void testPreviousFactoryIsDrained() {
+		factory.swap(replacement, 60000);
+		assertEquals(1, factory.getDrainingCount());
+		verify(initial, never()).destroy();
+
+		factory.destroy();
+		verify(initial).destroy();
+		verify(replacement).destroy();
+		assertEquals(0, factory.getDrainingCount());
+	}
+
+	@Test
+	public void testPreviousFactoryIsDestroyedAfterGracePeriod() {
+		factory.swap(replacement, 10);
+		verify(initial, timeout(5000)).destroy();
+		assertSame(replacement, factory.getCurrent());
+		factory.destroy();
+	}
+}
@@ -1,5 +1,6 @@
 package gov.va.bip.framework.cache.autoconfigure.jmx;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -32,6 +33,7 @@ import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import gov.va.bip.framework.cache.autoconfigure.stats.BipCacheStatisticsRegistry;
 import redis.clients.jedis.JedisPoolConfig;
 
 @RunWith(SpringRunner.class)
@@ -207,4 +209,27 @@ public class BipCacheOpsImplTest {
 
 	}
 
+	@Test
+	public void testCacheStatistics() {
+		assertEquals(0, bipCacheOpsImpl.getCacheHits());
+		assertEquals(0, bipCacheOpsImpl.getCacheStatistics().length);
+
+		BipCacheStatisticsRegistry statisticsRegistry = new BipCacheStatisticsRegistry(null);
+		statisticsRegistry.statisticsFor("cacheName1").recordGet(true, 1000L);
+		statisticsRegistry.statisticsFor("cacheName1").recordGet(false, 1000L);
+		statisticsRegistry.statisticsFor("cacheName2").recordGet(true, 1000L);
+		ReflectionTestUtils.setField(bipCacheOpsImpl, "statisticsRegistry", statisticsRegistry);
+
+		assertEquals(2, bipCacheOpsImpl.getCacheHits());
+		assertEquals(1, bipCacheOpsImpl.getCacheMisses());
+		assertEquals(2.0 / 3, bipCacheOpsImpl.getCacheHitRatio(), 0.0001);
+		assertEquals(2, bipCacheOpsImpl.getCacheStatistics().length);
+		assertTrue(bipCacheOpsImpl.getCacheStatistics()[0].startsWith("cacheName1 [hits=1;misses=1"));
+
+		bipCacheOpsImpl.resetCacheStatistics();
+		assertEquals(0, bipCacheOpsImpl.getCacheHits());
+		assertEquals(0, bipCacheOpsImpl.getCacheHitRatio(), 0);
+		// the totals published as meters are not reset
+		assertEquals(1, statisticsRegistry.statisticsFor("cacheName2").getTotalHits());
+	}
 }
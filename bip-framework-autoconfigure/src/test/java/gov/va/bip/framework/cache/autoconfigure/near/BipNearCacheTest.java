@@ -0,0 +1,200 @@
+package gov.va.bip.framework.cache.autoconfigure.near;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import gov.va.bip.framework.cache.autoconfigure.serializer.CacheValueSerializer;
+
+public class BipNearCacheTest {
+
+	private static final String CACHE_NAME = "testCache";
+	private static final String CHANNEL = "testChannel";
+	private static final SerializationPair<Object> JDK = SerializationPair.fromSerializer(CacheValueSerializer.JDK.create());
+
+	private ConcurrentMapCache target;
+	private RedisConnection connection;
+	private NearCacheInvalidator invalidator;
+	private BipNearCache nearCache;
+
+	@Before
+	public void setUp() {
+		target = new ConcurrentMapCache(CACHE_NAME);
+		connection = mock(RedisConnection.class);
+		RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+		when(connectionFactory.getConnection()).thenReturn(connection);
+		invalidator = new NearCacheInvalidator(connectionFactory, CHANNEL);
+		nearCache = invalidator.register(new BipNearCache(target, 2, 60, invalidator, JDK));
+	}
+
+	@Test
+	public void testGetIsServedLocally() {
+		target.put("key", "value");
+		assertEquals("value", nearCache.get("key").get());
+		assertEquals(1, nearCache.getLocalSize());
+
+		// change behind the near cache's back - local copy is still served
+		target.put("key", "changed");
+		assertEquals("value", nearCache.get("key", String.class));
+		assertSame(target, nearCache.getTargetCache());
+		assertEquals(CACHE_NAME, nearCache.getName());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testChangesByOneCallerAreNotSeenByTheNext() {
+		List<String> value = new ArrayList<>();
+		value.add("first");
+		nearCache.put("key", value);
+		// the caller changes the value it put
+		value.add("changed after put");
+
+		List<String> read = (List<String>) nearCache.get("key").get();
+		assertEquals(1, read.size());
+		// and a caller changes the value it was given
+		read.add("changed after get");
+
+		List<String> next = nearCache.get("key", List.class);
+		assertNotSame(read, next);
+		assertEquals(1, next.size());
+		assertEquals(1, nearCache.get("key", () -> new ArrayList<String>()).size());
+	}
+
+	@Test
+	public void testNullValuesHeldLocally() {
+		target.put("key", null);
+		assertNull(nearCache.get("key").get());
+		assertEquals(1, nearCache.getLocalSize());
+		assertNull(nearCache.get("key").get());
+	}
+
+	@Test
+	public void testInvalidationDuringReadIsNotUndone() {
+		// the value is invalidated by another instance while it is read from the target cache
+		ConcurrentMapCache invalidated = new ConcurrentMapCache(CACHE_NAME) {
+			@Override
+			public ValueWrapper get(final Object key) {
+				final ValueWrapper value = super.get(key);
+				invalidator.onMessage(message("other\nE\n" + CACHE_NAME + "\n" + key), null);
+				return value;
+			}
+		};
+		nearCache = invalidator.register(new BipNearCache(invalidated, 2, 60, invalidator, JDK));
+		invalidated.put("key", "stale");
+
+		assertEquals("stale", nearCache.get("key").get());
+		assertEquals(0, nearCache.getLocalSize());
+
+		// without an invalidation the value is held locally
+		nearCache = invalidator.register(new BipNearCache(target, 2, 60, invalidator, JDK));
+		target.put("key", "value");
+		assertEquals("value", nearCache.get("key").get());
+		assertEquals(1, nearCache.getLocalSize());
+	}
+
+	@Test
+	public void testPutEvictClearPublish() {
+		nearCache.put("key", "value");
+		assertEquals("value", target.get("key").get());
+		assertEquals("value", nearCache.get("key").get());
+
+		nearCache.evict("key");
+		assertNull(target.get("key"));
+		assertNull(nearCache.get("key"));
+
+		nearCache.put("key", "value");
+		nearCache.clear();
+		assertNull(nearCache.get("key"));
+		assertEquals(0, nearCache.getLocalSize());
+
+		// put, evict, put, clear
+		verify(connection, times(4)).publish(any(byte[].class), any(byte[].class));
+	}
+
+	@Test
+	public void testLoaderValueHeldLocally() {
+		assertEquals("loaded", nearCache.get("key", () -> "loaded"));
+		target.clear();
+		assertEquals("loaded", nearCache.get("key", () -> "reloaded"));
+	}
+
+	@Test
+	public void testLocalSizeIsBounded() {
+		nearCache.put("key1", "value1");
+		nearCache.put("key2", "value2");
+		nearCache.put("key3", "value3");
+		assertTrue(nearCache.getLocalSize() <= 2);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testGetWrongType() {
+		nearCache.put("key", "value");
+		nearCache.get("key", Integer.class);
+	}
+
+	@Test
+	public void testRemoteMessages() {
+		nearCache.put("key1", "value1");
+		nearCache.put("key2", "value2");
+		target.put("key1", "changed");
+
+		invalidator.onMessage(message("other\nE\n" + CACHE_NAME + "\nkey1"), null);
+		assertEquals("changed", nearCache.get("key1").get());
+		assertEquals(2, nearCache.getLocalSize());
+
+		invalidator.onMessage(message("other\nC\n" + CACHE_NAME), null);
+		assertEquals(0, nearCache.getLocalSize());
+
+		// unknown caches and malformed messages are ignored
+		invalidator.onMessage(message("other\nC\nunknownCache"), null);
+		invalidator.onMessage(message("malformed"), null);
+	}
+
+	@Test
+	public void testOwnMessagesIgnored() {
+		nearCache.put("key", "value");
+
+		ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+		verify(connection).publish(any(byte[].class), body.capture());
+		invalidator.onMessage(message(new String(body.getValue(), StandardCharsets.UTF_8)), null);
+		assertEquals(1, nearCache.getLocalSize());
+	}
+
+	@Test
+	public void testPublishFailureIsLogged() {
+		RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+		when(connectionFactory.getConnection()).thenThrow(new IllegalStateException("no redis"));
+		NearCacheInvalidator failing = new NearCacheInvalidator(connectionFactory, CHANNEL);
+		BipNearCache cache = new BipNearCache(target, 10, 60, failing, JDK);
+		cache.put("key", "value");
+		assertEquals("value", cache.get("key").get());
+		verify(connection, never()).publish(any(byte[].class), any(byte[].class));
+	}
+
+	private static Message message(final String body) {
+		Message message = mock(Message.class);
+		when(message.getBody()).thenReturn(body.getBytes(StandardCharsets.UTF_8));
+		return message;
+	}
+}
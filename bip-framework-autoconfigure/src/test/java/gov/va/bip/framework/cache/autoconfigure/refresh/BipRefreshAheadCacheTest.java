@@ -0,0 +1,116 @@
+package gov.va.bip.framework.cache.autoconfigure.refresh;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+public class BipRefreshAheadCacheTest {
+
+	private static final String CACHE_NAME = "testCache";
+
+	private ConcurrentMapCache target;
+	private BipCacheRefresher refresher;
+	private BipRefreshAheadCache cache;
+
+	@Before
+	public void setUp() {
+		target = new ConcurrentMapCache(CACHE_NAME);
+		refresher = new BipCacheRefresher(1, 10);
+		cache = new BipRefreshAheadCache(target, 60, 0, refresher);
+	}
+
+	@After
+	public void tearDown() {
+		refresher.shutdown();
+	}
+
+	@Test
+	public void testPutStoresSoftTtlValue() {
+		cache.put("key", "value");
+		assertTrue(target.get("key").get() instanceof SoftTtlValue);
+		assertEquals("value", cache.get("key").get());
+		assertEquals("value", cache.get("key", String.class));
+		assertSame(target, cache.getTargetCache());
+		assertEquals(CACHE_NAME, cache.getName());
+
+		assertEquals("value", cache.putIfAbsent("key", "other").get());
+		cache.evict("key");
+		assertNull(cache.get("key"));
+	}
+
+	@Test
+	public void testPlainValuesPassThrough() {
+		target.put("key", "plain");
+		assertEquals("plain", cache.get("key").get());
+		cache.put("nullKey", null);
+		assertNull(cache.get("nullKey").get());
+	}
+
+	@Test
+	public void testFreshValueIsNotRefreshed() {
+		final AtomicInteger loads = new AtomicInteger();
+		assertEquals("value1", cache.get("key", () -> "value" + loads.incrementAndGet()));
+		assertEquals("value1", cache.get("key", () -> "value" + loads.incrementAndGet()));
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void testStaleValueIsServedAndRefreshed() throws Exception {
+		final long stale = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(120);
+		target.put("key", new SoftTtlValue("old", stale, 5));
+
+		final CountDownLatch refreshed = new CountDownLatch(1);
+		final AtomicInteger loads = new AtomicInteger();
+		assertEquals("old", cache.get("key", () -> {
+			loads.incrementAndGet();
+			refreshed.countDown();
+			return "new";
+		}));
+
+		assertTrue(refreshed.await(1, TimeUnit.SECONDS));
+		for (int i = 0; i < 50 && cache.getRefreshingCount() > 0; i++) {
+			Thread.sleep(10);
+		}
+		assertEquals("new", cache.get("key").get());
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void testFailedRefreshKeepsValue() throws Exception {
+		final long stale = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(120);
+		target.put("key", new SoftTtlValue("old", stale, 5));
+
+		assertEquals("old", cache.get("key", () -> {
+			throw new IllegalStateException("partner down");
+		}));
+		for (int i = 0; i < 50 && cache.getRefreshingCount() > 0; i++) {
+			Thread.sleep(10);
+		}
+		assertEquals(0, cache.getRefreshingCount());
+		assertEquals("old", cache.get("key").get());
+	}
+
+	@Test
+	public void testIsRefreshDue() {
+		final long now = System.currentTimeMillis();
+		assertFalse(cache.isRefreshDue(new SoftTtlValue("v", now, 1000)));
+		assertTrue(cache.isRefreshDue(new SoftTtlValue("v", now - TimeUnit.SECONDS.toMillis(61), 0)));
+
+		// early refresh: a value computed in 10s, written 59s ago, is almost always due with a large beta
+		final BipRefreshAheadCache early = new BipRefreshAheadCache(target, 60, 1000, refresher);
+		assertTrue(early.isRefreshDue(new SoftTtlValue("v", now - TimeUnit.SECONDS.toMillis(59), 10000)));
+		// unknown compute time - never early
+		assertFalse(early.isRefreshDue(new SoftTtlValue("v", now - TimeUnit.SECONDS.toMillis(59), 0)));
+	}
+}
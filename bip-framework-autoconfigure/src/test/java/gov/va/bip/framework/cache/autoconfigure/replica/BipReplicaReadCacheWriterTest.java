@@ -0,0 +1,92 @@
+package gov.va.bip.framework.cache.autoconfigure.replica;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+
+import gov.va.bip.framework.exception.BipValidationRuntimeException;
+
+public class BipReplicaReadCacheWriterTest {
+
+	private static final String CACHE_NAME = "testCache";
+	private static final byte[] KEY = "key".getBytes();
+	private static final byte[] VALUE = "value".getBytes();
+
+	private RedisCacheWriter primary;
+	private RedisCacheWriter replicaOne;
+	private RedisCacheWriter replicaTwo;
+	private BipReplicaReadCacheWriter writer;
+
+	@Before
+	public void setUp() {
+		primary = mock(RedisCacheWriter.class);
+		replicaOne = mock(RedisCacheWriter.class);
+		replicaTwo = mock(RedisCacheWriter.class);
+		writer = new BipReplicaReadCacheWriter(primary, Arrays.asList(replicaOne, replicaTwo), Collections.emptyList());
+	}
+
+	@Test
+	public void testReadsRoundRobin() {
+		when(replicaOne.get(CACHE_NAME, KEY)).thenReturn(VALUE);
+		when(replicaTwo.get(CACHE_NAME, KEY)).thenReturn(VALUE);
+
+		assertEquals(2, writer.getReplicaCount());
+		assertArrayEquals(VALUE, writer.get(CACHE_NAME, KEY));
+		assertArrayEquals(VALUE, writer.get(CACHE_NAME, KEY));
+		verify(replicaOne).get(CACHE_NAME, KEY);
+		verify(replicaTwo).get(CACHE_NAME, KEY);
+		verify(primary, never()).get(CACHE_NAME, KEY);
+	}
+
+	@Test
+	public void testFailedReadFallsBackToPrimary() {
+		when(replicaOne.get(CACHE_NAME, KEY)).thenThrow(new RedisConnectionFailureException("replica down"));
+		when(primary.get(CACHE_NAME, KEY)).thenReturn(VALUE);
+
+		assertArrayEquals(VALUE, writer.get(CACHE_NAME, KEY));
+		verify(primary).get(CACHE_NAME, KEY);
+	}
+
+	@Test
+	public void testWritesGoToPrimary() {
+		writer.put(CACHE_NAME, KEY, VALUE, Duration.ofSeconds(60));
+		writer.putIfAbsent(CACHE_NAME, KEY, VALUE, Duration.ofSeconds(60));
+		writer.remove(CACHE_NAME, KEY);
+		writer.clean(CACHE_NAME, KEY);
+
+		verify(primary).put(CACHE_NAME, KEY, VALUE, Duration.ofSeconds(60));
+		verify(primary).putIfAbsent(CACHE_NAME, KEY, VALUE, Duration.ofSeconds(60));
+		verify(primary).remove(CACHE_NAME, KEY);
+		verify(primary).clean(CACHE_NAME, KEY);
+		verify(replicaOne, never()).put(CACHE_NAME, KEY, VALUE, Duration.ofSeconds(60));
+		verify(replicaTwo, never()).remove(CACHE_NAME, KEY);
+	}
+
+	@Test
+	public void testDestroyDestroysFactories() {
+		JedisConnectionFactory factory = mock(JedisConnectionFactory.class);
+		writer = BipReplicaReadCacheWriter.forConnectionFactories(primary, Collections.singletonList(factory));
+		assertEquals(1, writer.getReplicaCount());
+
+		writer.destroy();
+		verify(factory).destroy();
+	}
+
+	@Test(expected = BipValidationRuntimeException.class)
+	public void testNoReplicas() {
+		new BipReplicaReadCacheWriter(primary, Collections.emptyList(), Collections.emptyList());
+	}
+}
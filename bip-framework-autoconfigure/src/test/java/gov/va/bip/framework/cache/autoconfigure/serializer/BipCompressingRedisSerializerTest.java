@@ -0,0 +1,140 @@
+package gov.va.bip.framework.cache.autoconfigure.serializer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import gov.va.bip.framework.cache.autoconfigure.refresh.SoftTtlValue;
+import gov.va.bip.framework.exception.BipValidationRuntimeException;
+
+public class BipCompressingRedisSerializerTest {
+
+	private static final int THRESHOLD = 256;
+
+	private static ArrayList<String> largeValue() {
+		ArrayList<String> value = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			value.add("partner response line " + i);
+		}
+		return value;
+	}
+
+	@Test
+	public void testSmallValuesAreNotCompressed() {
+		RedisSerializer<Object> jdk = CacheValueSerializer.JDK.create();
+		BipCompressingRedisSerializer serializer = new BipCompressingRedisSerializer(jdk, THRESHOLD);
+
+		byte[] bytes = serializer.serialize("small");
+		assertArrayEquals(jdk.serialize("small"), bytes);
+		assertFalse(BipCompressingRedisSerializer.isCompressed(bytes));
+		assertEquals("small", serializer.deserialize(bytes));
+	}
+
+	@Test
+	public void testLargeValuesAreCompressed() {
+		RedisSerializer<Object> jdk = CacheValueSerializer.JDK.create();
+		BipCompressingRedisSerializer serializer = new BipCompressingRedisSerializer(jdk, THRESHOLD);
+		ArrayList<String> value = largeValue();
+
+		byte[] bytes = serializer.serialize(value);
+		assertTrue(BipCompressingRedisSerializer.isCompressed(bytes));
+		assertTrue(bytes.length < jdk.serialize(value).length / 2);
+		assertEquals(value, serializer.deserialize(bytes));
+	}
+
+	@Test
+	public void testUncompressedValuesAreRead() {
+		RedisSerializer<Object> jdk = CacheValueSerializer.JDK.create();
+		BipCompressingRedisSerializer serializer = new BipCompressingRedisSerializer(jdk, THRESHOLD);
+		ArrayList<String> value = largeValue();
+
+		// written before compression was enabled
+		assertEquals(value, serializer.deserialize(jdk.serialize(value)));
+		assertNull(serializer.deserialize(null));
+	}
+
+	@Test
+	public void testDelegateGzipValuesAreNotDecompressed() throws IOException {
+		// a delegate that writes gzip data of its own
+		BipCompressingRedisSerializer serializer = new BipCompressingRedisSerializer(new BytesSerializer(), THRESHOLD);
+		byte[] gzipped = gzip(new byte[] { 1, 2, 3 });
+
+		byte[] bytes = serializer.serialize(gzipped);
+		assertArrayEquals(gzipped, bytes);
+		assertFalse(BipCompressingRedisSerializer.isCompressed(bytes));
+		assertArrayEquals(gzipped, (byte[]) serializer.deserialize(bytes));
+	}
+
+	@Test
+	public void testDelegateValuesThatLookCompressedAreCompressed() {
+		BipCompressingRedisSerializer serializer = new BipCompressingRedisSerializer(new BytesSerializer(), THRESHOLD);
+		byte[] compressed = serializer.serialize(new byte[THRESHOLD]);
+		assertTrue(BipCompressingRedisSerializer.isCompressed(compressed));
+		assertEquals(BipCompressingRedisSerializer.FORMAT_VERSION, compressed[3]);
+
+		// a small value of the delegate that starts like a compressed value is compressed too
+		byte[] bytes = serializer.serialize(compressed);
+		assertTrue(BipCompressingRedisSerializer.isCompressed(bytes));
+		assertArrayEquals(compressed, (byte[]) serializer.deserialize(bytes));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testJsonSerializerWithCompression() {
+		BipCompressingRedisSerializer serializer = new BipCompressingRedisSerializer(CacheValueSerializer.JSON.create(), THRESHOLD);
+		SoftTtlValue value = new SoftTtlValue(largeValue(), 1000L, 20L);
+
+		byte[] bytes = serializer.serialize(value);
+		assertTrue(BipCompressingRedisSerializer.isCompressed(bytes));
+		SoftTtlValue read = (SoftTtlValue) serializer.deserialize(bytes);
+		assertEquals(1000L, read.getWrittenAt());
+		assertEquals(20L, read.getComputeMillis());
+		assertEquals(largeValue(), new ArrayList<>((List<String>) read.getValue()));
+	}
+
+	@Test(expected = BipValidationRuntimeException.class)
+	public void testThresholdMustBePositive() {
+		new BipCompressingRedisSerializer(CacheValueSerializer.JDK.create(), 0);
+	}
+
+	@Test
+	public void testFromName() {
+		assertEquals(CacheValueSerializer.JDK, CacheValueSerializer.fromName("jdk"));
+		assertEquals(CacheValueSerializer.JSON, CacheValueSerializer.fromName(" JSON "));
+		assertNull(CacheValueSerializer.fromName("mySerializerBean"));
+		assertNull(CacheValueSerializer.fromName(null));
+	}
+
+	private static byte[] gzip(final byte[] bytes) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(bytes);
+		}
+		return out.toByteArray();
+	}
+
+	/** Serializes byte arrays as they are */
+	private static class BytesSerializer implements RedisSerializer<Object> {
+
+		@Override
+		public byte[] serialize(final Object value) {
+			return (byte[]) value;
+		}
+
+		@Override
+		public Object deserialize(final byte[] bytes) {
+			return bytes;
+		}
+	}
+}
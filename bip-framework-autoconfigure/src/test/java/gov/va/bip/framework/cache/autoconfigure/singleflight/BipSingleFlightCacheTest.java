@@ -0,0 +1,205 @@
+package gov.va.bip.framework.cache.autoconfigure.singleflight;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import gov.va.bip.framework.cache.interceptor.BipCacheInvocationTestSupport;
+
+public class BipSingleFlightCacheTest {
+
+	private static final String CACHE_NAME = "testCache";
+
+	private ConcurrentMapCache target;
+	private BipSingleFlightCache cache;
+
+	@Before
+	public void setUp() {
+		target = new ConcurrentMapCache(CACHE_NAME);
+		cache = new BipSingleFlightCache(target, 2000, null);
+		// misses on the test thread are made by a cached method
+		BipCacheInvocationTestSupport.begin();
+	}
+
+	@After
+	public void tearDown() {
+		BipCacheInvocationTestSupport.end();
+	}
+
+	@Test
+	public void testHitDoesNotStartFlight() {
+		target.put("key", "value");
+		assertEquals("value", cache.get("key").get());
+		assertEquals("value", cache.get("key", String.class));
+		assertEquals(0, cache.getFlightCount());
+		assertSame(target, cache.getTargetCache());
+		assertEquals(CACHE_NAME, cache.getName());
+		assertSame(target.getNativeCache(), cache.getNativeCache());
+	}
+
+	@Test
+	public void testFollowerWaitsForLeaderPut() throws Exception {
+		// leader misses
+		assertNull(cache.get("key"));
+		assertEquals(1, cache.getFlightCount());
+
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final Future<Cache.ValueWrapper> follower = executor.submit(() -> cache.get("key"));
+			Thread.sleep(100);
+			assertTrue(!follower.isDone());
+
+			cache.put("key", "value");
+			assertEquals("value", follower.get(1, TimeUnit.SECONDS).get());
+			assertEquals(0, cache.getFlightCount());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testInvocationCompletesFlight() {
+		assertNull(cache.get("key"));
+		assertEquals(1, cache.getFlightCount());
+
+		// the cached method returned without a value to put
+		BipCacheInvocationTestSupport.end();
+		assertEquals(0, cache.getFlightCount());
+		BipCacheInvocationTestSupport.begin();
+	}
+
+	@Test
+	public void testMissWithoutInvocationDoesNotStartFlight() throws Exception {
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			// no cache invocation, and no value loader, to complete a load
+			assertNull(executor.submit(() -> cache.get("key")).get(1, TimeUnit.SECONDS));
+			assertEquals(0, cache.getFlightCount());
+
+			// so the next caller is not made to wait for the 2 second timeout
+			assertNull(executor.submit(() -> cache.get("key")).get(1, TimeUnit.SECONDS));
+			assertEquals(0, cache.getFlightCount());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testEvictAndClearCompleteFlights() {
+		assertNull(cache.get("key1"));
+		assertNull(cache.get("key2"));
+		assertEquals(2, cache.getFlightCount());
+
+		cache.evict("key1");
+		assertEquals(1, cache.getFlightCount());
+		cache.clear();
+		assertEquals(0, cache.getFlightCount());
+	}
+
+	@Test
+	public void testAbandonedFlightIsTakenOver() {
+		cache = new BipSingleFlightCache(target, 50, null);
+		assertNull(cache.get("key"));
+
+		// the leader never puts - a follower gives up after the timeout
+		final long start = System.nanoTime();
+		assertNull(cache.get("key"));
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(40));
+		assertEquals(1, cache.getFlightCount());
+	}
+
+	@Test
+	public void testGetWithLoaderLoadsOnce() throws Exception {
+		final AtomicInteger loads = new AtomicInteger();
+		final CountDownLatch loading = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final Future<String> leader = executor.submit(() -> cache.get("key", () -> {
+				loads.incrementAndGet();
+				loading.countDown();
+				release.await(1, TimeUnit.SECONDS);
+				return "value";
+			}));
+			assertTrue(loading.await(1, TimeUnit.SECONDS));
+
+			final Future<String> follower1 = executor.submit(() -> cache.get("key", () -> "other" + loads.incrementAndGet()));
+			final Future<String> follower2 = executor.submit(() -> cache.get("key", () -> "other" + loads.incrementAndGet()));
+			Thread.sleep(100);
+			release.countDown();
+
+			assertEquals("value", leader.get(1, TimeUnit.SECONDS));
+			assertEquals("value", follower1.get(1, TimeUnit.SECONDS));
+			assertEquals("value", follower2.get(1, TimeUnit.SECONDS));
+			assertEquals(1, loads.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(expected = Cache.ValueRetrievalException.class)
+	public void testGetWithFailingLoader() {
+		try {
+			cache.get("key", () -> {
+				throw new IllegalStateException("failed");
+			});
+		} finally {
+			assertEquals(0, cache.getFlightCount());
+		}
+	}
+
+	@Test
+	public void testLoadLockAcquiredAndReleased() {
+		final RedisLoadLock loadLock = mock(RedisLoadLock.class);
+		when(loadLock.tryAcquire(CACHE_NAME, "key")).thenReturn("token");
+		cache = new BipSingleFlightCache(target, 2000, loadLock);
+
+		assertNull(cache.get("key"));
+		cache.put("key", "value");
+		verify(loadLock).release(CACHE_NAME, "key", "token");
+	}
+
+	@Test
+	public void testLoadLockHeldElsewhere() {
+		final RedisLoadLock loadLock = mock(RedisLoadLock.class);
+		when(loadLock.tryAcquire(anyString(), any())).thenReturn(null);
+		when(loadLock.getLeaseMillis()).thenReturn(1000L);
+		cache = new BipSingleFlightCache(target, 2000, loadLock);
+
+		// another instance loads the value while this one polls
+		final Thread loader = new Thread(() -> {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			target.put("key", "value");
+		});
+		loader.start();
+
+		assertEquals("value", cache.get("key").get());
+		assertEquals(0, cache.getFlightCount());
+		verify(loadLock).tryAcquire(eq(CACHE_NAME), eq("key"));
+	}
+}
@@ -0,0 +1,83 @@
+package gov.va.bip.framework.cache.autoconfigure.stats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BipCacheStatisticsRegistryTest {
+
+	@Test
+	public void testStatisticsAndMeters() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		BipCacheStatisticsRegistry registry = new BipCacheStatisticsRegistry(meterRegistry);
+		ConcurrentMapCache target = new ConcurrentMapCache("testCache");
+		Cache cache = registry.decorate(target);
+
+		assertNull(cache.get("key"));
+		cache.put("key", "value");
+		assertEquals("value", cache.get("key").get());
+		assertEquals("value", cache.get("key", String.class));
+		assertEquals("loaded", cache.get("other", () -> "loaded"));
+		assertEquals("loaded", cache.get("other", () -> "reloaded"));
+		cache.evict("key");
+		cache.clear();
+
+		BipCacheStatistics stats = registry.statisticsFor("testCache");
+		assertSame(stats, ((BipStatisticsCache) cache).getStatistics());
+		assertSame(target, ((BipStatisticsCache) cache).getTargetCache());
+		assertEquals(3, stats.getHits());
+		assertEquals(2, stats.getMisses());
+		assertEquals(1, stats.getPuts());
+		assertEquals(2, stats.getEvictions());
+		assertEquals(0.6, stats.getHitRatio(), 0.0001);
+		assertTrue(stats.toString().startsWith("testCache [hits=3;misses=2"));
+
+		assertEquals(3.0, meterRegistry.get("cache.gets").tags("cache", "testCache", "result", "hit").functionCounter().count(), 0);
+		assertEquals(2.0, meterRegistry.get("cache.gets").tags("cache", "testCache", "result", "miss").functionCounter().count(), 0);
+		assertEquals(0.6, meterRegistry.get("cache.hit.ratio").tags("cache", "testCache").gauge().value(), 0.0001);
+		assertEquals(5.0, meterRegistry.get("cache.get.latency").tags("cache", "testCache").functionTimer().count(), 0);
+
+		// decorating again (e.g. after refresh) reuses the statistics and meters
+		registry.decorate(new ConcurrentMapCache("testCache"));
+		assertEquals(1, registry.getAll().size());
+
+		registry.reset();
+		assertEquals(0, stats.getGets());
+		assertEquals(0, stats.getAverageGetMillis(), 0);
+		assertEquals(0, stats.getHitRatio(), 0);
+
+		// the published counters do not go backwards
+		assertEquals(5, stats.getTotalGets());
+		assertEquals(3.0, meterRegistry.get("cache.gets").tags("cache", "testCache", "result", "hit").functionCounter().count(), 0);
+		assertEquals(5.0, meterRegistry.get("cache.get.latency").tags("cache", "testCache").functionTimer().count(), 0);
+
+		cache.get("key");
+		assertEquals(1, stats.getMisses());
+		assertEquals(3, stats.getTotalMisses());
+		assertEquals(3.0, meterRegistry.get("cache.gets").tags("cache", "testCache", "result", "miss").functionCounter().count(), 0);
+	}
+
+	@Test
+	public void testLoadTimeIsNotGetLatency() {
+		BipCacheStatisticsRegistry registry = new BipCacheStatisticsRegistry(new SimpleMeterRegistry());
+		Cache cache = registry.decorate(new ConcurrentMapCache("testCache"));
+
+		assertEquals("loaded", cache.get("key", () -> {
+			Thread.sleep(200);
+			return "loaded";
+		}));
+
+		BipCacheStatistics stats = registry.statisticsFor("testCache");
+		assertEquals(1, stats.getMisses());
+		assertTrue(stats.getGetNanos() < TimeUnit.MILLISECONDS.toNanos(100));
+	}
+}
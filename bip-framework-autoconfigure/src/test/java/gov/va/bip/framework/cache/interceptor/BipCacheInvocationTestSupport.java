@@ -0,0 +1,18 @@
+package gov.va.bip.framework.cache.interceptor;
+
+/**
+ * Starts and ends cache invocations on the current thread, for tests of cache decorators that take part in them.
+ */
+public final class BipCacheInvocationTestSupport {
+
+	private BipCacheInvocationTestSupport() {
+	}
+
+	public static void begin() {
+		BipCacheInvocation.begin(null);
+	}
+
+	public static void end() {
+		BipCacheInvocation.end();
+	}
+}
@@ -10,9 +10,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.test.context.junit4.SpringRunner;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -20,11 +17,7 @@ import static org.mockito.Mockito.when;
 public class TokenFeignRequestInterceptorTest {
 
     @Mock
-    JwtTokenService tokenService = new JwtTokenService(){
-        public Map<String, String> getTokenFromRequest() {
-            return new HashMap<String, String>();
-        }
-    };
+    JwtTokenService tokenService;
 
     @InjectMocks
     TokenFeignRequestInterceptor tokenFeignRequestInterceptor;
@@ -33,9 +26,8 @@ public class TokenFeignRequestInterceptorTest {
     public void testApply(){
 
         RequestTemplate template = new RequestTemplate();
-        Map<String, String> map = new HashMap<String, String>();
-        map.put("TestHeader", "TestToken");
-        when(tokenService.getTokenFromRequest()).thenReturn(map);
+        when(tokenService.getTokenHeaderName()).thenReturn("TestHeader");
+        when(tokenService.getTokenHeaderValue()).thenReturn("TestToken");
         tokenFeignRequestInterceptor.apply(template);
        assertTrue(template.headers().size() == 1);
     }
@@ -44,8 +36,8 @@ public class TokenFeignRequestInterceptorTest {
     public void testApplyNoHeader(){
 
         RequestTemplate template = new RequestTemplate();
-        Map<String, String> map = new HashMap<String, String>();
-        when(tokenService.getTokenFromRequest()).thenReturn(map);
+        when(tokenService.getTokenHeaderName()).thenReturn("TestHeader");
+        when(tokenService.getTokenHeaderValue()).thenReturn(null);
         tokenFeignRequestInterceptor.apply(template);
         assertTrue(template.headers().size() == 0);
     }
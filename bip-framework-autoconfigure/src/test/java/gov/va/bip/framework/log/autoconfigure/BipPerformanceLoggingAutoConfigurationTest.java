@@ -0,0 +1,45 @@
+package gov.va.bip.framework.log.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import gov.va.bip.framework.log.PerformanceLoggingProperties;
+import gov.va.bip.framework.log.PerformanceWarningThresholds;
+
+public class BipPerformanceLoggingAutoConfigurationTest {
+
+	private AnnotationConfigApplicationContext context;
+
+	@After
+	public void close() {
+		if (this.context != null) {
+			this.context.close();
+		}
+		PerformanceWarningThresholds.publish(null);
+	}
+
+	@Test
+	public void testThresholdsPublishedAndRefreshed() {
+		context = new AnnotationConfigApplicationContext();
+		TestPropertyValues.of("bip.framework.logging.performance.warningThreshold=700",
+				"bip.framework.logging.performance.classAndMethodSpecificWarningThreshold.[Some.method]=50")
+				.applyTo(context);
+		context.register(BipPerformanceLoggingAutoConfiguration.class);
+		context.refresh();
+
+		assertNotNull(context.getBean(BipPerformanceLoggingAutoConfiguration.class));
+		assertEquals(700, PerformanceWarningThresholds.current().getWarningThreshold());
+		assertEquals(50, PerformanceWarningThresholds.current().getWarningThreshold("Some.method"));
+
+		// simulate the rebind that precedes the refresh event
+		context.getBean(PerformanceLoggingProperties.class).setWarningThreshold(100);
+		context.publishEvent(new RefreshScopeRefreshedEvent());
+		assertEquals(100, PerformanceWarningThresholds.current().getWarningThreshold());
+	}
+}
@@ -17,8 +17,6 @@ import gov.va.bip.framework.rest.autoconfigure.TokenClientHttpRequestInterceptor
 import gov.va.bip.framework.security.jwt.JwtTokenService;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -56,9 +54,8 @@ public class TokenClientHttpRequestInterceptorTest {
     public void interceptTest() throws Exception {
         MockClientHttpRequest request = new MockClientHttpRequest();
 
-        Map<String, String> map = new HashMap<>();
-        map.put("TestHeader", "TestToken");
-        when(tokenService.getTokenFromRequest()).thenReturn(map);
+        when(tokenService.getTokenHeaderName()).thenReturn("TestHeader");
+        when(tokenService.getTokenHeaderValue()).thenReturn("TestToken");
         ClientHttpResponse response = tokenClientHttpRequestInterceptor.intercept(request, new byte[]{},execution1);
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
@@ -67,8 +64,8 @@ public class TokenClientHttpRequestInterceptorTest {
     public void interceptTestNoHeaders() throws Exception {
         MockClientHttpRequest request = new MockClientHttpRequest();
 
-        Map<String, String> map = new HashMap<>();
-        when(tokenService.getTokenFromRequest()).thenReturn(map);
+        when(tokenService.getTokenHeaderName()).thenReturn("TestHeader");
+        when(tokenService.getTokenHeaderValue()).thenReturn(null);
         ClientHttpResponse response = tokenClientHttpRequestInterceptor.intercept(request, new byte[]{},execution2);
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
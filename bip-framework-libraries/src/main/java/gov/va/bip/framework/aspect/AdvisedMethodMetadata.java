@@ -0,0 +1,142 @@
+package gov.va.bip.framework.aspect;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+import gov.va.bip.framework.audit.annotation.Auditable;
+import gov.va.bip.framework.log.BipLogger;
+import gov.va.bip.framework.log.BipLoggerFactory;
+
+/**
+ * Method metadata shared by the framework aspects that can wrap the same request
+ * ({@code ProviderHttpAspect}, {@code RestProviderTimerAspect}, {@code ServiceTimerAspect},
+ * {@code ServiceValidationAspect} and {@link AuditableAnnotationAspect}).
+ * <p>
+ * The names, logger, and {@link Auditable} annotation of an advised method never change,
+ * so they are computed once per {@link Method} and cached, instead of being rebuilt by
+ * every advice on every request.
+ */
+public final class AdvisedMethodMetadata {
+
+	/** Separator between class name and method name */
+	private static final String DOT = ".";
+
+	/** Metadata cache, keyed by method */
+	private static final ConcurrentMap<Method, AdvisedMethodMetadata> CACHE = new ConcurrentHashMap<>();
+
+	/** The advised method */
+	private final Method method;
+
+	/** Fully qualified name of the declaring class */
+	private final String declaringClassName;
+
+	/** SimpleClassName.methodName */
+	private final String simpleClassAndMethod;
+
+	/** The logger for the declaring class */
+	private final BipLogger logger;
+
+	/** The Auditable annotation on the method, may be {@code null} */
+	private final Auditable auditable;
+
+	/** The class name to audit under, as declared by the annotation or the declaring class name */
+	private final String auditClass;
+
+	/**
+	 * Build the metadata for a method.
+	 *
+	 * @param method the advised method
+	 */
+	private AdvisedMethodMetadata(final Method method) {
+		this.method = method;
+		this.declaringClassName = method.getDeclaringClass().getName();
+		this.simpleClassAndMethod = method.getDeclaringClass().getSimpleName() + DOT + method.getName();
+		this.logger = BipLoggerFactory.getLogger(method.getDeclaringClass());
+		this.auditable = method.getAnnotation(Auditable.class);
+		this.auditClass = auditable == null || StringUtils.isBlank(auditable.auditClass())
+				? declaringClassName
+				: auditable.auditClass();
+	}
+
+	/**
+	 * Get the (cached) metadata for a method.
+	 *
+	 * @param method the advised method, must not be {@code null}
+	 * @return AdvisedMethodMetadata
+	 * @throws NullPointerException if method is {@code null}
+	 */
+	public static AdvisedMethodMetadata of(final Method method) {
+		AdvisedMethodMetadata metadata = CACHE.get(method);
+		if (metadata == null) {
+			metadata = CACHE.computeIfAbsent(method, AdvisedMethodMetadata::new);
+		}
+		return metadata;
+	}
+
+	/**
+	 * The advised method.
+	 *
+	 * @return Method
+	 */
+	public Method getMethod() {
+		return method;
+	}
+
+	/**
+	 * The name of the advised method.
+	 *
+	 * @return String
+	 */
+	public String getMethodName() {
+		return method.getName();
+	}
+
+	/**
+	 * Fully qualified name of the declaring class.
+	 *
+	 * @return String
+	 */
+	public String getDeclaringClassName() {
+		return declaringClassName;
+	}
+
+	/**
+	 * The declaring class simple name and the method name, as <tt>SimpleClassName.methodName</tt>.
+	 *
+	 * @return String
+	 */
+	public String getSimpleClassAndMethod() {
+		return simpleClassAndMethod;
+	}
+
+	/**
+	 * The logger for the declaring class.
+	 *
+	 * @return BipLogger
+	 */
+	public BipLogger getLogger() {
+		return logger;
+	}
+
+	/**
+	 * The {@link Auditable} annotation on the method, or {@code null} if the method is not annotated.
+	 *
+	 * @return Auditable
+	 */
+	public Auditable getAuditable() {
+		return auditable;
+	}
+
+	/**
+	 * The class name to audit under: the {@link Auditable#auditClass()} if it is not blank,
+	 * otherwise the fully qualified name of the declaring class.
+	 *
+	 * @return String
+	 */
+	public String getAuditClass() {
+		return auditClass;
+	}
+}
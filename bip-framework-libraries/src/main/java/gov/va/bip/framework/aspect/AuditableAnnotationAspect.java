@@ -1,10 +1,8 @@
 package gov.va.bip.framework.aspect;
 
-import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
 
-import org.apache.commons.lang3.StringUtils;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.AfterThrowing;
@@ -82,16 +80,15 @@ public class AuditableAnnotationAspect extends BaseHttpProviderPointcuts {
 				request = Arrays.asList(joinPoint.getArgs());
 			}
 
-			final Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
-			LOGGER.debug(AUDIT_DEBUG_PREFIX_METHOD, method);
-			final String className = method.getDeclaringClass().getName();
-			LOGGER.debug(AUDIT_DEBUG_PREFIX_CLASS, className);
-			auditableAnnotation = method.getAnnotation(Auditable.class);
+			final AdvisedMethodMetadata metadata =
+					AdvisedMethodMetadata.of(((MethodSignature) joinPoint.getSignature()).getMethod());
+			LOGGER.debug(AUDIT_DEBUG_PREFIX_METHOD, metadata.getMethod());
+			LOGGER.debug(AUDIT_DEBUG_PREFIX_CLASS, metadata.getDeclaringClassName());
+			auditableAnnotation = metadata.getAuditable();
 			LOGGER.debug(AUDIT_DEBUG_PREFIX_ANNOTATION, auditableAnnotation);
 			if (auditableAnnotation != null) {
 				auditEventData =
-						new AuditEventData(auditableAnnotation.event(), auditableAnnotation.activity(),
-								StringUtils.isBlank(auditableAnnotation.auditClass()) ? className : auditableAnnotation.auditClass());
+						new AuditEventData(auditableAnnotation.event(), auditableAnnotation.activity(), metadata.getAuditClass());
 				LOGGER.debug(AUDIT_DEBUG_PREFIX_EVENT, auditEventData.toString());
 				
 				final RequestAuditData requestAuditData = new RequestAuditData();
@@ -127,17 +124,16 @@ public class AuditableAnnotationAspect extends BaseHttpProviderPointcuts {
 		AuditEventData auditEventData = null;
 
 		try {
-			final Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
-			LOGGER.debug(AUDIT_DEBUG_PREFIX_METHOD, method);
-			final String className = method.getDeclaringClass().getName();
-			LOGGER.debug(AUDIT_DEBUG_PREFIX_CLASS, className);
-			auditableAnnotation = method.getAnnotation(Auditable.class);
+			final AdvisedMethodMetadata metadata =
+					AdvisedMethodMetadata.of(((MethodSignature) joinPoint.getSignature()).getMethod());
+			LOGGER.debug(AUDIT_DEBUG_PREFIX_METHOD, metadata.getMethod());
+			LOGGER.debug(AUDIT_DEBUG_PREFIX_CLASS, metadata.getDeclaringClassName());
+			auditableAnnotation = metadata.getAuditable();
 			LOGGER.debug(AUDIT_DEBUG_PREFIX_ANNOTATION, auditableAnnotation);
 
 			if (auditableAnnotation != null) {
 				auditEventData =
-						new AuditEventData(auditableAnnotation.event(), auditableAnnotation.activity(),
-								StringUtils.isBlank(auditableAnnotation.auditClass()) ? className : auditableAnnotation.auditClass());
+						new AuditEventData(auditableAnnotation.event(), auditableAnnotation.activity(), metadata.getAuditClass());
 				LOGGER.debug(AUDIT_DEBUG_PREFIX_EVENT, auditEventData.toString());
 
 				baseAsyncAudit.writeResponseAuditLog(response, new ResponseAuditData(), auditEventData, null, null);
@@ -169,16 +165,14 @@ public class AuditableAnnotationAspect extends BaseHttpProviderPointcuts {
 		AuditEventData auditEventData = null;
 
 		try {
-			final Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
-			final String className = method.getDeclaringClass().getName();
-			LOGGER.debug(AUDIT_DEBUG_PREFIX_CLASS, className);
-			auditableAnnotation = method.getAnnotation(Auditable.class);
+			final AdvisedMethodMetadata metadata =
+					AdvisedMethodMetadata.of(((MethodSignature) joinPoint.getSignature()).getMethod());
+			LOGGER.debug(AUDIT_DEBUG_PREFIX_CLASS, metadata.getDeclaringClassName());
+			auditableAnnotation = metadata.getAuditable();
 			LOGGER.debug(AUDIT_DEBUG_PREFIX_ANNOTATION, auditableAnnotation);
 
 			if (auditableAnnotation != null) {
-				String auditedClass = StringUtils.isBlank(auditableAnnotation.auditClass())
-						? className
-								: auditableAnnotation.auditClass();
+				String auditedClass = metadata.getAuditClass();
 				auditEventData =
 						new AuditEventData(auditableAnnotation.event(), auditableAnnotation.activity(), auditedClass);
 				LOGGER.debug(AUDIT_DEBUG_PREFIX_EVENT, auditEventData.toString());
@@ -7,6 +7,9 @@ import org.aspectj.lang.reflect.MethodSignature;
 
 import gov.va.bip.framework.log.BipLogger;
 import gov.va.bip.framework.log.BipLoggerFactory;
+import gov.va.bip.framework.log.PerformanceWarningThresholds;
+import gov.va.bip.framework.log.SlowCallSampler;
+import gov.va.bip.framework.log.SlowCallSampler.SamplingSession;
 
 /**
  * Performance logging (elapsed execution time). This class should only be
@@ -17,6 +20,12 @@ import gov.va.bip.framework.log.BipLoggerFactory;
  * {@code @After} advice. It would be necessary to maintain state between the
  * advice calls for the startMillis value. Spring can only maintain threadsafety
  * if injected (state) values are proxied, and a Long is not proxied.
+ * <p>
+ * Calls that take longer than the threshold from {@link PerformanceWarningThresholds#current()}
+ * are logged at WARN level. Thresholds are configured under {@code bip.framework.logging.performance}.
+ * <p>
+ * If the {@link SlowCallSampler} is enabled, stack samples of the executing thread are taken while
+ * the call runs past the sampling threshold, and the summary is appended to the WARN log entry.
  *
  * @author aburkholder
  */
@@ -36,6 +45,15 @@ public class PerformanceLoggingAspect {
 	/** The Constant EXIT. */
 	private static final String EXIT = "exit ";
 
+	/** The Constant PERFORMANCE_WARNING_RESPONSE_FOR. */
+	private static final String PERFORMANCE_WARNING_RESPONSE_FOR = "PERFORMANCE WARNING response for ";
+
+	/** The Constant MILLIS. */
+	private static final String MILLIS = " millis ";
+
+	/** The Constant PROFILE. */
+	private static final String PROFILE = " profile [";
+
 	/** The Constant SECS. */
 	private static final String SECS = " secs";
 
@@ -45,9 +63,6 @@ public class PerformanceLoggingAspect {
 	/** The Constant CLOSE_BRACKET. */
 	private static final String CLOSE_BRACKET = "]";
 
-	/** The Constant DOT. */
-	private static final String DOT = ".";
-
 	/**
 	 * Do not instantiate this class.
 	 */
@@ -72,21 +87,24 @@ public class PerformanceLoggingAspect {
 	 */
 	public static final Object aroundAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
 
-		LOGGER.debug("PerformanceLoggingAspect executing around method:" + joinPoint.toLongString());
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("PerformanceLoggingAspect executing around method:" + joinPoint.toLongString());
+		}
 
 		Object returnObject = null;
-		Method method = null;
+		AdvisedMethodMetadata metadata = null;
 		BipLogger methodLog = null;
 		final long startTime = System.currentTimeMillis();
+		final SamplingSession samplingSession = SlowCallSampler.current().start(Thread.currentThread());
 
 		try {
-			method = ((MethodSignature) joinPoint.getStaticPart().getSignature()).getMethod();
-			methodLog = BipLoggerFactory.getLogger(method.getDeclaringClass());
+			final Method method = ((MethodSignature) joinPoint.getStaticPart().getSignature()).getMethod();
+			metadata = AdvisedMethodMetadata.of(method);
+			methodLog = metadata.getLogger();
 
 			// only log entry at the debug level
 			if (methodLog.isDebugEnabled()) {
-				methodLog.debug(ENTER + OPEN_BRACKET + method.getDeclaringClass().getSimpleName() + DOT
-						+ method.getName() + CLOSE_BRACKET);
+				methodLog.debug(ENTER + OPEN_BRACKET + metadata.getSimpleClassAndMethod() + CLOSE_BRACKET);
 			}
 
 			returnObject = joinPoint.proceed();
@@ -94,9 +112,15 @@ public class PerformanceLoggingAspect {
 		} finally {
 			LOGGER.debug("PerformanceLoggingAspect after method was called.");
 			final long elapsedTime = System.currentTimeMillis() - startTime;
-			final String callingClassAndMethod = method == null ? "null"
-					: method.getDeclaringClass().getSimpleName() + DOT + method.getName();
-			if (methodLog != null && methodLog.isInfoEnabled()) {
+			final String profile = samplingSession == null ? null : samplingSession.stop();
+			final String callingClassAndMethod = metadata == null ? "null" : metadata.getSimpleClassAndMethod();
+			final int warningThreshold = PerformanceWarningThresholds.current().getWarningThreshold(callingClassAndMethod);
+			if (methodLog != null && elapsedTime > warningThreshold) {
+				methodLog.warn(PERFORMANCE_WARNING_RESPONSE_FOR + OPEN_BRACKET + callingClassAndMethod + IN_ELAPSED_TIME
+						+ elapsedTime / NUMBER_OF_MILLIS_N_A_SECOND + SECS + CLOSE_BRACKET
+						+ " is slower than configured threshold of [" + warningThreshold + CLOSE_BRACKET + MILLIS
+						+ (profile == null ? "" : PROFILE + profile + CLOSE_BRACKET));
+			} else if (methodLog != null && methodLog.isInfoEnabled()) {
 				methodLog.info(EXIT + OPEN_BRACKET + callingClassAndMethod + IN_ELAPSED_TIME
 						+ elapsedTime / NUMBER_OF_MILLIS_N_A_SECOND + SECS + CLOSE_BRACKET);
 			}
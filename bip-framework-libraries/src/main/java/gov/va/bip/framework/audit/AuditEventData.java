@@ -2,6 +2,7 @@ package gov.va.bip.framework.audit;
 
 import org.apache.commons.lang3.StringUtils;
 
+import gov.va.bip.framework.security.PersonTraits;
 import gov.va.bip.framework.security.SecurityUtils;
 
 /**
@@ -54,13 +55,15 @@ public final class AuditEventData {
 		this.activity = StringUtils.isBlank(activity) ? UNKNOWN : activity;
 		this.auditClass = StringUtils.isBlank(auditClass) ? UNKNOWN : auditClass;
 
-		if (SecurityUtils.getPersonTraits() != null) {
-			this.user = StringUtils.isBlank(SecurityUtils.getPersonTraits().getUser())
+		// one SecurityContext lookup for the user and token id
+		final PersonTraits personTraits = SecurityUtils.getSecurityContextSnapshot().getPersonTraits();
+		if (personTraits != null) {
+			this.user = StringUtils.isBlank(personTraits.getUser())
 					? UNKNOWN
-					: SecurityUtils.getPersonTraits().getUser();
-			this.tokenId = StringUtils.isBlank(SecurityUtils.getPersonTraits().getTokenId())
+					: personTraits.getUser();
+			this.tokenId = StringUtils.isBlank(personTraits.getTokenId())
 					? EMPTY
-					: SecurityUtils.getPersonTraits().getTokenId();
+					: personTraits.getTokenId();
 		} else {
 			this.user = UNKNOWN;
 			this.tokenId = EMPTY;
@@ -113,26 +113,45 @@ public class BaseAsyncAudit {
 		if (in == null) {
 			return StringUtils.EMPTY;
 		} else {
-			int offset = 0;
-			int bytesRead = 0;
-			final byte[] data = new byte[NUMBER_OF_BYTES_TO_LIMIT_AUDIT_LOGGED_OBJECT];
 			try {
-				while ((bytesRead = in.read(data, offset, data.length - offset)) != -1) {
-					offset += bytesRead;
-					if (offset >= data.length) {
-						break;
-					}
-				}
-				return new String(data, 0, offset, StandardCharsets.UTF_8.name());
-			} catch (Exception e) {
-				LOGGER.warn("Problem reading byte from inputstream.", e);
-				return StringUtils.EMPTY;
+				return readBytesOfSetSizeToString(in, NUMBER_OF_BYTES_TO_LIMIT_AUDIT_LOGGED_OBJECT);
 			} finally {
 				BaseAsyncAudit.closeInputStreamIfRequired(in);
 			}
 		}
 	}
 
+	/**
+	 * Read at most {@code maxBytes} bytes, and never more than {@link #NUMBER_OF_BYTES_TO_LIMIT_AUDIT_LOGGED_OBJECT},
+	 * and convert them into a string. Only the bytes that are kept are read from the stream,
+	 * and the stream is left open.
+	 *
+	 * @param in the input stream
+	 * @param maxBytes the maximum number of bytes to read
+	 * @return the string
+	 */
+	public static String readBytesOfSetSizeToString(final InputStream in, final int maxBytes) {
+		final int limit = Math.min(maxBytes, NUMBER_OF_BYTES_TO_LIMIT_AUDIT_LOGGED_OBJECT);
+		if (in == null || limit <= 0) {
+			return StringUtils.EMPTY;
+		}
+		int offset = 0;
+		int bytesRead = 0;
+		final byte[] data = new byte[limit];
+		try {
+			while ((bytesRead = in.read(data, offset, data.length - offset)) != -1) {
+				offset += bytesRead;
+				if (offset >= data.length) {
+					break;
+				}
+			}
+			return new String(data, 0, offset, StandardCharsets.UTF_8.name());
+		} catch (Exception e) {
+			LOGGER.warn("Problem reading byte from inputstream.", e);
+			return StringUtils.EMPTY;
+		}
+	}
+
 	/**
 	 * Attempt to close an input stream.
 	 *
@@ -0,0 +1,62 @@
+package gov.va.bip.framework.cache;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.core.MethodClassKey;
+import org.springframework.util.ClassUtils;
+
+import gov.va.bip.framework.log.BipLogger;
+import gov.va.bip.framework.log.BipLoggerFactory;
+
+/**
+ * Generates compact, collision-resistant cache keys for cached methods.
+ * <p>
+ * Keys are in the form <tt><i>SimpleClassName</i>.<i>methodName</i>.<i>hash</i></tt>, where the
+ * readable prefix identifies the cached method in Redis tools, and the {@link CacheKeyHasher 128 bit hash}
+ * covers the fully qualified class name, the method signature and the canonical form of the arguments.
+ * Keys do not depend on the {@code toString()} or {@code hashCode()} of the arguments, and are the same
+ * length whatever the arguments.
+ */
+public class BipCacheKeyGenerator implements KeyGenerator {
+	/** Class logger */
+	private static final BipLogger LOGGER = BipLoggerFactory.getLogger(BipCacheKeyGenerator.class);
+
+	/** Separator between the parts of a key */
+	private static final char SEPARATOR = ClassUtils.PACKAGE_SEPARATOR_CHAR;
+
+	/** The key prefix and signature of each cached method, by method and target class */
+	private final ConcurrentMap<MethodClassKey, String[]> methodParts = new ConcurrentHashMap<>();
+
+	@Override
+	public Object generate(final Object target, final Method method, final Object... params) {
+		final Class<?> targetClass = AopUtils.getTargetClass(target);
+		final MethodClassKey methodClassKey = new MethodClassKey(method, targetClass);
+		String[] parts = methodParts.get(methodClassKey);
+		if (parts == null) {
+			parts = methodParts.computeIfAbsent(methodClassKey, k -> methodParts(method, targetClass));
+		}
+		final String key = parts[0] + CacheKeyHasher.hash(parts[1], params);
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Generated cacheKey: {}", key);
+		}
+		return key;
+	}
+
+	/**
+	 * The key prefix and the signature of a cached method.
+	 *
+	 * @param method the cached method
+	 * @param targetClass the class of the target object
+	 * @return String[] - the prefix and the signature
+	 */
+	private static String[] methodParts(final Method method, final Class<?> targetClass) {
+		final Class<?> userClass = ClassUtils.getUserClass(targetClass);
+		return new String[] {
+				userClass.getSimpleName() + SEPARATOR + method.getName() + SEPARATOR,
+				userClass.getName() + SEPARATOR + method.getName() + ClassUtils.classNamesToString(method.getParameterTypes()) };
+	}
+}
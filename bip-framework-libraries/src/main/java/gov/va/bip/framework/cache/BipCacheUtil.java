@@ -5,8 +5,11 @@ package gov.va.bip.framework.cache;
 
 import java.util.UUID;
 
+import org.apache.commons.lang3.StringUtils;
+
 import gov.va.bip.framework.log.BipLogger;
 import gov.va.bip.framework.log.BipLoggerFactory;
+import gov.va.bip.framework.security.PersonTraits;
 import gov.va.bip.framework.security.SecurityUtils;
 import gov.va.bip.framework.service.DomainResponse;
 
@@ -20,6 +23,27 @@ public final class BipCacheUtil {
 	private static final BipLogger LOGGER = BipLoggerFactory.getLogger(BipCacheUtil.class);
 	protected static final String SEPARATOR = "_";
 
+	/** The user based key shared by all callers without an authenticated user */
+	public static final String ANONYMOUS_USER_KEY = "anonymous";
+
+	/** Identifier type of the pid, so equal values of different identifiers do not share a key */
+	private static final String ID_PID = "pid";
+
+	/** Identifier type of the file number */
+	private static final String ID_FILE_NUMBER = "fileNumber";
+
+	/** Identifier type of the ICN */
+	private static final String ID_ICN = "icn";
+
+	/** Identifier type of the PNID */
+	private static final String ID_PNID = "pnid";
+
+	/** Identifier type of the DoD EDIPN ID */
+	private static final String ID_DODEDIPNID = "dodedipnid";
+
+	/** Identifier type of the user name */
+	private static final String ID_USERNAME = "username";
+
 	/**
 	 * hide constructor.
 	 */
@@ -40,7 +64,7 @@ public final class BipCacheUtil {
 
 	/**
 	 * Generate a unique user based complex cache key. This implementation uses the
-	 * user's unique username and the beneficiary as a prefix for the rest of the
+	 * {@link #getUserBasedKey() user fingerprint} as a prefix for the rest of the
 	 * complex key
 	 *
 	 * @param keyValues
@@ -52,58 +76,76 @@ public final class BipCacheUtil {
 	}
 
 	/**
-	 * Generate a unique user based cache key. This implementation uses the user's
-	 * unique username and the beneficiary
+	 * Generate a unique user based cache key - a stable, compact fingerprint of the user.
+	 * <p>
+	 * The fingerprint is a {@link CacheKeyHasher hash} of the first identifier the user has, in the order
+	 * pid, file number, ICN, PNID, DoD EDIPN ID and user name, together with the user's first and last names.
+	 * The same user always gets the same fingerprint, so user-scoped cache entries are reused.
+	 * <p>
+	 * An authenticated user with none of these identifiers (the user name of PersonTraits built from a token
+	 * is the {@link PersonTraits#NOT_APPLICABLE} placeholder) cannot be told apart from other such users,
+	 * so gets a random key that is never reused: their entries are not shared, and are effectively not cached.
+	 * <p>
+	 * When there is no authenticated user, the {@link #ANONYMOUS_USER_KEY} is returned. All anonymous
+	 * callers share the entries cached under it, so only methods that return the same data to every
+	 * anonymous caller should be reachable without authentication.
 	 *
 	 * @return the user based key
 	 */
 	public static String getUserBasedKey() {
-		if (SecurityUtils.getPersonTraits() != null) {
-			String prefix;
-
-			if (SecurityUtils.getPersonTraits().getPid() != null
-					&& SecurityUtils.getPersonTraits().getPid().length() > 0) {
-				prefix = SecurityUtils.getPersonTraits().getPid();
-			} else if (SecurityUtils.getPersonTraits().getFileNumber() != null
-					&& SecurityUtils.getPersonTraits().getFileNumber().length() > 0) {
-				prefix = SecurityUtils.getPersonTraits().getFileNumber();
-			} else {
-				prefix = UUID.randomUUID().toString();
-			}
-			String key = createKey(prefix, SecurityUtils.getPersonTraits().getFirstName(),
-					SecurityUtils.getPersonTraits().getLastName());
-			if (LOGGER.isDebugEnabled()) {
-				LOGGER.debug("Generating cache key with value of " + key);
-			}
-			return key;
+		return getUserBasedKey(SecurityUtils.getSecurityContextSnapshot().getPersonTraits());
+	}
+
+	/**
+	 * Generate the user based cache key for the person traits.
+	 *
+	 * @param personTraits the person traits of the user, may be {@code null}
+	 * @return the user based key
+	 */
+	static String getUserBasedKey(final PersonTraits personTraits) {
+		if (personTraits == null) {
+			LOGGER.debug("There was no user principal established to base the cache key on. Using the anonymous key.");
+			return ANONYMOUS_USER_KEY;
+		}
+
+		final String key;
+		if (StringUtils.isNotEmpty(personTraits.getPid())) {
+			key = createKey(ID_PID, personTraits.getPid(), personTraits.getFirstName(), personTraits.getLastName());
+		} else if (StringUtils.isNotEmpty(personTraits.getFileNumber())) {
+			key = createKey(ID_FILE_NUMBER, personTraits.getFileNumber(), personTraits.getFirstName(), personTraits.getLastName());
+		} else if (StringUtils.isNotEmpty(personTraits.getIcn())) {
+			key = createKey(ID_ICN, personTraits.getIcn(), personTraits.getFirstName(), personTraits.getLastName());
+		} else if (StringUtils.isNotEmpty(personTraits.getPnid())) {
+			key = createKey(ID_PNID, personTraits.getPnidType(), personTraits.getPnid(), personTraits.getFirstName(),
+					personTraits.getLastName());
+		} else if (StringUtils.isNotEmpty(personTraits.getDodedipnid())) {
+			key = createKey(ID_DODEDIPNID, personTraits.getDodedipnid(), personTraits.getFirstName(), personTraits.getLastName());
+		} else if (StringUtils.isNotEmpty(personTraits.getUsername())
+				&& !PersonTraits.NOT_APPLICABLE.equals(personTraits.getUsername())) {
+			key = createKey(ID_USERNAME, personTraits.getUsername(), personTraits.getFirstName(), personTraits.getLastName());
 		} else {
-			LOGGER.error("There was no user principal established to base the cache key on."
-					+ " Returning a null key value.");
-			// Returning null will cause an IllegalArguementException in the cache
-			// framework, letting us know
-			// there was a cache key generation error
-			return null;
+			LOGGER.debug("The user principal has no identifier to base the cache key on. Using a unique key.");
+			key = UUID.randomUUID().toString();
 		}
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Generating cache key with value of " + key);
+		}
+		return key;
 	}
 
 	/**
 	 * Creates a unique cache key using the given key values.
+	 * <p>
+	 * The key is a compact {@link CacheKeyHasher 128 bit hash} of the canonical form of the key values,
+	 * so distinct key values do not collide the way their {@code hashCode()} values can.
+	 * The position of each value, including {@code null} values, is part of the key.
 	 *
 	 * @param keyValues
 	 *            the key values
 	 * @return the string
 	 */
 	public static final String createKey(final Object... keyValues) {
-		final StringBuilder cacheKey = new StringBuilder();
-		for (Object key : keyValues) {
-			if (key != null) {
-				if (cacheKey.length() > 0) {
-					cacheKey.append(SEPARATOR);
-				}
-				cacheKey.append(key.hashCode());
-			}
-		}
-		return cacheKey.toString();
+		return CacheKeyHasher.hash(keyValues);
 	}
 
 }
@@ -0,0 +1,182 @@
+package gov.va.bip.framework.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded, in-process map of values that expire, for the framework's local caches.
+ * <p>
+ * Reads are lock-free. Expiry times are read from the clock the map is created with
+ * (e.g. {@code System::nanoTime} or {@code System::currentTimeMillis}), and expired values
+ * are removed when they are read, or when the map is trimmed.
+ * <p>
+ * When a put takes the map over its maximum size, the map is trimmed in one batch: expired entries
+ * are removed first, then arbitrary entries until the map is down to its low-water mark
+ * (90% of the maximum size). The value just put is kept. The next trim is then a tenth of the maximum
+ * size of puts away, so the cost of the scan is amortized over those puts, instead of paid by every put
+ * to a full map.
+ * Only one thread trims at a time; puts made meanwhile are not blocked.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class BoundedExpiringMap<K, V> {
+
+	/** Percentage of the maximum size that the map is trimmed down to */
+	static final int LOW_WATER_PERCENT = 90;
+
+	/** The entries */
+	private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+	/** Maximum number of entries */
+	private final int maxEntries;
+
+	/** The number of entries left after a trim */
+	private final int lowWaterMark;
+
+	/** The clock that expiry times are read from */
+	private final LongSupplier clock;
+
+	/** Is a thread trimming the map */
+	private final AtomicBoolean trimming = new AtomicBoolean();
+
+	/**
+	 * Create a map.
+	 *
+	 * @param maxEntries maximum number of entries, minimum 1
+	 * @param clock the clock that expiry times are read from
+	 */
+	public BoundedExpiringMap(final int maxEntries, final LongSupplier clock) {
+		this.maxEntries = Math.max(1, maxEntries);
+		this.lowWaterMark = (int) ((long) this.maxEntries * LOW_WATER_PERCENT / 100);
+		this.clock = clock;
+	}
+
+	/**
+	 * Maximum number of entries.
+	 *
+	 * @return int
+	 */
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 * Get an unexpired value.
+	 *
+	 * @param key the key
+	 * @return the value, or {@code null} if absent or expired
+	 */
+	public V get(final K key) {
+		final Entry<V> entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.isExpired(clock.getAsLong())) {
+			entries.remove(key, entry);
+			return null;
+		}
+		return entry.value;
+	}
+
+	/**
+	 * Put a value.
+	 *
+	 * @param key the key
+	 * @param value the value
+	 * @param expiresAt expiry time, read from the clock of the map
+	 */
+	public void put(final K key, final V value, final long expiresAt) {
+		entries.put(key, new Entry<>(value, expiresAt));
+		if (entries.size() > maxEntries) {
+			trim(key);
+		}
+	}
+
+	/**
+	 * Remove a value.
+	 *
+	 * @param key the key
+	 */
+	public void remove(final K key) {
+		entries.remove(key);
+	}
+
+	/**
+	 * Remove all values.
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * The current number of entries, including any that have expired but not yet been removed.
+	 *
+	 * @return int
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Bring the map down to its low-water mark, unless another thread is already doing so.
+	 *
+	 * @param keep the key just put, which is not evicted
+	 */
+	private void trim(final K keep) {
+		if (!trimming.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			final long now = clock.getAsLong();
+			entries.values().removeIf(entry -> entry.isExpired(now));
+			final Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+			while (entries.size() > lowWaterMark && iterator.hasNext()) {
+				if (!keep.equals(iterator.next().getKey())) {
+					iterator.remove();
+				}
+			}
+		} finally {
+			trimming.set(false);
+		}
+	}
+
+	/**
+	 * A value and its expiry time.
+	 *
+	 * @param <V> the value type
+	 */
+	private static final class Entry<V> {
+
+		/** The value */
+		private final V value;
+
+		/** Expiry time, read from the clock of the map */
+		private final long expiresAt;
+
+		/**
+		 * Create an entry.
+		 *
+		 * @param value the value
+		 * @param expiresAt expiry time, read from the clock of the map
+		 */
+		private Entry(final V value, final long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+
+		/**
+		 * Has the entry expired. The difference is compared, so the nanoTime clock may wrap.
+		 *
+		 * @param now the current time, read from the clock of the map
+		 * @return boolean
+		 */
+		private boolean isExpired(final long now) {
+			return now - expiresAt >= 0;
+		}
+	}
+}
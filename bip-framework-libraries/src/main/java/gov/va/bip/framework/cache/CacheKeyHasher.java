@@ -0,0 +1,546 @@
+package gov.va.bip.framework.cache;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Creates compact, stable, collision-resistant cache keys from key values.
+ * <p>
+ * The key values are written in a canonical binary form, and hashed with the 128 bit
+ * MurmurHash3 (x64) function. The hash is returned as 22 url-safe base64 characters.
+ * <p>
+ * The canonical form depends only on the values, not on {@code hashCode()} or {@code toString()}
+ * implementations, and is the same on every JVM:
+ * <ul>
+ * <li>the type of each value is part of the form, so e.g. {@code "1"}, {@code 1} and {@code 1L} differ
+ * <li>{@code null} values, and the position of each value, are part of the form
+ * <li>strings, numbers, booleans, characters, enums, dates and other common value types are written directly
+ * <li>arrays, lists and ordered collections are written element by element
+ * <li>the elements of unordered sets and maps are written in an order that does not depend on iteration order
+ * <li>any other object is written as its fields, sorted by name, as serialized by Jackson - all
+ * non-transient fields, with or without getters, and regardless of Jackson annotations such as
+ * {@code @JsonIgnore}; if the object has no fields, or serialization fails, as its class name and
+ * {@code toString()}
+ * </ul>
+ * As with any hash, distinct values can in theory produce the same key, but with 128 bits the
+ * chance is negligible for any realistic number of keys - unlike {@code hashCode()} values,
+ * where e.g. {@code "Aa"} and {@code "BB"} collide.
+ */
+public final class CacheKeyHasher {
+
+	/** Number of characters in a hash */
+	public static final int HASH_LENGTH = 22;
+
+	/** MurmurHash3 seed */
+	private static final int SEED = 0x9747b28c;
+
+	/** Unordered collections nested deeper than this are written as their class name and {@code toString()} */
+	private static final int MAX_DEPTH = 32;
+
+	/** Buffers larger than this are not kept for reuse */
+	private static final int MAX_RETAINED_BUFFER = 16 * 1024;
+
+	/** Type tags */
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte INTEGER = 2;
+	private static final byte LONG = 3;
+	private static final byte SHORT = 4;
+	private static final byte BYTE = 5;
+	private static final byte BOOLEAN = 6;
+	private static final byte CHARACTER = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte FLOAT = 9;
+	private static final byte ENUM = 10;
+	private static final byte CLASS = 11;
+	private static final byte DATE = 12;
+	private static final byte VALUE_STRING = 13;
+	private static final byte ARRAY = 14;
+	private static final byte ORDERED = 15;
+	private static final byte UNORDERED = 16;
+	private static final byte MAP = 17;
+	private static final byte BEAN = 18;
+	private static final byte TO_STRING = 19;
+
+	/**
+	 * Writes objects as their fields, sorted by name. Annotations are not used, so fields excluded from
+	 * serialization are still part of the key, and objects without fields fail, to fall back to {@code toString()}.
+	 */
+	private static final ObjectMapper CANONICAL_MAPPER = new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.configure(MapperFeature.USE_ANNOTATIONS, false)
+			.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+			.configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+			.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, true)
+			.setVisibility(PropertyAccessor.ALL, Visibility.NONE)
+			.setVisibility(PropertyAccessor.FIELD, Visibility.ANY);
+
+	/** Encodes hashes */
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	/** Reusable buffer for the canonical form */
+	private static final ThreadLocal<CanonicalWriter> WRITERS = ThreadLocal.withInitial(CanonicalWriter::new);
+
+	/**
+	 * Do not instantiate.
+	 */
+	private CacheKeyHasher() {
+		throw new IllegalStateException("CacheKeyHasher is a static class. Do not instantiate it.");
+	}
+
+	/**
+	 * Hash key values.
+	 *
+	 * @param keyValues the key values, may be or contain {@code null}
+	 * @return String - the 22 character hash
+	 */
+	public static String hash(final Object... keyValues) {
+		final CanonicalWriter writer = WRITERS.get();
+		try {
+			writer.writeValue(keyValues, 0);
+			final long[] hash = murmur3(writer.buffer, writer.size);
+			final byte[] bytes = new byte[16];
+			putLong(bytes, 0, hash[0]);
+			putLong(bytes, 8, hash[1]);
+			return ENCODER.encodeToString(bytes);
+		} finally {
+			writer.reset();
+		}
+	}
+
+	/**
+	 * Hash a single value, as two longs, for ordering the elements of unordered collections.
+	 *
+	 * @param value the value
+	 * @param depth the nesting depth
+	 * @return long[]
+	 */
+	private static long[] hashElement(final Object value, final int depth) {
+		final CanonicalWriter writer = new CanonicalWriter();
+		writer.writeValue(value, depth);
+		return murmur3(writer.buffer, writer.size);
+	}
+
+	/**
+	 * Writes values in canonical binary form to a growable buffer.
+	 */
+	private static final class CanonicalWriter {
+
+		/** The buffer */
+		private byte[] buffer = new byte[256];
+
+		/** Number of bytes written */
+		private int size;
+
+		/**
+		 * Empty the buffer for reuse.
+		 */
+		private void reset() {
+			size = 0;
+			if (buffer.length > MAX_RETAINED_BUFFER) {
+				buffer = new byte[256];
+			}
+		}
+
+		/**
+		 * Write a value of any type.
+		 *
+		 * @param value the value
+		 * @param depth the nesting depth
+		 */
+		private void writeValue(final Object value, final int depth) { // NOSONAR type dispatch
+			if (value == null) {
+				writeByte(NULL);
+			} else if (value instanceof String) {
+				writeByte(STRING);
+				writeString((String) value);
+			} else if (value instanceof Integer) {
+				writeByte(INTEGER);
+				writeLong((Integer) value);
+			} else if (value instanceof Long) {
+				writeByte(LONG);
+				writeLong((Long) value);
+			} else if (value instanceof Short) {
+				writeByte(SHORT);
+				writeLong((Short) value);
+			} else if (value instanceof Byte) {
+				writeByte(BYTE);
+				writeLong((Byte) value);
+			} else if (value instanceof Boolean) {
+				writeByte(BOOLEAN);
+				writeByte((Boolean) value ? (byte) 1 : (byte) 0);
+			} else if (value instanceof Character) {
+				writeByte(CHARACTER);
+				writeLong((Character) value);
+			} else if (value instanceof Double) {
+				writeByte(DOUBLE);
+				writeLong(Double.doubleToLongBits((Double) value));
+			} else if (value instanceof Float) {
+				writeByte(FLOAT);
+				writeLong(Float.floatToIntBits((Float) value));
+			} else if (value instanceof Enum) {
+				writeByte(ENUM);
+				writeString(((Enum<?>) value).getDeclaringClass().getName());
+				writeString(((Enum<?>) value).name());
+			} else if (value instanceof Class) {
+				writeByte(CLASS);
+				writeString(((Class<?>) value).getName());
+			} else if (value instanceof Date) {
+				writeByte(DATE);
+				writeString(value.getClass().getName());
+				writeLong(((Date) value).getTime());
+			} else if (isValueType(value)) {
+				writeByte(VALUE_STRING);
+				writeString(value.getClass().getName());
+				writeString(value.toString());
+			} else if (value.getClass().isArray()) {
+				writeArray(value, depth);
+			} else if (value instanceof Map) {
+				writeMap((Map<?, ?>) value, depth);
+			} else if (value instanceof Collection) {
+				writeCollection((Collection<?>) value, depth);
+			} else {
+				writeBean(value);
+			}
+		}
+
+		/**
+		 * Is the value of a type whose {@code toString()} is its canonical form.
+		 *
+		 * @param value the value
+		 * @return boolean
+		 */
+		private boolean isValueType(final Object value) {
+			return value instanceof CharSequence || value instanceof BigDecimal || value instanceof BigInteger
+					|| value instanceof UUID || value instanceof TemporalAccessor || value instanceof Duration
+					|| value instanceof Period || value instanceof ZoneId || value instanceof Locale
+					|| value instanceof Currency || value instanceof URI;
+		}
+
+		/**
+		 * Write an array, element by element.
+		 *
+		 * @param array the array
+		 * @param depth the nesting depth
+		 */
+		private void writeArray(final Object array, final int depth) {
+			writeByte(ARRAY);
+			writeString(array.getClass().getComponentType().getName());
+			final int length = Array.getLength(array);
+			writeLong(length);
+			for (int i = 0; i < length; i++) {
+				writeValue(Array.get(array, i), depth + 1);
+			}
+		}
+
+		/**
+		 * Write a collection, element by element. Elements of unordered sets are written in hash order.
+		 *
+		 * @param collection the collection
+		 * @param depth the nesting depth
+		 */
+		private void writeCollection(final Collection<?> collection, final int depth) {
+			final boolean ordered = !(collection instanceof Set) || collection instanceof SortedSet
+					|| collection instanceof LinkedHashSet;
+			if (ordered) {
+				writeByte(ORDERED);
+				writeLong(collection.size());
+				for (final Object element : collection) {
+					writeValue(element, depth + 1);
+				}
+			} else if (depth < MAX_DEPTH) {
+				writeByte(UNORDERED);
+				writeHashes(collection, depth);
+			} else {
+				writeToString(collection);
+			}
+		}
+
+		/**
+		 * Write a map, entry by entry. Entries of unordered maps are written in hash order.
+		 *
+		 * @param map the map
+		 * @param depth the nesting depth
+		 */
+		private void writeMap(final Map<?, ?> map, final int depth) {
+			if (map instanceof SortedMap || map instanceof LinkedHashMap) {
+				writeByte(MAP);
+				writeByte(ORDERED);
+				writeLong(map.size());
+				for (final Map.Entry<?, ?> entry : map.entrySet()) {
+					writeValue(entry.getKey(), depth + 1);
+					writeValue(entry.getValue(), depth + 1);
+				}
+			} else if (depth < MAX_DEPTH) {
+				writeByte(MAP);
+				writeByte(UNORDERED);
+				final List<Object> entries = new ArrayList<>(map.size());
+				for (final Map.Entry<?, ?> entry : map.entrySet()) {
+					entries.add(new Object[] { entry.getKey(), entry.getValue() });
+				}
+				writeHashes(entries, depth);
+			} else {
+				writeToString(map);
+			}
+		}
+
+		/**
+		 * Write the hashes of the elements, in hash order.
+		 *
+		 * @param elements the elements
+		 * @param depth the nesting depth
+		 */
+		private void writeHashes(final Collection<?> elements, final int depth) {
+			final long[][] hashes = new long[elements.size()][];
+			int i = 0;
+			for (final Object element : elements) {
+				hashes[i++] = hashElement(element, depth + 1);
+			}
+			Arrays.sort(hashes, (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+			writeLong(hashes.length);
+			for (final long[] hash : hashes) {
+				writeLong(hash[0]);
+				writeLong(hash[1]);
+			}
+		}
+
+		/**
+		 * Write an object as its fields, sorted by name.
+		 *
+		 * @param value the object
+		 */
+		private void writeBean(final Object value) {
+			final byte[] json;
+			try {
+				json = CANONICAL_MAPPER.writeValueAsBytes(value);
+			} catch (JsonProcessingException | RuntimeException e) { // NOSONAR fall back to toString
+				writeToString(value);
+				return;
+			}
+			writeByte(BEAN);
+			writeString(value.getClass().getName());
+			writeLong(json.length);
+			writeBytes(json, json.length);
+		}
+
+		/**
+		 * Write an object as its class name and {@code toString()}.
+		 *
+		 * @param value the object
+		 */
+		private void writeToString(final Object value) {
+			writeByte(TO_STRING);
+			writeString(value.getClass().getName());
+			writeString(value.toString());
+		}
+
+		/**
+		 * Write a string as its length and UTF-8 bytes.
+		 *
+		 * @param value the string
+		 */
+		private void writeString(final String value) {
+			final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			writeLong(bytes.length);
+			writeBytes(bytes, bytes.length);
+		}
+
+		/**
+		 * Write a long, little endian.
+		 *
+		 * @param value the long
+		 */
+		private void writeLong(final long value) {
+			ensureCapacity(8);
+			putLong(buffer, size, value);
+			size += 8;
+		}
+
+		/**
+		 * Write a byte.
+		 *
+		 * @param value the byte
+		 */
+		private void writeByte(final byte value) {
+			ensureCapacity(1);
+			buffer[size++] = value;
+		}
+
+		/**
+		 * Write bytes.
+		 *
+		 * @param bytes the bytes
+		 * @param length the number of bytes to write
+		 */
+		private void writeBytes(final byte[] bytes, final int length) {
+			ensureCapacity(length);
+			System.arraycopy(bytes, 0, buffer, size, length);
+			size += length;
+		}
+
+		/**
+		 * Grow the buffer if needed.
+		 *
+		 * @param needed the number of bytes about to be written
+		 */
+		private void ensureCapacity(final int needed) {
+			if (size + needed > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + needed));
+			}
+		}
+	}
+
+	/**
+	 * Put a long into a byte array, little endian.
+	 *
+	 * @param bytes the array
+	 * @param offset the offset
+	 * @param value the long
+	 */
+	private static void putLong(final byte[] bytes, final int offset, final long value) {
+		for (int i = 0; i < 8; i++) {
+			bytes[offset + i] = (byte) (value >>> (8 * i));
+		}
+	}
+
+	/**
+	 * Get a long from a byte array, little endian.
+	 *
+	 * @param bytes the array
+	 * @param offset the offset
+	 * @return long
+	 */
+	private static long getLong(final byte[] bytes, final int offset) {
+		long value = 0;
+		for (int i = 7; i >= 0; i--) {
+			value = (value << 8) | (bytes[offset + i] & 0xffL);
+		}
+		return value;
+	}
+
+	/**
+	 * The 128 bit MurmurHash3 (x64) of bytes.
+	 *
+	 * @param data the bytes
+	 * @param length the number of bytes to hash
+	 * @return long[] - the two halves of the hash
+	 */
+	static long[] murmur3(final byte[] data, final int length) {
+		final long c1 = 0x87c37b91114253d5L;
+		final long c2 = 0x4cf5ad432745937fL;
+		long h1 = SEED & 0xffffffffL;
+		long h2 = SEED & 0xffffffffL;
+
+		final int blocks = length / 16;
+		for (int i = 0; i < blocks; i++) {
+			long k1 = getLong(data, i * 16);
+			long k2 = getLong(data, i * 16 + 8);
+
+			k1 *= c1;
+			k1 = Long.rotateLeft(k1, 31);
+			k1 *= c2;
+			h1 ^= k1;
+			h1 = Long.rotateLeft(h1, 27);
+			h1 += h2;
+			h1 = h1 * 5 + 0x52dce729;
+
+			k2 *= c2;
+			k2 = Long.rotateLeft(k2, 33);
+			k2 *= c1;
+			h2 ^= k2;
+			h2 = Long.rotateLeft(h2, 31);
+			h2 += h1;
+			h2 = h2 * 5 + 0x38495ab5;
+		}
+
+		final int tail = blocks * 16;
+		long k1 = 0;
+		long k2 = 0;
+		switch (length & 15) {
+			case 15: k2 ^= (data[tail + 14] & 0xffL) << 48; // NOSONAR fall through
+			case 14: k2 ^= (data[tail + 13] & 0xffL) << 40; // NOSONAR fall through
+			case 13: k2 ^= (data[tail + 12] & 0xffL) << 32; // NOSONAR fall through
+			case 12: k2 ^= (data[tail + 11] & 0xffL) << 24; // NOSONAR fall through
+			case 11: k2 ^= (data[tail + 10] & 0xffL) << 16; // NOSONAR fall through
+			case 10: k2 ^= (data[tail + 9] & 0xffL) << 8; // NOSONAR fall through
+			case 9:
+				k2 ^= data[tail + 8] & 0xffL;
+				k2 *= c2;
+				k2 = Long.rotateLeft(k2, 33);
+				k2 *= c1;
+				h2 ^= k2; // NOSONAR fall through
+			case 8: k1 ^= (data[tail + 7] & 0xffL) << 56; // NOSONAR fall through
+			case 7: k1 ^= (data[tail + 6] & 0xffL) << 48; // NOSONAR fall through
+			case 6: k1 ^= (data[tail + 5] & 0xffL) << 40; // NOSONAR fall through
+			case 5: k1 ^= (data[tail + 4] & 0xffL) << 32; // NOSONAR fall through
+			case 4: k1 ^= (data[tail + 3] & 0xffL) << 24; // NOSONAR fall through
+			case 3: k1 ^= (data[tail + 2] & 0xffL) << 16; // NOSONAR fall through
+			case 2: k1 ^= (data[tail + 1] & 0xffL) << 8; // NOSONAR fall through
+			case 1:
+				k1 ^= data[tail] & 0xffL;
+				k1 *= c1;
+				k1 = Long.rotateLeft(k1, 31);
+				k1 *= c2;
+				h1 ^= k1;
+				break;
+			default:
+				break;
+		}
+
+		h1 ^= length;
+		h2 ^= length;
+		h1 += h2;
+		h2 += h1;
+		h1 = fmix64(h1);
+		h2 = fmix64(h2);
+		h1 += h2;
+		h2 += h1;
+		return new long[] { h1, h2 };
+	}
+
+	/**
+	 * MurmurHash3 64 bit finalization mix.
+	 *
+	 * @param k the value
+	 * @return long
+	 */
+	private static long fmix64(final long k) {
+		long h = k;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb1fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
@@ -1,12 +1,14 @@
 package gov.va.bip.framework.cache.interceptor;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.aopalliance.intercept.MethodInvocation;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.Cache;
 import org.springframework.cache.interceptor.CacheInterceptor;
+import org.springframework.cache.interceptor.CacheOperationInvoker;
 
 import gov.va.bip.framework.audit.AuditEventData;
 import gov.va.bip.framework.audit.AuditEvents;
@@ -21,10 +23,9 @@ import gov.va.bip.framework.log.BipLoggerFactory;
  * This interceptor is equivalent to an Around aspect of the method that
  * has the Cache annotation(s) - e.g. @CachePut.
  * <p>
- * This interceptor does not distinguish cache operations, so all executions
- * of the application caching method will create audit records.
- * If this behavior is undesirable, it will be necessary to override enough
- * of the inherited code to have control of the {@link #doGet(Cache, Object)} method.
+ * By default all executions of the application caching method create audit records.
+ * The {@link CacheAuditMode audit mode} can restrict auditing to cache misses (executions
+ * that invoked the cached method), to misses and a sample of the hits, or turn it off.
  *
  * @author aburkholder
  */
@@ -37,11 +38,22 @@ public class BipCacheInterceptor extends CacheInterceptor {
 	private static final String ADVICE_NAME = "invokeBipCacheInterceptor";
 	/** The activity name for this interceptor */
 	private static final String ACTIVITY = "cacheInvoke";
+	/** The default fraction of hits audited in {@link CacheAuditMode#SAMPLED} mode */
+	public static final double DEFAULT_AUDIT_SAMPLE_RATE = 0.01;
 
 	/** Get the object for general auditing. */
 	@Autowired
 	transient BaseAsyncAudit baseAsyncAudit;
 
+	/** Which invocations are audited, volatile so it can be changed at runtime */
+	private volatile CacheAuditMode auditMode = CacheAuditMode.ALL;
+
+	/** Fraction of hits audited in {@link CacheAuditMode#SAMPLED} mode, volatile so it can be changed at runtime */
+	private volatile double auditSampleRate = DEFAULT_AUDIT_SAMPLE_RATE;
+
+	/** Are invocations tracked in {@link BipCacheInvocation}, volatile so it can be changed at runtime */
+	private volatile boolean invocationTracking;
+
 	/**
 	 * Instantiate an BipCacheInterceptor to audit cache GET operations.
 	 */
@@ -49,27 +61,96 @@ public class BipCacheInterceptor extends CacheInterceptor {
 		LOGGER.debug("Instantiating " + BipCacheInterceptor.class.getName());
 	}
 
+	/**
+	 * Which invocations are audited. Default is {@link CacheAuditMode#ALL}.
+	 *
+	 * @return CacheAuditMode
+	 */
+	public CacheAuditMode getAuditMode() {
+		return auditMode;
+	}
+
+	/**
+	 * Which invocations are audited. A {@code null} value restores {@link CacheAuditMode#ALL}.
+	 *
+	 * @param auditMode the audit mode
+	 */
+	public void setAuditMode(final CacheAuditMode auditMode) {
+		this.auditMode = auditMode == null ? CacheAuditMode.ALL : auditMode;
+	}
+
+	/**
+	 * Fraction (0.0 to 1.0) of hits audited in {@link CacheAuditMode#SAMPLED} mode.
+	 *
+	 * @return double
+	 */
+	public double getAuditSampleRate() {
+		return auditSampleRate;
+	}
+
+	/**
+	 * Fraction (0.0 to 1.0) of hits audited in {@link CacheAuditMode#SAMPLED} mode.
+	 *
+	 * @param auditSampleRate the sample rate
+	 */
+	public void setAuditSampleRate(final double auditSampleRate) {
+		this.auditSampleRate = Math.min(1.0, Math.max(0.0, auditSampleRate));
+	}
+
+	/**
+	 * Are invocations tracked in {@link BipCacheInvocation}. Default is {@code false}.
+	 *
+	 * @return boolean
+	 */
+	public boolean isInvocationTracking() {
+		return invocationTracking;
+	}
+
+	/**
+	 * Track invocations in {@link BipCacheInvocation}, for the cache features that use them
+	 * (e.g. single-flight loads and refresh-ahead). Leave off when no such feature is in use.
+	 *
+	 * @param invocationTracking are invocations tracked
+	 */
+	public void setInvocationTracking(final boolean invocationTracking) {
+		this.invocationTracking = invocationTracking;
+	}
+
 	/**
 	 * Perform audit logging after the method has been called.
 	 * <p>
 	 * This interceptor is equivalent to an Around aspect of the method that
 	 * has the Cache annotation(s) - e.g. @CachePut.
 	 * <p>
-	 * This interceptor does not distinguish cache operations, so all executions
-	 * of the application caching method will create audit records.
-	 * If this behavior is undesirable, it will be necessary to override enough
-	 * of the inherited code to have control of the {@link #doGet(Cache, Object)} method.
+	 * Which executions of the application caching method create audit records is
+	 * determined by the {@link #setAuditMode(CacheAuditMode) audit mode}. A hit that is not
+	 * audited costs only the cache lookup.
 	 */
 	@Override
 	public Object invoke(final MethodInvocation invocation) throws Throwable {
-
-		Class<?> underAudit = invocation.getThis().getClass();
-		AuditEventData auditEventData = new AuditEventData(AuditEvents.CACHED_SERVICE_RESPONSE, ACTIVITY, underAudit.getName());
+		final Method method = invocation.getMethod();
+		final boolean[] executed = new boolean[1];
+		final CacheOperationInvoker invoker = () -> {
+			executed[0] = true;
+			try {
+				return invocation.proceed();
+			} catch (Throwable ex) { // NOSONAR rethrown by the caller
+				throw new CacheOperationInvoker.ThrowableWrapper(ex);
+			}
+		};
 
 		Object response = null;
 
+		final boolean tracked = invocationTracking;
+		if (tracked) {
+			BipCacheInvocation.begin(invocation);
+		}
 		try {
-			response = super.invoke(invocation);
+			try {
+				response = execute(invoker, invocation.getThis(), method, invocation.getArguments());
+			} catch (CacheOperationInvoker.ThrowableWrapper th) {
+				throw th.getOriginal();
+			}
 			if (response == null) {
 				// no response
 				response = new Object();
@@ -79,18 +160,45 @@ public class BipCacheInterceptor extends CacheInterceptor {
 				String prefix = this.getClass().getSimpleName() + ".invoke(..) :: ";
 				LOGGER.debug(prefix + "Invocation class: " + invocation.getClass().toGenericString());
 				LOGGER.debug(prefix + "Invoked from: " + invocation.getThis().getClass().getName());
-				LOGGER.debug(prefix + "Invoking method: " + invocation.getMethod().toGenericString());
+				LOGGER.debug(prefix + "Invoking method: " + method.toGenericString());
 				LOGGER.debug(prefix + "  having annotations: " + Arrays.toString(invocation.getStaticPart().getAnnotations()));
-				LOGGER.debug(prefix + "Returning: " + ReflectionToStringBuilder.toString(response, null, false, false, Object.class));
+				LOGGER.debug(prefix + (executed[0] ? "Cache miss" : "Cache hit") + ", returning: "
+						+ ReflectionToStringBuilder.toString(response, null, false, false, Object.class));
 			}
 
-			baseAsyncAudit.writeResponseAuditLog(response, new HttpResponseAuditData(), auditEventData, null, null);
-			LOGGER.debug(ADVICE_NAME + " audit logging handed off to async.");
+			if (isAudited(executed[0])) {
+				AuditEventData auditEventData =
+						new AuditEventData(AuditEvents.CACHED_SERVICE_RESPONSE, ACTIVITY, invocation.getThis().getClass().getName());
+				baseAsyncAudit.writeResponseAuditLog(response, new HttpResponseAuditData(), auditEventData, null, null);
+				LOGGER.debug(ADVICE_NAME + " audit logging handed off to async.");
+			}
 
 		} finally {
+			if (tracked) {
+				BipCacheInvocation.end();
+			}
 			LOGGER.debug(ADVICE_NAME + " finished.");
 		}
 
 		return response;
 	}
+
+	/**
+	 * Is an invocation audited under the current audit mode.
+	 *
+	 * @param miss {@code true} if the cached method was executed
+	 * @return boolean
+	 */
+	boolean isAudited(final boolean miss) {
+		switch (auditMode) {
+			case OFF:
+				return false;
+			case MISSES:
+				return miss;
+			case SAMPLED:
+				return miss || ThreadLocalRandom.current().nextDouble() < auditSampleRate;
+			default:
+				return true;
+		}
+	}
 }
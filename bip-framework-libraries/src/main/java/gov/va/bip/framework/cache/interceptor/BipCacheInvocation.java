@@ -0,0 +1,220 @@
+package gov.va.bip.framework.cache.interceptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.MDC;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.util.ClassUtils;
+
+import gov.va.bip.framework.log.BipLogger;
+import gov.va.bip.framework.log.BipLoggerFactory;
+
+/**
+ * Tracks the cache invocations ({@link BipCacheInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)})
+ * in progress on the current thread, so that cache decorators can:
+ * <ul>
+ * <li>run work when the invocation completes, whether it returned a value, returned a value that was not
+ * cached, or threw - see {@link #onCompletion(Runnable)}
+ * <li>find out how long the invocation has been running, e.g. how long it took to compute a value being put
+ * - see {@link #elapsedNanos()}
+ * <li>get a loader that invokes the cached method again, bypassing the cache, e.g. to refresh a value in
+ * the background - see {@link #reloader()}
+ * </ul>
+ * Invocations are tracked only while {@link BipCacheInterceptor#setInvocationTracking(boolean) invocation tracking}
+ * is on, which the cache configuration does only when a cache feature uses it, so cache hits do not pay for it otherwise.
+ */
+public final class BipCacheInvocation {
+	/** Class logger */
+	private static final BipLogger LOGGER = BipLoggerFactory.getLogger(BipCacheInvocation.class);
+
+	/**
+	 * The innermost invocation in progress on the thread, linked to the invocations it is nested in.
+	 * The thread's entry is kept (set to {@code null}) when its outermost invocation ends, rather than removed,
+	 * so invocations on the thread do not create and remove it each time.
+	 */
+	private static final ThreadLocal<Frame> INVOCATIONS = new ThreadLocal<>();
+
+	/** Is there a servlet request context to carry to reloads, i.e. are the servlet API and spring-web present */
+	private static final boolean REQUEST_CONTEXT_PRESENT =
+			ClassUtils.isPresent("javax.servlet.http.HttpServletRequest", BipCacheInvocation.class.getClassLoader())
+					&& ClassUtils.isPresent("org.springframework.web.context.request.RequestContextHolder",
+							BipCacheInvocation.class.getClassLoader());
+
+	/**
+	 * Do not instantiate.
+	 */
+	private BipCacheInvocation() {
+		throw new IllegalStateException("BipCacheInvocation is a static class. Do not instantiate it.");
+	}
+
+	/**
+	 * Mark the start of a cache invocation on the current thread.
+	 * Must be paired with {@link #end()} in a finally block.
+	 *
+	 * @param invocation the intercepted method invocation, may be {@code null}
+	 */
+	static void begin(final MethodInvocation invocation) {
+		INVOCATIONS.set(new Frame(invocation, INVOCATIONS.get()));
+	}
+
+	/**
+	 * Mark the end of the innermost cache invocation on the current thread, and run its completion callbacks.
+	 */
+	static void end() {
+		final Frame frame = INVOCATIONS.get();
+		if (frame == null) {
+			return;
+		}
+		INVOCATIONS.set(frame.parent);
+		if (frame.callbacks != null) {
+			for (final Runnable callback : frame.callbacks) {
+				try {
+					callback.run();
+				} catch (RuntimeException e) { // NOSONAR intentionally broad catch
+					LOGGER.warn("Cache invocation completion callback failed: " + e.getMessage());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Run a callback when the innermost cache invocation on the current thread completes.
+	 *
+	 * @param callback the callback
+	 * @return boolean - {@code true} if the callback was registered, {@code false} if no
+	 *         cache invocation is in progress on the current thread
+	 */
+	public static boolean onCompletion(final Runnable callback) {
+		final Frame frame = current();
+		if (frame == null) {
+			return false;
+		}
+		if (frame.callbacks == null) {
+			frame.callbacks = new ArrayList<>(1);
+		}
+		frame.callbacks.add(callback);
+		return true;
+	}
+
+	/**
+	 * Nanoseconds since the innermost cache invocation on the current thread started.
+	 *
+	 * @return long - the elapsed time, or 0 if no cache invocation is in progress on the current thread
+	 */
+	public static long elapsedNanos() {
+		final Frame frame = current();
+		return frame == null ? 0L : System.nanoTime() - frame.startedAt;
+	}
+
+	/**
+	 * A loader that invokes the method of the innermost cache invocation on the current thread again,
+	 * with the same arguments, bypassing the cache. The loader carries the current security context, logging
+	 * context (MDC) and a copy of the headers of the current request (e.g. the JWT header propagated to partner
+	 * services), so it can be called on another thread after the request has completed.
+	 * <p>
+	 * Must be called while the cache is being read, before the invocation proceeds to the method.
+	 * {@code Optional} results are unwrapped, the same as for values put by the cache interceptor.
+	 *
+	 * @return the loader, or {@code null} if no cache invocation is in progress on the current thread,
+	 *         or the invocation cannot be repeated
+	 */
+	public static Callable<Object> reloader() {
+		final Frame frame = current();
+		if (frame == null || !(frame.invocation instanceof ProxyMethodInvocation)) {
+			return null;
+		}
+		final MethodInvocation clone = ((ProxyMethodInvocation) frame.invocation).invocableClone();
+		Callable<Object> reloader = () -> {
+			final Object result;
+			try {
+				result = clone.proceed();
+			} catch (Exception | Error e) { // NOSONAR rethrow as is
+				throw e;
+			} catch (Throwable e) { // NOSONAR wrap checked throwables
+				throw new IllegalStateException(e);
+			}
+			return result instanceof Optional ? ((Optional<?>) result).orElse(null) : result;
+		};
+		if (REQUEST_CONTEXT_PRESENT) {
+			reloader = BipDetachedRequest.wrap(reloader);
+		}
+		return new DelegatingSecurityContextCallable<>(withLoggingContext(reloader));
+	}
+
+	/**
+	 * Wrap a callable so that it runs with the logging context (MDC) of the current thread.
+	 * The context is copied now, and the context of the calling thread is restored after the call.
+	 *
+	 * @param callable the callable
+	 * @return the wrapped callable
+	 */
+	private static <T> Callable<T> withLoggingContext(final Callable<T> callable) {
+		final Map<String, String> context = MDC.getCopyOfContextMap();
+		return () -> {
+			final Map<String, String> previous = MDC.getCopyOfContextMap();
+			setLoggingContext(context);
+			try {
+				return callable.call();
+			} finally {
+				setLoggingContext(previous);
+			}
+		};
+	}
+
+	/**
+	 * Replace the logging context (MDC) of the current thread.
+	 *
+	 * @param context the context, may be {@code null} for none
+	 */
+	private static void setLoggingContext(final Map<String, String> context) {
+		if (context == null) {
+			MDC.clear();
+		} else {
+			MDC.setContextMap(context);
+		}
+	}
+
+	/**
+	 * The innermost cache invocation on the current thread.
+	 *
+	 * @return Frame - the invocation, or {@code null} if none is in progress
+	 */
+	private static Frame current() {
+		return INVOCATIONS.get();
+	}
+
+	/**
+	 * A cache invocation in progress.
+	 */
+	private static final class Frame {
+
+		/** The intercepted method invocation, may be {@code null} */
+		private final MethodInvocation invocation;
+
+		/** The invocation this one is nested in, {@code null} if none */
+		private final Frame parent;
+
+		/** When the invocation started, as {@link System#nanoTime()} */
+		private final long startedAt = System.nanoTime();
+
+		/** Completion callbacks, created on first use */
+		private List<Runnable> callbacks;
+
+		/**
+		 * Create a frame.
+		 *
+		 * @param invocation the intercepted method invocation, may be {@code null}
+		 * @param parent the invocation this one is nested in, {@code null} if none
+		 */
+		private Frame(final MethodInvocation invocation, final Frame parent) {
+			this.invocation = invocation;
+			this.parent = parent;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+package gov.va.bip.framework.cache.interceptor;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * A copy of the headers of the request bound to the current thread, that is bound as the request of work
+ * done for it on another thread - e.g. a cache refresh that calls a partner service, whose outbound request
+ * interceptors propagate the JWT header of the request.
+ * <p>
+ * The live request is not held, as the container recycles it once the response is sent. The detached request
+ * supports the header and attribute methods only, other request methods throw {@link UnsupportedOperationException}.
+ */
+final class BipDetachedRequest implements InvocationHandler {
+
+	/** The request headers, by case-insensitive name */
+	private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+	/** The attributes set on the detached request */
+	private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+	/**
+	 * Do not instantiate outside {@link #wrap(Callable)}.
+	 */
+	private BipDetachedRequest() {
+	}
+
+	/**
+	 * Wrap a callable so that it runs with a detached copy of the request bound to the current thread.
+	 * The request is copied now, and the request previously bound to the calling thread is restored after the call.
+	 *
+	 * @param callable the callable
+	 * @return the wrapped callable, or the callable itself if no request is bound to the current thread
+	 */
+	static <T> Callable<T> wrap(final Callable<T> callable) {
+		final RequestAttributes current = RequestContextHolder.getRequestAttributes();
+		if (!(current instanceof ServletRequestAttributes)) {
+			return callable;
+		}
+		final RequestAttributes detached = new ServletRequestAttributes(detach(((ServletRequestAttributes) current).getRequest()));
+		return () -> {
+			final RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+			RequestContextHolder.setRequestAttributes(detached);
+			try {
+				return callable.call();
+			} finally {
+				RequestContextHolder.setRequestAttributes(previous);
+			}
+		};
+	}
+
+	/**
+	 * A detached copy of the headers of a request.
+	 *
+	 * @param request the request
+	 * @return HttpServletRequest
+	 */
+	static HttpServletRequest detach(final HttpServletRequest request) {
+		final BipDetachedRequest detached = new BipDetachedRequest();
+		final Enumeration<String> names = request.getHeaderNames();
+		while (names != null && names.hasMoreElements()) {
+			final String name = names.nextElement();
+			final Enumeration<String> values = request.getHeaders(name);
+			detached.headers.put(name, values == null ? Collections.emptyList() : Collections.list(values));
+		}
+		return (HttpServletRequest) Proxy.newProxyInstance(BipDetachedRequest.class.getClassLoader(),
+				new Class<?>[] { HttpServletRequest.class }, detached);
+	}
+
+	@Override
+	public Object invoke(final Object proxy, final Method method, final Object[] args) {
+		switch (method.getName()) {
+			case "getHeader":
+				final List<String> values = getHeaderValues(args[0]);
+				return values.isEmpty() ? null : values.get(0);
+			case "getHeaders":
+				return Collections.enumeration(getHeaderValues(args[0]));
+			case "getHeaderNames":
+				return Collections.enumeration(headers.keySet());
+			case "getAttribute":
+				return attributes.get(args[0]);
+			case "getAttributeNames":
+				return Collections.enumeration(attributes.keySet());
+			case "setAttribute":
+				if (args[1] == null) {
+					attributes.remove(args[0]);
+				} else {
+					attributes.put((String) args[0], args[1]);
+				}
+				return null;
+			case "removeAttribute":
+				attributes.remove(args[0]);
+				return null;
+			case "getSession":
+				return null;
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "toString":
+				return BipDetachedRequest.class.getSimpleName() + headers.keySet();
+			default:
+				throw new UnsupportedOperationException("HttpServletRequest." + method.getName()
+						+ " is not available on a request detached from its thread, only its headers and attributes are.");
+		}
+	}
+
+	/**
+	 * The values of a header.
+	 *
+	 * @param name the header name
+	 * @return List - the values, empty if the request does not have the header
+	 */
+	private List<String> getHeaderValues(final Object name) {
+		final List<String> values = name == null ? null : headers.get(name);
+		return values == null ? Collections.emptyList() : values;
+	}
+}
@@ -0,0 +1,21 @@
+package gov.va.bip.framework.cache.interceptor;
+
+/**
+ * Which invocations of cached methods are audited by {@link BipCacheInterceptor}.
+ * <p>
+ * A miss is an invocation that executed the cached method; a hit is one that was served from the cache.
+ */
+public enum CacheAuditMode {
+
+	/** Audit every invocation, hit or miss */
+	ALL,
+
+	/** Audit only misses */
+	MISSES,
+
+	/** Audit every miss, and a sample of the hits */
+	SAMPLED,
+
+	/** Do not audit */
+	OFF
+}
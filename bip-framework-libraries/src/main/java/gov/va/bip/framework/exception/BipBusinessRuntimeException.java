@@ -0,0 +1,52 @@
+package gov.va.bip.framework.exception;
+
+import org.springframework.http.HttpStatus;
+
+import gov.va.bip.framework.messages.MessageKey;
+import gov.va.bip.framework.messages.MessageSeverity;
+
+/**
+ * A lightweight BIP <b>runtime</b> exception for expected business outcomes
+ * (e.g. "not found", "not eligible", rejected client input).
+ * <p>
+ * The stack trace is never filled in and suppression is disabled, so constructing
+ * and throwing this exception costs little more than any other object allocation.
+ * Use it only where the stack trace would not be useful - the consumer response and
+ * the log entry are built from the {@link BipExceptionData}, not the stack trace.
+ * Unexpected failures should continue to use {@link BipRuntimeException}.
+ *
+ * @see BipBusinessException
+ * @see BipRuntimeException
+ */
+public class BipBusinessRuntimeException extends BipRuntimeException {
+	private static final long serialVersionUID = -6312069432315837916L;
+
+	/**
+	 * Constructs a new lightweight <b>runtime</b> Exception with the specified detail key, message, severity, and status.
+	 *
+	 * @param key - the consumer-facing key that can uniquely identify the nature of the exception
+	 * @param severity - the severity of the event: FATAL (500 series), ERROR (400 series), WARN (200 series), or INFO/DEBUG/TRACE
+	 * @param status - the HTTP Status code that applies best to the encountered problem, see
+	 *            <a href="https://tools.ietf.org/html/rfc7231">https://tools.ietf.org/html/rfc7231</a>
+	 * @param params - arguments to fill in any params in the MessageKey message (e.g. value for {0})
+	 */
+	public BipBusinessRuntimeException(final MessageKey key, final MessageSeverity severity, final HttpStatus status,
+			final String... params) {
+		this(key, severity, status, null, params);
+	}
+
+	/**
+	 * Constructs a new lightweight <b>runtime</b> Exception with the specified detail key, message, severity, status, and cause.
+	 *
+	 * @param key - the consumer-facing key that can uniquely identify the nature of the exception
+	 * @param severity - the severity of the event: FATAL (500 series), ERROR (400 series), WARN (200 series), or INFO/DEBUG/TRACE
+	 * @param status - the HTTP Status code that applies best to the encountered problem, see
+	 *            <a href="https://tools.ietf.org/html/rfc7231">https://tools.ietf.org/html/rfc7231</a>
+	 * @param cause - the throwable that caused this throwable
+	 * @param params - arguments to fill in any params in the MessageKey message (e.g. value for {0})
+	 */
+	public BipBusinessRuntimeException(final MessageKey key, final MessageSeverity severity, final HttpStatus status,
+			final Throwable cause, final String... params) {
+		super(key, severity, status, cause, false, false, params);
+	}
+}
@@ -58,6 +58,29 @@ public class BipRuntimeException extends RuntimeException implements BipExceptio
 		exceptionData = new BipExceptionData(key, severity, status, params);
 	}
 
+	/**
+	 * Constructs a new RuntimeException with the specified detail key, message, severity, status, and cause,
+	 * with suppression and writable stack trace enabled or disabled.
+	 * <p>
+	 * Intended for subclasses representing expected outcomes that do not need a stack trace.
+	 *
+	 * @see RuntimeException#RuntimeException(String, Throwable, boolean, boolean)
+	 *
+	 * @param key - the consumer-facing key that can uniquely identify the nature of the exception
+	 * @param severity - the severity of the event: FATAL (500 series), ERROR (400 series), WARN (200 series), or INFO/DEBUG/TRACE
+	 * @param status - the HTTP Status code that applies best to the encountered problem, see
+	 *            <a href="https://tools.ietf.org/html/rfc7231">https://tools.ietf.org/html/rfc7231</a>
+	 * @param cause - the throwable that caused this throwable
+	 * @param enableSuppression - whether or not suppression is enabled or disabled
+	 * @param writableStackTrace - whether or not the stack trace should be writable
+	 * @param params - arguments to fill in any params in the MessageKey message (e.g. value for {0})
+	 */
+	protected BipRuntimeException(final MessageKey key, final MessageSeverity severity, final HttpStatus status,
+			final Throwable cause, final boolean enableSuppression, final boolean writableStackTrace, final String... params) {
+		super((key == null ? MessageKeys.NO_KEY.toString() : key.getMessage(params)), cause, enableSuppression, writableStackTrace);
+		exceptionData = new BipExceptionData(key, severity, status, params);
+	}
+
 	/**
 	 * Returns the BIP Exception Data.
 	 *
@@ -8,6 +8,9 @@ import org.slf4j.event.Level;
 import org.springframework.http.HttpStatus;
 
 import gov.va.bip.framework.constants.BipConstants;
+import gov.va.bip.framework.exception.BipBusinessException;
+import gov.va.bip.framework.exception.BipBusinessRuntimeException;
+import gov.va.bip.framework.exception.BipExceptionData;
 import gov.va.bip.framework.exception.BipExceptionExtender;
 import gov.va.bip.framework.exception.BipRuntimeException;
 import gov.va.bip.framework.log.BipBanner;
@@ -65,6 +68,12 @@ public final class ExceptionHandlingUtils {
 			// have to cast so the "Throwable throwable" variable can be returned as-is
 			resolvedRuntimeException = castToBipRuntimeException(throwable);
 
+		} else if (throwable instanceof BipBusinessException) {
+			// keep expected business outcomes lightweight, without reflection
+			final BipExceptionData data = ((BipBusinessException) throwable).getExceptionData();
+			resolvedRuntimeException = new BipBusinessRuntimeException(data.getMessageKey(), data.getSeverity(), data.getStatus(),
+					throwable, data.getParams());
+
 		} else if (BipExceptionExtender.class.isAssignableFrom(throwable.getClass())) {
 			resolvedRuntimeException = convertFromBipExceptionExtender(throwable);
 
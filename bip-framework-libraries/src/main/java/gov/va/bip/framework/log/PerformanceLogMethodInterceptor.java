@@ -1,5 +1,7 @@
 package gov.va.bip.framework.log;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.aopalliance.intercept.MethodInterceptor;
@@ -14,6 +16,9 @@ import org.aopalliance.intercept.MethodInvocation;
  * This method takes a configurable 'warningThreshhold', the number of milliseconds until performance is considered a "warning."
  * If/when the 'warningThreshhold' is exceeded the performance will be logged as at a warning level.
  *
+ * When thresholds are not set on the interceptor itself, the application-wide values from
+ * {@link PerformanceWarningThresholds#current()} are used, so they can be changed at runtime.
+ *
  * @see org.aopalliance.intercept.MethodInterceptor
  *
  * @author Jon Shrader
@@ -27,10 +32,10 @@ public class PerformanceLogMethodInterceptor implements MethodInterceptor {
 	public static final Integer DEFAULT_WARNING_THRESHHOLD = Integer.valueOf(1500);
 
 	/** The custom set warning threshold. */
-	private Integer warningThreshhold;
+	private volatile Integer warningThreshhold;
 
-	/** The custom warning threshold that is based on the class+method being run */
-	private Map<String, Integer> classAndMethodSpecificWarningThreshold;
+	/** The custom warning threshold that is based on the class+method being run (immutable copy) */
+	private volatile Map<String, Integer> classAndMethodSpecificWarningThreshold;
 
 	/** The Constant IN_ELAPSED_TIME. */
 	private static final String IN_ELAPSED_TIME = "] in elapsed time [";
@@ -107,26 +112,35 @@ public class PerformanceLogMethodInterceptor implements MethodInterceptor {
 	}
 
 	/**
-	 * Gets the warning threshold. Priority is 1. <code>methoToWarningThreshold</code> 2. <code>warningThreshhold</code> 3.
-	 * <code>DEFAULT_WARNING_THRESHHOLD</code>
+	 * Gets the warning threshold. Priority is 1. <code>methoToWarningThreshold</code> 2. the method specific threshold from
+	 * {@link PerformanceWarningThresholds#current()} 3. <code>warningThreshhold</code> 4. the default threshold from
+	 * {@link PerformanceWarningThresholds#current()}, which is <code>DEFAULT_WARNING_THRESHHOLD</code> unless configured.
+	 * <p>
+	 * The lookup reads immutable snapshots only, and does not lock.
 	 *
 	 * @param callingMethod - the method the intercepter is running on
 	 * @return the warning threshold
 	 */
 	public final Integer getWarningThreshold(final String callingMethod) {
 		Integer threshold = null;
+		final PerformanceWarningThresholds configured = PerformanceWarningThresholds.current();
 
 		// check to see if the method has it's own threshold
-		if (classAndMethodSpecificWarningThreshold != null) {
-			threshold = classAndMethodSpecificWarningThreshold.get(callingMethod);
+		final Map<String, Integer> methodThresholds = classAndMethodSpecificWarningThreshold;
+		if (methodThresholds != null && callingMethod != null) {
+			threshold = methodThresholds.get(callingMethod);
+		}
+		if (threshold == null) {
+			threshold = configured.getMethodWarningThreshold(callingMethod);
 		}
 
-		// there wasn't a custom threshold for the method - use either the class level warningThreshold or the default one
+		// there wasn't a custom threshold for the method - use either the class level warningThreshold or the configured one
 		if (threshold == null) {
-			if (warningThreshhold == null) {
-				threshold = DEFAULT_WARNING_THRESHHOLD;
+			final Integer classThreshold = warningThreshhold;
+			if (classThreshold == null) {
+				threshold = configured.getWarningThreshold();
 			} else {
-				threshold = warningThreshhold;
+				threshold = classThreshold;
 			}
 		}
 
@@ -149,7 +163,9 @@ public class PerformanceLogMethodInterceptor implements MethodInterceptor {
 	 * @param classAndMethodSpecificWarningThreshold the methodToWarningThreshold to set
 	 */
 	public final void setClassAndMethodSpecificWarningThreshold(final Map<String, Integer> classAndMethodSpecificWarningThreshold) {
-		this.classAndMethodSpecificWarningThreshold = classAndMethodSpecificWarningThreshold;
+		this.classAndMethodSpecificWarningThreshold = classAndMethodSpecificWarningThreshold == null
+				? null
+				: Collections.unmodifiableMap(new HashMap<>(classAndMethodSpecificWarningThreshold));
 	}
 
 }
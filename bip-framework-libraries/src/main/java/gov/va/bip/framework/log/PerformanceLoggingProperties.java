@@ -0,0 +1,258 @@
+package gov.va.bip.framework.log;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties used to configure performance (elapsed time) warning thresholds.
+ * <p>
+ * Declared in the application YAML under {@code bip.framework.logging.performance}:
+ * <p>
+ * <table border="1px">
+ * <tr><th colspan="3">Properties under: {@code bip.framework.logging.performance}</th></tr>
+ * <tr><th>Property Name</th><th>Default Value</th><th>Type</th></tr>
+ * <tr><td>warningThreshold</td><td>1500</td><td>Integer</td></tr>
+ * <tr><td>classAndMethodSpecificWarningThreshold</td><td>empty</td><td>Map&lt;String, Integer&gt;</td></tr>
+ * </table>
+ * <p>
+ * Keys in the {@code classAndMethodSpecificWarningThreshold} map are in the form
+ * <tt><i>SimpleClassName</i>.<i>methodName</i></tt>, values are milliseconds.
+ * The values are published to {@link PerformanceWarningThresholds} at startup,
+ * and again whenever the properties are refreshed.
+ * <p>
+ * The optional slow-call sampling profiler is configured under
+ * {@code bip.framework.logging.performance.sampling} - see {@link Sampling}.
+ */
+@ConfigurationProperties(prefix = "bip.framework.logging.performance")
+public class PerformanceLoggingProperties {
+
+	/** The default warning threshold in milliseconds */
+	private Integer warningThreshold = PerformanceLogMethodInterceptor.DEFAULT_WARNING_THRESHHOLD;
+
+	/** The warning thresholds in milliseconds, keyed by SimpleClassName.methodName */
+	private Map<String, Integer> classAndMethodSpecificWarningThreshold = new LinkedHashMap<>();
+
+	/** The slow-call sampling profiler configuration */
+	private Sampling sampling = new Sampling();
+
+	/**
+	 * The default warning threshold in milliseconds.
+	 *
+	 * @return Integer
+	 */
+	public Integer getWarningThreshold() {
+		return warningThreshold;
+	}
+
+	/**
+	 * The default warning threshold in milliseconds.
+	 *
+	 * @param warningThreshold
+	 */
+	public void setWarningThreshold(final Integer warningThreshold) {
+		this.warningThreshold = warningThreshold;
+	}
+
+	/**
+	 * The warning thresholds in milliseconds, keyed by SimpleClassName.methodName.
+	 *
+	 * @return Map&lt;String, Integer&gt;
+	 */
+	public Map<String, Integer> getClassAndMethodSpecificWarningThreshold() {
+		return classAndMethodSpecificWarningThreshold;
+	}
+
+	/**
+	 * The warning thresholds in milliseconds, keyed by SimpleClassName.methodName.
+	 *
+	 * @param classAndMethodSpecificWarningThreshold
+	 */
+	public void setClassAndMethodSpecificWarningThreshold(final Map<String, Integer> classAndMethodSpecificWarningThreshold) {
+		this.classAndMethodSpecificWarningThreshold = classAndMethodSpecificWarningThreshold;
+	}
+
+	/**
+	 * Create an immutable snapshot of the current property values.
+	 *
+	 * @return PerformanceWarningThresholds
+	 */
+	public PerformanceWarningThresholds toWarningThresholds() {
+		return new PerformanceWarningThresholds(warningThreshold, classAndMethodSpecificWarningThreshold);
+	}
+
+	/**
+	 * The slow-call sampling profiler configuration.
+	 *
+	 * @return Sampling
+	 */
+	public Sampling getSampling() {
+		return sampling;
+	}
+
+	/**
+	 * The slow-call sampling profiler configuration.
+	 *
+	 * @param sampling
+	 */
+	public void setSampling(final Sampling sampling) {
+		this.sampling = sampling;
+	}
+
+	/**
+	 * Create a sampler from the current sampling property values.
+	 *
+	 * @return SlowCallSampler
+	 */
+	public SlowCallSampler toSlowCallSampler() {
+		if (sampling == null) {
+			return SlowCallSampler.DISABLED;
+		}
+		return new SlowCallSampler(sampling.isEnabled(), sampling.getThresholdMillis(), sampling.getIntervalMillis(),
+				sampling.getMaxSamples(), sampling.getMaxDepth(), sampling.getTopStacks());
+	}
+
+	/**
+	 * Inner class to hold the slow-call sampling profiler configuration.
+	 * <p>
+	 * <table border="1px">
+	 * <tr><th colspan="3">Properties under: {@code bip.framework.logging.performance.sampling}</th></tr>
+	 * <tr><th>Property Name</th><th>Default Value</th><th>Type</th></tr>
+	 * <tr><td>enabled</td><td>false</td><td>boolean</td></tr>
+	 * <tr><td>thresholdMillis</td><td>1000</td><td>long</td></tr>
+	 * <tr><td>intervalMillis</td><td>50</td><td>long</td></tr>
+	 * <tr><td>maxSamples</td><td>200</td><td>int</td></tr>
+	 * <tr><td>maxDepth</td><td>24</td><td>int</td></tr>
+	 * <tr><td>topStacks</td><td>3</td><td>int</td></tr>
+	 * </table>
+	 */
+	public static class Sampling {
+
+		/** Is sampling enabled */
+		private boolean enabled = false;
+
+		/** Milliseconds a call must run before sampling starts */
+		private long thresholdMillis = 1000L;
+
+		/** Milliseconds between samples */
+		private long intervalMillis = 50L;
+
+		/** Maximum number of samples per call */
+		private int maxSamples = 200;
+
+		/** Maximum number of (leaf-most) frames kept per sample */
+		private int maxDepth = 24;
+
+		/** Number of stacks reported in the summary */
+		private int topStacks = 3;
+
+		/**
+		 * Is sampling enabled.
+		 *
+		 * @return boolean
+		 */
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		/**
+		 * Is sampling enabled.
+		 *
+		 * @param enabled
+		 */
+		public void setEnabled(final boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		/**
+		 * Milliseconds a call must run before sampling starts.
+		 *
+		 * @return long
+		 */
+		public long getThresholdMillis() {
+			return thresholdMillis;
+		}
+
+		/**
+		 * Milliseconds a call must run before sampling starts.
+		 *
+		 * @param thresholdMillis
+		 */
+		public void setThresholdMillis(final long thresholdMillis) {
+			this.thresholdMillis = thresholdMillis;
+		}
+
+		/**
+		 * Milliseconds between samples.
+		 *
+		 * @return long
+		 */
+		public long getIntervalMillis() {
+			return intervalMillis;
+		}
+
+		/**
+		 * Milliseconds between samples.
+		 *
+		 * @param intervalMillis
+		 */
+		public void setIntervalMillis(final long intervalMillis) {
+			this.intervalMillis = intervalMillis;
+		}
+
+		/**
+		 * Maximum number of samples per call.
+		 *
+		 * @return int
+		 */
+		public int getMaxSamples() {
+			return maxSamples;
+		}
+
+		/**
+		 * Maximum number of samples per call.
+		 *
+		 * @param maxSamples
+		 */
+		public void setMaxSamples(final int maxSamples) {
+			this.maxSamples = maxSamples;
+		}
+
+		/**
+		 * Maximum number of (leaf-most) frames kept per sample.
+		 *
+		 * @return int
+		 */
+		public int getMaxDepth() {
+			return maxDepth;
+		}
+
+		/**
+		 * Maximum number of (leaf-most) frames kept per sample.
+		 *
+		 * @param maxDepth
+		 */
+		public void setMaxDepth(final int maxDepth) {
+			this.maxDepth = maxDepth;
+		}
+
+		/**
+		 * Number of stacks reported in the summary.
+		 *
+		 * @return int
+		 */
+		public int getTopStacks() {
+			return topStacks;
+		}
+
+		/**
+		 * Number of stacks reported in the summary.
+		 *
+		 * @param topStacks
+		 */
+		public void setTopStacks(final int topStacks) {
+			this.topStacks = topStacks;
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package gov.va.bip.framework.log;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the performance warning thresholds, in milliseconds.
+ * <p>
+ * The application-wide snapshot is held in a volatile static reference. Readers
+ * (e.g. {@link PerformanceLogMethodInterceptor} and the {@code PerformanceLoggingAspect})
+ * obtain it with {@link #current()} and perform a plain map lookup - no locks are taken
+ * on the request path. Configuration changes {@link #publish(PerformanceWarningThresholds)}
+ * a complete new snapshot, so readers never observe a partially updated map.
+ */
+public final class PerformanceWarningThresholds {
+
+	/** Snapshot that uses {@link PerformanceLogMethodInterceptor#DEFAULT_WARNING_THRESHHOLD} for every method */
+	public static final PerformanceWarningThresholds DEFAULT =
+			new PerformanceWarningThresholds(PerformanceLogMethodInterceptor.DEFAULT_WARNING_THRESHHOLD, null);
+
+	/** The application-wide snapshot */
+	private static volatile PerformanceWarningThresholds current = DEFAULT;
+
+	/** The default threshold */
+	private final int warningThreshold;
+
+	/** The thresholds keyed by SimpleClassName.methodName */
+	private final Map<String, Integer> classAndMethodSpecificWarningThreshold;
+
+	/**
+	 * Create a snapshot. The map is copied, null keys and values are ignored.
+	 *
+	 * @param warningThreshold the default threshold, if {@code null} the framework default is used
+	 * @param classAndMethodSpecificWarningThreshold thresholds keyed by SimpleClassName.methodName, may be {@code null}
+	 */
+	public PerformanceWarningThresholds(final Integer warningThreshold,
+			final Map<String, Integer> classAndMethodSpecificWarningThreshold) {
+		this.warningThreshold = warningThreshold == null
+				? PerformanceLogMethodInterceptor.DEFAULT_WARNING_THRESHHOLD
+				: warningThreshold;
+
+		final Map<String, Integer> copy = new HashMap<>();
+		if (classAndMethodSpecificWarningThreshold != null) {
+			for (final Map.Entry<String, Integer> entry : classAndMethodSpecificWarningThreshold.entrySet()) {
+				if (entry.getKey() != null && entry.getValue() != null) {
+					copy.put(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+		this.classAndMethodSpecificWarningThreshold = Collections.unmodifiableMap(copy);
+	}
+
+	/**
+	 * The application-wide snapshot.
+	 *
+	 * @return PerformanceWarningThresholds
+	 */
+	public static PerformanceWarningThresholds current() {
+		return current;
+	}
+
+	/**
+	 * Replace the application-wide snapshot. A {@code null} value restores {@link #DEFAULT}.
+	 *
+	 * @param thresholds the new snapshot
+	 */
+	public static void publish(final PerformanceWarningThresholds thresholds) {
+		current = thresholds == null ? DEFAULT : thresholds;
+	}
+
+	/**
+	 * The default threshold, in milliseconds.
+	 *
+	 * @return int
+	 */
+	public int getWarningThreshold() {
+		return warningThreshold;
+	}
+
+	/**
+	 * The unmodifiable map of thresholds keyed by SimpleClassName.methodName.
+	 *
+	 * @return Map&lt;String, Integer&gt;
+	 */
+	public Map<String, Integer> getClassAndMethodSpecificWarningThreshold() {
+		return classAndMethodSpecificWarningThreshold;
+	}
+
+	/**
+	 * The threshold configured for the method, or {@code null} if there is no method specific threshold.
+	 *
+	 * @param callingClassAndMethod SimpleClassName.methodName
+	 * @return Integer the threshold or {@code null}
+	 */
+	public Integer getMethodWarningThreshold(final String callingClassAndMethod) {
+		return callingClassAndMethod == null ? null : classAndMethodSpecificWarningThreshold.get(callingClassAndMethod);
+	}
+
+	/**
+	 * The threshold for the method, falling back to the default threshold.
+	 *
+	 * @param callingClassAndMethod SimpleClassName.methodName
+	 * @return int the threshold
+	 */
+	public int getWarningThreshold(final String callingClassAndMethod) {
+		final Integer threshold = getMethodWarningThreshold(callingClassAndMethod);
+		return threshold == null ? warningThreshold : threshold;
+	}
+}
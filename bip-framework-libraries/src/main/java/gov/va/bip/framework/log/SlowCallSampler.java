@@ -0,0 +1,256 @@
+package gov.va.bip.framework.log;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process sampling profiler for slow calls.
+ * <p>
+ * When enabled, {@link #start(Thread)} schedules a task that begins taking stack samples of the
+ * calling thread once the call has been running longer than the sampling threshold. When the call
+ * completes, {@link SamplingSession#stop()} cancels the task and returns a compact "flame" summary:
+ * the most frequent collapsed stacks (root to leaf, separated by {@code ;}) with their sample counts.
+ * Calls that finish before the threshold are never sampled, and pay only for scheduling and
+ * cancelling the task.
+ * <p>
+ * The application-wide sampler is held in a volatile static reference, in the same way as
+ * {@link PerformanceWarningThresholds}. The default sampler is disabled.
+ */
+public final class SlowCallSampler {
+
+	/** The disabled sampler */
+	public static final SlowCallSampler DISABLED = new SlowCallSampler(false, 0, 1, 0, 1, 1);
+
+	/** Separator between frames of a collapsed stack */
+	private static final String FRAME_SEPARATOR = ";";
+
+	/** The application-wide sampler */
+	private static volatile SlowCallSampler current = DISABLED;
+
+	/** The single daemon thread that takes samples for all sessions */
+	private static volatile ScheduledThreadPoolExecutor executor;
+
+	/** Is sampling enabled */
+	private final boolean enabled;
+
+	/** Milliseconds a call must run before sampling starts */
+	private final long thresholdMillis;
+
+	/** Milliseconds between samples */
+	private final long intervalMillis;
+
+	/** Maximum number of samples per call */
+	private final int maxSamples;
+
+	/** Maximum number of (leaf-most) frames kept per sample */
+	private final int maxDepth;
+
+	/** Number of stacks reported in the summary */
+	private final int topStacks;
+
+	/**
+	 * Create a sampler.
+	 *
+	 * @param enabled is sampling enabled
+	 * @param thresholdMillis milliseconds a call must run before sampling starts
+	 * @param intervalMillis milliseconds between samples, minimum 1
+	 * @param maxSamples maximum number of samples per call
+	 * @param maxDepth maximum number of leaf-most frames kept per sample, minimum 1
+	 * @param topStacks number of stacks reported in the summary, minimum 1
+	 */
+	public SlowCallSampler(final boolean enabled, final long thresholdMillis, final long intervalMillis, final int maxSamples,
+			final int maxDepth, final int topStacks) {
+		this.enabled = enabled;
+		this.thresholdMillis = Math.max(0, thresholdMillis);
+		this.intervalMillis = Math.max(1, intervalMillis);
+		this.maxSamples = Math.max(0, maxSamples);
+		this.maxDepth = Math.max(1, maxDepth);
+		this.topStacks = Math.max(1, topStacks);
+	}
+
+	/**
+	 * The application-wide sampler.
+	 *
+	 * @return SlowCallSampler
+	 */
+	public static SlowCallSampler current() {
+		return current;
+	}
+
+	/**
+	 * Replace the application-wide sampler. A {@code null} value restores {@link #DISABLED}.
+	 * Sessions already started keep using the sampler they were started with.
+	 *
+	 * @param sampler the new sampler
+	 */
+	public static void publish(final SlowCallSampler sampler) {
+		current = sampler == null ? DISABLED : sampler;
+	}
+
+	/**
+	 * Is sampling enabled.
+	 *
+	 * @return boolean
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Milliseconds a call must run before sampling starts.
+	 *
+	 * @return long
+	 */
+	public long getThresholdMillis() {
+		return thresholdMillis;
+	}
+
+	/**
+	 * Start sampling the thread once the sampling threshold has passed.
+	 *
+	 * @param thread the thread executing the call
+	 * @return the session to stop when the call completes, or {@code null} if sampling is disabled
+	 */
+	public SamplingSession start(final Thread thread) {
+		if (!enabled || maxSamples <= 0 || thread == null) {
+			return null;
+		}
+		final SamplingSession session = new SamplingSession(thread);
+		synchronized (session) {
+			session.future = executor().scheduleAtFixedRate(session::sample, thresholdMillis, intervalMillis, TimeUnit.MILLISECONDS);
+		}
+		return session;
+	}
+
+	/**
+	 * Lazily create the shared sampling thread.
+	 * <p>
+	 * Cancelled tasks are removed from the queue immediately, so the sessions of calls that finish
+	 * before the threshold are not retained until their first sample would have been due.
+	 *
+	 * @return ScheduledThreadPoolExecutor
+	 */
+	static ScheduledThreadPoolExecutor executor() {
+		ScheduledThreadPoolExecutor result = executor;
+		if (result == null) {
+			synchronized (SlowCallSampler.class) {
+				result = executor;
+				if (result == null) {
+					result = new ScheduledThreadPoolExecutor(1, runnable -> {
+						final Thread thread = new Thread(runnable, "bip-slow-call-sampler");
+						thread.setDaemon(true);
+						return thread;
+					});
+					result.setRemoveOnCancelPolicy(true);
+					executor = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The samples taken for a single call.
+	 */
+	public final class SamplingSession {
+
+		/** The thread executing the call */
+		private final Thread thread;
+
+		/** Sample counts keyed by collapsed stack */
+		private final Map<String, Integer> stacks = new HashMap<>();
+
+		/** Number of samples taken */
+		private int samples;
+
+		/** Set once the session is stopped */
+		private boolean stopped;
+
+		/** The scheduled sampling task */
+		private ScheduledFuture<?> future;
+
+		/**
+		 * Create a session for a thread.
+		 *
+		 * @param thread the thread executing the call
+		 */
+		private SamplingSession(final Thread thread) {
+			this.thread = thread;
+		}
+
+		/**
+		 * Take one sample of the thread. Runs on the sampling thread.
+		 */
+		private synchronized void sample() {
+			if (stopped || samples >= maxSamples) {
+				if (future != null) {
+					future.cancel(false);
+				}
+				return;
+			}
+			final StackTraceElement[] trace = thread.getStackTrace();
+			if (trace.length == 0) {
+				return;
+			}
+			final int depth = Math.min(maxDepth, trace.length);
+			final StringBuilder collapsed = new StringBuilder();
+			// stack traces are leaf first, collapsed stacks are root first
+			for (int i = depth - 1; i >= 0; i--) {
+				collapsed.append(trace[i].getClassName()).append('.').append(trace[i].getMethodName());
+				if (i > 0) {
+					collapsed.append(FRAME_SEPARATOR);
+				}
+			}
+			stacks.merge(collapsed.toString(), 1, Integer::sum);
+			samples++;
+		}
+
+		/**
+		 * Stop sampling and summarize the samples.
+		 *
+		 * @return the summary, or {@code null} if no samples were taken
+		 */
+		public synchronized String stop() {
+			stopped = true;
+			if (future != null) {
+				future.cancel(false);
+			}
+			if (samples == 0) {
+				return null;
+			}
+
+			final List<Map.Entry<String, Integer>> sorted = new ArrayList<>(stacks.entrySet());
+			sorted.sort((a, b) -> b.getValue().compareTo(a.getValue()));
+
+			final StringBuilder summary = new StringBuilder("samples=").append(samples);
+			final int reported = Math.min(topStacks, sorted.size());
+			for (int i = 0; i < reported; i++) {
+				summary.append(" | ").append(sorted.get(i).getValue()).append(' ').append(sorted.get(i).getKey());
+			}
+			return summary.toString();
+		}
+
+		/**
+		 * The scheduled sampling task.
+		 *
+		 * @return ScheduledFuture
+		 */
+		synchronized ScheduledFuture<?> getFuture() {
+			return future;
+		}
+
+		/**
+		 * Number of samples taken so far.
+		 *
+		 * @return int
+		 */
+		public synchronized int getSamples() {
+			return samples;
+		}
+	}
+}
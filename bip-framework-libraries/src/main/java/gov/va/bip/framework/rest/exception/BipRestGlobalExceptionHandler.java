@@ -38,6 +38,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import gov.va.bip.framework.audit.AuditEventData;
 import gov.va.bip.framework.audit.AuditEvents;
+import gov.va.bip.framework.exception.BipBusinessException;
 import gov.va.bip.framework.exception.BipExceptionExtender;
 import gov.va.bip.framework.exception.BipPartnerException;
 import gov.va.bip.framework.exception.BipPartnerRuntimeException;
@@ -539,6 +540,19 @@ public class BipRestGlobalExceptionHandler extends BaseHttpProviderPointcuts {
 
 	// Handle all
 
+	/**
+	 * Handle the lightweight (no stack trace) bip checked exception for expected business outcomes.
+	 * The lightweight runtime exception is handled by {@link #handleBipRuntimeException(HttpServletRequest, BipRuntimeException)}.
+	 *
+	 * @param req the req
+	 * @param ex the ex
+	 * @return the response entity
+	 */
+	@ExceptionHandler(value = BipBusinessException.class)
+	public final ResponseEntity<Object> handleBipBusinessException(final HttpServletRequest req, final BipBusinessException ex) {
+		return standardHandler(ex, ex.getExceptionData().getStatus());
+	}
+
 	/**
 	 * Handle bip runtime exception.
 	 *
@@ -1,6 +1,5 @@
 package gov.va.bip.framework.rest.provider.aspect;
 
-import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
 
@@ -15,6 +14,7 @@ import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import gov.va.bip.framework.aspect.AdvisedMethodMetadata;
 import gov.va.bip.framework.audit.AuditEventData;
 import gov.va.bip.framework.audit.AuditEvents;
 import gov.va.bip.framework.exception.BipExceptionExtender;
@@ -66,7 +66,9 @@ public class ProviderHttpAspect extends BaseHttpProviderPointcuts {
 	 */
 	@Before("!auditableAnnotation() && (publicServiceResponseRestMethod() || publicResourceDownloadRestMethod())")
 	public void beforeAuditAdvice(final JoinPoint joinPoint) {
-		LOGGER.debug(BEFORE_ADVICE + JOINPOINT_STRING + joinPoint.toLongString());
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug(BEFORE_ADVICE + JOINPOINT_STRING + joinPoint.toLongString());
+		}
 
 		List<Object> requestArgs = null;
 		AuditEventData auditEventData = null;
@@ -76,14 +78,14 @@ public class ProviderHttpAspect extends BaseHttpProviderPointcuts {
 		}
 
 		try {
-			Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+			AdvisedMethodMetadata metadata = AdvisedMethodMetadata.of(((MethodSignature) joinPoint.getSignature()).getMethod());
 
-			auditEventData = new AuditEventData(AuditEvents.API_REST_REQUEST, method.getName(),
-					method.getDeclaringClass().getName());
+			auditEventData = new AuditEventData(AuditEvents.API_REST_REQUEST, metadata.getMethodName(),
+					metadata.getDeclaringClassName());
 
 			if (LOGGER.isDebugEnabled()) {
 				LOGGER.debug("Request: {}", requestArgs);
-				LOGGER.debug("Method: {}", method);
+				LOGGER.debug("Method: {}", metadata.getMethod());
 				LOGGER.debug("AuditEventData: {}", auditEventData.toString());
 			}
 			super.auditServletRequest().writeHttpRequestAuditLog(requestArgs, auditEventData);
@@ -107,12 +109,14 @@ public class ProviderHttpAspect extends BaseHttpProviderPointcuts {
 	 */
 	@AfterReturning(pointcut = "!auditableAnnotation() && (publicServiceResponseRestMethod() || publicResourceDownloadRestMethod())", returning = "responseToConsumer")
 	public void afterreturningAuditAdvice(final JoinPoint joinPoint, final Object responseToConsumer) {
-		LOGGER.debug(AFTER_ADVICE + JOINPOINT_STRING + joinPoint.toLongString());
-		if (responseToConsumer != null) {
-			LOGGER.debug(
-					AFTER_ADVICE + " responseToConsumer: " + ReflectionToStringBuilder.toString(responseToConsumer, null, true, true));
-		} else {
-			LOGGER.debug(AFTER_ADVICE + " responseToConsumer: null");
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug(AFTER_ADVICE + JOINPOINT_STRING + joinPoint.toLongString());
+			if (responseToConsumer != null) {
+				LOGGER.debug(
+						AFTER_ADVICE + " responseToConsumer: " + ReflectionToStringBuilder.toString(responseToConsumer, null, true, true));
+			} else {
+				LOGGER.debug(AFTER_ADVICE + " responseToConsumer: null");
+			}
 		}
 
 		AuditEventData auditEventData = null;
@@ -133,10 +137,10 @@ public class ProviderHttpAspect extends BaseHttpProviderPointcuts {
 				}
 			}
 
-			Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+			AdvisedMethodMetadata metadata = AdvisedMethodMetadata.of(((MethodSignature) joinPoint.getSignature()).getMethod());
 
-			auditEventData = new AuditEventData(AuditEvents.API_REST_RESPONSE, method.getName(),
-					method.getDeclaringClass().getName());
+			auditEventData = new AuditEventData(AuditEvents.API_REST_RESPONSE, metadata.getMethodName(),
+					metadata.getDeclaringClassName());
 
 			super.auditServletResponse().writeHttpResponseAuditLog(
 					providerResponse == null ? responseToConsumer : providerResponse, auditEventData,
@@ -162,8 +166,10 @@ public class ProviderHttpAspect extends BaseHttpProviderPointcuts {
 	 */
 	@AfterThrowing(pointcut = "!auditableAnnotation() && (publicServiceResponseRestMethod() || publicResourceDownloadRestMethod())", throwing = "throwable")
 	public ResponseEntity<ProviderResponse> afterThrowingAdvice(final JoinPoint joinPoint, final Throwable throwable) {
-		LOGGER.debug(AFTER_THROWING_ADVICE + JOINPOINT_STRING + joinPoint.toLongString());
-		LOGGER.debug(AFTER_THROWING_ADVICE + " throwable: {}" + throwable);
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug(AFTER_THROWING_ADVICE + JOINPOINT_STRING + joinPoint.toLongString());
+			LOGGER.debug(AFTER_THROWING_ADVICE + " throwable: {}" + throwable);
+		}
 
 		AuditEventData auditEventData = null;
 		ResponseEntity<ProviderResponse> providerResponse = null;
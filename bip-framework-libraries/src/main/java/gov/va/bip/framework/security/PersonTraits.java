@@ -46,12 +46,15 @@ public class PersonTraits extends AbstractPersonTraitsObject {
 	 */
 	private static final long serialVersionUID = 1L;
 
+	/** The placeholder user name and password of PersonTraits created without credentials */
+	public static final String NOT_APPLICABLE = "NA";
+
 	public PersonTraits(final String username, final String password, final Collection<? extends GrantedAuthority> authorities) {
 		super(username, password, authorities);
 	}
 
 	public PersonTraits() {
-		super("NA", "NA", AuthorityUtils.NO_AUTHORITIES);
+		super(NOT_APPLICABLE, NOT_APPLICABLE, AuthorityUtils.NO_AUTHORITIES);
 	}
 
 	public String getDodedipnid() {
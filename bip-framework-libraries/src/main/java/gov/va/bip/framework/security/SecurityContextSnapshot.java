@@ -0,0 +1,107 @@
+package gov.va.bip.framework.security;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * The user id, PersonTraits and roles of the current user, resolved once from the Spring SecurityContext.
+ * <p>
+ * Obtained from {@link SecurityUtils#getSecurityContextSnapshot()}. The values are the same as those returned
+ * by the {@link SecurityUtils} accessors at the time the snapshot was taken.
+ */
+public final class SecurityContextSnapshot {
+
+	/** The snapshot when there is no authentication */
+	static final SecurityContextSnapshot EMPTY = new SecurityContextSnapshot(null, null,
+			Collections.<GrantedAuthority> emptyList());
+
+	/** The user id, {@code null} if not authenticated */
+	private final String userId;
+
+	/** The user principal, {@code null} if not authenticated or the principal is not a PersonTraits */
+	private final PersonTraits personTraits;
+
+	/** The roles of the user */
+	private final Collection<GrantedAuthority> authorities;
+
+	/**
+	 * Create a snapshot.
+	 *
+	 * @param userId the user id
+	 * @param personTraits the user principal
+	 * @param authorities the roles of the user
+	 */
+	private SecurityContextSnapshot(final String userId, final PersonTraits personTraits,
+			final Collection<GrantedAuthority> authorities) {
+		this.userId = userId;
+		this.personTraits = personTraits;
+		this.authorities = authorities;
+	}
+
+	/**
+	 * Resolve the values of the authentication.
+	 *
+	 * @param authentication the authentication from the SecurityContext, may be {@code null}
+	 * @return SecurityContextSnapshot
+	 */
+	@SuppressWarnings("unchecked")
+	static SecurityContextSnapshot of(final Authentication authentication) {
+		if (authentication == null) {
+			return EMPTY;
+		}
+		final Collection<GrantedAuthority> authorities = (Collection<GrantedAuthority>) authentication.getAuthorities();
+		if (!authentication.isAuthenticated()) {
+			return new SecurityContextSnapshot(null, null, authorities);
+		}
+		final Object principal = authentication.getPrincipal();
+		return new SecurityContextSnapshot(authentication.getName(),
+				principal instanceof PersonTraits ? (PersonTraits) principal : null, authorities);
+	}
+
+	/**
+	 * The user id, as returned by {@link SecurityUtils#getUserId()}.
+	 *
+	 * @return String the user id, or {@code null} if not authenticated
+	 */
+	public String getUserId() {
+		return userId;
+	}
+
+	/**
+	 * The PersonTraits user principal, as returned by {@link SecurityUtils#getPersonTraits()}.
+	 *
+	 * @return PersonTraits, or {@code null} if not authenticated or the principal is not a PersonTraits
+	 */
+	public PersonTraits getPersonTraits() {
+		return personTraits;
+	}
+
+	/**
+	 * The roles of the user, as returned by {@link SecurityUtils#getAuthorities()}.
+	 *
+	 * @return roles
+	 */
+	public Collection<GrantedAuthority> getAuthorities() {
+		return authorities;
+	}
+
+	/**
+	 * Checks if is user in role, as {@link SecurityUtils#isUserInRole(String)}.
+	 *
+	 * @param role the role
+	 * @return true, if is user in role
+	 */
+	public boolean isUserInRole(final String role) {
+		if (authorities != null) {
+			for (final GrantedAuthority ga : authorities) {
+				if (ga.toString().equals(role)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+}
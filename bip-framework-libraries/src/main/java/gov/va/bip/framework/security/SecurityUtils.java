@@ -4,7 +4,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 /**
@@ -29,9 +31,9 @@ public class SecurityUtils {
 	 * @return String the user id
 	 */
 	public static final String getUserId() {
-		if (SecurityContextHolder.getContext() != null && SecurityContextHolder.getContext().getAuthentication() != null
-				&& SecurityContextHolder.getContext().getAuthentication().isAuthenticated()) {
-			return SecurityContextHolder.getContext().getAuthentication().getName();
+		final Authentication authentication = getAuthentication();
+		if (authentication != null && authentication.isAuthenticated()) {
+			return authentication.getName();
 		} else {
 			return null;
 		}
@@ -43,10 +45,10 @@ public class SecurityUtils {
 	 * @return user principal
 	 */
 	public static final PersonTraits getPersonTraits() {
-		if (SecurityContextHolder.getContext() != null && SecurityContextHolder.getContext().getAuthentication() != null
-				&& SecurityContextHolder.getContext().getAuthentication().isAuthenticated()
-				&& SecurityContextHolder.getContext().getAuthentication().getPrincipal() instanceof PersonTraits) {
-			return (PersonTraits) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		final Authentication authentication = getAuthentication();
+		if (authentication != null && authentication.isAuthenticated()
+				&& authentication.getPrincipal() instanceof PersonTraits) {
+			return (PersonTraits) authentication.getPrincipal();
 		} else {
 			return null;
 		}
@@ -59,13 +61,28 @@ public class SecurityUtils {
 	 */
 	@SuppressWarnings("unchecked")
 	public static final Collection<GrantedAuthority> getAuthorities() {
-		if (SecurityContextHolder.getContext() != null && SecurityContextHolder.getContext().getAuthentication() != null) {
-			return (Collection<GrantedAuthority>) SecurityContextHolder.getContext().getAuthentication().getAuthorities();
+		final Authentication authentication = getAuthentication();
+		if (authentication != null) {
+			return (Collection<GrantedAuthority>) authentication.getAuthorities();
 		} else {
 			return Collections.unmodifiableList(new ArrayList<GrantedAuthority>());
 		}
 	}
 
+	/**
+	 * Get the user id, PersonTraits and roles of the current user, resolved from the Spring SecurityContext
+	 * with a single lookup.
+	 * <p>
+	 * Callers that need more than one of these values for a single operation (e.g. an audit record,
+	 * or a user based cache key) should use the snapshot, rather than call each accessor in turn.
+	 * The snapshot is not updated if the SecurityContext changes later in the request.
+	 *
+	 * @return SecurityContextSnapshot, never {@code null}
+	 */
+	public static final SecurityContextSnapshot getSecurityContextSnapshot() {
+		return SecurityContextSnapshot.of(getAuthentication());
+	}
+
 	/**
 	 * Checks if is user in role.
 	 *
@@ -87,6 +104,16 @@ public class SecurityUtils {
 		return false;
 	}
 
+	/**
+	 * The authentication in the Spring SecurityContext.
+	 *
+	 * @return Authentication, or {@code null} if there is no authentication
+	 */
+	private static Authentication getAuthentication() {
+		final SecurityContext context = SecurityContextHolder.getContext();
+		return context == null ? null : context.getAuthentication();
+	}
+
 	/**
 	 * Clear the current security context
 	 */
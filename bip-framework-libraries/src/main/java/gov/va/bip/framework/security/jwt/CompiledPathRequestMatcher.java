@@ -0,0 +1,196 @@
+package gov.va.bip.framework.security.jwt;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/**
+ * A {@link RequestMatcher} for a set of ant path patterns, compiled once so that the cost of matching
+ * a request does not grow with the number of patterns.
+ * <p>
+ * Matches the same requests as an {@code OrRequestMatcher} of case-sensitive
+ * {@link AntPathRequestMatcher}s for the patterns:
+ * <ul>
+ * <li>{@code /**} matches every request</li>
+ * <li>exact paths (no wildcards) and sub-path patterns ({@code /path/**}) are compiled into a single
+ * character trie, walked once per request - the cost is proportional to the length of the request path</li>
+ * <li>any other pattern (e.g. {@code /api/v?/token}) falls back to an {@link AntPathRequestMatcher}</li>
+ * </ul>
+ */
+public final class CompiledPathRequestMatcher implements RequestMatcher {
+
+	/** The pattern that matches every path */
+	private static final String MATCH_ALL = "/**";
+
+	/** The path separator */
+	private static final char SEPARATOR = '/';
+
+	/** Does any pattern match every path */
+	private final boolean matchAll;
+
+	/** The trie of exact and sub-path patterns */
+	private final Node root = new Node();
+
+	/** Matchers for the patterns that cannot be compiled into the trie */
+	private final List<RequestMatcher> antMatchers;
+
+	/** The patterns, as given */
+	private final List<String> patterns;
+
+	/**
+	 * Compile the patterns.
+	 *
+	 * @param patterns the ant path patterns, {@code null} or empty matches no requests
+	 */
+	public CompiledPathRequestMatcher(final String... patterns) {
+		final List<String> given = new ArrayList<>();
+		final List<RequestMatcher> fallback = new ArrayList<>();
+		boolean all = false;
+		if (patterns != null) {
+			for (final String pattern : patterns) {
+				if (pattern == null) {
+					continue;
+				}
+				given.add(pattern);
+				if (MATCH_ALL.equals(pattern) || "**".equals(pattern)) {
+					all = true;
+				} else if (isSubpath(pattern)) {
+					root.add(pattern.substring(0, pattern.length() - MATCH_ALL.length())).subpath = true;
+				} else if (isExact(pattern)) {
+					root.add(pattern).exact = true;
+				} else {
+					fallback.add(new AntPathRequestMatcher(pattern));
+				}
+			}
+		}
+		this.matchAll = all;
+		this.antMatchers = Collections.unmodifiableList(fallback);
+		this.patterns = Collections.unmodifiableList(given);
+	}
+
+	/**
+	 * The patterns, as given.
+	 *
+	 * @return List&lt;String&gt;
+	 */
+	public List<String> getPatterns() {
+		return patterns;
+	}
+
+	@Override
+	public boolean matches(final HttpServletRequest request) {
+		if (matchAll) {
+			return true;
+		}
+		if (matches(getRequestPath(request))) {
+			return true;
+		}
+		for (final RequestMatcher matcher : antMatchers) {
+			if (matcher.matches(request)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Does the path match an exact or sub-path pattern.
+	 *
+	 * @param path the request path
+	 * @return boolean
+	 */
+	boolean matches(final String path) {
+		if (matchAll) {
+			return true;
+		}
+		if (path == null) {
+			return false;
+		}
+		Node node = root;
+		final int length = path.length();
+		for (int i = 0; i < length; i++) {
+			node = node.children.get(path.charAt(i));
+			if (node == null) {
+				return false;
+			}
+			// a sub-path pattern matches the path itself, and anything below it
+			if (node.subpath && (i + 1 == length || path.charAt(i + 1) == SEPARATOR)) {
+				return true;
+			}
+		}
+		return node.exact;
+	}
+
+	/**
+	 * The path within the application, in the same way as {@link AntPathRequestMatcher}.
+	 *
+	 * @param request the request
+	 * @return String
+	 */
+	private static String getRequestPath(final HttpServletRequest request) {
+		final String servletPath = request.getServletPath();
+		final String pathInfo = request.getPathInfo();
+		if (pathInfo == null) {
+			return servletPath;
+		}
+		return servletPath == null || servletPath.isEmpty() ? pathInfo : servletPath + pathInfo;
+	}
+
+	/**
+	 * Is the pattern a sub-path pattern, ending in {@code /**} with no other wildcards.
+	 *
+	 * @param pattern the pattern
+	 * @return boolean
+	 */
+	private static boolean isSubpath(final String pattern) {
+		return pattern.endsWith(MATCH_ALL)
+				&& isExact(pattern.substring(0, pattern.length() - MATCH_ALL.length()));
+	}
+
+	/**
+	 * Is the pattern free of wildcards and uri template variables.
+	 *
+	 * @param pattern the pattern
+	 * @return boolean
+	 */
+	private static boolean isExact(final String pattern) {
+		return pattern.indexOf('*') == -1 && pattern.indexOf('?') == -1
+				&& pattern.indexOf('{') == -1 && pattern.indexOf('}') == -1;
+	}
+
+	/**
+	 * A node in the pattern trie, one per character of a pattern prefix.
+	 */
+	private static final class Node {
+
+		/** The next characters */
+		private final Map<Character, Node> children = new HashMap<>();
+
+		/** Is an exact pattern ending at this node */
+		private boolean exact;
+
+		/** Is a sub-path pattern ending at this node */
+		private boolean subpath;
+
+		/**
+		 * Add the characters of a path below this node.
+		 *
+		 * @param path the path
+		 * @return the node for the last character
+		 */
+		private Node add(final String path) {
+			Node node = this;
+			for (int i = 0; i < path.length(); i++) {
+				node = node.children.computeIfAbsent(path.charAt(i), c -> new Node());
+			}
+			return node;
+		}
+	}
+}
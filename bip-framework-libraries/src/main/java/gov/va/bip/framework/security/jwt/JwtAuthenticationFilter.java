@@ -1,17 +1,14 @@
 package gov.va.bip.framework.security.jwt;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -21,13 +18,12 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
-import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
-import org.springframework.security.web.util.matcher.OrRequestMatcher;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 
 import gov.va.bip.framework.audit.AuditEventData;
 import gov.va.bip.framework.audit.AuditEvents;
 import gov.va.bip.framework.audit.AuditLogger;
+import gov.va.bip.framework.audit.BaseAsyncAudit;
 import gov.va.bip.framework.log.BipLogger;
 import gov.va.bip.framework.log.BipLoggerFactory;
 import gov.va.bip.framework.messages.MessageKey;
@@ -45,6 +41,9 @@ public class JwtAuthenticationFilter extends AbstractAuthenticationProcessingFil
 	private static final BipLogger LOG = BipLoggerFactory.getLogger(JwtAuthenticationFilter.class);
 	
 	private JwtAuthenticationProperties jwtAuthenticationProperties;
+
+	/** Reads the bearer token from the JWT header */
+	private final JwtTokenExtractor tokenExtractor;
 	
 	@Autowired
 	private AuthenticationEntryPoint jwtAuthenticationEntryPoint;
@@ -64,6 +63,7 @@ public class JwtAuthenticationFilter extends AbstractAuthenticationProcessingFil
 			AuthenticationProvider jwtAuthenticationProvider) {
 		super(new AuthenticationRequestMatcher(jwtAuthenticationProperties.getFilterProcessUrls()));
 		this.jwtAuthenticationProperties = jwtAuthenticationProperties;
+		this.tokenExtractor = new JwtTokenExtractor(jwtAuthenticationProperties);
 		setAuthenticationSuccessHandler(jwtAuthenticationSuccessHandler);
 		setAuthenticationManager(new ProviderManager(new ArrayList<>(Arrays.asList(jwtAuthenticationProvider))));
 	}
@@ -71,8 +71,8 @@ public class JwtAuthenticationFilter extends AbstractAuthenticationProcessingFil
 	@Override
 	public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response)
 			throws IOException, ServletException {
-		String token = request.getHeader(jwtAuthenticationProperties.getHeader());
-		if (token == null || !token.startsWith("Bearer ")) {
+		final String token = tokenExtractor.getBearerToken(request);
+		if (token == null) {
 			MessageKeys key = MessageKeys.BIP_SECURITY_TOKEN_BLANK;
 			LOG.error(key.getMessage());
 			JwtAuthenticationException authException = new JwtAuthenticationException(key, MessageSeverity.ERROR, HttpStatus.BAD_REQUEST);
@@ -80,8 +80,6 @@ public class JwtAuthenticationFilter extends AbstractAuthenticationProcessingFil
 			return null;
 		}
 
-		token = token.substring(7);
-
 		try {
 			return getAuthenticationManager().authenticate(new JwtAuthenticationToken(token));
 		} catch (SignatureException se) {
@@ -103,6 +101,9 @@ public class JwtAuthenticationFilter extends AbstractAuthenticationProcessingFil
 
 	/**
 	 * Audit any errors.
+	 * <p>
+	 * Only the start of the request body is read, up to {@link JwtAuthenticationProperties#getFailureAuditBodyBytes()},
+	 * so unauthenticated requests cannot force large bodies to be buffered.
 	 *
 	 * @param cause - cause
 	 * @param request - original request
@@ -110,7 +111,10 @@ public class JwtAuthenticationFilter extends AbstractAuthenticationProcessingFil
 	private void writeAuditForJwtTokenErrors(final String cause, final HttpServletRequest request, final Throwable t) {
 		String message = "";
 		try {
-			message = IOUtils.toString(request.getInputStream(), StandardCharsets.UTF_8);
+			final int maxBytes = jwtAuthenticationProperties.getFailureAuditBodyBytes();
+			if (maxBytes > 0) {
+				message = BaseAsyncAudit.readBytesOfSetSizeToString(request.getInputStream(), maxBytes);
+			}
 		} catch (IOException e) {
 			LOG.error("Error while reading the request {}", e);
 		}
@@ -180,17 +184,13 @@ class AuthenticationRequestMatcher implements RequestMatcher {
 	}
 
 	/**
-	 * Add exclusion URLs to the list.
+	 * Compile the URLs into a single matcher.
 	 *
-	 * @param exclusionUrls
+	 * @param authUrls
 	 * @return RequestMatcher
 	 */
 	private RequestMatcher authMatchers(String[] authUrls) {
-		LinkedList<RequestMatcher> matcherList = new LinkedList<>();
-		for (String url : authUrls) {
-			matcherList.add(new AntPathRequestMatcher(url));
-		}
-		return new OrRequestMatcher(matcherList);
+		return new CompiledPathRequestMatcher(authUrls);
 	}
 
 	@Override
@@ -3,6 +3,8 @@ package gov.va.bip.framework.security.jwt;
 import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import gov.va.bip.framework.audit.BaseAsyncAudit;
+
 /**
  * Class used as authentication properties in projects.
  * The values assigned to members in this class are defaults,
@@ -17,6 +19,17 @@ public class JwtAuthenticationProperties {
 	private int expireInSeconds = 900;
 	private String[] filterProcessUrls = { "/api/**" };
 	private String[] excludeUrls = { "/**" };
+	private int verifiedTokenCacheSize = DEFAULT_VERIFIED_TOKEN_CACHE_SIZE;
+	private int failureAuditBodyBytes = BaseAsyncAudit.NUMBER_OF_BYTES_TO_LIMIT_AUDIT_LOGGED_OBJECT;
+	private String keySetFile;
+	private long keySetReloadMillis = DEFAULT_KEY_SET_RELOAD_MILLIS;
+	private boolean acceptHmac = true;
+
+	/** The default maximum number of verified tokens cached by the JwtParser */
+	public static final int DEFAULT_VERIFIED_TOKEN_CACHE_SIZE = 1000;
+
+	/** The default milliseconds between checks of the key set file for changes */
+	public static final long DEFAULT_KEY_SET_RELOAD_MILLIS = 30000L;
 
 	public static final int AUTH_ORDER = SecurityProperties.BASIC_AUTH_ORDER - 2;
 	public static final int NO_AUTH_ORDER = AUTH_ORDER + 1;
@@ -58,7 +71,8 @@ public class JwtAuthenticationProperties {
 	}
 
 	/**
-	 * Authentication secret
+	 * Authentication secret, used to sign and verify HS256 tokens.
+	 * May be empty when a key set file is set, in which case tokens signed with the secret are not accepted.
 	 *
 	 * @return String
 	 */
@@ -76,7 +90,8 @@ public class JwtAuthenticationProperties {
 	}
 
 	/**
-	 * Authentication secret
+	 * Authentication secret, used to sign and verify HS256 tokens.
+	 * May be empty when a key set file is set, in which case tokens signed with the secret are not accepted.
 	 *
 	 * @param secret
 	 */
@@ -147,4 +162,106 @@ public class JwtAuthenticationProperties {
 		this.expireInSeconds = expireInSeconds;
 	}
 
+	/**
+	 * Maximum number of verified tokens held by the JwtParser until the tokens expire.
+	 * Zero or less disables the cache, so every request re-verifies its token.
+	 *
+	 * @return int
+	 */
+	public int getVerifiedTokenCacheSize() {
+		return verifiedTokenCacheSize;
+	}
+
+	/**
+	 * Maximum number of verified tokens held by the JwtParser until the tokens expire.
+	 * Zero or less disables the cache, so every request re-verifies its token.
+	 *
+	 * @param verifiedTokenCacheSize
+	 */
+	public void setVerifiedTokenCacheSize(int verifiedTokenCacheSize) {
+		this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+	}
+
+	/**
+	 * Maximum number of request body bytes included in the audit record when token authentication fails.
+	 * Never more than the audit byte limit ({@link BaseAsyncAudit#NUMBER_OF_BYTES_TO_LIMIT_AUDIT_LOGGED_OBJECT}).
+	 * Zero or less leaves the body out of the audit record.
+	 *
+	 * @return int
+	 */
+	public int getFailureAuditBodyBytes() {
+		return failureAuditBodyBytes;
+	}
+
+	/**
+	 * Maximum number of request body bytes included in the audit record when token authentication fails.
+	 * Never more than the audit byte limit ({@link BaseAsyncAudit#NUMBER_OF_BYTES_TO_LIMIT_AUDIT_LOGGED_OBJECT}).
+	 * Zero or less leaves the body out of the audit record.
+	 *
+	 * @param failureAuditBodyBytes
+	 */
+	public void setFailureAuditBodyBytes(int failureAuditBodyBytes) {
+		this.failureAuditBodyBytes = failureAuditBodyBytes;
+	}
+
+	/**
+	 * Path of a JSON Web Key Set file holding the public keys used to verify RS256 and ES256 (etc) signed tokens.
+	 * Tokens name their key with the "kid" header. If not set, only tokens signed with the secret are accepted.
+	 *
+	 * @return String
+	 */
+	public String getKeySetFile() {
+		return keySetFile;
+	}
+
+	/**
+	 * Path of a JSON Web Key Set file holding the public keys used to verify RS256 and ES256 (etc) signed tokens.
+	 * Tokens name their key with the "kid" header. If not set, only tokens signed with the secret are accepted.
+	 *
+	 * @param keySetFile
+	 */
+	public void setKeySetFile(String keySetFile) {
+		this.keySetFile = keySetFile;
+	}
+
+	/**
+	 * Milliseconds between checks of the key set file for changes. Changed keys are used without a restart.
+	 *
+	 * @return long
+	 */
+	public long getKeySetReloadMillis() {
+		return keySetReloadMillis;
+	}
+
+	/**
+	 * Milliseconds between checks of the key set file for changes. Changed keys are used without a restart.
+	 *
+	 * @param keySetReloadMillis
+	 */
+	public void setKeySetReloadMillis(long keySetReloadMillis) {
+		this.keySetReloadMillis = keySetReloadMillis;
+	}
+
+	/**
+	 * Accept tokens signed with the secret (HS256). Set false where a key set file is used and tokens are
+	 * issued elsewhere, so that only tokens verified with the key set are accepted. Must stay true where
+	 * tokens are issued by the TokenResource, which signs them with the secret.
+	 *
+	 * @return boolean
+	 */
+	public boolean isAcceptHmac() {
+		return acceptHmac;
+	}
+
+	/**
+	 * Accept tokens signed with the secret (HS256). Set false where a key set file is used and tokens are
+	 * issued elsewhere, so that only tokens verified with the key set are accepted. Must stay true where
+	 * tokens are issued by the TokenResource, which signs them with the secret.
+	 *
+	 * @param acceptHmac
+	 */
+	public void setAcceptHmac(boolean acceptHmac) {
+		this.acceptHmac = acceptHmac;
+	}
+
 }
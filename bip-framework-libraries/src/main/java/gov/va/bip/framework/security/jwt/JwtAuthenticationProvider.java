@@ -1,8 +1,10 @@
 package gov.va.bip.framework.security.jwt;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,6 +27,9 @@ public class JwtAuthenticationProvider extends AbstractUserDetailsAuthentication
 	/** Constant for the logger for this class */
 	private static final BipLogger bipLogger = BipLoggerFactory.getLogger(JwtAuthenticationProvider.class);
 
+	/** The PersonTraits getters that can be named as required parameters, keyed (case-insensitive) by property name */
+	static final Map<String, Function<PersonTraits, Object>> REQUIRED_PARAMETER_GETTERS = requiredParameterGetters();
+
 	/** parses the token into a set of security "claims" contained in the token */
 	JwtParser parser;
 
@@ -83,17 +88,49 @@ public class JwtAuthenticationProvider extends AbstractUserDetailsAuthentication
 	}
 
 	private static boolean checkIfEachParameterIsValid(final PersonTraits person, final String parameter) {
-		for (Method method : PersonTraits.class.getMethods()) {
-			if (method.getName().startsWith("get") && method.getName().substring(3).equalsIgnoreCase(parameter)) {
-				try {
-					return method.invoke(person) instanceof String ? StringUtils.isNotBlank((String) method.invoke(person))
-							: method.invoke(person) != null;
-				} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-					bipLogger.error("Unable to check required fields in the jwt token", e);
-					return false;
-				}
-			}
+		final Function<PersonTraits, Object> getter = parameter == null ? null : REQUIRED_PARAMETER_GETTERS.get(parameter);
+		if (getter == null) {
+			return false;
 		}
-		return false;
+		try {
+			final Object value = getter.apply(person);
+			return value instanceof String ? StringUtils.isNotBlank((String) value) : value != null;
+		} catch (RuntimeException e) { // NOSONAR intentionally broad catch
+			bipLogger.error("Unable to check required fields in the jwt token", e);
+			return false;
+		}
+	}
+
+	/**
+	 * The table of PersonTraits getters, keyed by the property name (the getter name without "get"),
+	 * so checking a required parameter is a lookup and a direct call rather than a reflective search.
+	 *
+	 * @return Map - unmodifiable, with case-insensitive keys
+	 */
+	private static Map<String, Function<PersonTraits, Object>> requiredParameterGetters() {
+		final Map<String, Function<PersonTraits, Object>> getters = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		getters.put("firstName", PersonTraits::getFirstName);
+		getters.put("lastName", PersonTraits::getLastName);
+		getters.put("middleName", PersonTraits::getMiddleName);
+		getters.put("prefix", PersonTraits::getPrefix);
+		getters.put("suffix", PersonTraits::getSuffix);
+		getters.put("birthDate", PersonTraits::getBirthDate);
+		getters.put("gender", PersonTraits::getGender);
+		getters.put("assuranceLevel", PersonTraits::getAssuranceLevel);
+		getters.put("email", PersonTraits::getEmail);
+		getters.put("correlationIds", PersonTraits::getCorrelationIds);
+		getters.put("user", PersonTraits::getUser);
+		getters.put("appToken", PersonTraits::getAppToken);
+		getters.put("dodedipnid", PersonTraits::getDodedipnid);
+		getters.put("pnidType", PersonTraits::getPnidType);
+		getters.put("pnid", PersonTraits::getPnid);
+		getters.put("pid", PersonTraits::getPid);
+		getters.put("icn", PersonTraits::getIcn);
+		getters.put("fileNumber", PersonTraits::getFileNumber);
+		getters.put("tokenId", PersonTraits::getTokenId);
+		getters.put("username", PersonTraits::getUsername);
+		getters.put("password", PersonTraits::getPassword);
+		getters.put("authorities", PersonTraits::getAuthorities);
+		return Collections.unmodifiableMap(getters);
 	}
 }
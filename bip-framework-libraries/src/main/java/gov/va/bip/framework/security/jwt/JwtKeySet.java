@@ -0,0 +1,192 @@
+package gov.va.bip.framework.security.jwt;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * An immutable set of public keys for verifying RS256 and ES256 (and the other RSA and EC algorithms)
+ * signed JWTs, keyed by key id ({@code kid}).
+ * <p>
+ * Parsed from a JSON Web Key Set document (RFC 7517):
+ * <pre>
+ * {"keys": [
+ *   {"kty": "RSA", "kid": "rsa-1", "use": "sig", "n": "...", "e": "AQAB"},
+ *   {"kty": "EC", "kid": "ec-1", "crv": "P-256", "x": "...", "y": "..."}
+ * ]}
+ * </pre>
+ * Keys are parsed once, when the set is created, so verifying a token is a map lookup.
+ * Keys with a {@code use} other than {@code sig}, and key types other than RSA and EC, are ignored.
+ */
+public final class JwtKeySet {
+
+	/** The empty key set */
+	public static final JwtKeySet EMPTY = new JwtKeySet(Collections.emptyMap());
+
+	/** Parses key set documents */
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	/** The JCA curve names, keyed by JWK curve name */
+	private static final Map<String, String> CURVES;
+
+	static {
+		final Map<String, String> curves = new HashMap<>();
+		curves.put("P-256", "secp256r1");
+		curves.put("P-384", "secp384r1");
+		curves.put("P-521", "secp521r1");
+		CURVES = Collections.unmodifiableMap(curves);
+	}
+
+	/** The public keys, keyed by key id */
+	private final Map<String, PublicKey> keys;
+
+	/**
+	 * Create a key set.
+	 *
+	 * @param keys the public keys, keyed by key id
+	 */
+	private JwtKeySet(final Map<String, PublicKey> keys) {
+		this.keys = keys;
+	}
+
+	/**
+	 * Parse a JSON Web Key Set document.
+	 *
+	 * @param json the document
+	 * @return JwtKeySet
+	 * @throws IllegalArgumentException if the document or any signing key in it cannot be parsed
+	 */
+	public static JwtKeySet parse(final String json) {
+		final JsonNode root;
+		try {
+			root = MAPPER.readTree(json);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("JWT key set is not valid JSON: " + e.getMessage(), e);
+		}
+		final JsonNode keyNodes = root == null ? null : root.get("keys");
+		if (keyNodes == null || !keyNodes.isArray()) {
+			throw new IllegalArgumentException("JWT key set must have a \"keys\" array.");
+		}
+
+		final Map<String, PublicKey> keys = new HashMap<>();
+		for (final JsonNode keyNode : keyNodes) {
+			final String use = text(keyNode, "use");
+			final String kty = text(keyNode, "kty");
+			if ((use != null && !"sig".equals(use)) || !("RSA".equals(kty) || "EC".equals(kty))) {
+				continue;
+			}
+			final String kid = text(keyNode, "kid");
+			if (kid == null || kid.isEmpty()) {
+				throw new IllegalArgumentException("JWT key set keys must have a \"kid\".");
+			}
+			try {
+				keys.put(kid, "RSA".equals(kty) ? rsaKey(keyNode) : ecKey(keyNode));
+			} catch (GeneralSecurityException | RuntimeException e) { // NOSONAR intentionally broad catch
+				throw new IllegalArgumentException("JWT key set key \"" + kid + "\" is not valid: " + e.getMessage(), e);
+			}
+		}
+		return new JwtKeySet(Collections.unmodifiableMap(keys));
+	}
+
+	/**
+	 * The public key for a key id.
+	 *
+	 * @param kid the key id
+	 * @return PublicKey, or {@code null} if the set has no key with the id
+	 */
+	public PublicKey getKey(final String kid) {
+		return kid == null ? null : keys.get(kid);
+	}
+
+	/**
+	 * The key ids in the set.
+	 *
+	 * @return Set&lt;String&gt;
+	 */
+	public Set<String> getKeyIds() {
+		return keys.keySet();
+	}
+
+	/**
+	 * The number of keys in the set.
+	 *
+	 * @return int
+	 */
+	public int size() {
+		return keys.size();
+	}
+
+	/**
+	 * Create an RSA public key from its modulus and exponent.
+	 *
+	 * @param keyNode the JWK
+	 * @return PublicKey
+	 * @throws GeneralSecurityException if the key cannot be created
+	 */
+	private static PublicKey rsaKey(final JsonNode keyNode) throws GeneralSecurityException {
+		final RSAPublicKeySpec spec = new RSAPublicKeySpec(integer(keyNode, "n"), integer(keyNode, "e"));
+		return KeyFactory.getInstance("RSA").generatePublic(spec);
+	}
+
+	/**
+	 * Create an EC public key from its curve and point.
+	 *
+	 * @param keyNode the JWK
+	 * @return PublicKey
+	 * @throws GeneralSecurityException if the key cannot be created
+	 */
+	private static PublicKey ecKey(final JsonNode keyNode) throws GeneralSecurityException {
+		final String curve = CURVES.get(text(keyNode, "crv"));
+		if (curve == null) {
+			throw new IllegalArgumentException("unsupported curve " + text(keyNode, "crv"));
+		}
+		final AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+		parameters.init(new ECGenParameterSpec(curve));
+		final ECPublicKeySpec spec = new ECPublicKeySpec(new ECPoint(integer(keyNode, "x"), integer(keyNode, "y")),
+				parameters.getParameterSpec(ECParameterSpec.class));
+		return KeyFactory.getInstance("EC").generatePublic(spec);
+	}
+
+	/**
+	 * A base64url encoded unsigned integer member of the JWK.
+	 *
+	 * @param keyNode the JWK
+	 * @param name the member name
+	 * @return BigInteger
+	 */
+	private static BigInteger integer(final JsonNode keyNode, final String name) {
+		final String value = text(keyNode, name);
+		if (value == null) {
+			throw new IllegalArgumentException("missing \"" + name + "\"");
+		}
+		return new BigInteger(1, Base64.getUrlDecoder().decode(value));
+	}
+
+	/**
+	 * A text member of the JWK.
+	 *
+	 * @param keyNode the JWK
+	 * @param name the member name
+	 * @return String, or {@code null} if absent
+	 */
+	private static String text(final JsonNode keyNode, final String name) {
+		final JsonNode value = keyNode.get(name);
+		return value == null || value.isNull() ? null : value.asText();
+	}
+}
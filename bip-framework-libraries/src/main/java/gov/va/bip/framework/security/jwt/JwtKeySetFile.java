@@ -0,0 +1,154 @@
+package gov.va.bip.framework.security.jwt;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.PublicKey;
+import java.util.Objects;
+
+import gov.va.bip.framework.log.BipLogger;
+import gov.va.bip.framework.log.BipLoggerFactory;
+import gov.va.bip.framework.validation.Defense;
+
+/**
+ * A {@link JwtKeySet} loaded from a file, and reloaded when the file changes.
+ * <p>
+ * The last modified time of the file is checked at most once per reload interval, and when a token
+ * names a key id that is not in the current set (at most once per second), so keys can be rotated
+ * by editing the file without a restart: add the new key, start signing with it, then remove the old key.
+ * If the changed file cannot be read or parsed, the previous key set remains in use.
+ */
+public final class JwtKeySetFile {
+	/** Class logger */
+	private static final BipLogger LOGGER = BipLoggerFactory.getLogger(JwtKeySetFile.class);
+
+	/** Minimum milliseconds between the checks made for unknown key ids */
+	static final long MIN_UNKNOWN_KID_CHECK_MILLIS = 1000L;
+
+	/** The key set file */
+	private final Path path;
+
+	/** Milliseconds between checks of the file */
+	private final long reloadMillis;
+
+	/** The current key set, and the file time it was loaded from */
+	private volatile Snapshot snapshot;
+
+	/** When the file was last checked, in epoch milliseconds */
+	private volatile long lastCheck;
+
+	/**
+	 * Load the key set from the file.
+	 *
+	 * @param location the path of the key set file, must have text
+	 * @param reloadMillis milliseconds between checks of the file for changes
+	 * @throws IllegalArgumentException if the file cannot be read or parsed
+	 */
+	public JwtKeySetFile(final String location, final long reloadMillis) {
+		Defense.hasText(location, "JWT key set file cannot be empty.");
+		this.path = Paths.get(location);
+		this.reloadMillis = Math.max(0, reloadMillis);
+		this.snapshot = load(path);
+		this.lastCheck = System.currentTimeMillis();
+	}
+
+	/**
+	 * Is this the file at the location, checked at the interval.
+	 *
+	 * @param location the path of the key set file
+	 * @param reloadMillis milliseconds between checks of the file
+	 * @return boolean
+	 */
+	public boolean isFor(final String location, final long reloadMillis) {
+		return location != null && Objects.equals(path, Paths.get(location))
+				&& this.reloadMillis == Math.max(0, reloadMillis);
+	}
+
+	/**
+	 * The current key set, reloaded first if the reload interval has passed and the file has changed.
+	 *
+	 * @return JwtKeySet
+	 */
+	public JwtKeySet getKeySet() {
+		if (System.currentTimeMillis() - lastCheck >= reloadMillis) {
+			reloadIfChanged();
+		}
+		return snapshot.keySet;
+	}
+
+	/**
+	 * The public key for a key id. If the current key set does not have the key id, the file is
+	 * checked for changes (at most once per second) before giving up.
+	 *
+	 * @param kid the key id
+	 * @return PublicKey, or {@code null} if there is no key with the id
+	 */
+	public PublicKey getKey(final String kid) {
+		final PublicKey key = getKeySet().getKey(kid);
+		if (key != null || kid == null) {
+			return key;
+		}
+		if (System.currentTimeMillis() - lastCheck >= Math.min(reloadMillis, MIN_UNKNOWN_KID_CHECK_MILLIS)) {
+			reloadIfChanged();
+		}
+		return snapshot.keySet.getKey(kid);
+	}
+
+	/**
+	 * Reload the key set if the last modified time of the file has changed.
+	 */
+	synchronized void reloadIfChanged() {
+		lastCheck = System.currentTimeMillis();
+		try {
+			if (Files.getLastModifiedTime(path).toMillis() == snapshot.lastModified) {
+				return;
+			}
+			snapshot = load(path);
+			LOGGER.info("Reloaded JWT key set from {} with key ids {}", path, snapshot.keySet.getKeyIds());
+		} catch (IOException | RuntimeException e) { // NOSONAR intentionally broad catch
+			LOGGER.error("Could not reload JWT key set from " + path + ", the previous key set remains in use: "
+					+ e.getMessage());
+		}
+	}
+
+	/**
+	 * Read and parse the file.
+	 *
+	 * @param path the key set file
+	 * @return Snapshot
+	 */
+	private static Snapshot load(final Path path) {
+		try {
+			final long lastModified = Files.getLastModifiedTime(path).toMillis();
+			final String json = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+			return new Snapshot(JwtKeySet.parse(json), lastModified);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Could not read JWT key set file " + path + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * A key set and the last modified time of the file it was loaded from.
+	 */
+	private static final class Snapshot {
+
+		/** The key set */
+		private final JwtKeySet keySet;
+
+		/** The last modified time of the file, in epoch milliseconds */
+		private final long lastModified;
+
+		/**
+		 * Create a snapshot.
+		 *
+		 * @param keySet the key set
+		 * @param lastModified the last modified time of the file, in epoch milliseconds
+		 */
+		private Snapshot(final JwtKeySet keySet, final long lastModified) {
+			this.keySet = keySet;
+			this.lastModified = lastModified;
+		}
+	}
+}
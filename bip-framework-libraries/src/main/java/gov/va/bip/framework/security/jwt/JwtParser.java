@@ -1,18 +1,15 @@
 package gov.va.bip.framework.security.jwt;
 
-import java.nio.charset.StandardCharsets;
-import java.security.Key;
+import java.util.Date;
 import java.util.List;
 
-import javax.crypto.spec.SecretKeySpec;
+import org.apache.commons.lang3.StringUtils;
 
 import gov.va.bip.framework.log.BipLogger;
 import gov.va.bip.framework.log.BipLoggerFactory;
 import gov.va.bip.framework.security.PersonTraits;
 import gov.va.bip.framework.security.jwt.correlation.CorrelationIdsParser;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 
 /**
  * Parse the encrypted JWT
@@ -26,6 +23,18 @@ public class JwtParser {
 	/** The spring configurable properties used for authentication */
 	private JwtAuthenticationProperties jwtAuthenticationProperties;
 
+	/** The key and parser for the current secret and issuer, {@code null} until first used */
+	private volatile JwtSigningKey signingKey;
+
+	/** The key set file for asymmetric algorithms, {@code null} until first used or if not configured */
+	private volatile JwtKeySetFile keySetFile;
+
+	/** The key set file that could not be loaded, {@code null} if none */
+	private volatile KeySetFailure keySetFailure;
+
+	/** Tokens already verified with the current secret and issuer, {@code null} until first used */
+	private volatile VerifiedTokenCache verifiedTokenCache;
+
 	/**
 	 * Parse the JWT json into its component values
 	 *
@@ -38,6 +47,10 @@ public class JwtParser {
 	/**
 	 * Decrypts the JWT and attempts to construct a PersonTraits object from it.
 	 * If correlation id parsing fails, {@code null} is returned.
+	 * <p>
+	 * Tokens that verify successfully are cached (by digest) until their expiry, so a token
+	 * presented again skips signature verification and claim mapping. Each call returns a
+	 * new PersonTraits instance. See {@link JwtAuthenticationProperties#getVerifiedTokenCacheSize()}.
 	 *
 	 * @param token
 	 *            the encrypted JWT
@@ -45,27 +58,130 @@ public class JwtParser {
 	 *         ids
 	 */
 	public PersonTraits parseJwt(final String token) {
-		Claims claims = null;
-
-		// The JWT signature algorithm we will be using to sign the token
-		SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+		final VerifiedTokenCache cache = getVerifiedTokenCache();
+		final String key = cache == null ? null : VerifiedTokenCache.keyOf(token);
+		if (cache != null) {
+			final PersonTraits cached = cache.get(key);
+			if (cached != null) {
+				LOGGER.debug("JWT token previously verified, using cached claims");
+				return cached;
+			}
+		}
 
-		// We will sign our JWT with our ApiKey secret
-		Key signingKey = new SecretKeySpec(jwtAuthenticationProperties.getSecret().getBytes(StandardCharsets.UTF_8),
-				signatureAlgorithm.getJcaName());
+		Claims claims = null;
 
 		long startTime = System.currentTimeMillis();
 
-		claims = Jwts.parser().setSigningKey(signingKey).requireIssuer(jwtAuthenticationProperties.getIssuer())
-				.parseClaimsJws(token).getBody();
+		claims = getSigningKey().parseClaims(token);
 
 		final long elapsedTime = System.currentTimeMillis() - startTime;
 
 		LOGGER.debug("Time elapsed to parse JWT token {}{}{}", "[", elapsedTime / NUMBER_OF_MILLIS_N_A_SECOND,
 				" secs]");
 
-		return getPersonFrom(claims);
+		final PersonTraits personTraits = getPersonFrom(claims);
+
+		// tokens without an expiry, and tokens with bad correlation ids, are never cached
+		final Date expiration = claims.getExpiration();
+		if (cache != null && personTraits != null && expiration != null) {
+			cache.put(key, personTraits, expiration.getTime());
+		}
+		return personTraits;
+
+	}
 
+	/**
+	 * The signing key and parser for the current secret, issuer, key set file and HMAC setting. The key is
+	 * derived once, and derived again only when the properties are changed (e.g. rebound on refresh).
+	 * <p>
+	 * When a key set file is configured the secret is optional: without one, tokens signed with the secret
+	 * are not accepted.
+	 *
+	 * @return JwtSigningKey
+	 */
+	JwtSigningKey getSigningKey() {
+		final String secret = jwtAuthenticationProperties.getSecret();
+		final String issuer = jwtAuthenticationProperties.getIssuer();
+		final JwtKeySetFile keySet = getKeySetFile();
+		final boolean acceptHmac = jwtAuthenticationProperties.isAcceptHmac()
+				&& (StringUtils.isNotBlank(secret) || StringUtils.isBlank(jwtAuthenticationProperties.getKeySetFile()));
+		JwtSigningKey key = signingKey;
+		if (key == null || !key.isFor(secret, issuer, keySet, acceptHmac)) {
+			key = new JwtSigningKey(secret, issuer, keySet, acceptHmac);
+			signingKey = key;
+		}
+		return key;
+	}
+
+	/**
+	 * The key set file named by the properties. The file is loaded once, and loaded again only
+	 * when the location or reload interval are changed; changes to the file itself are picked up
+	 * by the {@link JwtKeySetFile}.
+	 * <p>
+	 * If the file cannot be read or parsed, the error is logged once and only tokens signed with the
+	 * secret are accepted, if any. Loading the file is tried again at most once per reload interval (minimum
+	 * one second), so a missing or malformed file is not read again for every request.
+	 *
+	 * @return JwtKeySetFile, or {@code null} if no key set file is configured or it could not be loaded
+	 */
+	JwtKeySetFile getKeySetFile() {
+		final String location = jwtAuthenticationProperties.getKeySetFile();
+		if (location == null || location.trim().isEmpty()) {
+			keySetFile = null;
+			keySetFailure = null;
+			return null;
+		}
+		final long reloadMillis = jwtAuthenticationProperties.getKeySetReloadMillis();
+		JwtKeySetFile file = keySetFile;
+		if (file != null && file.isFor(location, reloadMillis)) {
+			return file;
+		}
+		final KeySetFailure failure = keySetFailure;
+		final boolean failedBefore = failure != null && failure.isFor(location, reloadMillis);
+		if (failedBefore && !failure.isRetryDue()) {
+			return null;
+		}
+		try {
+			file = new JwtKeySetFile(location, reloadMillis);
+		} catch (RuntimeException e) { // NOSONAR intentionally broad catch
+			if (!failedBefore) {
+				LOGGER.error("Could not load JWT key set file " + location
+						+ ", only tokens signed with the secret are accepted until it can be loaded: " + e.getMessage());
+			}
+			keySetFile = null;
+			keySetFailure = new KeySetFailure(location, reloadMillis);
+			return null;
+		}
+		if (failedBefore) {
+			LOGGER.info("Loaded JWT key set file {}", location);
+		}
+		keySetFailure = null;
+		keySetFile = file;
+		return file;
+	}
+
+	/**
+	 * The cache of verified tokens for the current signing key, key set and cache size.
+	 * A new (empty) cache replaces the previous one when any of these change,
+	 * so tokens verified with a previous secret, issuer or key set are never returned.
+	 *
+	 * @return VerifiedTokenCache, or {@code null} if caching is disabled
+	 */
+	VerifiedTokenCache getVerifiedTokenCache() {
+		final int size = jwtAuthenticationProperties.getVerifiedTokenCacheSize();
+		if (size <= 0) {
+			verifiedTokenCache = null;
+			return null;
+		}
+		final JwtSigningKey key = getSigningKey();
+		final JwtKeySetFile file = keySetFile;
+		final JwtKeySet keySet = file == null ? null : file.getKeySet();
+		VerifiedTokenCache cache = verifiedTokenCache;
+		if (cache == null || cache.getMaxEntries() != size || !cache.isFor(key, keySet)) {
+			cache = new VerifiedTokenCache(size, key, keySet);
+			verifiedTokenCache = cache;
+		}
+		return cache;
 	}
 
 	/**
@@ -106,4 +222,51 @@ public class JwtParser {
 		return personTraits;
 	}
 
+	/**
+	 * A key set file location that could not be loaded, and when loading it can be tried again.
+	 */
+	private static final class KeySetFailure {
+
+		/** The location of the key set file */
+		private final String location;
+
+		/** Milliseconds between checks of the file */
+		private final long reloadMillis;
+
+		/** When loading the file can be tried again, in epoch milliseconds */
+		private final long retryAt;
+
+		/**
+		 * Record a failure to load the key set file.
+		 *
+		 * @param location the location of the key set file
+		 * @param reloadMillis milliseconds between checks of the file
+		 */
+		private KeySetFailure(final String location, final long reloadMillis) {
+			this.location = location;
+			this.reloadMillis = reloadMillis;
+			this.retryAt = System.currentTimeMillis()
+					+ Math.max(reloadMillis, JwtKeySetFile.MIN_UNKNOWN_KID_CHECK_MILLIS);
+		}
+
+		/**
+		 * Is this the failure of the file at the location, checked at the interval.
+		 *
+		 * @param location the location of the key set file
+		 * @param reloadMillis milliseconds between checks of the file
+		 * @return boolean
+		 */
+		private boolean isFor(final String location, final long reloadMillis) {
+			return this.location.equals(location) && this.reloadMillis == reloadMillis;
+		}
+
+		/**
+		 * Has the time come to try loading the file again.
+		 *
+		 * @return boolean
+		 */
+		private boolean isRetryDue() {
+			return System.currentTimeMillis() - retryAt >= 0;
+		}
+	}
 }
@@ -0,0 +1,214 @@
+package gov.va.bip.framework.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Objects;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import gov.va.bip.framework.validation.Defense;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.SigningKeyResolver;
+
+/**
+ * The key material for signing and verifying JWTs with a secret, built once per secret and issuer.
+ * <p>
+ * Holds the HS256 signing key, and a fully configured jjwt parser that requires the issuer.
+ * The parser is never modified after construction, so a single instance is safely shared by all
+ * requests. Holders of an instance compare it with the current properties using
+ * {@link #isFor(String, String, JwtKeySetFile, boolean)}, and build a new instance only when the secret,
+ * issuer, key set file or HMAC setting changes.
+ * <p>
+ * When a {@link JwtKeySetFile} is given, tokens signed with an RSA or EC algorithm (e.g. RS256, ES256)
+ * are also accepted, verified with the public key named by the {@code kid} header of the token.
+ * Tokens signed with an HMAC algorithm are verified with the secret, unless HMAC is not accepted,
+ * in which case the secret is optional and HMAC signed tokens are rejected.
+ */
+public final class JwtSigningKey {
+
+	/** The JWT signature algorithm used to sign and verify tokens */
+	public static final SignatureAlgorithm SIGNATURE_ALGORITHM = SignatureAlgorithm.HS256;
+
+	/** The secret the key was derived from */
+	private final String secret;
+
+	/** The issuer required by the parser */
+	private final String issuer;
+
+	/** The signing key, {@code null} if there is no secret */
+	private final Key key;
+
+	/** Are tokens signed with an HMAC algorithm (verified with the secret) accepted */
+	private final boolean acceptHmac;
+
+	/** The public keys for asymmetric algorithms, may be {@code null} */
+	private final JwtKeySetFile keySetFile;
+
+	/** The configured parser, verifies the signature and issuer */
+	private final io.jsonwebtoken.JwtParser parser;
+
+	/**
+	 * Derive the signing key from the secret, and configure the parser.
+	 *
+	 * @param secret the signing secret, must have text
+	 * @param issuer the issuer the parser requires
+	 */
+	public JwtSigningKey(final String secret, final String issuer) {
+		this(secret, issuer, null);
+	}
+
+	/**
+	 * Derive the signing key from the secret, and configure the parser to also accept
+	 * tokens signed with the keys in the key set.
+	 *
+	 * @param secret the signing secret, must have text
+	 * @param issuer the issuer the parser requires
+	 * @param keySetFile the public keys for asymmetric algorithms, {@code null} accepts only HMAC signed tokens
+	 */
+	public JwtSigningKey(final String secret, final String issuer, final JwtKeySetFile keySetFile) {
+		this(secret, issuer, keySetFile, true);
+	}
+
+	/**
+	 * Derive the signing key from the secret, if HMAC signed tokens are accepted, and configure the parser
+	 * to also accept tokens signed with the keys in the key set.
+	 *
+	 * @param secret the signing secret, must have text if HMAC signed tokens are accepted
+	 * @param issuer the issuer the parser requires
+	 * @param keySetFile the public keys for asymmetric algorithms, may be {@code null}
+	 * @param acceptHmac are tokens signed with an HMAC algorithm accepted, if {@code false} the secret is not used
+	 */
+	public JwtSigningKey(final String secret, final String issuer, final JwtKeySetFile keySetFile,
+			final boolean acceptHmac) {
+		if (acceptHmac) {
+			Defense.hasText(secret, "JWT secret cannot be empty.");
+		}
+		this.secret = secret;
+		this.issuer = issuer;
+		this.keySetFile = keySetFile;
+		this.acceptHmac = acceptHmac;
+		this.key = acceptHmac
+				? new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), SIGNATURE_ALGORITHM.getJcaName())
+				: null;
+		this.parser = keySetFile == null && acceptHmac
+				? Jwts.parser().setSigningKey(key).requireIssuer(issuer)
+				: Jwts.parser().setSigningKeyResolver(new KeySetResolver()).requireIssuer(issuer);
+	}
+
+	/**
+	 * Was this key built for the secret and issuer, without a key set.
+	 *
+	 * @param secret the current secret
+	 * @param issuer the current issuer
+	 * @return boolean
+	 */
+	public boolean isFor(final String secret, final String issuer) {
+		return isFor(secret, issuer, null);
+	}
+
+	/**
+	 * Was this key built for the secret, issuer and key set file.
+	 *
+	 * @param secret the current secret
+	 * @param issuer the current issuer
+	 * @param keySetFile the current key set file, may be {@code null}
+	 * @return boolean
+	 */
+	public boolean isFor(final String secret, final String issuer, final JwtKeySetFile keySetFile) {
+		return isFor(secret, issuer, keySetFile, true);
+	}
+
+	/**
+	 * Was this key built for the secret, issuer, key set file and HMAC setting.
+	 *
+	 * @param secret the current secret
+	 * @param issuer the current issuer
+	 * @param keySetFile the current key set file, may be {@code null}
+	 * @param acceptHmac are tokens signed with an HMAC algorithm currently accepted
+	 * @return boolean
+	 */
+	public boolean isFor(final String secret, final String issuer, final JwtKeySetFile keySetFile,
+			final boolean acceptHmac) {
+		return Objects.equals(this.secret, secret) && Objects.equals(this.issuer, issuer) && this.keySetFile == keySetFile
+				&& this.acceptHmac == acceptHmac;
+	}
+
+	/**
+	 * The signing key.
+	 *
+	 * @return Key, or {@code null} if HMAC signed tokens are not accepted
+	 */
+	public Key getKey() {
+		return key;
+	}
+
+	/**
+	 * The issuer the parser requires.
+	 *
+	 * @return String
+	 */
+	public String getIssuer() {
+		return issuer;
+	}
+
+	/**
+	 * Verify the signature and issuer of the token, and return its claims.
+	 *
+	 * @param token the encoded JWT
+	 * @return Claims
+	 * @throws io.jsonwebtoken.JwtException if the token is malformed, expired, or fails verification
+	 */
+	public Claims parseClaims(final String token) {
+		return parser.parseClaimsJws(token).getBody();
+	}
+
+	/**
+	 * Chooses the verification key from the algorithm and key id in the token header.
+	 */
+	private final class KeySetResolver implements SigningKeyResolver {
+
+		@Override
+		public Key resolveSigningKey(final JwsHeader header, final Claims claims) {
+			return resolve(header);
+		}
+
+		@Override
+		public Key resolveSigningKey(final JwsHeader header, final String plaintext) {
+			return resolve(header);
+		}
+
+		/**
+		 * The secret key for HMAC algorithms, if they are accepted, otherwise the public key named by the key id.
+		 * The type of the public key must match the algorithm.
+		 *
+		 * @param header the token header
+		 * @return Key
+		 */
+		private Key resolve(final JwsHeader header) {
+			final SignatureAlgorithm algorithm = SignatureAlgorithm.forName(header.getAlgorithm());
+			if (algorithm.isHmac()) {
+				if (!acceptHmac) {
+					throw new SignatureException("JWT signed with " + algorithm.getValue() + " is not accepted");
+				}
+				return key;
+			}
+			final PublicKey publicKey = keySetFile == null ? null : keySetFile.getKey(header.getKeyId());
+			if (publicKey == null) {
+				throw new SignatureException("No JWT verification key for kid " + header.getKeyId());
+			}
+			if ((algorithm.isRsa() && !(publicKey instanceof RSAPublicKey))
+					|| (algorithm.isEllipticCurve() && !(publicKey instanceof ECPublicKey))) {
+				throw new SignatureException("JWT verification key " + header.getKeyId() + " cannot verify "
+						+ algorithm.getValue() + " signatures");
+			}
+			return publicKey;
+		}
+	}
+}
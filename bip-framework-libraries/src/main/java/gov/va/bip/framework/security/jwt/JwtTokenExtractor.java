@@ -0,0 +1,87 @@
+package gov.va.bip.framework.security.jwt;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import gov.va.bip.framework.validation.Defense;
+
+/**
+ * Reads the JWT header, named by {@link JwtAuthenticationProperties#getHeader()}, from a request.
+ * <p>
+ * Shared by the {@link JwtAuthenticationFilter} (inbound requests) and the {@link JwtTokenService}
+ * (the token propagated on outbound requests), so the header is located and parsed in one place.
+ * No objects are allocated beyond the bearer token string itself.
+ */
+public final class JwtTokenExtractor {
+
+	/** The prefix of the header value for bearer tokens */
+	public static final String BEARER_PREFIX = "Bearer ";
+
+	/** The spring configurable properties used for authentication */
+	private final JwtAuthenticationProperties jwtAuthenticationProperties;
+
+	/**
+	 * Create the extractor.
+	 *
+	 * @param jwtAuthenticationProperties the properties that name the header, must not be {@code null}
+	 */
+	public JwtTokenExtractor(final JwtAuthenticationProperties jwtAuthenticationProperties) {
+		Defense.notNull(jwtAuthenticationProperties, JwtAuthenticationProperties.class.getSimpleName() + " cannot be null.");
+		this.jwtAuthenticationProperties = jwtAuthenticationProperties;
+	}
+
+	/**
+	 * The name of the header that carries the JWT.
+	 *
+	 * @return String
+	 */
+	public String getHeaderName() {
+		return jwtAuthenticationProperties.getHeader();
+	}
+
+	/**
+	 * The complete value of the JWT header (including any "Bearer " prefix), as it is propagated
+	 * to outbound requests.
+	 *
+	 * @param request the request
+	 * @return String, or {@code null} if the request does not have the header
+	 */
+	public String getHeaderValue(final HttpServletRequest request) {
+		return request.getHeader(getHeaderName());
+	}
+
+	/**
+	 * The complete value of the JWT header of the request bound to the current thread.
+	 *
+	 * @return String, or {@code null} if the request does not have the header
+	 * @throws IllegalStateException if no request is bound to the current thread
+	 */
+	public String getCurrentHeaderValue() {
+		return getHeaderValue(((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest());
+	}
+
+	/**
+	 * The bearer token from the JWT header of the request.
+	 *
+	 * @param request the request
+	 * @return String, or {@code null} if the request does not have a bearer token header
+	 */
+	public String getBearerToken(final HttpServletRequest request) {
+		return stripBearerPrefix(getHeaderValue(request));
+	}
+
+	/**
+	 * The token from a bearer token header value.
+	 *
+	 * @param headerValue the header value
+	 * @return String, or {@code null} if the value does not start with "Bearer "
+	 */
+	public static String stripBearerPrefix(final String headerValue) {
+		if (headerValue == null || !headerValue.startsWith(BEARER_PREFIX)) {
+			return null;
+		}
+		return headerValue.substring(BEARER_PREFIX.length());
+	}
+}
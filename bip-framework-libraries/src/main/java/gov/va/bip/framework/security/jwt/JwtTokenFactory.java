@@ -0,0 +1,170 @@
+package gov.va.bip.framework.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import gov.va.bip.framework.security.model.Person;
+
+/**
+ * Creates signed JWTs for a secret and issuer. A single instance is thread-safe, and is meant to be reused
+ * for every token signed with the same secret and issuer.
+ * <p>
+ * Everything that does not change between tokens is prepared once, when the factory is created:
+ * the {@link JwtSigningKey}, an initialized HMAC signer (copied for each token, rather than looked up
+ * and keyed again), the encoded JWT header, and the JSON writer for the claims. Creating a token only
+ * serializes and signs the claims of the person.
+ * <p>
+ * The tokens are the same as those built with the jjwt builder: an HS256 JWS with a {@code typ} of JWT,
+ * the iss, iat, jti and exp claims, and the person claims that are not {@code null}.
+ * Holders of an instance compare it with the current properties using {@link #isFor(String, String)}.
+ */
+public final class JwtTokenFactory {
+
+	/** Writes the claims, thread-safe once configured */
+	private static final ObjectWriter CLAIMS_WRITER = new ObjectMapper().writer();
+
+	/** Encodes the token segments */
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	/** The encoded header, with the separator that follows it */
+	private static final String HEADER = ENCODER.encodeToString(
+			("{\"typ\":\"JWT\",\"alg\":\"" + JwtSigningKey.SIGNATURE_ALGORITHM.getValue() + "\"}")
+					.getBytes(StandardCharsets.UTF_8))
+			+ ".";
+
+	/** Milliseconds in a second */
+	private static final long MILLIS_PER_SECOND = 1000L;
+
+	/** The number of claims in a token with every person claim set */
+	private static final int CLAIM_COUNT = 15;
+
+	/** The signing key */
+	private final JwtSigningKey signingKey;
+
+	/** The initialized signer, copied for each token */
+	private final Mac mac;
+
+	/**
+	 * Derive the signing key from the secret, and prepare the signer.
+	 *
+	 * @param secret the signing secret, must have text
+	 * @param issuer the token issuer
+	 * @throws IllegalStateException if the signature algorithm is not available
+	 */
+	public JwtTokenFactory(final String secret, final String issuer) {
+		this.signingKey = new JwtSigningKey(secret, issuer);
+		this.mac = newMac(signingKey);
+	}
+
+	/**
+	 * Was this factory built for the secret and issuer.
+	 *
+	 * @param secret the current secret
+	 * @param issuer the current issuer
+	 * @return boolean
+	 */
+	public boolean isFor(final String secret, final String issuer) {
+		return signingKey.isFor(secret, issuer);
+	}
+
+	/**
+	 * The signing key.
+	 *
+	 * @return JwtSigningKey
+	 */
+	public JwtSigningKey getSigningKey() {
+		return signingKey;
+	}
+
+	/**
+	 * Create a signed token with the person claims.
+	 *
+	 * @param person the person the token is for
+	 * @param expireInSeconds the number of seconds the token is valid
+	 * @return String the encoded JWT
+	 * @throws IllegalStateException if the claims cannot be serialized
+	 */
+	public String createToken(final Person person, final int expireInSeconds) {
+		final long now = System.currentTimeMillis();
+
+		final Map<String, Object> claims = new LinkedHashMap<>(CLAIM_COUNT * 2);
+		claims.put("iss", signingKey.getIssuer());
+		claims.put("iat", now / MILLIS_PER_SECOND);
+		claims.put("jti", UUID.randomUUID().toString());
+		claims.put("exp", (now + expireInSeconds * MILLIS_PER_SECOND) / MILLIS_PER_SECOND);
+		putClaim(claims, "firstName", person.getFirstName());
+		putClaim(claims, "middleName", person.getMiddleName());
+		putClaim(claims, "lastName", person.getLastName());
+		putClaim(claims, "prefix", person.getPrefix());
+		putClaim(claims, "suffix", person.getSuffix());
+		putClaim(claims, "birthDate", person.getBirthDate());
+		putClaim(claims, "gender", person.getGender());
+		putClaim(claims, "assuranceLevel", person.getAssuranceLevel());
+		putClaim(claims, "email", person.getEmail());
+		putClaim(claims, "correlationIds", person.getCorrelationIds());
+		putClaim(claims, "appToken", person.getAppToken());
+
+		final String payload;
+		try {
+			payload = ENCODER.encodeToString(CLAIMS_WRITER.writeValueAsBytes(claims));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Could not serialize JWT claims: " + e.getMessage(), e);
+		}
+
+		final String content = HEADER + payload;
+		final byte[] signature = copyMac().doFinal(content.getBytes(StandardCharsets.US_ASCII));
+		return content + "." + ENCODER.encodeToString(signature);
+	}
+
+	/**
+	 * Add the claim if it has a value. As with the jjwt builder, {@code null} claims are left out of the token.
+	 *
+	 * @param claims the claims
+	 * @param name the claim name
+	 * @param value the claim value
+	 */
+	private static void putClaim(final Map<String, Object> claims, final String name, final Object value) {
+		if (value != null) {
+			claims.put(name, value);
+		}
+	}
+
+	/**
+	 * A copy of the initialized signer, for use by a single thread.
+	 *
+	 * @return Mac
+	 */
+	private Mac copyMac() {
+		try {
+			return (Mac) mac.clone();
+		} catch (CloneNotSupportedException e) { // NOSONAR the provider cannot copy the signer, create a new one
+			return newMac(signingKey);
+		}
+	}
+
+	/**
+	 * Create a signer initialized with the signing key.
+	 *
+	 * @param signingKey the signing key
+	 * @return Mac
+	 */
+	private static Mac newMac(final JwtSigningKey signingKey) {
+		try {
+			final Mac newMac = Mac.getInstance(JwtSigningKey.SIGNATURE_ALGORITHM.getJcaName());
+			newMac.init(signingKey.getKey());
+			return newMac;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Could not create the JWT signer: " + e.getMessage(), e);
+		}
+	}
+}
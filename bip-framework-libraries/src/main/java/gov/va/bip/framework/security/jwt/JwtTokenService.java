@@ -3,12 +3,8 @@ package gov.va.bip.framework.security.jwt;
 import java.util.HashMap;
 import java.util.Map;
 
-import javax.servlet.http.HttpServletRequest;
-
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
 /**
  * Put request token into a HashMap
@@ -21,21 +17,57 @@ public class JwtTokenService {
 	@Autowired
 	private JwtAuthenticationProperties jwtAuthenticationProperties;
 
+	/** Reads the JWT header, created on first use */
+	private volatile JwtTokenExtractor tokenExtractor;
+
 	/**
 	 * Gets the JWT token from the request context Authorization header,
 	 * and returns it in a HashMap.
-	 * 
+	 * <p>
+	 * Outbound request interceptors should use {@link #getTokenHeaderName()} and
+	 * {@link #getTokenHeaderValue()}, which do not create a map.
+	 *
 	 * @return Map the key and value of the JWT token header
 	 */
 	public Map<String, String> getTokenFromRequest() {
 		Map<String, String> token = new HashMap<>();
-		final HttpServletRequest request =
-				((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-		String tokenValue = request.getHeader(jwtAuthenticationProperties.getHeader());
+		String tokenValue = getTokenHeaderValue();
 		if (tokenValue != null) {
-			token.put(jwtAuthenticationProperties.getHeader(), tokenValue);
+			token.put(getTokenHeaderName(), tokenValue);
 		}
 
 		return token;
 	}
+
+	/**
+	 * The name of the JWT token header.
+	 *
+	 * @return String
+	 */
+	public String getTokenHeaderName() {
+		return getTokenExtractor().getHeaderName();
+	}
+
+	/**
+	 * Gets the value of the JWT token header from the request context.
+	 *
+	 * @return String the header value, or {@code null} if the request does not have the header
+	 */
+	public String getTokenHeaderValue() {
+		return getTokenExtractor().getCurrentHeaderValue();
+	}
+
+	/**
+	 * The extractor for the JWT token header.
+	 *
+	 * @return JwtTokenExtractor
+	 */
+	private JwtTokenExtractor getTokenExtractor() {
+		JwtTokenExtractor extractor = tokenExtractor;
+		if (extractor == null) {
+			extractor = new JwtTokenExtractor(jwtAuthenticationProperties);
+			tokenExtractor = extractor;
+		}
+		return extractor;
+	}
 }
@@ -40,6 +40,9 @@ public class TokenResource implements SwaggerResponseMessages {
 	@Value("${bip.framework.security.jwt.validation.required-parameters:}")
 	private String[] jwtTokenRequiredParameterList;
 
+	/** Creates the tokens, {@code null} until first used */
+	private volatile JwtTokenFactory tokenFactory;
+
 	@PostMapping(value = { "/token", "/api/{v?.*}/token" }, consumes = {
 			MediaType.ALL_VALUE }, produces = { MediaType.ALL_VALUE })
 	@ApiOperation(value = API_OPERATION_VALUE, notes = API_OPERATION_NOTES)
@@ -49,11 +52,27 @@ public class TokenResource implements SwaggerResponseMessages {
 			@ApiParam(value = API_PARAM_GETTOKEN_PERSON, required = true) @RequestBody final Person person) {
 		// @ApiModel(description="Identity information for the authenticated
 		// user.")
-		return GenerateToken.generateJwt(person, jwtAuthenticationProperties.getExpireInSeconds(),
-				jwtAuthenticationProperties.getSecret(), jwtAuthenticationProperties.getIssuer(),
+		return GenerateToken.generateJwt(person, jwtAuthenticationProperties.getExpireInSeconds(), getTokenFactory(),
 				jwtTokenRequiredParameterList);
 	}
 
+	/**
+	 * The token factory for the current secret and issuer. The factory is created once,
+	 * and created again only when the properties are changed (e.g. rebound on refresh).
+	 *
+	 * @return JwtTokenFactory
+	 */
+	JwtTokenFactory getTokenFactory() {
+		final String secret = jwtAuthenticationProperties.getSecret();
+		final String issuer = jwtAuthenticationProperties.getIssuer();
+		JwtTokenFactory factory = tokenFactory;
+		if (factory == null || !factory.isFor(secret, issuer)) {
+			factory = new JwtTokenFactory(secret, issuer);
+			tokenFactory = factory;
+		}
+		return factory;
+	}
+
 	/**
 	 * Registers fields that should be allowed for data binding.
 	 *
@@ -0,0 +1,156 @@
+package gov.va.bip.framework.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+
+import gov.va.bip.framework.cache.BoundedExpiringMap;
+import gov.va.bip.framework.security.PersonTraits;
+
+/**
+ * The bounded, in-process cache of verified tokens behind a {@link JwtParser}.
+ * <p>
+ * Entries are keyed by a SHA-256 digest of the token, so raw tokens are not held in memory,
+ * and are only returned until the expiry ({@code exp} claim) of the token. The cache is tied to
+ * the signing key and key set the tokens were verified with - see {@link #isFor(JwtSigningKey, JwtKeySet)}.
+ * <p>
+ * Reads are lock-free. When a put takes the cache over its maximum size,
+ * expired entries are removed first, then arbitrary entries, in one batch -
+ * see {@link BoundedExpiringMap}.
+ */
+final class VerifiedTokenCache {
+
+	/** The digest algorithm for token keys */
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+
+	/** The verified persons (never handed out), keyed by token digest, expiring with their tokens in epoch milliseconds */
+	private final BoundedExpiringMap<String, PersonTraits> entries;
+
+	/** The signing key (secret and issuer) the tokens were verified with */
+	private final JwtSigningKey signingKey;
+
+	/** The key set the tokens were verified with, may be {@code null} */
+	private final JwtKeySet keySet;
+
+	/**
+	 * Create a cache.
+	 *
+	 * @param maxEntries maximum number of entries, minimum 1
+	 * @param signingKey the signing key the tokens are verified with
+	 * @param keySet the key set the tokens are verified with, may be {@code null}
+	 */
+	VerifiedTokenCache(final int maxEntries, final JwtSigningKey signingKey, final JwtKeySet keySet) {
+		this.entries = new BoundedExpiringMap<>(maxEntries, System::currentTimeMillis);
+		this.signingKey = signingKey;
+		this.keySet = keySet;
+	}
+
+	/**
+	 * Were the cached tokens verified with this signing key and key set. A new signing key is built
+	 * when the secret or issuer change, and a new key set is loaded when the key set file changes,
+	 * so tokens signed with a removed key are not returned after the key set is reloaded.
+	 *
+	 * @param signingKey the current signing key
+	 * @param keySet the current key set, may be {@code null}
+	 * @return boolean
+	 */
+	boolean isFor(final JwtSigningKey signingKey, final JwtKeySet keySet) {
+		return this.signingKey == signingKey && this.keySet == keySet;
+	}
+
+	/**
+	 * Maximum number of entries.
+	 *
+	 * @return int
+	 */
+	int getMaxEntries() {
+		return entries.getMaxEntries();
+	}
+
+	/**
+	 * Get the verified person for an unexpired token.
+	 * <p>
+	 * The cached instance is never handed out; the caller receives a copy.
+	 *
+	 * @param key the token digest, from {@link #keyOf(String)}
+	 * @return PersonTraits, or {@code null} if absent or expired
+	 */
+	PersonTraits get(final String key) {
+		final PersonTraits personTraits = entries.get(key);
+		return personTraits == null ? null : copyOf(personTraits);
+	}
+
+	/**
+	 * Put the verified person for a token. A copy of the person is cached,
+	 * so later changes to the caller's instance are not seen by the cache.
+	 *
+	 * @param key the token digest, from {@link #keyOf(String)}
+	 * @param personTraits the verified person
+	 * @param expiresAt the expiry of the token, in epoch milliseconds
+	 */
+	void put(final String key, final PersonTraits personTraits, final long expiresAt) {
+		if (expiresAt <= System.currentTimeMillis()) {
+			return;
+		}
+		entries.put(key, copyOf(personTraits), expiresAt);
+	}
+
+	/**
+	 * The current number of entries, including any that have expired but not yet been removed.
+	 *
+	 * @return int
+	 */
+	int size() {
+		return entries.size();
+	}
+
+	/**
+	 * The cache key for a token: the Base64 encoded SHA-256 digest of the token.
+	 *
+	 * @param token the encoded JWT
+	 * @return String
+	 */
+	static String keyOf(final String token) {
+		try {
+			final MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+			return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			// every java platform is required to support SHA-256
+			throw new IllegalStateException(DIGEST_ALGORITHM + " is not available.", e);
+		}
+	}
+
+	/**
+	 * Copy the values that {@link JwtParser} maps from the token.
+	 * <p>
+	 * Spring Security erases the credentials of the authenticated principal, and applications may
+	 * modify the principal during the request, so cached instances must never be shared.
+	 *
+	 * @param source the person to copy
+	 * @return PersonTraits
+	 */
+	static PersonTraits copyOf(final PersonTraits source) {
+		final PersonTraits copy = new PersonTraits();
+		copy.setFirstName(source.getFirstName());
+		copy.setLastName(source.getLastName());
+		copy.setPrefix(source.getPrefix());
+		copy.setMiddleName(source.getMiddleName());
+		copy.setSuffix(source.getSuffix());
+		copy.setBirthDate(source.getBirthDate());
+		copy.setGender(source.getGender());
+		copy.setAssuranceLevel(source.getAssuranceLevel());
+		copy.setEmail(source.getEmail());
+		copy.setTokenId(source.getTokenId());
+		copy.setAppToken(source.getAppToken());
+		copy.setCorrelationIds(source.getCorrelationIds() == null ? null : new ArrayList<>(source.getCorrelationIds()));
+		copy.setDodedipnid(source.getDodedipnid());
+		copy.setPnidType(source.getPnidType());
+		copy.setPnid(source.getPnid());
+		copy.setPid(source.getPid());
+		copy.setIcn(source.getIcn());
+		copy.setFileNumber(source.getFileNumber());
+		return copy;
+	}
+}
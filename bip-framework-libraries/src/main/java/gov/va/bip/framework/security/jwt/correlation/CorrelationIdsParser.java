@@ -36,6 +36,9 @@ public class CorrelationIdsParser {
 	/** The index into a single Correlation Id to get the user status */
 	private static final int INDEX_STATUS = 4;
 
+	/** The separator between the elements of a single Correlation Id */
+	private static final char SEPARATOR = '^';
+
 	/**
 	 * This class is not meant to be instantiated since it all it has are utility methods for parsing correlation Ids
 	 */
@@ -52,8 +55,10 @@ public class CorrelationIdsParser {
 	 */
 	public static void parseCorrelationIds(final List<String> list, final PersonTraits personTraits) {
 		if (list != null && !list.isEmpty()) {
+			// one array holds the elements of each correlation id in turn
+			final String[] elements = new String[ELEMENT_MAX_COUNT];
 			for (final String token : list) {
-				processToken(token, personTraits);
+				processToken(token, elements, personTraits);
 			}
 		}
 	}
@@ -62,18 +67,19 @@ public class CorrelationIdsParser {
 	 * Process the token and populate the map with values.
 	 *
 	 * @param tokenId
+	 * @param tokens the array to hold the elements of the token
 	 * @throws BipRuntimeException if some problem with the correlation ids
 	 */
-	private static void processToken(final String token, final PersonTraits personTraits) {
+	private static void processToken(final String token, final String[] tokens, final PersonTraits personTraits) {
 		// split a single correlation id into its component parts
 		if (StringUtils.isBlank(token)) {
 			MessageKeys key = MessageKeys.BIP_SECURITY_TRAITS_CORRELATIONID_BLANK;
 			LOGGER.error(key.getMessage());
 			throw new BipRuntimeException(key, MessageSeverity.ERROR, HttpStatus.BAD_REQUEST);
 		}
-		final String[] tokens = token.split("\\^");
+		final int count = tokenize(token, tokens);
 
-		if (tokens.length >= ELEMENT_MAX_COUNT) {
+		if (count >= ELEMENT_MAX_COUNT) {
 			final String elementId = tokens[INDEX_ID];
 			final String type = tokens[INDEX_TYPE];
 			final String assigningFacility = tokens[INDEX_SOURCE];
@@ -85,7 +91,7 @@ public class CorrelationIdsParser {
 			determineEdipiAndIcn(personTraits, elementId, type, assigningAuthority, assigningFacility);
 			determinePnIDAndPnIdType(personTraits, elementId, type, assigningAuthority);
 
-		} else if (tokens.length == ELEMENT_SS_COUNT) {
+		} else if (count == ELEMENT_SS_COUNT) {
 			personTraits.setPnidType(IdTypes.SOCIAL.value());
 			personTraits.setPnid(tokens[INDEX_ID]);
 
@@ -97,6 +103,38 @@ public class CorrelationIdsParser {
 		}
 	}
 
+	/**
+	 * Split a single correlation id into its elements with an index scan, without a regular expression.
+	 * The count is the same as the length of the array returned by {@code token.split("\\^")}:
+	 * empty elements at the end of the token are not counted.
+	 * Only the first {@code elements.length} elements are kept.
+	 *
+	 * @param token the correlation id, not empty
+	 * @param elements the array to hold the elements
+	 * @return int the count of elements
+	 */
+	static int tokenize(final String token, final String[] elements) {
+		final int length = token.length();
+		int count = 0;
+		int index = 0;
+		int start = 0;
+		while (start <= length) {
+			int end = token.indexOf(SEPARATOR, start);
+			if (end < 0) {
+				end = length;
+			}
+			if (end > start) {
+				count = index + 1;
+			}
+			if (index < elements.length) {
+				elements[index] = token.substring(start, end);
+			}
+			index++;
+			start = end + 1;
+		}
+		return count;
+	}
+
 	/**
 	 *
 	 * @param elementId
@@ -1,5 +1,9 @@
 package gov.va.bip.framework.security.jwt.correlation;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.springframework.http.HttpStatus;
 
 import gov.va.bip.framework.exception.BipRuntimeException;
@@ -18,6 +22,17 @@ public enum IdTypes {
 
 	private static final BipLogger LOGGER = BipLoggerFactory.getLogger(IdTypes.class);
 
+	/** The enumerations, keyed by their arbitrary string value */
+	private static final Map<String, IdTypes> BY_VALUE;
+
+	static {
+		final Map<String, IdTypes> byValue = new HashMap<>();
+		for (IdTypes s : IdTypes.values()) {
+			byValue.put(s.value(), s);
+		}
+		BY_VALUE = Collections.unmodifiableMap(byValue);
+	}
+
 	/** The arbitrary string value of the enumeration */
 	private String type;
 
@@ -48,10 +63,9 @@ public enum IdTypes {
 	 * @throws BipRuntimeException if no match of enumeration values
 	 */
 	public static IdTypes fromValue(final String stringValue) {
-		for (IdTypes s : IdTypes.values()) {
-			if (s.value().equals(stringValue)) {
-				return s;
-			}
+		final IdTypes s = BY_VALUE.get(stringValue);
+		if (s != null) {
+			return s;
 		}
 		MessageKeys key = MessageKeys.BIP_SECURITY_TRAITS_IDTYPE_INVALID;
 		String[] params = new String[] { stringValue };
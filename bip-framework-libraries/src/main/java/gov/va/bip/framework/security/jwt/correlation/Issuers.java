@@ -1,5 +1,9 @@
 package gov.va.bip.framework.security.jwt.correlation;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.springframework.http.HttpStatus;
 
 import gov.va.bip.framework.exception.BipRuntimeException;
@@ -19,6 +23,17 @@ public enum Issuers {
 
 	private static final BipLogger LOGGER = BipLoggerFactory.getLogger(Issuers.class);
 
+	/** The enumerations, keyed by their arbitrary string value */
+	private static final Map<String, Issuers> BY_VALUE;
+
+	static {
+		final Map<String, Issuers> byValue = new HashMap<>();
+		for (Issuers s : Issuers.values()) {
+			byValue.put(s.value(), s);
+		}
+		BY_VALUE = Collections.unmodifiableMap(byValue);
+	}
+
 	/** The arbitrary string value of the enumeration */
 	private String issuer;
 
@@ -49,10 +64,9 @@ public enum Issuers {
 	 * @throws BipRuntimeException if no match of enumeration values
 	 */
 	public static Issuers fromValue(final String stringValue) {
-		for (Issuers s : Issuers.values()) {
-			if (s.value().equals(stringValue)) {
-				return s;
-			}
+		final Issuers s = BY_VALUE.get(stringValue);
+		if (s != null) {
+			return s;
 		}
 		MessageKeys key = MessageKeys.BIP_SECURITY_TRAITS_ISSUER_INVALID;
 		String[] params = new String[] { stringValue };
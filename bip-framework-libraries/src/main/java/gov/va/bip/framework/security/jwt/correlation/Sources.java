@@ -1,5 +1,9 @@
 package gov.va.bip.framework.security.jwt.correlation;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.springframework.http.HttpStatus;
 
 import gov.va.bip.framework.exception.BipRuntimeException;
@@ -20,6 +24,17 @@ public enum Sources {
 
 	private static final BipLogger LOGGER = BipLoggerFactory.getLogger(Sources.class);
 
+	/** The enumerations, keyed by their arbitrary string value */
+	private static final Map<String, Sources> BY_VALUE;
+
+	static {
+		final Map<String, Sources> byValue = new HashMap<>();
+		for (Sources s : Sources.values()) {
+			byValue.put(s.value(), s);
+		}
+		BY_VALUE = Collections.unmodifiableMap(byValue);
+	}
+
 	/** The arbitrary string value of the enumeration */
 	private String source;
 
@@ -50,10 +65,9 @@ public enum Sources {
 	 * @throws BipRuntimeException if no match of enumeration values
 	 */
 	public static Sources fromValue(final String stringValue) {
-		for (Sources s : Sources.values()) {
-			if (s.value().equals(stringValue)) {
-				return s;
-			}
+		final Sources s = BY_VALUE.get(stringValue);
+		if (s != null) {
+			return s;
 		}
 		MessageKeys key = MessageKeys.BIP_SECURITY_TRAITS_SOURCE_INVALID;
 		String[] params = new String[] { stringValue };
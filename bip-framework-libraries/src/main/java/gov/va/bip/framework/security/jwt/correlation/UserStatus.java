@@ -1,5 +1,9 @@
 package gov.va.bip.framework.security.jwt.correlation;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.springframework.http.HttpStatus;
 
 import gov.va.bip.framework.exception.BipRuntimeException;
@@ -22,6 +26,17 @@ public enum UserStatus {
 
 	private static final BipLogger LOGGER = BipLoggerFactory.getLogger(UserStatus.class);
 
+	/** The enumerations, keyed by their arbitrary string value */
+	private static final Map<String, UserStatus> BY_VALUE;
+
+	static {
+		final Map<String, UserStatus> byValue = new HashMap<>();
+		for (UserStatus s : UserStatus.values()) {
+			byValue.put(s.value(), s);
+		}
+		BY_VALUE = Collections.unmodifiableMap(byValue);
+	}
+
 	/** The arbitrary string value of the enumeration */
 	private String status;
 
@@ -52,10 +67,9 @@ public enum UserStatus {
 	 * @throws BipRuntimeException if no match of enumeration values
 	 */
 	public static UserStatus fromValue(final String stringValue) {
-		for (UserStatus s : UserStatus.values()) {
-			if (s.value().equals(stringValue)) {
-				return s;
-			}
+		final UserStatus s = BY_VALUE.get(stringValue);
+		if (s != null) {
+			return s;
 		}
 		MessageKeys key = MessageKeys.BIP_SECURITY_TRAITS_USERSTATUS_INVALID;
 		String[] params = new String[] { stringValue };
@@ -2,15 +2,8 @@ package gov.va.bip.framework.security.util;
 
 import static gov.va.bip.framework.security.jwt.JwtAuthenticationProvider.isPersonTraitsValid;
 
-import java.nio.charset.StandardCharsets;
-import java.security.Key;
 import java.util.Arrays;
-import java.util.Calendar;
-import java.util.GregorianCalendar;
 import java.util.List;
-import java.util.UUID;
-
-import javax.crypto.spec.SecretKeySpec;
 
 import org.springframework.http.HttpStatus;
 
@@ -18,10 +11,9 @@ import gov.va.bip.framework.messages.MessageKeys;
 import gov.va.bip.framework.messages.MessageSeverity;
 import gov.va.bip.framework.security.PersonTraits;
 import gov.va.bip.framework.security.jwt.JwtAuthenticationException;
+import gov.va.bip.framework.security.jwt.JwtTokenFactory;
 import gov.va.bip.framework.security.jwt.correlation.CorrelationIdsParser;
 import gov.va.bip.framework.security.model.Person;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 
 /**
  * Created by vgadda on 5/5/17.
@@ -31,6 +23,9 @@ public class GenerateToken {
 	private static String secret = "secret";
 	private static String issuer = "Vets.gov";
 
+	/** The factory for the most recently used secret, created again only when the secret changes */
+	private static volatile JwtTokenFactory tokenFactory;
+
 	/**
 	 * Do not instantiate
 	 */
@@ -55,17 +50,22 @@ public class GenerateToken {
 
 	public static String generateJwt(final Person person, final int expireInsec, final String secret, final String issuer,
 			final String[] jwtTokenRequiredParameterList) {
-		final Calendar currentTime = GregorianCalendar.getInstance();
-		final Calendar expiration = GregorianCalendar.getInstance();
-		expiration.setTime(currentTime.getTime());
-		expiration.add(Calendar.SECOND, expireInsec);
-
-		// The JWT signature algorithm we will be using to sign the token
-		final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
-
-		// We will sign our JWT with our ApiKey secret
-		final Key signingKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), signatureAlgorithm.getJcaName());
+		return generateJwt(person, expireInsec, tokenFactoryFor(secret, issuer), jwtTokenRequiredParameterList);
+	}
 
+	/**
+	 * Validate the person, and create a token with the factory.
+	 * Callers that create many tokens should hold on to the factory, as the token resource does.
+	 *
+	 * @param person the person the token is for
+	 * @param expireInsec the number of seconds the token is valid
+	 * @param tokenFactory the factory for the secret and issuer
+	 * @param jwtTokenRequiredParameterList the person traits that must have a value
+	 * @return String the encoded JWT
+	 * @throws JwtAuthenticationException if the correlation ids are invalid, or a required parameter is missing
+	 */
+	public static String generateJwt(final Person person, final int expireInsec, final JwtTokenFactory tokenFactory,
+			final String[] jwtTokenRequiredParameterList) {
 		final PersonTraits personTraits = populatePersonTraits(person);
 		try {
 			List<String> list = person.getCorrelationIds();
@@ -82,24 +82,24 @@ public class GenerateToken {
 					MessageSeverity.ERROR, HttpStatus.BAD_REQUEST, Arrays.toString(jwtTokenRequiredParameterList));
 		}
 
-		return Jwts.builder()
-				.setHeaderParam("typ", "JWT")
-				.setIssuer(issuer)
-				.setIssuedAt(currentTime.getTime())
-				.setId(UUID.randomUUID().toString())
-				.setExpiration(expiration.getTime())
-				.claim("firstName", person.getFirstName())
-				.claim("middleName", person.getMiddleName())
-				.claim("lastName", person.getLastName())
-				.claim("prefix", person.getPrefix())
-				.claim("suffix", person.getSuffix())
-				.claim("birthDate", person.getBirthDate())
-				.claim("gender", person.getGender())
-				.claim("assuranceLevel", person.getAssuranceLevel())
-				.claim("email", person.getEmail())
-				.claim("correlationIds", person.getCorrelationIds())
-				.claim("appToken", person.getAppToken())
-				.signWith(signatureAlgorithm, signingKey).compact();
+		return tokenFactory.createToken(person, expireInsec);
+	}
+
+	/**
+	 * The token factory for the secret. The factory is reused while the same secret and issuer are
+	 * passed in.
+	 *
+	 * @param secret the signing secret
+	 * @param issuer the token issuer
+	 * @return JwtTokenFactory
+	 */
+	static JwtTokenFactory tokenFactoryFor(final String secret, final String issuer) {
+		JwtTokenFactory factory = tokenFactory;
+		if (factory == null || !factory.isFor(secret, issuer)) {
+			factory = new JwtTokenFactory(secret, issuer);
+			tokenFactory = factory;
+		}
+		return factory;
 	}
 
 	private static PersonTraits populatePersonTraits(final Person person) {
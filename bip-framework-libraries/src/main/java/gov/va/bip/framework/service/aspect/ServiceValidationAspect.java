@@ -4,6 +4,8 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -54,6 +56,12 @@ public class ServiceValidationAspect extends BaseServiceAspect {
 	/** Text added to end of class name to determine its validator name */
 	private static final String POSTFIX = "Validator";
 
+	/** Placeholder in {@link #VALIDATOR_CLASSES} for model classes that do not have a validator */
+	private static final Class<?> NO_VALIDATOR = Void.class;
+
+	/** Resolved validator classes keyed by model class, so the class loader is searched only once per model class */
+	private static final ConcurrentMap<Class<?>, Class<?>> VALIDATOR_CLASSES = new ConcurrentHashMap<>();
+
 	/**
 	 * Around advice for{@link BaseServiceAspect#serviceImpl()} pointcut.
 	 * <p>
@@ -75,7 +83,9 @@ public class ServiceValidationAspect extends BaseServiceAspect {
 	@Around("publicStandardServiceMethod() && serviceImpl()")
 	public Object aroundAdvice(final ProceedingJoinPoint joinPoint) throws Throwable {
 
-		LOGGER.debug(this.getClass().getSimpleName() + " executing around method:" + joinPoint.toLongString());
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug(this.getClass().getSimpleName() + " executing around method:" + joinPoint.toLongString());
+		}
 		DomainResponse domainResponse = null;
 
 		try {
@@ -300,11 +310,31 @@ public class ServiceValidationAspect extends BaseServiceAspect {
 	 * <p>
 	 * The pattern for Validator classes is:<br/>
 	 * <tt><i>model.objects.class.package</i>.validators.<i>ModelObjectClassSimpleName</i>Validator</tt>
+	 * <p>
+	 * The result (including "no validator") is cached per model class, so the missing validator
+	 * warning is logged only the first time a model class is seen.
 	 *
 	 * @param object
 	 * @return
 	 */
 	private Class<?> resolveValidatorClass(final Object object) {
+		Class<?> validatorClass = VALIDATOR_CLASSES.get(object.getClass());
+		if (validatorClass == null) {
+			validatorClass = VALIDATOR_CLASSES.computeIfAbsent(object.getClass(), modelClass -> {
+				Class<?> resolved = findValidatorClass(object);
+				return resolved == null ? NO_VALIDATOR : resolved;
+			});
+		}
+		return validatorClass == NO_VALIDATOR ? null : validatorClass;
+	}
+
+	/**
+	 * Search the class loader for the Validator class of the model object.
+	 *
+	 * @param object
+	 * @return the validator class, or {@code null} if there is none
+	 */
+	private Class<?> findValidatorClass(final Object object) {
 		// Deduce the validator class name based on the pattern
 		String qualifiedValidatorName = object.getClass().getPackage() + ".validators." + object.getClass().getSimpleName() + POSTFIX;
 		qualifiedValidatorName = qualifiedValidatorName.replaceAll("package\\s+", "");
@@ -60,6 +60,8 @@ public abstract class AbstractStandardValidator<T> implements Validator<T> {
 	 * <li>Verifies that the class of the toValidate parameter is correct. If it fails, returns with message
 	 * ({@link #validate(Object, List)} method is never called).
 	 * <li>Null checks the messages parameter initializes it if necessary.
+	 * <li>Applies any pre-compiled {@link #getValidationRules()}, adding a message for each failed rule.
+	 * If any rule fails, returns with messages ({@link #validate(Object, List)} method is never called).
 	 * </ul>
 	 */
 	@SuppressWarnings("unchecked")
@@ -74,8 +76,10 @@ public abstract class AbstractStandardValidator<T> implements Validator<T> {
 					: callingMethod.getDeclaringClass().getSimpleName()
 							+ "." + callingMethod.getName() + ": ";
 
-			LOGGER.debug("Validating " + (toValidate == null ? "null" : toValidate.getClass().getSimpleName())
-					+ " for " + callingMethodName);
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Validating " + (toValidate == null ? "null" : toValidate.getClass().getSimpleName())
+						+ " for " + callingMethodName);
+			}
 
 			// request-level null check
 			if (toValidate == null) {
@@ -92,6 +96,13 @@ public abstract class AbstractStandardValidator<T> implements Validator<T> {
 				return;
 			}
 
+			// apply declared rules without exceptions, skip implementation validation if any fail
+			final ValidationRules<T> rules = getValidationRules();
+			if (rules != null && !rules.check((T) toValidate, messagesToAdd)) {
+				LOGGER.debug("Validation rules failed");
+				return;
+			}
+
 			// unchecked type-cast (but pre-verified above) to invoke implementation-specific validation
 			validate((T) toValidate, messagesToAdd);
 
@@ -107,6 +118,19 @@ public abstract class AbstractStandardValidator<T> implements Validator<T> {
 		}
 	}
 
+	/**
+	 * Pre-compiled rules to apply before the {@link #validate(Object, List)} method is called.
+	 * <p>
+	 * Implementations that declare their rules with {@link ValidationRules#builder(Class)} should
+	 * build them once (e.g. into a {@code static final} field) and return them here. Failed rules
+	 * produce messages without creating exceptions. The default returns {@code null} (no rules).
+	 *
+	 * @return ValidationRules - the rules, or {@code null}
+	 */
+	protected ValidationRules<T> getValidationRules() {
+		return null;
+	}
+
 	/**
 	 * Get the class of the object to be validated.
 	 * <p>
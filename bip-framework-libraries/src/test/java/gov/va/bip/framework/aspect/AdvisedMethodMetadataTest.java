@@ -0,0 +1,61 @@
+package gov.va.bip.framework.aspect;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+import gov.va.bip.framework.audit.AuditEvents;
+import gov.va.bip.framework.audit.annotation.Auditable;
+
+public class AdvisedMethodMetadataTest {
+
+	@Test
+	public void testMetadataIsCached() throws NoSuchMethodException {
+		Method method = this.getClass().getMethod("plainMethod");
+		AdvisedMethodMetadata metadata = AdvisedMethodMetadata.of(method);
+
+		assertSame(metadata, AdvisedMethodMetadata.of(method));
+		assertSame(method, metadata.getMethod());
+		assertEquals("plainMethod", metadata.getMethodName());
+		assertEquals(AdvisedMethodMetadataTest.class.getName(), metadata.getDeclaringClassName());
+		assertEquals("AdvisedMethodMetadataTest.plainMethod", metadata.getSimpleClassAndMethod());
+		assertNotNull(metadata.getLogger());
+		assertNull(metadata.getAuditable());
+		assertEquals(AdvisedMethodMetadataTest.class.getName(), metadata.getAuditClass());
+	}
+
+	@Test
+	public void testAuditableMetadata() throws NoSuchMethodException {
+		AdvisedMethodMetadata metadata = AdvisedMethodMetadata.of(this.getClass().getMethod("auditedMethod"));
+		assertNotNull(metadata.getAuditable());
+		assertEquals("auditedActivity", metadata.getAuditable().activity());
+		assertEquals("AuditedClass", metadata.getAuditClass());
+
+		metadata = AdvisedMethodMetadata.of(this.getClass().getMethod("auditedMethodWithoutClass"));
+		assertEquals(AdvisedMethodMetadataTest.class.getName(), metadata.getAuditClass());
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void testNullMethod() {
+		AdvisedMethodMetadata.of(null);
+	}
+
+	public void plainMethod() {
+		// do nothing
+	}
+
+	@Auditable(event = AuditEvents.API_REST_REQUEST, activity = "auditedActivity", auditClass = "AuditedClass")
+	public void auditedMethod() {
+		// do nothing
+	}
+
+	@Auditable(event = AuditEvents.API_REST_REQUEST, activity = "auditedActivity")
+	public void auditedMethodWithoutClass() {
+		// do nothing
+	}
+}
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collections;
 
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.JoinPoint.StaticPart;
@@ -25,6 +26,8 @@ import org.slf4j.event.Level;
 import gov.va.bip.framework.AbstractBaseLogTester;
 import gov.va.bip.framework.aspect.PerformanceLoggingAspect;
 import gov.va.bip.framework.log.BipLogger;
+import gov.va.bip.framework.log.PerformanceWarningThresholds;
+import gov.va.bip.framework.log.SlowCallSampler;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PerformanceLoggingAspectTest extends AbstractBaseLogTester {
@@ -55,6 +58,8 @@ public class PerformanceLoggingAspectTest extends AbstractBaseLogTester {
 	@Override
 	@After
 	public void tearDown() {
+		PerformanceWarningThresholds.publish(null);
+		SlowCallSampler.publish(null);
 	}
 
 	@Test
@@ -107,6 +112,39 @@ public class PerformanceLoggingAspectTest extends AbstractBaseLogTester {
 
 	}
 
+	@Test
+	public void testAroundAdviceGreaterThanWarningThreshold() throws Throwable {
+		super.getAppender().clear();
+		AspectLoggingLOG.setLevel(Level.INFO);
+		AspectLoggingTestLOG.setLevel(Level.INFO);
+		PerformanceWarningThresholds.publish(new PerformanceWarningThresholds(null,
+				Collections.singletonMap("PerformanceLoggingAspectTest.someMethod", -1)));
+
+		PerformanceLoggingAspect.aroundAdvice(proceedingJoinPoint);
+
+		assertTrue(super.getAppender().get(0).getMessage()
+				.contains("PERFORMANCE WARNING response for [PerformanceLoggingAspectTest.someMethod] in elapsed time ["));
+		assertEquals(ch.qos.logback.classic.Level.WARN, super.getAppender().get(0).getLevel());
+	}
+
+	@Test
+	public void testAroundAdviceSlowCallIsSampled() throws Throwable {
+		super.getAppender().clear();
+		AspectLoggingLOG.setLevel(Level.INFO);
+		AspectLoggingTestLOG.setLevel(Level.INFO);
+		PerformanceWarningThresholds.publish(new PerformanceWarningThresholds(-1, null));
+		SlowCallSampler.publish(new SlowCallSampler(true, 0, 5, 10, 8, 1));
+		when(proceedingJoinPoint.proceed()).thenAnswer(invocation -> {
+			Thread.sleep(100);
+			return null;
+		});
+
+		PerformanceLoggingAspect.aroundAdvice(proceedingJoinPoint);
+
+		assertEquals(ch.qos.logback.classic.Level.WARN, super.getAppender().get(0).getLevel());
+		assertTrue(super.getAppender().get(0).getMessage().contains(" profile [samples="));
+	}
+
 	// TODO turned off until exception handling is decided
 	@Test(expected = NullPointerException.class)
 	public void testAroundAdviceThrowError() throws Throwable {
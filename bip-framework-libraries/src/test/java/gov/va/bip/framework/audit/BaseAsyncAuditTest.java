@@ -7,6 +7,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -91,6 +92,23 @@ public class BaseAsyncAuditTest {
 		}
 	}
 	
+	@Test
+	public void readBytesOfSetSizeToStringTest() throws IOException {
+		ByteArrayInputStream in = new ByteArrayInputStream(new byte[5000]);
+		assertEquals(100, BaseAsyncAudit.readBytesOfSetSizeToString(in, 100).length());
+		// only the bytes that are kept are read
+		assertEquals(4900, in.available());
+
+		// never more than the audit byte limit
+		assertEquals(BaseAsyncAudit.NUMBER_OF_BYTES_TO_LIMIT_AUDIT_LOGGED_OBJECT,
+				BaseAsyncAudit.readBytesOfSetSizeToString(in, Integer.MAX_VALUE).length());
+		assertEquals(4900 - BaseAsyncAudit.NUMBER_OF_BYTES_TO_LIMIT_AUDIT_LOGGED_OBJECT, in.available());
+
+		assertEquals("", BaseAsyncAudit.readBytesOfSetSizeToString(in, 0));
+		assertEquals("", BaseAsyncAudit.readBytesOfSetSizeToString(null, 100));
+		assertEquals("abc", BaseAsyncAudit.readBytesOfSetSizeToString(IOUtils.toInputStream("abc", "UTF-8"), 100));
+	}
+
 	@Test
 	public void convertBytesOfSetSizeToStringTestNull() {
 		String convertedString = BaseAsyncAudit.convertBytesOfSetSizeToString(null);
@@ -0,0 +1,53 @@
+package gov.va.bip.framework.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+public class BipCacheKeyGeneratorTest {
+
+	public static class TestService {
+		public String find(final String id) {
+			return id;
+		}
+
+		public String find(final Object id) {
+			return String.valueOf(id);
+		}
+
+		public String other(final String id) {
+			return id;
+		}
+	}
+
+	private final BipCacheKeyGenerator keyGenerator = new BipCacheKeyGenerator();
+
+	@Test
+	public void testGenerate() throws Exception {
+		Method find = TestService.class.getMethod("find", String.class);
+		String key = (String) keyGenerator.generate(new TestService(), find, "12345");
+		assertTrue(key.startsWith("TestService.find."));
+		assertEquals("TestService.find.".length() + CacheKeyHasher.HASH_LENGTH, key.length());
+		assertEquals(key, keyGenerator.generate(new TestService(), find, "12345"));
+		assertNotEquals(key, keyGenerator.generate(new TestService(), find, "12346"));
+	}
+
+	@Test
+	public void testGenerateDistinguishesMethods() throws Exception {
+		TestService service = new TestService();
+		String key = (String) keyGenerator.generate(service, TestService.class.getMethod("find", String.class), "id");
+		assertNotEquals(key, keyGenerator.generate(service, TestService.class.getMethod("find", Object.class), "id"));
+		assertNotEquals(key, keyGenerator.generate(service, TestService.class.getMethod("other", String.class), "id"));
+	}
+
+	@Test
+	public void testGenerateWithNullArgument() throws Exception {
+		String key = (String) keyGenerator.generate(new TestService(), TestService.class.getMethod("find", String.class),
+				(Object) null);
+		assertEquals("TestService.find.".length() + CacheKeyHasher.HASH_LENGTH, key.length());
+	}
+}
@@ -1,6 +1,8 @@
 package gov.va.bip.framework.cache;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.After;
@@ -107,4 +109,57 @@ public class BipCacheUtilTest {
 		String result = BipCacheUtil.getUserBasedKey("test");
 		assertTrue(result.length() > 0);
 	}
+
+	@Test
+	public void testGetUserBasedKeyIsStable() {
+		PersonTraits personTraits = new PersonTraits("user", "password",
+				AuthorityUtils.createAuthorityList("ROLE_TEST"));
+		personTraits.setFirstName("firstName");
+		personTraits.setLastName("lastName");
+		Authentication auth = new UsernamePasswordAuthenticationToken(personTraits,
+				personTraits.getPassword(), personTraits.getAuthorities());
+		SecurityContextHolder.getContext().setAuthentication(auth);
+
+		// no pid or file number - still the same key for the same user
+		assertEquals(BipCacheUtil.getUserBasedKey("test"), BipCacheUtil.getUserBasedKey("test"));
+		assertEquals(CacheKeyHasher.HASH_LENGTH, BipCacheUtil.getUserBasedKey().length());
+
+		// equal values of different identifiers are different users
+		PersonTraits pidTraits = new PersonTraits("user", "password", AuthorityUtils.createAuthorityList("ROLE_TEST"));
+		pidTraits.setPid("12345");
+		PersonTraits fileNumberTraits = new PersonTraits("user", "password", AuthorityUtils.createAuthorityList("ROLE_TEST"));
+		fileNumberTraits.setFileNumber("12345");
+		assertNotEquals(BipCacheUtil.getUserBasedKey(pidTraits), BipCacheUtil.getUserBasedKey(fileNumberTraits));
+	}
+
+	@Test
+	public void testGetUserBasedKeyWithoutIdentifiers() {
+		// users built from a token have the placeholder user name
+		PersonTraits user1 = new PersonTraits();
+		user1.setFirstName("firstName");
+		user1.setLastName("lastName");
+		PersonTraits user2 = new PersonTraits();
+		user2.setFirstName("firstName");
+		user2.setLastName("lastName");
+
+		assertNotEquals(BipCacheUtil.getUserBasedKey(user1), BipCacheUtil.getUserBasedKey(user2));
+		// and the entries of such a user are not reused
+		assertNotEquals(BipCacheUtil.getUserBasedKey(user1), BipCacheUtil.getUserBasedKey(user1));
+		assertNotEquals(BipCacheUtil.getUserBasedKey(new PersonTraits()), BipCacheUtil.getUserBasedKey(new PersonTraits()));
+	}
+
+	@Test
+	public void testGetUserBasedKeyAnonymous() {
+		SecurityContextHolder.getContext().setAuthentication(null);
+		assertEquals(BipCacheUtil.ANONYMOUS_USER_KEY, BipCacheUtil.getUserBasedKey());
+		assertEquals(BipCacheUtil.getUserBasedKey("test"), BipCacheUtil.getUserBasedKey("test"));
+	}
+
+	@Test
+	public void testCreateKey() {
+		assertEquals(BipCacheUtil.createKey("Aa", 1), BipCacheUtil.createKey("Aa", 1));
+		// equal hashCode values do not collide
+		assertNotEquals(BipCacheUtil.createKey("Aa"), BipCacheUtil.createKey("BB"));
+		assertNotEquals(BipCacheUtil.createKey("a", null, "b"), BipCacheUtil.createKey("a", "b"));
+	}
 }
@@ -0,0 +1,95 @@
+package gov.va.bip.framework.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class BoundedExpiringMapTest {
+
+	@Test
+	public void testGetAndExpire() {
+		AtomicLong now = new AtomicLong(100);
+		BoundedExpiringMap<String, String> map = new BoundedExpiringMap<>(10, now::get);
+		map.put("key", "value", 200);
+		assertEquals("value", map.get("key"));
+
+		now.set(200);
+		assertNull(map.get("key"));
+		assertEquals(0, map.size());
+	}
+
+	@Test
+	public void testRemoveAndClear() {
+		BoundedExpiringMap<String, String> map = new BoundedExpiringMap<>(10, () -> 0L);
+		map.put("key1", "value1", 1);
+		map.put("key2", "value2", 1);
+		map.remove("key1");
+		assertNull(map.get("key1"));
+		assertEquals(1, map.size());
+		map.clear();
+		assertEquals(0, map.size());
+	}
+
+	@Test
+	public void testTrimmedInBatches() {
+		// the clock is only read by get and by a trim
+		AtomicInteger trims = new AtomicInteger();
+		BoundedExpiringMap<Integer, String> map = new BoundedExpiringMap<>(100, () -> {
+			trims.incrementAndGet();
+			return 0L;
+		});
+		for (int i = 0; i < 100; i++) {
+			map.put(i, "value", 1);
+		}
+		assertEquals(0, trims.get());
+
+		map.put(100, "value", 1);
+		assertEquals(1, trims.get());
+		assertEquals(90, map.size());
+
+		// the next trim is a tenth of the maximum size of puts away
+		for (int i = 101; i < 111; i++) {
+			map.put(i, "value", 1);
+		}
+		assertEquals(1, trims.get());
+		assertEquals(100, map.size());
+		map.put(111, "value", 1);
+		assertEquals(2, trims.get());
+		assertEquals(90, map.size());
+		assertEquals("value", map.get(111));
+	}
+
+	@Test
+	public void testTrimRemovesExpiredFirst() {
+		AtomicLong now = new AtomicLong(0);
+		BoundedExpiringMap<String, String> map = new BoundedExpiringMap<>(10, now::get);
+		map.put("expired1", "value", 10);
+		map.put("expired2", "value", 10);
+		for (int i = 0; i < 8; i++) {
+			map.put("live" + i, "value", 100);
+		}
+		now.set(10);
+		map.put("new", "value", 100);
+
+		// removing the expired entries is enough to reach the low-water mark
+		assertEquals(9, map.size());
+		for (int i = 0; i < 8; i++) {
+			assertEquals("value", map.get("live" + i));
+		}
+		assertEquals("value", map.get("new"));
+	}
+
+	@Test
+	public void testMinimumSize() {
+		BoundedExpiringMap<String, String> map = new BoundedExpiringMap<>(0, () -> 0L);
+		assertEquals(1, map.getMaxEntries());
+		map.put("key1", "value1", 1);
+		map.put("key2", "value2", 1);
+		assertEquals(1, map.size());
+		assertEquals("value2", map.get("key2"));
+	}
+}
@@ -0,0 +1,152 @@
+package gov.va.bip.framework.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import gov.va.bip.framework.messages.MessageSeverity;
+
+public class CacheKeyHasherTest {
+
+	public static class TestBean {
+		private String name;
+		private Integer count;
+
+		public TestBean(final String name, final Integer count) {
+			this.name = name;
+			this.count = count;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Integer getCount() {
+			return count;
+		}
+	}
+
+	public static class NoGetterBean {
+		private final String id;
+
+		public NoGetterBean(final String id) {
+			this.id = id;
+		}
+	}
+
+	public static class IgnoredBean {
+		@JsonIgnore
+		private final String id;
+
+		public IgnoredBean(final String id) {
+			this.id = id;
+		}
+
+		@JsonIgnore
+		public String getId() {
+			return id;
+		}
+	}
+
+	public static class EmptyBean {
+	}
+
+	@Test
+	public void testHashIsCompactAndStable() {
+		String hash = CacheKeyHasher.hash("test", 1, 2L, null, MessageSeverity.ERROR, new BigDecimal("1.10"),
+				LocalDate.of(2019, 1, 1), new int[] { 1, 2 }, Arrays.asList("a", "b"));
+		assertEquals(CacheKeyHasher.HASH_LENGTH, hash.length());
+		assertEquals(hash, CacheKeyHasher.hash("test", 1, 2L, null, MessageSeverity.ERROR, new BigDecimal("1.10"),
+				LocalDate.of(2019, 1, 1), new int[] { 1, 2 }, Arrays.asList("a", "b")));
+		assertEquals(CacheKeyHasher.HASH_LENGTH, CacheKeyHasher.hash().length());
+		assertEquals(CacheKeyHasher.HASH_LENGTH, CacheKeyHasher.hash((Object[]) null).length());
+	}
+
+	@Test
+	public void testHashCodeCollisionsDoNotCollide() {
+		assertEquals("Aa".hashCode(), "BB".hashCode());
+		assertNotEquals(CacheKeyHasher.hash("Aa"), CacheKeyHasher.hash("BB"));
+	}
+
+	@Test
+	public void testTypesAndPositionsAreDistinct() {
+		assertNotEquals(CacheKeyHasher.hash("1"), CacheKeyHasher.hash(1));
+		assertNotEquals(CacheKeyHasher.hash(1), CacheKeyHasher.hash(1L));
+		assertNotEquals(CacheKeyHasher.hash("a", null), CacheKeyHasher.hash(null, "a"));
+		assertNotEquals(CacheKeyHasher.hash("ab", "c"), CacheKeyHasher.hash("a", "bc"));
+		assertNotEquals(CacheKeyHasher.hash("a"), CacheKeyHasher.hash("a", null));
+	}
+
+	@Test
+	public void testUnorderedCollectionsIgnoreIterationOrder() {
+		Set<String> set1 = new HashSet<>(16);
+		Set<String> set2 = new HashSet<>(1024);
+		for (int i = 0; i < 100; i++) {
+			set1.add("value" + i);
+			set2.add("value" + (99 - i));
+		}
+		assertEquals(CacheKeyHasher.hash(set1), CacheKeyHasher.hash(set2));
+
+		Map<String, Integer> map1 = new HashMap<>();
+		map1.put("a", 1);
+		map1.put("b", 2);
+		Map<String, Integer> map2 = new HashMap<>(64);
+		map2.put("b", 2);
+		map2.put("a", 1);
+		assertEquals(CacheKeyHasher.hash(map1), CacheKeyHasher.hash(map2));
+		assertEquals(CacheKeyHasher.hash(new TreeMap<>(map1)), CacheKeyHasher.hash(new TreeMap<>(map2)));
+		map2.put("a", 3);
+		assertNotEquals(CacheKeyHasher.hash(map1), CacheKeyHasher.hash(map2));
+
+		// ordered sets keep their order
+		assertNotEquals(CacheKeyHasher.hash(new LinkedHashSet<>(Arrays.asList("a", "b"))),
+				CacheKeyHasher.hash(new LinkedHashSet<>(Arrays.asList("b", "a"))));
+	}
+
+	@Test
+	public void testBeansAreHashedByProperties() {
+		assertEquals(CacheKeyHasher.hash(new TestBean("name", 1)), CacheKeyHasher.hash(new TestBean("name", 1)));
+		assertNotEquals(CacheKeyHasher.hash(new TestBean("name", 1)), CacheKeyHasher.hash(new TestBean("name", 2)));
+		assertNotEquals(CacheKeyHasher.hash(new TestBean(null, 1)), CacheKeyHasher.hash(new TestBean("name", 1)));
+	}
+
+	@Test
+	public void testBeansWithoutGettersAreHashedByFields() {
+		assertEquals(CacheKeyHasher.hash(new NoGetterBean("a")), CacheKeyHasher.hash(new NoGetterBean("a")));
+		assertNotEquals(CacheKeyHasher.hash(new NoGetterBean("a")), CacheKeyHasher.hash(new NoGetterBean("b")));
+	}
+
+	@Test
+	public void testIgnoredFieldsAreHashed() {
+		assertNotEquals(CacheKeyHasher.hash(new IgnoredBean("a")), CacheKeyHasher.hash(new IgnoredBean("b")));
+	}
+
+	@Test
+	public void testEmptyBeansAreHashedByToString() {
+		// Object.toString() differs per instance, so distinct empty beans never share a key
+		assertNotEquals(CacheKeyHasher.hash(new EmptyBean()), CacheKeyHasher.hash(new EmptyBean()));
+	}
+
+	@Test
+	public void testMurmur3() {
+		// keys persisted in Redis depend on these values never changing
+		byte[] data = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+		long[] hash = CacheKeyHasher.murmur3(data, data.length);
+		assertEquals(0x85162f3c692d3921L, hash[0]);
+		assertEquals(0xbd6afb735bd932e5L, hash[1]);
+	}
+}
@@ -1,9 +1,14 @@
 package gov.va.bip.framework.cache.interceptor;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Method;
@@ -110,6 +115,31 @@ public class BipCacheInterceptorTest {
 		assertTrue(((DomainResponse) ret).getMessages().isEmpty());
 	}
 
+	@Test
+	public final void testInvocationTracking() throws Throwable {
+		final boolean[] tracked = new boolean[1];
+		final TestInvocation testInvocation = new TestInvocation() {
+			@Override
+			public Object proceed() throws Throwable {
+				tracked[0] = BipCacheInvocation.onCompletion(() -> {
+				});
+				return super.proceed();
+			}
+		};
+
+		// off by default, so invocations cost nothing to track
+		assertFalse(bipCacheInterceptor.isInvocationTracking());
+		bipCacheInterceptor.invoke(testInvocation);
+		assertFalse(tracked[0]);
+
+		bipCacheInterceptor.setInvocationTracking(true);
+		bipCacheInterceptor.invoke(testInvocation);
+		assertTrue(tracked[0]);
+		// the invocation ended with the call
+		assertFalse(BipCacheInvocation.onCompletion(() -> {
+		}));
+	}
+
 	@Test(expected = Throwable.class)
 	public final void testHandleInternalException() throws Throwable {
 		BrokenTestInvocation testInvocation = new BrokenTestInvocation();
@@ -130,4 +160,43 @@ public class BipCacheInterceptorTest {
 		assertTrue(((DomainResponse) ret).getMessages().isEmpty());
 		logger.setLevel(Level.DEBUG);
 	}
+
+	@Test
+	public final void testAuditModes() throws Throwable {
+		assertEquals(CacheAuditMode.ALL, bipCacheInterceptor.getAuditMode());
+		assertTrue(bipCacheInterceptor.isAudited(true));
+		assertTrue(bipCacheInterceptor.isAudited(false));
+
+		bipCacheInterceptor.setAuditMode(CacheAuditMode.MISSES);
+		assertTrue(bipCacheInterceptor.isAudited(true));
+		assertFalse(bipCacheInterceptor.isAudited(false));
+
+		bipCacheInterceptor.setAuditMode(CacheAuditMode.SAMPLED);
+		bipCacheInterceptor.setAuditSampleRate(0.0);
+		assertTrue(bipCacheInterceptor.isAudited(true));
+		assertFalse(bipCacheInterceptor.isAudited(false));
+		bipCacheInterceptor.setAuditSampleRate(2.0);
+		assertEquals(1.0, bipCacheInterceptor.getAuditSampleRate(), 0.0);
+		assertTrue(bipCacheInterceptor.isAudited(false));
+
+		bipCacheInterceptor.setAuditMode(CacheAuditMode.OFF);
+		assertFalse(bipCacheInterceptor.isAudited(true));
+		assertFalse(bipCacheInterceptor.isAudited(false));
+
+		bipCacheInterceptor.setAuditMode(null);
+		assertEquals(CacheAuditMode.ALL, bipCacheInterceptor.getAuditMode());
+	}
+
+	@Test
+	public final void testInvokeWithAuditOff() throws Throwable {
+		bipCacheInterceptor.setAuditMode(CacheAuditMode.OFF);
+		Object ret = bipCacheInterceptor.invoke(new TestInvocation());
+		assertTrue(DomainResponse.class.isAssignableFrom(ret.getClass()));
+		verify(asyncAuditLogSerializer, never()).asyncAuditRequestResponseData(any(), any(), any(), any(), any());
+
+		// the interceptor is not initialized, so every invocation executes the method - a miss
+		bipCacheInterceptor.setAuditMode(CacheAuditMode.MISSES);
+		bipCacheInterceptor.invoke(new TestInvocation());
+		verify(asyncAuditLogSerializer, times(1)).asyncAuditRequestResponseData(any(), any(), any(), any(), any());
+	}
 }
@@ -0,0 +1,152 @@
+package gov.va.bip.framework.cache.interceptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.Test;
+import org.slf4j.MDC;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+public class BipCacheInvocationTest {
+
+	@Test
+	public void testOnCompletionWithoutInvocation() {
+		assertFalse(BipCacheInvocation.onCompletion(() -> {
+		}));
+		assertEquals(0L, BipCacheInvocation.elapsedNanos());
+		assertNull(BipCacheInvocation.reloader());
+	}
+
+	@Test
+	public void testReloaderRequiresProxyMethodInvocation() {
+		BipCacheInvocation.begin(null);
+		try {
+			assertTrue(BipCacheInvocation.elapsedNanos() >= 0L);
+			assertNull(BipCacheInvocation.reloader());
+		} finally {
+			BipCacheInvocation.end();
+		}
+	}
+
+	@Test
+	public void testCallbacksRunForInnermostInvocation() {
+		final List<String> completed = new ArrayList<>();
+
+		BipCacheInvocation.begin(null);
+		try {
+			assertTrue(BipCacheInvocation.onCompletion(() -> completed.add("outer")));
+			BipCacheInvocation.begin(null);
+			try {
+				assertTrue(BipCacheInvocation.onCompletion(() -> completed.add("inner")));
+				assertTrue(BipCacheInvocation.onCompletion(() -> {
+					throw new IllegalStateException("ignored");
+				}));
+			} finally {
+				BipCacheInvocation.end();
+			}
+			assertEquals(1, completed.size());
+			assertEquals("inner", completed.get(0));
+		} finally {
+			BipCacheInvocation.end();
+		}
+		assertEquals(2, completed.size());
+		assertEquals("outer", completed.get(1));
+		assertFalse(BipCacheInvocation.onCompletion(() -> {
+		}));
+	}
+
+	@Test
+	public void testReloaderCarriesRequestAndLoggingContext() throws Exception {
+		final List<Callable<Object>> reloaders = new ArrayList<>();
+		final ProxyFactory proxyFactory = new ProxyFactory(new RequestContextReader());
+		proxyFactory.addInterface(ContextReader.class);
+		proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+			BipCacheInvocation.begin(invocation);
+			try {
+				reloaders.add(BipCacheInvocation.reloader());
+				return invocation.proceed();
+			} finally {
+				BipCacheInvocation.end();
+			}
+		});
+		final ContextReader reader = (ContextReader) proxyFactory.getProxy();
+
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Authorization", "Bearer inbound");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+		MDC.put("txId", "tx-1");
+		try {
+			assertEquals("Bearer inbound tx-1", reader.read());
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+			MDC.clear();
+		}
+		// the request is completed and recycled, the reload must not depend on it
+		request.removeHeader("Authorization");
+
+		final ExecutorService refresher = Executors.newSingleThreadExecutor();
+		try {
+			assertEquals("Bearer inbound tx-1", refresher.submit(reloaders.get(0)).get());
+			assertEquals(Boolean.TRUE, refresher.submit(() -> RequestContextHolder.getRequestAttributes() == null
+					&& MDC.get("txId") == null).get());
+		} finally {
+			refresher.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testDetachedRequestSupportsHeadersAndAttributesOnly() {
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("X-Multi", "one");
+		request.addHeader("X-Multi", "two");
+		final HttpServletRequest detached = BipDetachedRequest.detach(request);
+
+		assertEquals("one", detached.getHeader("x-multi"));
+		assertEquals(2, Collections.list(detached.getHeaders("X-MULTI")).size());
+		assertNull(detached.getHeader("Authorization"));
+		detached.setAttribute("name", "value");
+		assertEquals("value", detached.getAttribute("name"));
+		detached.setAttribute("name", null);
+		assertNull(detached.getAttribute("name"));
+		try {
+			detached.getRequestURI();
+			fail("Only headers and attributes are available");
+		} catch (UnsupportedOperationException e) {
+			assertTrue(e.getMessage().contains("getRequestURI"));
+		}
+	}
+
+	/**
+	 * A cached method that reads the request and logging context.
+	 */
+	public interface ContextReader {
+		String read();
+	}
+
+	/**
+	 * Reads the JWT header of the request bound to the thread, and the transaction id from the MDC.
+	 */
+	static class RequestContextReader implements ContextReader {
+		@Override
+		public String read() {
+			return ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest()
+					.getHeader("Authorization") + " " + MDC.get("txId");
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package gov.va.bip.framework.exception;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+
+import gov.va.bip.framework.messages.MessageKeys;
+import gov.va.bip.framework.messages.MessageSeverity;
+
+public class BipBusinessExceptionTest {
+
+	@Test
+	public void noStackTraceTest() {
+		BipBusinessException ex = new BipBusinessException(MessageKeys.NO_KEY, MessageSeverity.ERROR, HttpStatus.NOT_FOUND);
+		assertEquals(0, ex.getStackTrace().length);
+		assertEquals("NO_KEY", ex.getMessage());
+		assertEquals(HttpStatus.NOT_FOUND, ex.getExceptionData().getStatus());
+	}
+
+	@Test
+	public void causeTest() {
+		Throwable cause = new Throwable("test");
+		BipBusinessException ex =
+				new BipBusinessException(MessageKeys.NO_KEY, MessageSeverity.ERROR, HttpStatus.NOT_FOUND, cause);
+		assertSame(cause, ex.getCause());
+		assertEquals(0, ex.getStackTrace().length);
+	}
+}
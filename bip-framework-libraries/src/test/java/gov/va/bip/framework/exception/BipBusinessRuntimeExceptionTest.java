@@ -0,0 +1,35 @@
+package gov.va.bip.framework.exception;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+
+import gov.va.bip.framework.messages.MessageKeys;
+import gov.va.bip.framework.messages.MessageSeverity;
+
+public class BipBusinessRuntimeExceptionTest {
+
+	@Test
+	public void noStackTraceTest() {
+		BipBusinessRuntimeException ex =
+				new BipBusinessRuntimeException(MessageKeys.NO_KEY, MessageSeverity.ERROR, HttpStatus.BAD_REQUEST);
+		assertEquals(0, ex.getStackTrace().length);
+		ex.fillInStackTrace();
+		assertEquals(0, ex.getStackTrace().length);
+		ex.addSuppressed(new RuntimeException("ignored"));
+		assertEquals(0, ex.getSuppressed().length);
+		assertEquals("NO_KEY", ex.getMessage());
+		assertEquals(HttpStatus.BAD_REQUEST, ex.getExceptionData().getStatus());
+	}
+
+	@Test
+	public void causeTest() {
+		Throwable cause = new Throwable("test");
+		BipBusinessRuntimeException ex =
+				new BipBusinessRuntimeException(MessageKeys.NO_KEY, MessageSeverity.ERROR, HttpStatus.BAD_REQUEST, cause);
+		assertSame(cause, ex.getCause());
+		assertEquals(0, ex.getStackTrace().length);
+	}
+}
@@ -21,6 +21,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
+import gov.va.bip.framework.exception.BipBusinessException;
+import gov.va.bip.framework.exception.BipBusinessRuntimeException;
 import gov.va.bip.framework.exception.BipRuntimeException;
 import gov.va.bip.framework.log.BipLogger;
 import gov.va.bip.framework.log.BipLoggerFactory;
@@ -108,6 +110,17 @@ public class ExceptionHandlingUtilsTest {
 		ExceptionHandlingUtils.resolveRuntimeException(MessageKeys.NO_KEY, nullPointerException);
 	}
 
+	@Test
+	public void testResolveRuntimeExceptionFromBipBusinessException() {
+		BipBusinessException cause = new BipBusinessException(TEST_KEY, MessageSeverity.ERROR, HttpStatus.NOT_FOUND, "param");
+		BipRuntimeException resolvedRuntimeException = ExceptionHandlingUtils.resolveRuntimeException(MessageKeys.NO_KEY, cause);
+		assertTrue(resolvedRuntimeException instanceof BipBusinessRuntimeException);
+		assertTrue(resolvedRuntimeException.getCause() == cause);
+		assertTrue(resolvedRuntimeException.getStackTrace().length == 0);
+		assertTrue(resolvedRuntimeException.getExceptionData().getStatus().equals(HttpStatus.NOT_FOUND));
+		assertTrue(resolvedRuntimeException.getExceptionData().getParams()[0].equals("param"));
+	}
+
 	@Test
 	public void testConvertFromBipExceptionExtender() {
 		BipRuntimeException resolvedRuntimeException = ExceptionHandlingUtils
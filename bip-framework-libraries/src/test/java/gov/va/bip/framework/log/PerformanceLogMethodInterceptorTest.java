@@ -39,6 +39,7 @@ public class PerformanceLogMethodInterceptorTest extends AbstractBaseLogTester {
 	@Override
 	@After
 	public void tearDown() {
+		PerformanceWarningThresholds.publish(null);
 	}
 
 	@Test
@@ -99,6 +100,25 @@ public class PerformanceLogMethodInterceptorTest extends AbstractBaseLogTester {
 
 	}
 
+	@Test
+	public void testInvokeWarningThresholdFromConfiguredThresholds() throws Throwable {
+		super.getAppender().clear();
+		LOG.setLevel(Level.INFO);
+
+		Map<String, Integer> classMethodThresholds = new HashMap<>();
+		classMethodThresholds.put("Helper.getString", -1);
+		PerformanceWarningThresholds.publish(new PerformanceWarningThresholds(700, classMethodThresholds));
+		mockInvocationOf("getString", null);
+		assertTrue(super.getAppender().get(0).getMessage()
+				.contains("PERFORMANCE WARNING response for [Helper.getString] in elapsed time ["));
+		assertEquals(ch.qos.logback.classic.Level.WARN, super.getAppender().get(0).getLevel());
+		assertEquals(new Integer(700), performanceLogMethodInterceptor.getWarningThreshhold());
+
+		performanceLogMethodInterceptor.setWarningThreshhold(300);
+		assertEquals(new Integer(300), performanceLogMethodInterceptor.getWarningThreshhold());
+		assertEquals(new Integer(-1), performanceLogMethodInterceptor.getWarningThreshold("Helper.getString"));
+	}
+
 	private MethodInvocation mockInvocationOf(String methodName, Object returnValue) throws Throwable {
 
 		Mockito.lenient().when(invocation.getMethod()).thenReturn(Helper.class.getMethod(methodName));
@@ -0,0 +1,62 @@
+package gov.va.bip.framework.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class PerformanceWarningThresholdsTest {
+
+	@After
+	public void tearDown() {
+		PerformanceWarningThresholds.publish(null);
+	}
+
+	@Test
+	public void testDefaults() {
+		PerformanceWarningThresholds thresholds = new PerformanceWarningThresholds(null, null);
+		assertEquals(PerformanceLogMethodInterceptor.DEFAULT_WARNING_THRESHHOLD.intValue(), thresholds.getWarningThreshold());
+		assertEquals(PerformanceLogMethodInterceptor.DEFAULT_WARNING_THRESHHOLD.intValue(),
+				thresholds.getWarningThreshold("Some.method"));
+		assertNull(thresholds.getMethodWarningThreshold(null));
+		assertSame(PerformanceWarningThresholds.DEFAULT, PerformanceWarningThresholds.current());
+	}
+
+	@Test
+	public void testMethodSpecificThresholdIsCopied() {
+		Map<String, Integer> map = new HashMap<>();
+		map.put("Some.method", 10);
+		map.put("Null.value", null);
+		PerformanceWarningThresholds thresholds = new PerformanceWarningThresholds(200, map);
+		map.put("Some.method", 20);
+
+		assertEquals(10, thresholds.getWarningThreshold("Some.method"));
+		assertEquals(200, thresholds.getWarningThreshold("Other.method"));
+		assertEquals(200, thresholds.getWarningThreshold("Null.value"));
+		assertEquals(1, thresholds.getClassAndMethodSpecificWarningThreshold().size());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testSnapshotIsImmutable() {
+		new PerformanceWarningThresholds(200, new HashMap<>()).getClassAndMethodSpecificWarningThreshold().put("a", 1);
+	}
+
+	@Test
+	public void testPublish() {
+		PerformanceLoggingProperties properties = new PerformanceLoggingProperties();
+		properties.setWarningThreshold(5);
+		properties.getClassAndMethodSpecificWarningThreshold().put("Some.method", 1);
+		PerformanceWarningThresholds.publish(properties.toWarningThresholds());
+
+		assertEquals(5, PerformanceWarningThresholds.current().getWarningThreshold());
+		assertEquals(1, PerformanceWarningThresholds.current().getWarningThreshold("Some.method"));
+
+		PerformanceWarningThresholds.publish(null);
+		assertSame(PerformanceWarningThresholds.DEFAULT, PerformanceWarningThresholds.current());
+	}
+}
@@ -0,0 +1,70 @@
+package gov.va.bip.framework.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+import gov.va.bip.framework.log.SlowCallSampler.SamplingSession;
+
+public class SlowCallSamplerTest {
+
+	@After
+	public void tearDown() {
+		SlowCallSampler.publish(null);
+	}
+
+	@Test
+	public void testDisabledByDefault() {
+		assertSame(SlowCallSampler.DISABLED, SlowCallSampler.current());
+		assertFalse(SlowCallSampler.current().isEnabled());
+		assertNull(SlowCallSampler.current().start(Thread.currentThread()));
+		assertNull(new SlowCallSampler(true, 0, 1, 10, 5, 1).start(null));
+	}
+
+	@Test
+	public void testFastCallIsNotSampled() {
+		SamplingSession session = new SlowCallSampler(true, 60000, 10, 10, 5, 1).start(Thread.currentThread());
+		assertNotNull(session);
+		assertTrue(SlowCallSampler.executor().getQueue().contains(session.getFuture()));
+		assertNull(session.stop());
+		assertEquals(0, session.getSamples());
+		// the cancelled task is not left in the queue until its delay expires
+		assertFalse(SlowCallSampler.executor().getQueue().contains(session.getFuture()));
+	}
+
+	@Test
+	public void testSlowCallIsSampled() throws InterruptedException {
+		SamplingSession session = new SlowCallSampler(true, 0, 5, 3, 8, 2).start(Thread.currentThread());
+		long deadline = System.currentTimeMillis() + 5000;
+		while (session.getSamples() < 3 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		String summary = session.stop();
+
+		assertNotNull(summary);
+		assertTrue(summary.startsWith("samples=3"));
+		assertTrue(summary.contains("SlowCallSamplerTest.testSlowCallIsSampled"));
+		assertEquals(3, session.getSamples());
+	}
+
+	@Test
+	public void testPropertiesCreateSampler() {
+		PerformanceLoggingProperties properties = new PerformanceLoggingProperties();
+		assertFalse(properties.toSlowCallSampler().isEnabled());
+
+		properties.getSampling().setEnabled(true);
+		properties.getSampling().setThresholdMillis(250);
+		SlowCallSampler.publish(properties.toSlowCallSampler());
+		assertTrue(SlowCallSampler.current().isEnabled());
+		assertEquals(250, SlowCallSampler.current().getThresholdMillis());
+
+		properties.setSampling(null);
+		assertSame(SlowCallSampler.DISABLED, properties.toSlowCallSampler());
+	}
+}
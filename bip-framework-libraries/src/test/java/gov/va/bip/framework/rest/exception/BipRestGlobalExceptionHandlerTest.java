@@ -69,6 +69,7 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import gov.va.bip.framework.AbstractBaseLogTester;
+import gov.va.bip.framework.exception.BipBusinessException;
 import gov.va.bip.framework.exception.BipExceptionData;
 import gov.va.bip.framework.exception.BipPartnerException;
 import gov.va.bip.framework.exception.BipPartnerRuntimeException;
@@ -548,6 +549,16 @@ public class BipRestGlobalExceptionHandlerTest extends AbstractBaseLogTester {
 		assertTrue(response.getStatusCode().equals(HttpStatus.BAD_REQUEST));
 	}
 
+	@Test
+	public void handleBipBusinessExceptionTest() {
+		HttpServletRequest req = mock(HttpServletRequest.class);
+		BipBusinessException ex = new BipBusinessException(TEST_KEY, MessageSeverity.ERROR, HttpStatus.NOT_FOUND);
+
+		ResponseEntity<Object> response =
+				ReflectionTestUtils.invokeMethod(bipRestGlobalExceptionHandler, "handleBipBusinessException", req, ex);
+		assertTrue(response.getStatusCode().equals(HttpStatus.NOT_FOUND));
+	}
+
 	@Test
 	public void handleAllTest() {
 		HttpServletRequest req = mock(HttpServletRequest.class);
@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.After;
@@ -102,6 +103,46 @@ public class SecurityUtilsTest  {
 		assertTrue(SecurityUtils.isUserInRole("ROLE_TEST"));
 	}
 
+	@Test
+	public void testGetSecurityContextSnapshot() {
+		SecurityContextSnapshot snapshot = SecurityUtils.getSecurityContextSnapshot();
+		assertEquals("user", snapshot.getUserId());
+		assertSame(SecurityUtils.getPersonTraits(), snapshot.getPersonTraits());
+		assertEquals(SecurityUtils.getAuthorities(), snapshot.getAuthorities());
+		assertTrue(snapshot.isUserInRole("ROLE_TEST"));
+		assertFalse(snapshot.isUserInRole("test"));
+	}
+
+	@Test
+	public void testGetSecurityContextSnapshotNoAuthentication() {
+		SecurityContextHolder.clearContext();
+		SecurityContextSnapshot snapshot = SecurityUtils.getSecurityContextSnapshot();
+		assertSame(SecurityContextSnapshot.EMPTY, snapshot);
+		assertNull(snapshot.getUserId());
+		assertNull(snapshot.getPersonTraits());
+		assertEquals(0, snapshot.getAuthorities().size());
+		assertFalse(snapshot.isUserInRole("ROLE_TEST"));
+	}
+
+	@Test
+	public void testGetSecurityContextSnapshotAuthenticationFalse() {
+		SecurityContextHolder.getContext().getAuthentication().setAuthenticated(false);
+		SecurityContextSnapshot snapshot = SecurityUtils.getSecurityContextSnapshot();
+		assertNull(snapshot.getUserId());
+		assertNull(snapshot.getPersonTraits());
+		// as SecurityUtils.getAuthorities, the roles are returned even if not authenticated
+		assertEquals(1, snapshot.getAuthorities().size());
+	}
+
+	@Test
+	public void testGetSecurityContextSnapshotNotPersonTraits() {
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("other", "password",
+				AuthorityUtils.createAuthorityList("ROLE_TEST")));
+		SecurityContextSnapshot snapshot = SecurityUtils.getSecurityContextSnapshot();
+		assertEquals("other", snapshot.getUserId());
+		assertNull(snapshot.getPersonTraits());
+	}
+
 	@Test
 	public void testLogout() {
 		SecurityUtils.logout();
@@ -0,0 +1,81 @@
+package gov.va.bip.framework.security.jwt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+public class CompiledPathRequestMatcherTest {
+
+	private static final String[] PATTERNS = { "/api/**", "/token", "/actuator/health", "/v2/*/docs", "/api/v?/token",
+			"/users/{id}/**" };
+
+	private static final String[] PATHS = { "/api", "/api/", "/api/v1/person", "/apix", "/ap", "/token", "/token/",
+			"/tokens", "/actuator/health", "/actuator/health/db", "/actuator", "/v2/x/docs", "/v2/x/y/docs",
+			"/api/v1/token", "/users/12/roles", "/users", "/", "" };
+
+	@Test
+	public void testMatchesSameAsAntPathMatchers() {
+		final List<RequestMatcher> antMatchers = new ArrayList<>();
+		for (final String pattern : PATTERNS) {
+			antMatchers.add(new AntPathRequestMatcher(pattern));
+		}
+		final RequestMatcher expected = new OrRequestMatcher(antMatchers);
+		final CompiledPathRequestMatcher matcher = new CompiledPathRequestMatcher(PATTERNS);
+
+		for (final String path : PATHS) {
+			final MockHttpServletRequest request = request(path);
+			assertEquals(path, expected.matches(request), matcher.matches(request));
+		}
+	}
+
+	@Test
+	public void testMatchesPath() {
+		final CompiledPathRequestMatcher matcher = new CompiledPathRequestMatcher("/api/**", "/token");
+		assertTrue(matcher.matches("/api"));
+		assertTrue(matcher.matches("/api/v1/person"));
+		assertTrue(matcher.matches("/token"));
+		assertFalse(matcher.matches("/apix"));
+		assertFalse(matcher.matches("/token/x"));
+		assertFalse(matcher.matches((String) null));
+	}
+
+	@Test
+	public void testMatchesServletPathAndPathInfo() {
+		final CompiledPathRequestMatcher matcher = new CompiledPathRequestMatcher("/api/**");
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setServletPath("/api");
+		request.setPathInfo("/v1/person");
+		assertTrue(matcher.matches(request));
+
+		request.setServletPath("");
+		request.setPathInfo("/api/v1/person");
+		assertTrue(matcher.matches(request));
+	}
+
+	@Test
+	public void testMatchAll() {
+		assertTrue(new CompiledPathRequestMatcher("/token", "/**").matches(request("/anything/at/all")));
+	}
+
+	@Test
+	public void testNoPatterns() {
+		assertFalse(new CompiledPathRequestMatcher().matches(request("/api")));
+		assertFalse(new CompiledPathRequestMatcher((String[]) null).matches(request("/api")));
+		assertEquals(0, new CompiledPathRequestMatcher((String[]) null).getPatterns().size());
+	}
+
+	private static MockHttpServletRequest request(final String path) {
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setServletPath(path);
+		return request;
+	}
+}
@@ -3,6 +3,9 @@ package gov.va.bip.framework.security.jwt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
 
 import javax.servlet.FilterChain;
 import javax.servlet.http.HttpServletRequest;
@@ -13,6 +16,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.DelegatingServletInputStream;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -99,6 +103,21 @@ public class JwtAuthenticationFilterTest {
 		}
 	}
 
+	@Test
+	public void testFailureAuditReadsBoundedBody() throws Exception {
+		final ByteArrayInputStream body = new ByteArrayInputStream(new byte[100000]);
+		final HttpServletRequest request = mock(HttpServletRequest.class);
+		when(request.getHeader("Authorization")).thenReturn("Bearer " + GenerateToken.generateJwt() + "s");
+		when(request.getInputStream()).thenReturn(new DelegatingServletInputStream(body));
+
+		final JwtAuthenticationFilter filter =
+				new JwtAuthenticationFilter(properties, new JwtAuthenticationSuccessHandler(), provider);
+		ReflectionTestUtils.setField(filter, "jwtAuthenticationEntryPoint", mock(AuthenticationEntryPoint.class));
+
+		Assert.assertNull(filter.attemptAuthentication(request, mock(HttpServletResponse.class)));
+		Assert.assertEquals(100000 - properties.getFailureAuditBodyBytes(), body.available());
+	}
+
 	@Test
 	public void testMalformedException() throws Exception {
 		final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/user");
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
 
 import org.junit.Test;
@@ -129,6 +130,27 @@ public class JwtAuthenticationProviderTest {
 		assertFalse(JwtAuthenticationProvider.isPersonTraitsValid(person, new String[] { "firstName" }));
 	}
 
+	/**
+	 * Test that required parameter names are matched regardless of case, and that every
+	 * PersonTraits getter can be named as a required parameter.
+	 */
+	@Test
+	public void testIsPersonTraitsValidGetterTable() {
+		PersonTraits person = new PersonTraits();
+		person.setPid("12345678");
+		person.setAssuranceLevel(2);
+		assertTrue(JwtAuthenticationProvider.isPersonTraitsValid(person, new String[] { "PID", "assurancelevel" }));
+		assertFalse(JwtAuthenticationProvider.isPersonTraitsValid(person, new String[] { "pid", "icn" }));
+		assertFalse(JwtAuthenticationProvider.isPersonTraitsValid(person, new String[] { null }));
+
+		for (Method method : PersonTraits.class.getMethods()) {
+			if (method.getName().startsWith("get") && method.getParameterCount() == 0 && !"getClass".equals(method.getName())) {
+				assertTrue(method.getName(),
+						JwtAuthenticationProvider.REQUIRED_PARAMETER_GETTERS.containsKey(method.getName().substring(3)));
+			}
+		}
+	}
+
 	/**
 	 * Test of method that validates PersonTraits in the Jwt token, of class
 	 * JwtAuthenticationProvider.
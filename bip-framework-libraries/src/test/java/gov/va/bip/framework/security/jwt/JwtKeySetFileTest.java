@@ -0,0 +1,101 @@
+package gov.va.bip.framework.security.jwt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import gov.va.bip.framework.exception.BipValidationRuntimeException;
+
+public class JwtKeySetFileTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	private String rsaJwk;
+
+	@Before
+	public void setup() throws Exception {
+		file = folder.newFile("jwks.json");
+		rsaJwk = JwtKeySetTest.rsaJwk("rsa-1", JwtKeySetTest.rsaKeyPair());
+		write(JwtKeySetTest.keySetJson(rsaJwk), 1000L);
+	}
+
+	@Test
+	public void testLoad() {
+		final JwtKeySetFile keySetFile = new JwtKeySetFile(file.getPath(), 60000L);
+		assertNotNull(keySetFile.getKey("rsa-1"));
+		assertNull(keySetFile.getKey("rsa-2"));
+		assertTrue(keySetFile.isFor(file.getPath(), 60000L));
+		assertFalse(keySetFile.isFor(file.getPath(), 1000L));
+		assertFalse(keySetFile.isFor(file.getPath() + ".old", 60000L));
+		assertFalse(keySetFile.isFor(null, 60000L));
+	}
+
+	@Test
+	public void testReloadWhenChanged() throws Exception {
+		final JwtKeySetFile keySetFile = new JwtKeySetFile(file.getPath(), 60000L);
+		final JwtKeySet keySet = keySetFile.getKeySet();
+
+		keySetFile.reloadIfChanged();
+		assertSame(keySet, keySetFile.getKeySet());
+
+		write(JwtKeySetTest.keySetJson(rsaJwk, JwtKeySetTest.ecJwk("ec-1", JwtKeySetTest.ecKeyPair())), 2000L);
+		keySetFile.reloadIfChanged();
+		assertEquals(2, keySetFile.getKeySet().size());
+		assertNotNull(keySetFile.getKey("ec-1"));
+	}
+
+	@Test
+	public void testReloadAfterInterval() throws Exception {
+		final JwtKeySetFile keySetFile = new JwtKeySetFile(file.getPath(), 0L);
+
+		// the old key is removed
+		write(JwtKeySetTest.keySetJson(JwtKeySetTest.ecJwk("ec-1", JwtKeySetTest.ecKeyPair())), 2000L);
+		assertNull(keySetFile.getKey("rsa-1"));
+		assertNotNull(keySetFile.getKey("ec-1"));
+	}
+
+	@Test
+	public void testReloadFailureKeepsKeySet() throws IOException {
+		final JwtKeySetFile keySetFile = new JwtKeySetFile(file.getPath(), 0L);
+		final JwtKeySet keySet = keySetFile.getKeySet();
+
+		write("{\"keys\":", 2000L);
+		assertSame(keySet, keySetFile.getKeySet());
+		assertNotNull(keySetFile.getKey("rsa-1"));
+
+		assertTrue(file.delete());
+		assertSame(keySet, keySetFile.getKeySet());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMissingFile() {
+		new JwtKeySetFile(file.getPath() + ".missing", 60000L);
+	}
+
+	@Test(expected = BipValidationRuntimeException.class)
+	public void testEmptyLocation() {
+		new JwtKeySetFile("", 60000L);
+	}
+
+	private void write(final String json, final long lastModified) throws IOException {
+		Files.write(file.toPath(), json.getBytes(StandardCharsets.UTF_8));
+		Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(lastModified));
+	}
+}
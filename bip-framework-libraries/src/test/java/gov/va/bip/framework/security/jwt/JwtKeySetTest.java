@@ -0,0 +1,108 @@
+package gov.va.bip.framework.security.jwt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+
+import org.junit.Test;
+
+public class JwtKeySetTest {
+
+	@Test
+	public void testParse() throws Exception {
+		final KeyPair rsa = rsaKeyPair();
+		final KeyPair ec = ecKeyPair();
+		final JwtKeySet keySet = JwtKeySet.parse(keySetJson(rsaJwk("rsa-1", rsa), ecJwk("ec-1", ec)));
+
+		assertEquals(2, keySet.size());
+		assertTrue(keySet.getKeyIds().contains("rsa-1"));
+		assertEquals(rsa.getPublic(), keySet.getKey("rsa-1"));
+		assertTrue(keySet.getKey("ec-1") instanceof ECPublicKey);
+		assertEquals(((ECPublicKey) ec.getPublic()).getW(), ((ECPublicKey) keySet.getKey("ec-1")).getW());
+		assertNull(keySet.getKey("unknown"));
+		assertNull(keySet.getKey(null));
+	}
+
+	@Test
+	public void testParseIgnoresOtherKeys() throws Exception {
+		final String encryptionKey = "{\"kty\":\"RSA\",\"kid\":\"enc-1\",\"use\":\"enc\",\"n\":\"AQAB\",\"e\":\"AQAB\"}";
+		final String secretKey = "{\"kty\":\"oct\",\"kid\":\"oct-1\",\"k\":\"c2VjcmV0\"}";
+		final JwtKeySet keySet =
+				JwtKeySet.parse(keySetJson(encryptionKey, secretKey, rsaJwk("rsa-1", rsaKeyPair())));
+
+		assertEquals(1, keySet.size());
+		assertTrue(keySet.getKey("rsa-1") instanceof RSAPublicKey);
+	}
+
+	@Test
+	public void testEmpty() {
+		assertEquals(0, JwtKeySet.parse("{\"keys\":[]}").size());
+		assertEquals(0, JwtKeySet.EMPTY.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseNotJson() {
+		JwtKeySet.parse("not json");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseNoKeys() {
+		JwtKeySet.parse("{\"key\":[]}");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseNoKid() throws Exception {
+		JwtKeySet.parse(keySetJson(rsaJwk(null, rsaKeyPair())));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseMissingModulus() {
+		JwtKeySet.parse(keySetJson("{\"kty\":\"RSA\",\"kid\":\"rsa-1\",\"e\":\"AQAB\"}"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseUnsupportedCurve() {
+		JwtKeySet.parse(keySetJson("{\"kty\":\"EC\",\"kid\":\"ec-1\",\"crv\":\"P-192\",\"x\":\"AQAB\",\"y\":\"AQAB\"}"));
+	}
+
+	static KeyPair rsaKeyPair() throws NoSuchAlgorithmException {
+		final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		return generator.generateKeyPair();
+	}
+
+	static KeyPair ecKeyPair() throws Exception {
+		final KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+		generator.initialize(new ECGenParameterSpec("secp256r1"));
+		return generator.generateKeyPair();
+	}
+
+	static String rsaJwk(final String kid, final KeyPair keyPair) {
+		final RSAPublicKey key = (RSAPublicKey) keyPair.getPublic();
+		return "{\"kty\":\"RSA\"," + (kid == null ? "" : "\"kid\":\"" + kid + "\",") + "\"use\":\"sig\",\"n\":\""
+				+ base64(key.getModulus()) + "\",\"e\":\"" + base64(key.getPublicExponent()) + "\"}";
+	}
+
+	static String ecJwk(final String kid, final KeyPair keyPair) {
+		final ECPublicKey key = (ECPublicKey) keyPair.getPublic();
+		return "{\"kty\":\"EC\",\"kid\":\"" + kid + "\",\"crv\":\"P-256\",\"x\":\"" + base64(key.getW().getAffineX())
+				+ "\",\"y\":\"" + base64(key.getW().getAffineY()) + "\"}";
+	}
+
+	static String keySetJson(final String... jwks) {
+		return "{\"keys\":[" + String.join(",", jwks) + "]}";
+	}
+
+	private static String base64(final BigInteger value) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.toByteArray());
+	}
+}
@@ -1,13 +1,24 @@
 package gov.va.bip.framework.security.jwt;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.KeyPair;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
@@ -19,6 +30,9 @@ import gov.va.bip.framework.security.jwt.JwtAuthenticationProperties;
 import gov.va.bip.framework.security.jwt.JwtParser;
 import gov.va.bip.framework.security.model.Person;
 import gov.va.bip.framework.security.util.GenerateToken;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
 
 @RunWith(SpringJUnit4ClassRunner.class)
 @ContextConfiguration(classes = BipSecurityTestConfig.class)
@@ -26,6 +40,9 @@ public class JwtParserTest {
 
 	private static final Date BIRTH_DATE = Calendar.getInstance().getTime();
 
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	private String token;
 
 	@Autowired
@@ -78,4 +95,158 @@ public class JwtParserTest {
 		assertNotNull(personTraits.getUser());
 	}
 
+	@Test
+	public void parseJwtCachesVerifiedTokenTest() {
+		PersonTraits first = jwtParser.parseJwt(token);
+		assertEquals(1, jwtParser.getVerifiedTokenCache().size());
+
+		PersonTraits second = jwtParser.parseJwt(token);
+		assertNotSame(first, second);
+		assertEquals("FN", second.getFirstName());
+		assertEquals("validemail@testdomain.com", second.getEmail());
+		assertEquals(first.getTokenId(), second.getTokenId());
+		assertEquals(1, jwtParser.getVerifiedTokenCache().size());
+
+		// changes to a returned instance are not seen by later calls
+		second.setFirstName("changed");
+		assertEquals("FN", jwtParser.parseJwt(token).getFirstName());
+	}
+
+	@Test
+	public void parseJwtCacheResetOnSecretChangeTest() {
+		JwtAuthenticationProperties properties = new JwtAuthenticationProperties();
+		properties.setSecret(jwtAuthenticationProperties.getSecret());
+		properties.setIssuer(jwtAuthenticationProperties.getIssuer());
+		JwtParser parser = new JwtParser(properties);
+		parser.parseJwt(token);
+		VerifiedTokenCache cache = parser.getVerifiedTokenCache();
+		assertEquals(1, cache.size());
+
+		properties.setSecret("another secret");
+		VerifiedTokenCache replaced = parser.getVerifiedTokenCache();
+		assertNotSame(cache, replaced);
+		assertEquals(0, replaced.size());
+	}
+
+	@Test
+	public void parseJwtCacheDisabledTest() {
+		JwtAuthenticationProperties properties = new JwtAuthenticationProperties();
+		properties.setSecret(jwtAuthenticationProperties.getSecret());
+		properties.setIssuer(jwtAuthenticationProperties.getIssuer());
+		properties.setVerifiedTokenCacheSize(0);
+		JwtParser parser = new JwtParser(properties);
+
+		assertEquals("FN", parser.parseJwt(token).getFirstName());
+		assertNull(parser.getVerifiedTokenCache());
+	}
+
+	@Test
+	public void verifiedTokenCacheBoundedTest() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(2, new JwtSigningKey("secret", "issuer"), null);
+		PersonTraits personTraits = new PersonTraits();
+		personTraits.setPid("123");
+		long expiresAt = System.currentTimeMillis() + 60000L;
+
+		cache.put(VerifiedTokenCache.keyOf("a"), personTraits, expiresAt);
+		cache.put(VerifiedTokenCache.keyOf("b"), personTraits, expiresAt);
+		cache.put(VerifiedTokenCache.keyOf("c"), personTraits, expiresAt);
+		assertTrue(cache.size() <= 2);
+		// the token just verified is kept
+		assertEquals("123", cache.get(VerifiedTokenCache.keyOf("c")).getPid());
+
+		// expired tokens are not cached
+		VerifiedTokenCache other = new VerifiedTokenCache(2, new JwtSigningKey("secret", "issuer"), null);
+		other.put(VerifiedTokenCache.keyOf("d"), personTraits, System.currentTimeMillis() - 1);
+		assertNull(other.get(VerifiedTokenCache.keyOf("d")));
+		other.put(VerifiedTokenCache.keyOf("e"), personTraits, expiresAt);
+		assertEquals("123", other.get(VerifiedTokenCache.keyOf("e")).getPid());
+	}
+
+	@Test
+	public void verifiedTokenCacheKeyTest() {
+		String key = VerifiedTokenCache.keyOf(token);
+		assertEquals(key, VerifiedTokenCache.keyOf(token));
+		assertTrue(!key.contains(token));
+		assertEquals(44, key.length());
+	}
+
+	@Test
+	public void signingKeyReusedUntilPropertiesChangeTest() {
+		JwtAuthenticationProperties properties = new JwtAuthenticationProperties();
+		properties.setSecret(jwtAuthenticationProperties.getSecret());
+		properties.setIssuer(jwtAuthenticationProperties.getIssuer());
+		properties.setVerifiedTokenCacheSize(0);
+		JwtParser parser = new JwtParser(properties);
+
+		parser.parseJwt(token);
+		JwtSigningKey signingKey = parser.getSigningKey();
+		parser.parseJwt(token);
+		assertSame(signingKey, parser.getSigningKey());
+
+		properties.setIssuer("another issuer");
+		assertNotSame(signingKey, parser.getSigningKey());
+		assertTrue(parser.getSigningKey().isFor(properties.getSecret(), "another issuer"));
+	}
+
+	@Test
+	public void keySetFileThatCannotBeLoadedTest() throws Exception {
+		JwtAuthenticationProperties properties = new JwtAuthenticationProperties();
+		properties.setSecret(jwtAuthenticationProperties.getSecret());
+		properties.setIssuer(jwtAuthenticationProperties.getIssuer());
+		properties.setKeySetFile(new File(folder.getRoot(), "missing.json").getPath());
+		properties.setKeySetReloadMillis(60000L);
+		JwtParser parser = new JwtParser(properties);
+
+		// tokens signed with the secret are still accepted, and the file is not tried again for each token
+		assertEquals("FN", parser.parseJwt(token).getFirstName());
+		assertNull(parser.getKeySetFile());
+		JwtSigningKey signingKey = parser.getSigningKey();
+		assertEquals("FN", parser.parseJwt(token).getFirstName());
+		assertSame(signingKey, parser.getSigningKey());
+
+		// a changed location is loaded
+		File file = folder.newFile("keys.json");
+		Files.write(file.toPath(), JwtKeySetTest.keySetJson(JwtKeySetTest.rsaJwk("rsa-1", JwtKeySetTest.rsaKeyPair()))
+				.getBytes(StandardCharsets.UTF_8));
+		properties.setKeySetFile(file.getPath());
+		assertNotNull(parser.getKeySetFile());
+		assertSame(parser.getKeySetFile(), parser.getKeySetFile());
+		assertEquals("FN", parser.parseJwt(token).getFirstName());
+	}
+
+	@Test
+	public void keySetFileWithoutSecretTest() throws Exception {
+		KeyPair rsa = JwtKeySetTest.rsaKeyPair();
+		File file = folder.newFile("keys.json");
+		Files.write(file.toPath(), JwtKeySetTest.keySetJson(JwtKeySetTest.rsaJwk("rsa-1", rsa)).getBytes(StandardCharsets.UTF_8));
+		JwtAuthenticationProperties properties = new JwtAuthenticationProperties();
+		properties.setSecret("");
+		properties.setIssuer(jwtAuthenticationProperties.getIssuer());
+		properties.setKeySetFile(file.getPath());
+		properties.setVerifiedTokenCacheSize(0);
+		JwtParser parser = new JwtParser(properties);
+
+		String rsaToken = Jwts.builder().setHeaderParam("kid", "rsa-1").claim("firstName", "RSA")
+				.setIssuer(properties.getIssuer()).setExpiration(new Date(System.currentTimeMillis() + 60000L))
+				.signWith(SignatureAlgorithm.RS256, rsa.getPrivate()).compact();
+		assertEquals("RSA", parser.parseJwt(rsaToken).getFirstName());
+		assertTrue(parser.getSigningKey().isFor("", properties.getIssuer(), parser.getKeySetFile(), false));
+		try {
+			parser.parseJwt(token);
+			fail("Tokens signed with the secret are not accepted without a secret");
+		} catch (SignatureException e) {
+			assertNotNull(e.getMessage());
+		}
+	}
+
+	@Test(expected = SignatureException.class)
+	public void acceptHmacFalseTest() {
+		JwtAuthenticationProperties properties = new JwtAuthenticationProperties();
+		properties.setSecret(jwtAuthenticationProperties.getSecret());
+		properties.setIssuer(jwtAuthenticationProperties.getIssuer());
+		properties.setAcceptHmac(false);
+		properties.setVerifiedTokenCacheSize(0);
+		new JwtParser(properties).parseJwt(token);
+	}
+
 }
@@ -0,0 +1,162 @@
+package gov.va.bip.framework.security.jwt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.Key;
+import java.security.KeyPair;
+import java.util.Date;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import gov.va.bip.framework.exception.BipValidationRuntimeException;
+import gov.va.bip.framework.security.util.GenerateToken;
+import io.jsonwebtoken.IncorrectClaimException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+
+public class JwtSigningKeyTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testParseClaims() {
+		final JwtSigningKey signingKey = new JwtSigningKey("secret", "Vets.gov");
+		final String token = GenerateToken.generateJwt(GenerateToken.person(), "secret", "Vets.gov");
+
+		assertEquals("JANE", signingKey.parseClaims(token).get("firstName", String.class));
+		// the parser is reusable
+		assertEquals("DOE", signingKey.parseClaims(token).get("lastName", String.class));
+		assertEquals("Vets.gov", signingKey.getIssuer());
+		assertEquals(JwtSigningKey.SIGNATURE_ALGORITHM.getJcaName(), signingKey.getKey().getAlgorithm());
+	}
+
+	@Test(expected = SignatureException.class)
+	public void testParseClaimsWrongSecret() {
+		final String token = GenerateToken.generateJwt(GenerateToken.person(), "another secret", "Vets.gov");
+		new JwtSigningKey("secret", "Vets.gov").parseClaims(token);
+	}
+
+	@Test(expected = IncorrectClaimException.class)
+	public void testParseClaimsWrongIssuer() {
+		final String token = GenerateToken.generateJwt(GenerateToken.person(), "secret", "another issuer");
+		new JwtSigningKey("secret", "Vets.gov").parseClaims(token);
+	}
+
+	@Test
+	public void testIsFor() {
+		final JwtSigningKey signingKey = new JwtSigningKey("secret", "Vets.gov");
+		assertTrue(signingKey.isFor("secret", "Vets.gov"));
+		assertFalse(signingKey.isFor("another secret", "Vets.gov"));
+		assertFalse(signingKey.isFor("secret", "another issuer"));
+	}
+
+	@Test(expected = BipValidationRuntimeException.class)
+	public void testEmptySecret() {
+		new JwtSigningKey("", "Vets.gov");
+	}
+
+	@Test
+	public void testParseClaimsWithKeySet() throws Exception {
+		final KeyPair rsa = JwtKeySetTest.rsaKeyPair();
+		final KeyPair ec = JwtKeySetTest.ecKeyPair();
+		final JwtKeySetFile keySetFile =
+				keySetFile(JwtKeySetTest.rsaJwk("rsa-1", rsa), JwtKeySetTest.ecJwk("ec-1", ec));
+		final JwtSigningKey signingKey = new JwtSigningKey("secret", "Vets.gov", keySetFile);
+
+		assertEquals("rs256", signingKey.parseClaims(token("rsa-1", SignatureAlgorithm.RS256, rsa.getPrivate()))
+				.getSubject());
+		assertEquals("es256", signingKey.parseClaims(token("ec-1", SignatureAlgorithm.ES256, ec.getPrivate()))
+				.getSubject());
+		// tokens signed with the secret are still accepted
+		final String token = GenerateToken.generateJwt(GenerateToken.person(), "secret", "Vets.gov");
+		assertEquals("JANE", signingKey.parseClaims(token).get("firstName", String.class));
+
+		assertTrue(signingKey.isFor("secret", "Vets.gov", keySetFile));
+		assertFalse(signingKey.isFor("secret", "Vets.gov"));
+	}
+
+	@Test(expected = SignatureException.class)
+	public void testParseClaimsUnknownKid() throws Exception {
+		final KeyPair rsa = JwtKeySetTest.rsaKeyPair();
+		final JwtSigningKey signingKey =
+				new JwtSigningKey("secret", "Vets.gov", keySetFile(JwtKeySetTest.rsaJwk("rsa-1", rsa)));
+		signingKey.parseClaims(token("rsa-2", SignatureAlgorithm.RS256, rsa.getPrivate()));
+	}
+
+	@Test(expected = SignatureException.class)
+	public void testParseClaimsWrongKeyType() throws Exception {
+		final JwtSigningKey signingKey = new JwtSigningKey("secret", "Vets.gov",
+				keySetFile(JwtKeySetTest.rsaJwk("rsa-1", JwtKeySetTest.rsaKeyPair())));
+		signingKey.parseClaims(token("rsa-1", SignatureAlgorithm.ES256, JwtKeySetTest.ecKeyPair().getPrivate()));
+	}
+
+	@Test(expected = SignatureException.class)
+	public void testParseClaimsWrongKey() throws Exception {
+		final JwtSigningKey signingKey = new JwtSigningKey("secret", "Vets.gov",
+				keySetFile(JwtKeySetTest.rsaJwk("rsa-1", JwtKeySetTest.rsaKeyPair())));
+		signingKey.parseClaims(token("rsa-1", SignatureAlgorithm.RS256, JwtKeySetTest.rsaKeyPair().getPrivate()));
+	}
+
+	@Test(expected = JwtException.class)
+	public void testParseClaimsWithoutKeySet() throws Exception {
+		new JwtSigningKey("secret", "Vets.gov")
+				.parseClaims(token("rsa-1", SignatureAlgorithm.RS256, JwtKeySetTest.rsaKeyPair().getPrivate()));
+	}
+
+	@Test
+	public void testKeySetWithoutSecretRejectsHmac() throws Exception {
+		final KeyPair rsa = JwtKeySetTest.rsaKeyPair();
+		final JwtKeySetFile keySetFile = keySetFile(JwtKeySetTest.rsaJwk("rsa-1", rsa));
+		final JwtSigningKey signingKey = new JwtSigningKey(null, "Vets.gov", keySetFile, false);
+
+		assertEquals("rs256", signingKey.parseClaims(token("rsa-1", SignatureAlgorithm.RS256, rsa.getPrivate()))
+				.getSubject());
+		assertNull(signingKey.getKey());
+		assertTrue(signingKey.isFor(null, "Vets.gov", keySetFile, false));
+		assertFalse(signingKey.isFor(null, "Vets.gov", keySetFile));
+		try {
+			signingKey.parseClaims(GenerateToken.generateJwt(GenerateToken.person(), "secret", "Vets.gov"));
+			fail("HMAC signed tokens are not accepted");
+		} catch (SignatureException e) {
+			assertTrue(e.getMessage().contains("HS256"));
+		}
+	}
+
+	@Test(expected = SignatureException.class)
+	public void testSecretNotAcceptedWhenHmacRejected() throws Exception {
+		new JwtSigningKey("secret", "Vets.gov", keySetFile(JwtKeySetTest.rsaJwk("rsa-1", JwtKeySetTest.rsaKeyPair())),
+				false).parseClaims(GenerateToken.generateJwt(GenerateToken.person(), "secret", "Vets.gov"));
+	}
+
+	@Test(expected = SignatureException.class)
+	public void testNoKeysWhenHmacRejectedWithoutKeySet() throws Exception {
+		final KeyPair rsa = JwtKeySetTest.rsaKeyPair();
+		new JwtSigningKey(null, "Vets.gov", null, false)
+				.parseClaims(token("rsa-1", SignatureAlgorithm.RS256, rsa.getPrivate()));
+	}
+
+	private JwtKeySetFile keySetFile(final String... jwks) throws IOException {
+		final File file = folder.newFile();
+		Files.write(file.toPath(), JwtKeySetTest.keySetJson(jwks).getBytes(StandardCharsets.UTF_8));
+		return new JwtKeySetFile(file.getPath(), 60000L);
+	}
+
+	private static String token(final String kid, final SignatureAlgorithm algorithm, final Key privateKey) {
+		return Jwts.builder().setHeaderParam("kid", kid).setSubject(algorithm.getValue().toLowerCase())
+				.setIssuer("Vets.gov").setExpiration(new Date(System.currentTimeMillis() + 60000L))
+				.signWith(algorithm, privateKey).compact();
+	}
+}
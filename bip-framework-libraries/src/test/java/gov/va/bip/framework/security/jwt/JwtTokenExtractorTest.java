@@ -0,0 +1,72 @@
+package gov.va.bip.framework.security.jwt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import gov.va.bip.framework.exception.BipValidationRuntimeException;
+
+public class JwtTokenExtractorTest {
+
+	@After
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void testGetBearerToken() {
+		final JwtTokenExtractor extractor = new JwtTokenExtractor(new JwtAuthenticationProperties());
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		assertNull(extractor.getBearerToken(request));
+
+		request.addHeader("Authorization", "Bearer abc.def.ghi");
+		assertEquals("abc.def.ghi", extractor.getBearerToken(request));
+		assertEquals("Bearer abc.def.ghi", extractor.getHeaderValue(request));
+	}
+
+	@Test
+	public void testGetBearerTokenCustomHeader() {
+		final JwtAuthenticationProperties properties = new JwtAuthenticationProperties();
+		properties.setHeader("X-Token");
+		final JwtTokenExtractor extractor = new JwtTokenExtractor(properties);
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Authorization", "Bearer abc.def.ghi");
+		request.addHeader("X-Token", "Bearer jkl.mno.pqr");
+
+		assertEquals("X-Token", extractor.getHeaderName());
+		assertEquals("jkl.mno.pqr", extractor.getBearerToken(request));
+	}
+
+	@Test
+	public void testStripBearerPrefix() {
+		assertNull(JwtTokenExtractor.stripBearerPrefix(null));
+		assertNull(JwtTokenExtractor.stripBearerPrefix("abc.def.ghi"));
+		assertNull(JwtTokenExtractor.stripBearerPrefix("bearer abc.def.ghi"));
+		assertEquals("", JwtTokenExtractor.stripBearerPrefix("Bearer "));
+		assertEquals("abc.def.ghi", JwtTokenExtractor.stripBearerPrefix("Bearer abc.def.ghi"));
+	}
+
+	@Test
+	public void testGetCurrentHeaderValue() {
+		final MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Authorization", "Bearer abc.def.ghi");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		assertEquals("Bearer abc.def.ghi", new JwtTokenExtractor(new JwtAuthenticationProperties()).getCurrentHeaderValue());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testGetCurrentHeaderValueNoRequest() {
+		new JwtTokenExtractor(new JwtAuthenticationProperties()).getCurrentHeaderValue();
+	}
+
+	@Test(expected = BipValidationRuntimeException.class)
+	public void testNullProperties() {
+		new JwtTokenExtractor(null);
+	}
+}
@@ -0,0 +1,106 @@
+package gov.va.bip.framework.security.jwt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import gov.va.bip.framework.exception.BipValidationRuntimeException;
+import gov.va.bip.framework.security.model.Person;
+import gov.va.bip.framework.security.util.GenerateToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureException;
+
+public class JwtTokenFactoryTest {
+
+	@Test
+	public void testCreateToken() {
+		final JwtTokenFactory factory = new JwtTokenFactory("secret", "Vets.gov");
+		final Person person = GenerateToken.person();
+		final String token = factory.createToken(person, 900);
+
+		final Claims claims = factory.getSigningKey().parseClaims(token);
+		assertEquals("Vets.gov", claims.getIssuer());
+		assertEquals(900000L, claims.getExpiration().getTime() - claims.getIssuedAt().getTime());
+		assertEquals("JANE", claims.get("firstName", String.class));
+		assertEquals("M", claims.get("middleName", String.class));
+		assertEquals("1955-01-01", claims.get("birthDate", String.class));
+		assertEquals(Integer.valueOf(2), claims.get("assuranceLevel", Integer.class));
+		assertEquals(person.getCorrelationIds(), claims.get("correlationIds", List.class));
+		assertEquals(person.getAppToken(), claims.get("appToken", String.class));
+
+		final JwsHeader<?> header = Jwts.parser().setSigningKey(factory.getSigningKey().getKey()).parseClaimsJws(token)
+				.getHeader();
+		assertEquals("JWT", header.getType());
+		assertEquals(JwtSigningKey.SIGNATURE_ALGORITHM.getValue(), header.getAlgorithm());
+	}
+
+	@Test
+	public void testCreateTokenNullClaims() {
+		final JwtTokenFactory factory = new JwtTokenFactory("secret", "Vets.gov");
+		final Person person = new Person();
+		person.setFirstName("JOHN");
+
+		final Claims claims = factory.getSigningKey().parseClaims(factory.createToken(person, 900));
+		assertEquals("JOHN", claims.get("firstName", String.class));
+		assertFalse(claims.containsKey("lastName"));
+		assertNull(claims.get("correlationIds"));
+	}
+
+	@Test
+	public void testCreateTokenUniqueIds() {
+		final JwtTokenFactory factory = new JwtTokenFactory("secret", "Vets.gov");
+		final Person person = GenerateToken.person();
+		final String id = factory.getSigningKey().parseClaims(factory.createToken(person, 900)).getId();
+		assertNotEquals(id, factory.getSigningKey().parseClaims(factory.createToken(person, 900)).getId());
+	}
+
+	@Test(expected = SignatureException.class)
+	public void testCreateTokenWrongSecret() {
+		final String token = new JwtTokenFactory("another secret", "Vets.gov").createToken(GenerateToken.person(), 900);
+		new JwtSigningKey("secret", "Vets.gov").parseClaims(token);
+	}
+
+	@Test
+	public void testCreateTokenConcurrently() throws Exception {
+		final JwtTokenFactory factory = new JwtTokenFactory("secret", "Vets.gov");
+		final Person person = GenerateToken.person();
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final List<Callable<String>> tasks = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				tasks.add(() -> factory.createToken(person, 900));
+			}
+			for (final Future<String> future : executor.invokeAll(tasks)) {
+				assertEquals("DOE", factory.getSigningKey().parseClaims(future.get()).get("lastName", String.class));
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testIsFor() {
+		final JwtTokenFactory factory = new JwtTokenFactory("secret", "Vets.gov");
+		assertTrue(factory.isFor("secret", "Vets.gov"));
+		assertFalse(factory.isFor("another secret", "Vets.gov"));
+		assertFalse(factory.isFor("secret", "another issuer"));
+	}
+
+	@Test(expected = BipValidationRuntimeException.class)
+	public void testEmptySecret() {
+		new JwtTokenFactory("", "Vets.gov");
+	}
+}
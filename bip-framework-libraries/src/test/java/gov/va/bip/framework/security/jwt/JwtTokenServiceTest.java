@@ -1,6 +1,7 @@
 package gov.va.bip.framework.security.jwt;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Map;
@@ -60,4 +61,20 @@ public class JwtTokenServiceTest {
 		Map<String, String> result = jwtTokenService.getTokenFromRequest();
 		assertEquals(0, result.size());
 	}
+
+	/**
+	 * Test of getTokenHeaderName and getTokenHeaderValue methods, of class JwtTokenService.
+	 */
+	@Test
+	public void testGetTokenHeaderValue() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Authorization", "Bearer test");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		assertEquals("Authorization", jwtTokenService.getTokenHeaderName());
+		assertEquals("Bearer test", jwtTokenService.getTokenHeaderValue());
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		assertNull(jwtTokenService.getTokenHeaderValue());
+	}
 }
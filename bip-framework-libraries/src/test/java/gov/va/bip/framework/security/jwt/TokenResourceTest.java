@@ -1,5 +1,8 @@
 package gov.va.bip.framework.security.jwt;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
@@ -46,6 +49,26 @@ public class TokenResourceTest {
 
 	}
 
+	@Test
+	public void testGetTokenReusesFactory() {
+		Person person = new Person();
+		person.setFirstName("john");
+		person.setLastName("doe");
+		person.setCorrelationIds(Arrays.asList("1012832469V956223^NI^200M^USVHA^P", "796046489^SS"));
+		String token = tokenResource.getToken(person);
+		JwtTokenFactory tokenFactory = tokenResource.getTokenFactory();
+		assertEquals("john", new JwtParser(properties).parseJwt(token).getFirstName());
+		assertSame(tokenFactory, tokenResource.getTokenFactory());
+
+		String secret = properties.getSecret();
+		try {
+			properties.setSecret("another secret");
+			assertNotSame(tokenFactory, tokenResource.getTokenFactory());
+		} finally {
+			properties.setSecret(secret);
+		}
+	}
+
 	/**
 	 * Test of initBinder method, of class TokenResource.
 	 */
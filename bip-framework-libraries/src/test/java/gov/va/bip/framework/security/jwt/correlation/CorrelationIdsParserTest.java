@@ -1,5 +1,6 @@
 package gov.va.bip.framework.security.jwt.correlation;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -134,4 +135,20 @@ public class CorrelationIdsParserTest {
 		}
 	}
 
+	@Test
+	public final void testTokenize() {
+		// the count and elements must be the same as String.split
+		String[] correlationIds = { "1012832469V956223^NI^200M^USVHA^P", "796046489^SS", "796046489^SS^", "^SS",
+				"a^b^c^d^e^f^g", "a^^^^e", "a^^^^", "a^b^^", "string", "^^^", "a^" };
+		String[] elements = new String[ELEMENT_MAX_COUNT];
+		for (String correlationId : correlationIds) {
+			String[] split = correlationId.split("\\^");
+			int count = CorrelationIdsParser.tokenize(correlationId, elements);
+			assertEquals(correlationId, split.length, count);
+			for (int i = 0; i < Math.min(count, ELEMENT_MAX_COUNT); i++) {
+				assertEquals(correlationId, split[i], elements[i]);
+			}
+		}
+	}
+
 }
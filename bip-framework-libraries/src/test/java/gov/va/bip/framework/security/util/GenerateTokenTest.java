@@ -2,6 +2,8 @@ package gov.va.bip.framework.security.util;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -10,6 +12,8 @@ import java.util.Arrays;
 import org.junit.Test;
 
 import gov.va.bip.framework.security.jwt.JwtAuthenticationException;
+import gov.va.bip.framework.security.jwt.JwtSigningKey;
+import gov.va.bip.framework.security.jwt.JwtTokenFactory;
 import gov.va.bip.framework.security.model.Person;
 import gov.va.bip.framework.security.util.GenerateToken;
 
@@ -109,4 +113,14 @@ public class GenerateTokenTest {
 		assertEquals("JANE", result.getFirstName());
 	}
 
+	@Test
+	public void testTokenFactoryFor() {
+		JwtTokenFactory tokenFactory = GenerateToken.tokenFactoryFor("test", "Vets.gov");
+		assertSame(tokenFactory, GenerateToken.tokenFactoryFor("test", "Vets.gov"));
+		// the signing key is reused for the same secret and issuer
+		JwtSigningKey signingKey = tokenFactory.getSigningKey();
+		assertSame(signingKey, GenerateToken.tokenFactoryFor("test", "Vets.gov").getSigningKey());
+		assertNotSame(signingKey, GenerateToken.tokenFactoryFor("another", "Vets.gov").getSigningKey());
+		assertNotSame(tokenFactory, GenerateToken.tokenFactoryFor("test", "another issuer"));
+	}
 }
@@ -17,6 +17,7 @@ import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import gov.va.bip.framework.exception.BipRuntimeException;
+import gov.va.bip.framework.messages.MessageKeys;
 import gov.va.bip.framework.messages.ServiceMessage;
 
 public class AbstractStandardValidatorTest {
@@ -147,6 +148,34 @@ public class AbstractStandardValidatorTest {
 
 	}
 
+	@Test
+	public void validationRulesSkipValidateTest() {
+		final List<String> validated = new ArrayList<>();
+		AbstractStandardValidator<String> abstractStandardValidator = new AbstractStandardValidator<String>() {
+
+			@Override
+			protected ValidationRules<String> getValidationRules() {
+				return ValidationRules.builder(String.class)
+						.hasText(s -> s, MessageKeys.BIP_VALIDATOR_NOT_NULL, "text").build();
+			}
+
+			@Override
+			public void validate(final String toValidate, final List<ServiceMessage> messages) {
+				validated.add(toValidate);
+			}
+		};
+
+		List<ServiceMessage> messages = new ArrayList<>();
+		abstractStandardValidator.initValidate(" ", messages);
+		assertEquals(1, messages.size());
+		assertTrue(validated.isEmpty());
+
+		messages.clear();
+		abstractStandardValidator.initValidate("text", messages);
+		assertTrue(messages.isEmpty());
+		assertEquals(1, validated.size());
+	}
+
 	@Test
 	public void getSupplementalTest() {
 		AbstractStandardValidator<String> abstractStandardValidator = new AbstractStandardValidator<String>() {
@@ -0,0 +1,72 @@
+package gov.va.bip.framework.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+
+import gov.va.bip.framework.exception.BipValidationRuntimeException;
+import gov.va.bip.framework.messages.MessageKeys;
+import gov.va.bip.framework.messages.MessageSeverity;
+import gov.va.bip.framework.messages.ServiceMessage;
+
+public class ValidationRulesTest {
+
+	private static final ValidationRules<String> RULES = ValidationRules.builder(String.class)
+			.hasText(s -> s, MessageKeys.BIP_VALIDATOR_NOT_NULL, "text")
+			.isTrue(s -> s.length() < 5, MessageKeys.BIP_VALIDATOR_ASSERTION, "length")
+			.ifPresent(s -> s.isEmpty() ? null : s.charAt(0), c -> c != 'x', MessageKeys.BIP_VALIDATOR_ASSERTION, "first")
+			.build();
+
+	@Test
+	public void testCheckValid() {
+		List<ServiceMessage> messages = new ArrayList<>();
+		assertTrue(RULES.check("abc", messages));
+		assertTrue(messages.isEmpty());
+		assertEquals(String.class, RULES.getValidatedType());
+		assertEquals(3, RULES.size());
+		assertFalse(RULES.isFailFast());
+	}
+
+	@Test
+	public void testCheckCollectsAllFailures() {
+		List<ServiceMessage> messages = new ArrayList<>();
+		assertFalse(RULES.check("xyzxyz", messages));
+		assertEquals(2, messages.size());
+		assertEquals(MessageKeys.BIP_VALIDATOR_ASSERTION.getKey(), messages.get(0).getKey());
+		assertEquals(MessageSeverity.ERROR, messages.get(0).getSeverity());
+		assertEquals(HttpStatus.BAD_REQUEST, messages.get(0).getHttpStatus());
+	}
+
+	@Test
+	public void testCheckFailFast() {
+		ValidationRules<String> rules = ValidationRules.builder(String.class).failFast(true)
+				.withMessageStatus(MessageSeverity.WARN, HttpStatus.UNPROCESSABLE_ENTITY)
+				.hasText(s -> s, MessageKeys.BIP_VALIDATOR_NOT_NULL, "text")
+				.isTrue(s -> s.length() > 0, MessageKeys.BIP_VALIDATOR_ASSERTION)
+				.build();
+		List<ServiceMessage> messages = new ArrayList<>();
+		assertFalse(rules.check("", messages));
+		assertEquals(1, messages.size());
+		assertEquals(MessageKeys.BIP_VALIDATOR_NOT_NULL.getKey(), messages.get(0).getKey());
+		assertEquals(MessageSeverity.WARN, messages.get(0).getSeverity());
+		assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, messages.get(0).getHttpStatus());
+	}
+
+	@Test
+	public void testCheckNull() {
+		List<ServiceMessage> messages = new ArrayList<>();
+		assertFalse(RULES.check(null, messages));
+		assertTrue(messages.isEmpty());
+	}
+
+	@Test(expected = BipValidationRuntimeException.class)
+	public void testBuilderNullType() {
+		ValidationRules.builder(null);
+	}
+}